@@ -0,0 +1,270 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.benchmark;
+
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import eu.arrowhead.common.jpa.RefreshableRepositoryImpl;
+import eu.arrowhead.dto.enums.TranslationBridgeStatus;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
+
+// Measures BridgeDbService.getBridgeDetailsPage (the query path of the management API) on an embedded H2 database (MySQL mode) that contains the specified number of bridges.
+// The seek benchmark reads the page after a cursor in the middle of the table (as a client walking the whole table with continuation tokens would).
+// Run it with the GC profiler (-prof gc) to see the allocation rate of the queries.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class BridgeQueryBenchmark {
+
+	//=================================================================================================
+	// members
+
+	private static final int BATCH_SIZE = 5000;
+	private static final int PAGE_SIZE = 50;
+	private static final ZonedDateTime BASE_TIME = ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	private static final String INSERT_HEADER = "INSERT INTO bridge_header (id, uuid, created_by, status, message, usage_report_count, alives_at, version, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, NULL, ?, ?, 0, ?, ?)";
+	private static final String INSERT_DETAILS = "INSERT INTO bridge_details (id, header_id, consumer, provider, service_definition, operation, interface_translator, interface_translator_data, "
+			+ "input_dm_translator, input_dm_translator_data, result_dm_translator, result_dm_translator_data) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INTERFACE_TRANSLATOR_DATA = "{\"fromInterfaceTemplate\":\"generic_mqtt\",\"toInterfaceTemplate\":\"generic_http\",\"interfaceProperties\":{\"accessPort\":12345}}";
+	private static final String DM_TRANSLATOR_DATA = "{\"fromModelId\":\"benchmarkJson\",\"toModelId\":\"benchmarkXml\",\"interfaceProperties\":{\"accessPort\":12346}}";
+
+	@Param({ "10000", "100000", "1000000" })
+	private int bridgeCount;
+
+	@Param({
+			"NONE", "BRIDGE_ID", "CREATOR", "STATUS", "CONSUMER", "PROVIDER", "SERVICE_DEFINITION", "INTERFACE_TRANSLATOR", "DATA_MODEL_TRANSLATOR",
+			"CREATION_RANGE", "ALIVE_RANGE", "USAGE_RANGE", "STATUS_AND_CREATION_RANGE", "CONSUMER_AND_USAGE_RANGE", "ALL" })
+	private QueryFilter filter;
+
+	private ConfigurableApplicationContext context;
+	private BridgeDbService dbService;
+	private NormalizedTranslationQueryRequestDTO request;
+	private BridgeQueryCursor middleCursor;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BenchmarkDatabaseConfig.class)
+				.web(WebApplicationType.NONE)
+				.bannerMode(Banner.Mode.OFF)
+				.run(
+						"--spring.datasource.url=jdbc:h2:mem:bridge_benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.jpa.hibernate.ddl-auto=create",
+						"--spring.jpa.show-sql=false");
+
+		dbService = context.getBean(BridgeDbService.class);
+		seed(context.getBean(JdbcTemplate.class));
+		request = createRequest();
+
+		// ids and creation times are both increasing with the index
+		final int middle = bridgeCount / 2;
+		middleCursor = new BridgeQueryCursor(BridgeDetails.DEFAULT_SORT_FIELD, Direction.DESC, createdAt(middle).toInstant().toString(), middle + 1);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Benchmark
+	public Page<BridgeDetails> query() {
+		return dbService.getBridgeDetailsPage(request);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Benchmark
+	public Slice<BridgeDetails> seek() {
+		return dbService.getBridgeDetailsSlice(request, middleCursor);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// Value distribution (i is the index of the bridge): 10 creators, 100 consumers, 1000 providers, 50 service definitions, 20 interface translators, every third bridge
+	// has an input and every fifth has a result data model translator (10 different), every other bridge has alive time and the usage report count is between 0 and 199.
+	private void seed(final JdbcTemplate jdbcTemplate) {
+		final TranslationBridgeStatus[] statuses = TranslationBridgeStatus.values();
+		final List<Object[]> headers = new ArrayList<>(BATCH_SIZE);
+		final List<Object[]> details = new ArrayList<>(BATCH_SIZE);
+
+		for (int i = 0; i < bridgeCount; ++i) {
+			final long id = i + 1;
+			final ZonedDateTime createdAt = createdAt(i);
+			headers.add(new Object[] {
+					id,
+					bridgeId(i).toString(),
+					"Creator" + (i % 10),
+					statuses[i % statuses.length].name(),
+					i % 200,
+					i % 2 == 0 ? Timestamp.from(createdAt.plusMinutes(1).toInstant()) : null,
+					Timestamp.from(createdAt.toInstant()),
+					Timestamp.from(createdAt.toInstant()) });
+
+			final boolean hasInput = i % 3 == 0;
+			final boolean hasResult = i % 5 == 0;
+			details.add(new Object[] {
+					id,
+					id,
+					"Consumer" + (i % 100),
+					"Provider" + (i % 1000),
+					"service" + (i % 50),
+					"operation",
+					"InterfaceTranslator" + (i % 20),
+					INTERFACE_TRANSLATOR_DATA,
+					hasInput ? "DataModelTranslator" + (i % 10) : null,
+					hasInput ? DM_TRANSLATOR_DATA : null,
+					hasResult ? "DataModelTranslator" + (i % 10) : null,
+					hasResult ? DM_TRANSLATOR_DATA : null });
+
+			if (headers.size() == BATCH_SIZE) {
+				flush(jdbcTemplate, headers, details);
+			}
+		}
+
+		flush(jdbcTemplate, headers, details);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void flush(final JdbcTemplate jdbcTemplate, final List<Object[]> headers, final List<Object[]> details) {
+		if (!headers.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_HEADER, headers);
+			jdbcTemplate.batchUpdate(INSERT_DETAILS, details);
+			headers.clear();
+			details.clear();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Every filter selects roughly 1-10% of the bridges (except NONE), so the page is always full on the larger tables.
+	private NormalizedTranslationQueryRequestDTO createRequest() {
+		final boolean all = filter == QueryFilter.ALL;
+		final PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD);
+
+		List<UUID> bridgeIds = null;
+		if (filter == QueryFilter.BRIDGE_ID) {
+			bridgeIds = new ArrayList<>(PAGE_SIZE);
+			for (int i = 0; i < PAGE_SIZE; ++i) {
+				bridgeIds.add(bridgeId((int) ((long) i * bridgeCount / PAGE_SIZE)));
+			}
+		}
+
+		final boolean creationRange = all || filter == QueryFilter.CREATION_RANGE || filter == QueryFilter.STATUS_AND_CREATION_RANGE;
+		final boolean usageRange = all || filter == QueryFilter.USAGE_RANGE || filter == QueryFilter.CONSUMER_AND_USAGE_RANGE;
+
+		return new NormalizedTranslationQueryRequestDTO(
+				pageRequest,
+				bridgeIds,
+				all || filter == QueryFilter.CREATOR ? List.of("Creator3") : null,
+				all || filter == QueryFilter.STATUS || filter == QueryFilter.STATUS_AND_CREATION_RANGE ? List.of(TranslationBridgeStatus.CLOSED) : null,
+				all || filter == QueryFilter.CONSUMER || filter == QueryFilter.CONSUMER_AND_USAGE_RANGE ? List.of("Consumer7", "Consumer8") : null,
+				all || filter == QueryFilter.PROVIDER ? List.of("Provider7", "Provider107", "Provider207") : null,
+				all || filter == QueryFilter.SERVICE_DEFINITION ? List.of("service7") : null,
+				all || filter == QueryFilter.INTERFACE_TRANSLATOR ? List.of("InterfaceTranslator7") : null,
+				all || filter == QueryFilter.DATA_MODEL_TRANSLATOR ? List.of("DataModelTranslator7") : null,
+				creationRange ? createdAt(bridgeCount / 2) : null,
+				creationRange ? createdAt(bridgeCount / 2 + bridgeCount / 20) : null,
+				all || filter == QueryFilter.ALIVE_RANGE ? createdAt(bridgeCount / 4) : null,
+				all || filter == QueryFilter.ALIVE_RANGE ? createdAt(bridgeCount / 4 + bridgeCount / 10) : null,
+				usageRange ? 10 : null,
+				usageRange ? 19 : null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private UUID bridgeId(final int index) {
+		return new UUID(0, index);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ZonedDateTime createdAt(final int index) {
+		return BASE_TIME.plusSeconds(index);
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	public enum QueryFilter {
+		NONE, BRIDGE_ID, CREATOR, STATUS, CONSUMER, PROVIDER, SERVICE_DEFINITION, INTERFACE_TRANSLATOR, DATA_MODEL_TRANSLATOR, CREATION_RANGE, ALIVE_RANGE, USAGE_RANGE,
+		STATUS_AND_CREATION_RANGE, CONSUMER_AND_USAGE_RANGE, ALL
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// only the persistence layer of the application is started
+	@Configuration
+	@EnableAutoConfiguration
+	@EntityScan(TranslationManagerConstants.DATABASE_ENTITY_PACKAGE)
+	@EnableJpaRepositories(basePackages = TranslationManagerConstants.DATABASE_REPOSITORY_PACKAGE, repositoryBaseClass = RefreshableRepositoryImpl.class)
+	@Import(BridgeDbService.class)
+	public static class BenchmarkDatabaseConfig {
+	}
+}
@@ -0,0 +1,525 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.util.Pair;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.service.validation.name.DataModelIdentifierNormalizer;
+import eu.arrowhead.common.service.validation.name.DataModelIdentifierValidator;
+import eu.arrowhead.dto.AuthorizationTokenResponseDTO;
+import eu.arrowhead.dto.ServiceDefinitionResponseDTO;
+import eu.arrowhead.dto.ServiceInstanceInterfaceResponseDTO;
+import eu.arrowhead.dto.ServiceInstanceResponseDTO;
+import eu.arrowhead.dto.SystemResponseDTO;
+import eu.arrowhead.dto.TranslationDataModelTranslatorInitializationResponseDTO;
+import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
+import eu.arrowhead.dto.TranslationNegotiationResponseDTO;
+import eu.arrowhead.dto.enums.TranslationDiscoveryFlag;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.TranslationManagerSystemInfo;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDiscovery;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.service.dto.DTOConverter;
+import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationDiscoveryRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationDiscoveryModel;
+import eu.arrowhead.translationmanager.service.engine.CoreSystemsDriver;
+import eu.arrowhead.translationmanager.service.engine.DataModelTranslatorFactoryDriver;
+import eu.arrowhead.translationmanager.service.engine.DiscoveryExpiryScheduler;
+import eu.arrowhead.translationmanager.service.engine.DiscoveryTaskExecutor;
+import eu.arrowhead.translationmanager.service.engine.InterfaceTranslatorDriver;
+import eu.arrowhead.translationmanager.service.engine.TranslatorBridgeEngine;
+import eu.arrowhead.translationmanager.service.matchmaking.DefaultDataModelTranslatorMatchmaker;
+import eu.arrowhead.translationmanager.service.matchmaking.DefaultInterfaceTranslatorMatchmaker;
+
+// Measures the translation manager's own work in the discovery and negotiation phases. Every remote party (Core systems, translators, factories) and the database are
+// replaced by in-process stubs, so the results show the cost of the engine (and the allocation rate if the GC profiler is enabled: -prof gc).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class DiscoveryPipelineBenchmark {
+
+	//=================================================================================================
+	// members
+
+	private static final String ORIGIN = "benchmark";
+	private static final String CREATOR = "BenchmarkCreator";
+	private static final String CONSUMER = "BenchmarkConsumer";
+	private static final String SERVICE_DEFINITION = "benchmarkService";
+	private static final String OPERATION = "benchmark-operation";
+	private static final String CONSUMER_INTERFACE_TEMPLATE = "generic_mqtt";
+	private static final String TARGET_INTERFACE_TEMPLATE_PREFIX = "template_";
+	private static final String REQUIRED_DATA_MODEL_ID = "benchmarkJson";
+	private static final String TARGET_DATA_MODEL_ID = "benchmarkXml";
+	private static final String POLICY_NONE = "NONE";
+
+	// number of target service instances in the request
+	@Param({ "1", "10", "100" })
+	private int candidateCount;
+
+	// number of interfaces per target service instance
+	@Param({ "1", "4" })
+	private int interfaceCount;
+
+	// number of interface translators and number of data model translators
+	@Param({ "1", "8" })
+	private int translatorCount;
+
+	@Param({ "NONE", "INPUT", "OUTPUT", "BOTH" })
+	private DataModelRequirement dataModelRequirement;
+
+	private TranslatorBridgeEngine engine;
+	private NormalizedTranslationDiscoveryRequestDTO request;
+	private Map<TranslationDiscoveryFlag, Boolean> discoveryFlags;
+	private UUID negotiationBridgeId;
+	private String negotiationTargetInstanceId;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Setup(Level.Trial)
+	public void setUp() {
+		final String inputDataModelId = dataModelRequirement.input ? REQUIRED_DATA_MODEL_ID : null;
+		final String outputDataModelId = dataModelRequirement.output ? REQUIRED_DATA_MODEL_ID : null;
+
+		final StubCoreSystemsDriver csDriver = new StubCoreSystemsDriver(createInterfaceTranslators(), createDataModelTranslators());
+		final StubBridgeDbService dbService = new StubBridgeDbService();
+
+		engine = new TranslatorBridgeEngine();
+		ReflectionTestUtils.setField(engine, "csDriver", csDriver);
+		ReflectionTestUtils.setField(engine, "itDriver", new StubInterfaceTranslatorDriver());
+		ReflectionTestUtils.setField(engine, "dmfDriver", new StubDataModelTranslatorFactoryDriver());
+		ReflectionTestUtils.setField(engine, "dataModelIdentifierNormalizer", new StubDataModelIdentifierNormalizer());
+		ReflectionTestUtils.setField(engine, "dataModelIdentifierValidator", new StubDataModelIdentifierValidator());
+		ReflectionTestUtils.setField(engine, "interfaceTranslatorMatchmaker", new DefaultInterfaceTranslatorMatchmaker());
+		ReflectionTestUtils.setField(engine, "dataModelTranslatorMatchmaker", new DefaultDataModelTranslatorMatchmaker());
+		ReflectionTestUtils.setField(engine, "dbService", dbService);
+		ReflectionTestUtils.setField(engine, "converter", new DTOConverter());
+		ReflectionTestUtils.setField(engine, "sysInfo", new TranslationManagerSystemInfo());
+		ReflectionTestUtils.setField(engine, "taskExecutor", new DiscoveryTaskExecutor());
+		ReflectionTestUtils.setField(engine, "expiryScheduler", new DiscoveryExpiryScheduler()); // not initialized, so disabled
+
+		request = new NormalizedTranslationDiscoveryRequestDTO(
+				CREATOR,
+				createCandidates(inputDataModelId != null, outputDataModelId != null),
+				CONSUMER,
+				OPERATION,
+				List.of(CONSUMER_INTERFACE_TEMPLATE),
+				inputDataModelId,
+				outputDataModelId);
+
+		// every check is requested, so every filter is part of the measurement
+		discoveryFlags = new HashMap<>();
+		for (final TranslationDiscoveryFlag flag : TranslationDiscoveryFlag.values()) {
+			discoveryFlags.put(flag, true);
+		}
+
+		// the negotiation benchmark uses the result of a real discovery
+		final TranslationDiscoveryResponseDTO discoveryResult = engine.doDiscovery(request, discoveryFlags, ORIGIN);
+		if (discoveryResult.candidates().isEmpty()) {
+			throw new IllegalStateException("Benchmark discovery has no result");
+		}
+
+		negotiationBridgeId = UUID.fromString(discoveryResult.bridgeId());
+		negotiationTargetInstanceId = discoveryResult.candidates().get(0).serviceInstanceId();
+		dbService.keepForNegotiation(negotiationBridgeId);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Benchmark
+	public TranslationDiscoveryResponseDTO discovery() {
+		return engine.doDiscovery(request, discoveryFlags, ORIGIN);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Benchmark
+	public TranslationNegotiationResponseDTO negotiation() {
+		return engine.doNegotiation(negotiationBridgeId, negotiationTargetInstanceId, ORIGIN);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private List<NormalizedServiceInstanceDTO> createCandidates(final boolean withInput, final boolean withOutput) {
+		final List<NormalizedServiceInstanceDTO> result = new ArrayList<>(candidateCount);
+		for (int i = 0; i < candidateCount; ++i) {
+			final List<ServiceInstanceInterfaceResponseDTO> interfaces = new ArrayList<>(interfaceCount);
+			for (int j = 0; j < interfaceCount; ++j) {
+				final Map<String, Object> properties = new HashMap<>();
+				properties.put("accessAddresses", List.of("192.168.0." + (i % 250 + 1)));
+				properties.put("accessPort", 8000 + j);
+				if (withInput || withOutput) {
+					final Map<String, Object> operationDataModels = new HashMap<>(2);
+					if (withInput) {
+						operationDataModels.put(Constants.PROPERTY_KEY_INPUT, TARGET_DATA_MODEL_ID);
+					}
+
+					if (withOutput) {
+						operationDataModels.put(Constants.PROPERTY_KEY_OUTPUT, TARGET_DATA_MODEL_ID);
+					}
+
+					properties.put(Constants.PROPERTY_KEY_DATA_MODELS, Map.of(OPERATION, operationDataModels));
+				}
+
+				interfaces.add(new ServiceInstanceInterfaceResponseDTO(TARGET_INTERFACE_TEMPLATE_PREFIX + j, "http", POLICY_NONE, properties));
+			}
+
+			final String provider = "Provider" + i;
+			result.add(new NormalizedServiceInstanceDTO(provider + "|" + SERVICE_DEFINITION + "|1.0.0", provider, SERVICE_DEFINITION, interfaces));
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<ServiceInstanceResponseDTO> createInterfaceTranslators() {
+		final List<ServiceInstanceResponseDTO> result = new ArrayList<>(translatorCount);
+		for (int i = 0; i < translatorCount; ++i) {
+			// translators are spread among the target interfaces
+			final Map<String, Object> metadata = Map.of(Constants.METADATA_KEY_INTERFACE_BRIDGE, Map.of(
+					Constants.METADATA_KEY_TO, TARGET_INTERFACE_TEMPLATE_PREFIX + (i % interfaceCount),
+					Constants.METADATA_KEY_FROM, List.of(CONSUMER_INTERFACE_TEMPLATE)));
+
+			result.add(createTranslator("InterfaceTranslator" + i, Constants.SERVICE_DEF_INTERFACE_BRIDGE_MANAGEMENT, metadata, 12000 + i));
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<ServiceInstanceResponseDTO> createDataModelTranslators() {
+		final List<ServiceInstanceResponseDTO> result = new ArrayList<>(translatorCount);
+		for (int i = 0; i < translatorCount; ++i) {
+			final Map<String, Object> metadata = Map.of(Constants.METADATA_KEY_DATA_MODEL_IDS, List.of(
+					List.of(REQUIRED_DATA_MODEL_ID, TARGET_DATA_MODEL_ID),
+					List.of(TARGET_DATA_MODEL_ID, REQUIRED_DATA_MODEL_ID)));
+
+			result.add(createTranslator("DataModelTranslator" + i, Constants.SERVICE_DEF_DATA_MODEL_TRANSLATION, metadata, 13000 + i));
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceResponseDTO createTranslator(final String name, final String serviceDefinition, final Map<String, Object> metadata, final int port) {
+		return new ServiceInstanceResponseDTO(
+				name + "|" + serviceDefinition + "|1.0.0",
+				new SystemResponseDTO(name, null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO(serviceDefinition, null, null),
+				"1.0.0",
+				null,
+				metadata,
+				List.of(new ServiceInstanceInterfaceResponseDTO("generic_http", "http", POLICY_NONE, Map.of("accessAddresses", List.of("localhost"), "accessPort", port))),
+				null,
+				null);
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	public enum DataModelRequirement {
+		NONE(false, false), INPUT(true, false), OUTPUT(false, true), BOTH(true, true);
+
+		private final boolean input;
+		private final boolean output;
+
+		//-------------------------------------------------------------------------------------------------
+		DataModelRequirement(final boolean input, final boolean output) {
+			this.input = input;
+			this.output = output;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Core systems allow everything and the lookups return the prepared translators
+	private static final class StubCoreSystemsDriver extends CoreSystemsDriver {
+
+		private final List<ServiceInstanceResponseDTO> interfaceTranslators;
+		private final List<ServiceInstanceResponseDTO> dataModelTranslators;
+
+		//-------------------------------------------------------------------------------------------------
+		private StubCoreSystemsDriver(final List<ServiceInstanceResponseDTO> interfaceTranslators, final List<ServiceInstanceResponseDTO> dataModelTranslators) {
+			this.interfaceTranslators = interfaceTranslators;
+			this.dataModelTranslators = dataModelTranslators;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public boolean isBlacklisted(final String systemName) {
+			return false;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public List<String> filterOutBlacklistedSystems(final List<String> systemNames) {
+			return systemNames;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public List<String> filterOutProvidersBecauseOfUnauthorization(final List<String> candidates, final String consumer, final String serviceDefinition, final String operation) {
+			return candidates;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Map<String, List<String>> filterOutProvidersBecauseOfUnauthorization(final Map<String, List<String>> candidatesByConsumer, final String serviceDefinition, final String operation) {
+			return candidatesByConsumer;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Map<String, String> generateTokenForManagerToInterfaceBridgeManagementService(final List<ServiceInstanceResponseDTO> interfaceTranslators) {
+			return Map.of(); // translators use NONE policy
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Map<String, String> generateTokenForManagerToInterfaceBridgeManagementService(final Map<String, String> interfaceTranslatorPolicies) {
+			return Map.of(); // translators use NONE policy
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public AuthorizationTokenResponseDTO generateTokenForInterfaceTranslatorToTargetOperation(
+				final String policy,
+				final String interfaceTranslator,
+				final String targetProvider,
+				final String serviceDefinition,
+				final String operation) {
+			return null; // targets use NONE policy
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public List<ServiceInstanceResponseDTO> collectInterfaceTranslatorCandidates(final List<String> inputInterfaceRequirements, final List<NormalizedServiceInstanceDTO> targets) {
+			return interfaceTranslators;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public List<ServiceInstanceResponseDTO> collectDataModelTranslatorCandidates(final List<TranslationDiscoveryModel> models) {
+			return dataModelTranslators;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public List<ServiceInstanceResponseDTO> collectDataModelTranslatorFactoryCandidates() {
+			return List.of();
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Map<String, Object> getConfigurationForSystem(final String systemName) {
+			return null;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// every interface translator accepts every target and initializes the bridge
+	private static final class StubInterfaceTranslatorDriver extends InterfaceTranslatorDriver {
+
+		private final ServiceInstanceInterfaceResponseDTO bridgeInterface = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				TranslationManagerConstants.POLICY_TRANSLATION_BRIDGE_TOKEN_AUTH,
+				Map.of("accessAddresses", List.of("localhost"), "accessPort", 14000));
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public List<NormalizedServiceInstanceDTO> filterOutNotAppropriateTargetsForInterfaceTranslator(
+				final ServiceInstanceResponseDTO interfaceTranslator,
+				final String token,
+				final String targetOperation,
+				final List<NormalizedServiceInstanceDTO> targets) {
+			return targets;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Pair<Optional<ServiceInstanceInterfaceResponseDTO>, Optional<ArrowheadException>> initializeBridge(
+				final UUID bridgeId,
+				final TranslationDiscoveryModel model,
+				final String targetToken,
+				final Map<String, Object> interfaceTranslatorSettings,
+				final String interfaceTranslatorToken,
+				final Map<String, Object> inputDataModelTranslatorSettings,
+				final Map<String, Object> outputDataModelTranslatorSettings) {
+			return Pair.of(Optional.of(bridgeInterface), Optional.empty());
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public void abortBridge(final UUID bridgeId, final Map<String, Object> interfaceProperties, final String interfaceTranslatorToken) {
+			// intentionally do nothing
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// no factory is registered in the benchmark, these are only safety nets
+	private static final class StubDataModelTranslatorFactoryDriver extends DataModelTranslatorFactoryDriver {
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public boolean isFactorySupportsTranslation(
+				final String factoryName,
+				final Map<String, Object> factoryInterfaceProperties,
+				final String fromDataModelId,
+				final String toDataModelId) {
+			return false;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public void retainFactories(final Collection<String> factoryNames) {
+			// intentionally do nothing
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public TranslationDataModelTranslatorInitializationResponseDTO initializeDataModelTranslator(
+				final String factoryName,
+				final Map<String, Object> factoryInterfaceProperties,
+				final String fromDataModelId,
+				final String toDataModelId) {
+			return new TranslationDataModelTranslatorInitializationResponseDTO(factoryName, factoryInterfaceProperties);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// data model identifiers of the benchmark are already normalized and valid
+	private static final class StubDataModelIdentifierNormalizer extends DataModelIdentifierNormalizer {
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public String normalize(final String dataModelId) {
+			return dataModelId;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class StubDataModelIdentifierValidator extends DataModelIdentifierValidator {
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public void validateDataModelIdentifier(final String dataModelId) {
+			// intentionally do nothing
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// keeps only the last discovery (and the one selected for negotiation), so the memory usage is not growing during the benchmark
+	private static final class StubBridgeDbService extends BridgeDbService {
+
+		private UUID lastBridgeId;
+		private List<TranslationDiscoveryModel> lastModels = List.of();
+		private UUID negotiationBridgeId;
+		private Map<String, TranslationDiscoveryModel> negotiationModels = Map.of();
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Pair<BridgeHeader, List<BridgeDiscovery>> storeBridgeDiscoveries(final UUID bridgeId, final String createdBy, final List<TranslationDiscoveryModel> models) {
+			lastBridgeId = bridgeId;
+			lastModels = models;
+
+			final BridgeHeader header = new BridgeHeader(bridgeId, createdBy);
+			header.setCreatedAt(Utilities.utcNow());
+
+			return Pair.of(header, List.of()); // the engine only uses the creation time
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Pair<TranslationDiscoveryModel, BridgeDetails> selectBridgeFromDiscoveries(final UUID bridgeId, final String instanceId) {
+			final TranslationDiscoveryModel model = bridgeId.equals(negotiationBridgeId) ? negotiationModels.get(instanceId) : null;
+			if (model == null) {
+				throw new InvalidParameterException("Unknown bridge: " + bridgeId);
+			}
+
+			final BridgeDetails details = new BridgeDetails();
+			details.setHeader(new BridgeHeader(bridgeId, CREATOR));
+
+			// negotiation modifies the model, so every call gets its own copy
+			return Pair.of(new TranslationDiscoveryModel(model), details);
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public boolean updateDetailsRecord(final BridgeDetails record) {
+			return false;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public boolean bridgeInitialized(final BridgeHeader header) {
+			return false;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public void storeBridgeProblem(final UUID bridgeId, final String errorMessage) {
+			// intentionally do nothing
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private void keepForNegotiation(final UUID bridgeId) {
+			if (!bridgeId.equals(lastBridgeId)) {
+				throw new IllegalStateException("Bridge is not the last discovered one: " + bridgeId);
+			}
+
+			final Map<String, TranslationDiscoveryModel> models = new HashMap<>(lastModels.size());
+			lastModels.forEach(m -> models.put(m.getTargetInstanceId(), new TranslationDiscoveryModel(m)));
+			negotiationBridgeId = bridgeId;
+			negotiationModels = models;
+		}
+	}
+}
@@ -55,18 +55,89 @@ public final class TranslationManagerConstants {
 	public static final String $TRANSLATION_DISCOVERY_MAX_AGE_WD = "${" + TRANSLATION_DISCOVERY_MAX_AGE + ":" + TranslationManagerDefaults.TRANSLATION_DISCOVERY_MAX_AGE_DEFAULT + "}";
 	public static final String CLEANER_JOB_INTERVAL = "cleaner.job.interval";
 	public static final String $CLEANER_JOB_INTERVAL_WD = "${" + CLEANER_JOB_INTERVAL + ":" + TranslationManagerDefaults.CLEANER_JOB_INTERVAL_DEFAULT + "}";
+	public static final String DISCOVERY_PARALLELISM = "discovery.parallelism";
+	public static final String $DISCOVERY_PARALLELISM_WD = "${" + DISCOVERY_PARALLELISM + ":" + TranslationManagerDefaults.DISCOVERY_PARALLELISM_DEFAULT + "}";
+	public static final String DISCOVERY_CALL_TIMEOUT = "discovery.call.timeout";
+	public static final String $DISCOVERY_CALL_TIMEOUT_WD = "${" + DISCOVERY_CALL_TIMEOUT + ":" + TranslationManagerDefaults.DISCOVERY_CALL_TIMEOUT_DEFAULT + "}";
+	public static final String DISCOVERY_QUEUE_TIMEOUT = "discovery.queue.timeout";
+	public static final String $DISCOVERY_QUEUE_TIMEOUT_WD = "${" + DISCOVERY_QUEUE_TIMEOUT + ":" + TranslationManagerDefaults.DISCOVERY_QUEUE_TIMEOUT_DEFAULT + "}";
+	public static final String TRANSLATOR_LOOKUP_CACHE_TTL = "translator.lookup.cache.ttl";
+	public static final String $TRANSLATOR_LOOKUP_CACHE_TTL_WD = "${" + TRANSLATOR_LOOKUP_CACHE_TTL + ":" + TranslationManagerDefaults.TRANSLATOR_LOOKUP_CACHE_TTL_DEFAULT + "}";
+	public static final String TRANSLATOR_LOOKUP_CACHE_MAX_SIZE = "translator.lookup.cache.max.size";
+	public static final String $TRANSLATOR_LOOKUP_CACHE_MAX_SIZE_WD = "${" + TRANSLATOR_LOOKUP_CACHE_MAX_SIZE + ":" + TranslationManagerDefaults.TRANSLATOR_LOOKUP_CACHE_MAX_SIZE_DEFAULT + "}";
+	public static final String BLACKLIST_CACHE_TTL = "blacklist.cache.ttl";
+	public static final String $BLACKLIST_CACHE_TTL_WD = "${" + BLACKLIST_CACHE_TTL + ":" + TranslationManagerDefaults.BLACKLIST_CACHE_TTL_DEFAULT + "}";
+	public static final String BLACKLIST_CACHE_MAX_SIZE = "blacklist.cache.max.size";
+	public static final String $BLACKLIST_CACHE_MAX_SIZE_WD = "${" + BLACKLIST_CACHE_MAX_SIZE + ":" + TranslationManagerDefaults.BLACKLIST_CACHE_MAX_SIZE_DEFAULT + "}";
+	public static final String AUTHORIZATION_CACHE_TTL = "authorization.cache.ttl";
+	public static final String $AUTHORIZATION_CACHE_TTL_WD = "${" + AUTHORIZATION_CACHE_TTL + ":" + TranslationManagerDefaults.AUTHORIZATION_CACHE_TTL_DEFAULT + "}";
+	public static final String AUTHORIZATION_CACHE_MAX_SIZE = "authorization.cache.max.size";
+	public static final String $AUTHORIZATION_CACHE_MAX_SIZE_WD = "${" + AUTHORIZATION_CACHE_MAX_SIZE + ":" + TranslationManagerDefaults.AUTHORIZATION_CACHE_MAX_SIZE_DEFAULT + "}";
+	public static final String INTERFACE_BRIDGE_TOKEN_POOL_ENABLED = "interface.bridge.token.pool.enabled";
+	public static final String $INTERFACE_BRIDGE_TOKEN_POOL_ENABLED_WD = "${" + INTERFACE_BRIDGE_TOKEN_POOL_ENABLED + ":" + TranslationManagerDefaults.INTERFACE_BRIDGE_TOKEN_POOL_ENABLED_DEFAULT + "}";
+	public static final String INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL = "interface.bridge.token.pool.refresh.interval";
+	public static final String $INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL_WD = "${" + INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL + ":" + TranslationManagerDefaults.INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL_DEFAULT + "}";
+	public static final String FACTORY_CAPABILITY_CACHE_POSITIVE_TTL = "factory.capability.cache.positive.ttl";
+	public static final String $FACTORY_CAPABILITY_CACHE_POSITIVE_TTL_WD = "${" + FACTORY_CAPABILITY_CACHE_POSITIVE_TTL + ":" + TranslationManagerDefaults.FACTORY_CAPABILITY_CACHE_POSITIVE_TTL_DEFAULT + "}";
+	public static final String FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL = "factory.capability.cache.negative.ttl";
+	public static final String $FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL_WD = "${" + FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL + ":" + TranslationManagerDefaults.FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL_DEFAULT + "}";
+	public static final String FACTORY_CAPABILITY_CACHE_MAX_SIZE = "factory.capability.cache.max.size";
+	public static final String $FACTORY_CAPABILITY_CACHE_MAX_SIZE_WD = "${" + FACTORY_CAPABILITY_CACHE_MAX_SIZE + ":" + TranslationManagerDefaults.FACTORY_CAPABILITY_CACHE_MAX_SIZE_DEFAULT + "}";
+	public static final String DISCOVERY_PIPELINED = "discovery.pipelined";
+	public static final String $DISCOVERY_PIPELINED_WD = "${" + DISCOVERY_PIPELINED + ":" + TranslationManagerDefaults.DISCOVERY_PIPELINED_DEFAULT + "}";
+	public static final String DISCOVERY_MEMO_TTL = "discovery.memo.ttl";
+	public static final String $DISCOVERY_MEMO_TTL_WD = "${" + DISCOVERY_MEMO_TTL + ":" + TranslationManagerDefaults.DISCOVERY_MEMO_TTL_DEFAULT + "}";
+	public static final String DISCOVERY_MEMO_MAX_SIZE = "discovery.memo.max.size";
+	public static final String $DISCOVERY_MEMO_MAX_SIZE_WD = "${" + DISCOVERY_MEMO_MAX_SIZE + ":" + TranslationManagerDefaults.DISCOVERY_MEMO_MAX_SIZE_DEFAULT + "}";
+	public static final String BRIDGE_UPDATE_MAX_ATTEMPTS = "bridge.update.max.attempts";
+	public static final String $BRIDGE_UPDATE_MAX_ATTEMPTS_WD = "${" + BRIDGE_UPDATE_MAX_ATTEMPTS + ":" + TranslationManagerDefaults.BRIDGE_UPDATE_MAX_ATTEMPTS_DEFAULT + "}";
+	public static final String REPORT_AGGREGATION_ENABLED = "report.aggregation.enabled";
+	public static final String $REPORT_AGGREGATION_ENABLED_WD = "${" + REPORT_AGGREGATION_ENABLED + ":" + TranslationManagerDefaults.REPORT_AGGREGATION_ENABLED_DEFAULT + "}";
+	public static final String REPORT_AGGREGATION_FLUSH_INTERVAL = "report.aggregation.flush.interval";
+	public static final String $REPORT_AGGREGATION_FLUSH_INTERVAL_WD = "${" + REPORT_AGGREGATION_FLUSH_INTERVAL + ":" + TranslationManagerDefaults.REPORT_AGGREGATION_FLUSH_INTERVAL_DEFAULT + "}";
+	public static final String REPORT_AGGREGATION_MAX_PENDING = "report.aggregation.max.pending";
+	public static final String $REPORT_AGGREGATION_MAX_PENDING_WD = "${" + REPORT_AGGREGATION_MAX_PENDING + ":" + TranslationManagerDefaults.REPORT_AGGREGATION_MAX_PENDING_DEFAULT + "}";
+	public static final String REPORT_INGESTION_ENABLED = "report.ingestion.enabled";
+	public static final String $REPORT_INGESTION_ENABLED_WD = "${" + REPORT_INGESTION_ENABLED + ":" + TranslationManagerDefaults.REPORT_INGESTION_ENABLED_DEFAULT + "}";
+	public static final String REPORT_INGESTION_BUFFER_SIZE = "report.ingestion.buffer.size";
+	public static final String $REPORT_INGESTION_BUFFER_SIZE_WD = "${" + REPORT_INGESTION_BUFFER_SIZE + ":" + TranslationManagerDefaults.REPORT_INGESTION_BUFFER_SIZE_DEFAULT + "}";
+	public static final String REPORT_INGESTION_CONSUMERS = "report.ingestion.consumers";
+	public static final String $REPORT_INGESTION_CONSUMERS_WD = "${" + REPORT_INGESTION_CONSUMERS + ":" + TranslationManagerDefaults.REPORT_INGESTION_CONSUMERS_DEFAULT + "}";
+	public static final String REPORT_INGESTION_MAX_BATCH_SIZE = "report.ingestion.max.batch.size";
+	public static final String $REPORT_INGESTION_MAX_BATCH_SIZE_WD = "${" + REPORT_INGESTION_MAX_BATCH_SIZE + ":" + TranslationManagerDefaults.REPORT_INGESTION_MAX_BATCH_SIZE_DEFAULT + "}";
+	public static final String REPORT_INGESTION_PUBLISH_TIMEOUT = "report.ingestion.publish.timeout";
+	public static final String $REPORT_INGESTION_PUBLISH_TIMEOUT_WD = "${" + REPORT_INGESTION_PUBLISH_TIMEOUT + ":" + TranslationManagerDefaults.REPORT_INGESTION_PUBLISH_TIMEOUT_DEFAULT + "}";
+	public static final String REPORT_BATCH_MAX_SIZE = "report.batch.max.size";
+	public static final String $REPORT_BATCH_MAX_SIZE_WD = "${" + REPORT_BATCH_MAX_SIZE + ":" + TranslationManagerDefaults.REPORT_BATCH_MAX_SIZE_DEFAULT + "}";
+	public static final String CLEANER_JOB_CHUNK_SIZE = "cleaner.job.chunk.size";
+	public static final String $CLEANER_JOB_CHUNK_SIZE_WD = "${" + CLEANER_JOB_CHUNK_SIZE + ":" + TranslationManagerDefaults.CLEANER_JOB_CHUNK_SIZE_DEFAULT + "}";
+	public static final String CLEANER_JOB_TIME_BUDGET = "cleaner.job.time.budget";
+	public static final String $CLEANER_JOB_TIME_BUDGET_WD = "${" + CLEANER_JOB_TIME_BUDGET + ":" + TranslationManagerDefaults.CLEANER_JOB_TIME_BUDGET_DEFAULT + "}";
+	public static final String DISCOVERY_EXPIRY_ENABLED = "discovery.expiry.enabled";
+	public static final String $DISCOVERY_EXPIRY_ENABLED_WD = "${" + DISCOVERY_EXPIRY_ENABLED + ":" + TranslationManagerDefaults.DISCOVERY_EXPIRY_ENABLED_DEFAULT + "}";
+	public static final String DISCOVERY_EXPIRY_TICK = "discovery.expiry.tick";
+	public static final String $DISCOVERY_EXPIRY_TICK_WD = "${" + DISCOVERY_EXPIRY_TICK + ":" + TranslationManagerDefaults.DISCOVERY_EXPIRY_TICK_DEFAULT + "}";
+	public static final String DISCOVERY_EXPIRY_WHEEL_SIZE = "discovery.expiry.wheel.size";
+	public static final String $DISCOVERY_EXPIRY_WHEEL_SIZE_WD = "${" + DISCOVERY_EXPIRY_WHEEL_SIZE + ":" + TranslationManagerDefaults.DISCOVERY_EXPIRY_WHEEL_SIZE_DEFAULT + "}";
+	public static final String DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL = "discovery.expiry.cleaner.job.interval";
+	public static final String $DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL_WD = "${" + DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL + ":" + TranslationManagerDefaults.DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL_DEFAULT + "}";
 
 	public static final String POLICY_TRANSLATION_BRIDGE_TOKEN_AUTH = "TRANSLATION_BRIDGE_TOKEN_AUTH";
 
 	// operation related
 
 	public static final String HTTP_API_OP_REPORT_PATH = "/report";
+	public static final String HTTP_API_OP_REPORT_BATCH_PATH = "/report-batch";
+	public static final String SERVICE_OP_REPORT_BATCH = "report-batch";
 	public static final String HTTP_API_OP_DISCOVERY_PATH = "/discovery";
 	public static final String HTTP_API_OP_NEGOTIATION_PATH = "/negotiation";
 	public static final String HTTP_PARAM_BRIDGE_ID = "{bridgeId}";
 	public static final String HTTP_API_OP_ABORT_PATH = "/abort";
 	public static final String HTTP_API_OP_ABORT_PATH_WITH_PARAM = HTTP_API_OP_ABORT_PATH + "/" + HTTP_PARAM_BRIDGE_ID;
 	public static final String HTTP_API_OP_QUERY_PATH = "/query";
+	public static final String HTTP_API_OP_CACHE_PATH = "/cache";
+	public static final String SERVICE_OP_GET_CACHE_STATISTICS = "get-cache-statistics";
+	public static final String SERVICE_OP_INVALIDATE_CACHE = "invalidate-cache";
 
 	// Quartz related
 	public static final String CLEANER_TRIGGER = "translationManagerCleanerTrigger";
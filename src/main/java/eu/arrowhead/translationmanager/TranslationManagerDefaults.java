@@ -29,6 +29,39 @@ public final class TranslationManagerDefaults extends Defaults {
 	public static final String ENABLE_CUSTOM_CONFIGURATION_DEFAULT = "false";
 	public static final String TRANSLATION_DISCOVERY_MAX_AGE_DEFAULT = "8";
 	public static final String CLEANER_JOB_INTERVAL_DEFAULT = "60000";
+	public static final String DISCOVERY_PARALLELISM_DEFAULT = "8";
+	public static final String DISCOVERY_CALL_TIMEOUT_DEFAULT = "10000";
+	public static final String DISCOVERY_QUEUE_TIMEOUT_DEFAULT = "10000";
+	public static final String TRANSLATOR_LOOKUP_CACHE_TTL_DEFAULT = "60";
+	public static final String TRANSLATOR_LOOKUP_CACHE_MAX_SIZE_DEFAULT = "256";
+	public static final String BLACKLIST_CACHE_TTL_DEFAULT = "30";
+	public static final String BLACKLIST_CACHE_MAX_SIZE_DEFAULT = "1024";
+	public static final String AUTHORIZATION_CACHE_TTL_DEFAULT = "10";
+	public static final String AUTHORIZATION_CACHE_MAX_SIZE_DEFAULT = "4096";
+	public static final String INTERFACE_BRIDGE_TOKEN_POOL_ENABLED_DEFAULT = "true";
+	public static final String INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL_DEFAULT = "60000";
+	public static final String FACTORY_CAPABILITY_CACHE_POSITIVE_TTL_DEFAULT = "300";
+	public static final String FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL_DEFAULT = "60";
+	public static final String FACTORY_CAPABILITY_CACHE_MAX_SIZE_DEFAULT = "1024";
+	public static final String DISCOVERY_PIPELINED_DEFAULT = "false";
+	public static final String DISCOVERY_MEMO_TTL_DEFAULT = "5";
+	public static final String DISCOVERY_MEMO_MAX_SIZE_DEFAULT = "128";
+	public static final String BRIDGE_UPDATE_MAX_ATTEMPTS_DEFAULT = "3";
+	public static final String REPORT_AGGREGATION_ENABLED_DEFAULT = "true";
+	public static final String REPORT_AGGREGATION_FLUSH_INTERVAL_DEFAULT = "1000";
+	public static final String REPORT_AGGREGATION_MAX_PENDING_DEFAULT = "1000";
+	public static final String REPORT_INGESTION_ENABLED_DEFAULT = "false";
+	public static final String REPORT_INGESTION_BUFFER_SIZE_DEFAULT = "4096";
+	public static final String REPORT_INGESTION_CONSUMERS_DEFAULT = "2";
+	public static final String REPORT_INGESTION_MAX_BATCH_SIZE_DEFAULT = "256";
+	public static final String REPORT_INGESTION_PUBLISH_TIMEOUT_DEFAULT = "100";
+	public static final String REPORT_BATCH_MAX_SIZE_DEFAULT = "1000";
+	public static final String CLEANER_JOB_CHUNK_SIZE_DEFAULT = "500";
+	public static final String CLEANER_JOB_TIME_BUDGET_DEFAULT = "10000";
+	public static final String DISCOVERY_EXPIRY_ENABLED_DEFAULT = "true";
+	public static final String DISCOVERY_EXPIRY_TICK_DEFAULT = "1000";
+	public static final String DISCOVERY_EXPIRY_WHEEL_SIZE_DEFAULT = "64";
+	public static final String DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL_DEFAULT = "3600000";
 
 	//=================================================================================================
 	// assistant methods
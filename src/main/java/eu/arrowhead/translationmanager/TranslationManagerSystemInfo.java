@@ -169,7 +169,40 @@ public class TranslationManagerSystemInfo extends SystemInfo {
 						TranslationManagerConstants.TRANSLATOR_SERVICE_MIN_AVAILABILITY,
 						TranslationManagerConstants.ENABLE_CUSTOM_CONFIGURATION,
 						TranslationManagerConstants.TRANSLATION_DISCOVERY_MAX_AGE,
-						TranslationManagerConstants.CLEANER_JOB_INTERVAL),
+						TranslationManagerConstants.CLEANER_JOB_INTERVAL,
+						TranslationManagerConstants.DISCOVERY_PARALLELISM,
+						TranslationManagerConstants.DISCOVERY_CALL_TIMEOUT,
+						TranslationManagerConstants.DISCOVERY_QUEUE_TIMEOUT,
+						TranslationManagerConstants.TRANSLATOR_LOOKUP_CACHE_TTL,
+						TranslationManagerConstants.TRANSLATOR_LOOKUP_CACHE_MAX_SIZE,
+						TranslationManagerConstants.BLACKLIST_CACHE_TTL,
+						TranslationManagerConstants.BLACKLIST_CACHE_MAX_SIZE,
+						TranslationManagerConstants.AUTHORIZATION_CACHE_TTL,
+						TranslationManagerConstants.AUTHORIZATION_CACHE_MAX_SIZE,
+						TranslationManagerConstants.INTERFACE_BRIDGE_TOKEN_POOL_ENABLED,
+						TranslationManagerConstants.INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL,
+						TranslationManagerConstants.FACTORY_CAPABILITY_CACHE_POSITIVE_TTL,
+						TranslationManagerConstants.FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL,
+						TranslationManagerConstants.FACTORY_CAPABILITY_CACHE_MAX_SIZE,
+						TranslationManagerConstants.DISCOVERY_PIPELINED,
+						TranslationManagerConstants.DISCOVERY_MEMO_TTL,
+						TranslationManagerConstants.DISCOVERY_MEMO_MAX_SIZE,
+						TranslationManagerConstants.BRIDGE_UPDATE_MAX_ATTEMPTS,
+						TranslationManagerConstants.REPORT_AGGREGATION_ENABLED,
+						TranslationManagerConstants.REPORT_AGGREGATION_FLUSH_INTERVAL,
+						TranslationManagerConstants.REPORT_AGGREGATION_MAX_PENDING,
+						TranslationManagerConstants.REPORT_INGESTION_ENABLED,
+						TranslationManagerConstants.REPORT_INGESTION_BUFFER_SIZE,
+						TranslationManagerConstants.REPORT_INGESTION_CONSUMERS,
+						TranslationManagerConstants.REPORT_INGESTION_MAX_BATCH_SIZE,
+						TranslationManagerConstants.REPORT_INGESTION_PUBLISH_TIMEOUT,
+						TranslationManagerConstants.REPORT_BATCH_MAX_SIZE,
+						TranslationManagerConstants.CLEANER_JOB_CHUNK_SIZE,
+						TranslationManagerConstants.CLEANER_JOB_TIME_BUDGET,
+						TranslationManagerConstants.DISCOVERY_EXPIRY_ENABLED,
+						TranslationManagerConstants.DISCOVERY_EXPIRY_TICK,
+						TranslationManagerConstants.DISCOVERY_EXPIRY_WHEEL_SIZE,
+						TranslationManagerConstants.DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL),
 				TranslationManagerDefaults.class);
 	}
 
@@ -182,9 +215,15 @@ public class TranslationManagerSystemInfo extends SystemInfo {
 				.path(TranslationManagerConstants.HTTP_API_OP_REPORT_PATH)
 				.build();
 
+		final HttpOperationModel reportBatch = new HttpOperationModel.Builder()
+				.method(HttpMethod.POST.name())
+				.path(TranslationManagerConstants.HTTP_API_OP_REPORT_BATCH_PATH)
+				.build();
+
 		return new HttpInterfaceModel.Builder(templateName, getDomainAddress(), getServerPort())
 				.basePath(TranslationManagerConstants.HTTP_API_REPORT_PATH)
 				.operation(Constants.SERVICE_OP_REPORT, report)
+				.operation(TranslationManagerConstants.SERVICE_OP_REPORT_BATCH, reportBatch)
 				.build();
 	}
 
@@ -197,7 +236,7 @@ public class TranslationManagerSystemInfo extends SystemInfo {
 		final String templateName = getSslProperties().isSslEnabled() ? Constants.GENERIC_MQTTS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_MQTT_INTERFACE_TEMPLATE_NAME;
 		return new MqttInterfaceModel.Builder(templateName, getMqttBrokerAddress(), getMqttBrokerPort())
 				.baseTopic(TranslationManagerConstants.MQTT_API_REPORT_BASE_TOPIC)
-				.operations(Set.of(Constants.SERVICE_OP_REPORT))
+				.operations(Set.of(Constants.SERVICE_OP_REPORT, TranslationManagerConstants.SERVICE_OP_REPORT_BATCH))
 				.build();
 	}
 
@@ -265,12 +304,24 @@ public class TranslationManagerSystemInfo extends SystemInfo {
 				.path(TranslationManagerConstants.HTTP_API_OP_QUERY_PATH)
 				.build();
 
+		final HttpOperationModel cacheStatistics = new HttpOperationModel.Builder()
+				.method(HttpMethod.GET.name())
+				.path(TranslationManagerConstants.HTTP_API_OP_CACHE_PATH)
+				.build();
+
+		final HttpOperationModel invalidateCache = new HttpOperationModel.Builder()
+				.method(HttpMethod.DELETE.name())
+				.path(TranslationManagerConstants.HTTP_API_OP_CACHE_PATH)
+				.build();
+
 		return new HttpInterfaceModel.Builder(templateName, getDomainAddress(), getServerPort())
 				.basePath(TranslationManagerConstants.HTTP_API_BRIDGE_MANAGEMENT_PATH)
 				.operation(Constants.SERVICE_OP_DISCOVERY, discovery)
 				.operation(Constants.SERVICE_OP_NEGOTIATION, negotiation)
 				.operation(Constants.SERVICE_OP_ABORT, abort)
 				.operation(Constants.SERVICE_OP_QUERY, query)
+				.operation(TranslationManagerConstants.SERVICE_OP_GET_CACHE_STATISTICS, cacheStatistics)
+				.operation(TranslationManagerConstants.SERVICE_OP_INVALIDATE_CACHE, invalidateCache)
 				.build();
 	}
 
@@ -283,7 +334,13 @@ public class TranslationManagerSystemInfo extends SystemInfo {
 		final String templateName = getSslProperties().isSslEnabled() ? Constants.GENERIC_MQTTS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_MQTT_INTERFACE_TEMPLATE_NAME;
 		return new MqttInterfaceModel.Builder(templateName, getMqttBrokerAddress(), getMqttBrokerPort())
 				.baseTopic(TranslationManagerConstants.MQTT_API_BRIDGE_MANAGEMENT_BASE_TOPIC)
-				.operations(Set.of(Constants.SERVICE_OP_DISCOVERY, Constants.SERVICE_OP_NEGOTIATION, Constants.SERVICE_OP_ABORT, Constants.SERVICE_OP_QUERY))
+				.operations(Set.of(
+						Constants.SERVICE_OP_DISCOVERY,
+						Constants.SERVICE_OP_NEGOTIATION,
+						Constants.SERVICE_OP_ABORT,
+						Constants.SERVICE_OP_QUERY,
+						TranslationManagerConstants.SERVICE_OP_GET_CACHE_STATISTICS,
+						TranslationManagerConstants.SERVICE_OP_INVALIDATE_CACHE))
 				.build();
 	}
 
@@ -25,6 +25,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -40,11 +41,12 @@ import eu.arrowhead.dto.TranslationDiscoveryMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
 import eu.arrowhead.dto.TranslationNegotiationMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationNegotiationResponseDTO;
-import eu.arrowhead.dto.TranslationQueryListResponseDTO;
 import eu.arrowhead.dto.TranslationQueryRequestDTO;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.api.http.utils.SystemNamePreprocessor;
 import eu.arrowhead.translationmanager.service.TranslationBridgeManagementService;
+import eu.arrowhead.translationmanager.service.dto.CacheStatisticsListResponseDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationQueryCursorListResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -149,7 +151,8 @@ public class TranslationBridgeManagementAPI {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@Operation(summary = "Returns the bridge details entries according to the query request")
+	@Operation(summary = "Returns the bridge details entries according to the query request. Non-last pages contain a continuation token that can be used to get the "
+			+ "next page in seek mode (constant cost per page). With skipCount, the total number of matching entries is not calculated.")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = Constants.HTTP_STATUS_OK, description = Constants.SWAGGER_HTTP_200_MESSAGE),
 			@ApiResponse(responseCode = Constants.HTTP_STATUS_BAD_REQUEST, description = Constants.SWAGGER_HTTP_400_MESSAGE, content = {
@@ -162,11 +165,56 @@ public class TranslationBridgeManagementAPI {
 					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) })
 	})
 	@PostMapping(path = TranslationManagerConstants.HTTP_API_OP_QUERY_PATH, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-	public @ResponseBody TranslationQueryListResponseDTO query(@RequestBody(required = false) final TranslationQueryRequestDTO dto) {
+	public @ResponseBody TranslationQueryCursorListResponseDTO query(
+			@RequestBody(required = false) final TranslationQueryRequestDTO dto,
+			@RequestParam(required = false) final String continuationToken,
+			@RequestParam(defaultValue = "false") final boolean skipCount) {
 		logger.debug("query started...");
 
 		final String origin = HttpMethod.POST.name() + " " + TranslationManagerConstants.HTTP_API_BRIDGE_MANAGEMENT_PATH + TranslationManagerConstants.HTTP_API_OP_QUERY_PATH;
 
-		return mgmtService.queryOperation(dto, origin);
+		return mgmtService.queryOperation(dto, continuationToken, skipCount, origin);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Operation(summary = "Returns the statistics of the caches used by the translation bridge processes")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_OK, description = Constants.SWAGGER_HTTP_200_MESSAGE),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_UNAUTHORIZED, description = Constants.SWAGGER_HTTP_401_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_FORBIDDEN, description = Constants.SWAGGER_HTTP_403_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_INTERNAL_SERVER_ERROR, description = Constants.SWAGGER_HTTP_500_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) })
+	})
+	@GetMapping(path = TranslationManagerConstants.HTTP_API_OP_CACHE_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+	public @ResponseBody CacheStatisticsListResponseDTO cacheStatistics() {
+		logger.debug("cacheStatistics started...");
+
+		final String origin = HttpMethod.GET.name() + " " + TranslationManagerConstants.HTTP_API_BRIDGE_MANAGEMENT_PATH + TranslationManagerConstants.HTTP_API_OP_CACHE_PATH;
+
+		return mgmtService.cacheStatisticsOperation(origin);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Operation(summary = "Clears the specified caches (or all of them if no name is specified), e.g. after the authorization policies are changed")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_OK, description = Constants.SWAGGER_HTTP_200_MESSAGE),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_BAD_REQUEST, description = Constants.SWAGGER_HTTP_400_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_UNAUTHORIZED, description = Constants.SWAGGER_HTTP_401_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_FORBIDDEN, description = Constants.SWAGGER_HTTP_403_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_INTERNAL_SERVER_ERROR, description = Constants.SWAGGER_HTTP_500_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) })
+	})
+	@DeleteMapping(path = TranslationManagerConstants.HTTP_API_OP_CACHE_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+	public @ResponseBody CacheStatisticsListResponseDTO invalidateCache(@RequestParam(required = false) final List<String> names) {
+		logger.debug("invalidateCache started...");
+
+		final String origin = HttpMethod.DELETE.name() + " " + TranslationManagerConstants.HTTP_API_BRIDGE_MANAGEMENT_PATH + TranslationManagerConstants.HTTP_API_OP_CACHE_PATH;
+
+		return mgmtService.invalidateCacheOperation(names, origin);
 	}
 }
\ No newline at end of file
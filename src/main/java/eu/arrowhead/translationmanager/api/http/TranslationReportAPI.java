@@ -24,6 +24,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import eu.arrowhead.common.Constants;
@@ -32,6 +33,8 @@ import eu.arrowhead.dto.TranslationReportRequestDTO;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.api.http.utils.SystemNamePreprocessor;
 import eu.arrowhead.translationmanager.service.TranslationReportService;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -80,4 +83,28 @@ public class TranslationReportAPI {
 		final String requester = preprocessor.process(httpServletRequest, origin);
 		service.reportOperation(requester, dto, origin);
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Operation(summary = "Reports multiple translation bridge related events in one request and returns the result of every report")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_OK, description = Constants.SWAGGER_HTTP_200_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TranslationReportBatchResponseDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_BAD_REQUEST, description = Constants.SWAGGER_HTTP_400_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_UNAUTHORIZED, description = Constants.SWAGGER_HTTP_401_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_FORBIDDEN, description = Constants.SWAGGER_HTTP_403_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) }),
+			@ApiResponse(responseCode = Constants.HTTP_STATUS_INTERNAL_SERVER_ERROR, description = Constants.SWAGGER_HTTP_500_MESSAGE, content = {
+					@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorMessageDTO.class)) })
+	})
+	@PostMapping(path = TranslationManagerConstants.HTTP_API_OP_REPORT_BATCH_PATH, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public @ResponseBody TranslationReportBatchResponseDTO reportBatch(final HttpServletRequest httpServletRequest, @RequestBody final TranslationReportBatchRequestDTO dto) {
+		logger.debug("reportBatch started...");
+
+		final String origin = HttpMethod.POST.name() + " " + TranslationManagerConstants.HTTP_API_REPORT_PATH + TranslationManagerConstants.HTTP_API_OP_REPORT_BATCH_PATH;
+		final String requester = preprocessor.process(httpServletRequest, origin);
+
+		return service.reportBatchOperation(requester, dto, origin);
+	}
 }
\ No newline at end of file
@@ -38,10 +38,11 @@ import eu.arrowhead.dto.TranslationDiscoveryMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
 import eu.arrowhead.dto.TranslationNegotiationMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationNegotiationResponseDTO;
-import eu.arrowhead.dto.TranslationQueryListResponseDTO;
 import eu.arrowhead.dto.TranslationQueryRequestDTO;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.service.TranslationBridgeManagementService;
+import eu.arrowhead.translationmanager.service.dto.CacheStatisticsListResponseDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationQueryCursorListResponseDTO;
 
 @Service
 @ConditionalOnProperty(name = Constants.MQTT_API_ENABLED, matchIfMissing = false)
@@ -96,6 +97,16 @@ public class TranslationBridgeManagementMqttHandler extends MqttTopicHandler {
 			responsePayload = query(queryDTO);
 			break;
 
+		case TranslationManagerConstants.SERVICE_OP_GET_CACHE_STATISTICS:
+			responsePayload = cacheStatistics();
+			break;
+
+		case TranslationManagerConstants.SERVICE_OP_INVALIDATE_CACHE:
+			final List<String> names = readPayload(request.getPayload(), new TypeReference<List<String>>() {
+			});
+			responsePayload = invalidateCache(names);
+			break;
+
 		default:
 			throw new InvalidParameterException("Unknown operation: " + request.getOperation());
 		}
@@ -128,9 +139,27 @@ public class TranslationBridgeManagementMqttHandler extends MqttTopicHandler {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private TranslationQueryListResponseDTO query(final TranslationQueryRequestDTO queryDTO) {
+	// The MQTT payload is the plain query request (no continuation token and skipCount flag), so only offset based paging is supported here. The continuation token is
+	// removed from the response, because it could not be used in a following request; seek mode is only available via HTTP.
+	private TranslationQueryCursorListResponseDTO query(final TranslationQueryRequestDTO queryDTO) {
 		logger.debug("TranslationBridgeManagementMqttHandler.query started");
 
-		return mgmtService.queryOperation(queryDTO, baseTopic() + Constants.SERVICE_OP_QUERY);
+		final TranslationQueryCursorListResponseDTO result = mgmtService.queryOperation(queryDTO, null, false, baseTopic() + Constants.SERVICE_OP_QUERY);
+
+		return new TranslationQueryCursorListResponseDTO(result.entries(), result.count(), null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private CacheStatisticsListResponseDTO cacheStatistics() {
+		logger.debug("TranslationBridgeManagementMqttHandler.cacheStatistics started");
+
+		return mgmtService.cacheStatisticsOperation(baseTopic() + TranslationManagerConstants.SERVICE_OP_GET_CACHE_STATISTICS);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private CacheStatisticsListResponseDTO invalidateCache(final List<String> names) {
+		logger.debug("TranslationBridgeManagementMqttHandler.invalidateCache started");
+
+		return mgmtService.invalidateCacheOperation(names, baseTopic() + TranslationManagerConstants.SERVICE_OP_INVALIDATE_CACHE);
 	}
 }
\ No newline at end of file
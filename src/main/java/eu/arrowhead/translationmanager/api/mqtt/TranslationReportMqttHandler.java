@@ -32,6 +32,9 @@ import eu.arrowhead.common.mqtt.model.MqttRequestModel;
 import eu.arrowhead.dto.TranslationReportRequestDTO;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.service.TranslationReportService;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchResponseDTO;
+import eu.arrowhead.translationmanager.service.engine.ReportIngestionPipeline;
 
 @Service
 @ConditionalOnProperty(name = Constants.MQTT_API_ENABLED, matchIfMissing = false)
@@ -45,6 +48,9 @@ public class TranslationReportMqttHandler extends MqttTopicHandler {
 	@Autowired
 	private TranslationReportService service;
 
+	@Autowired
+	private ReportIngestionPipeline ingestionPipeline;
+
 	//=================================================================================================
 	// methods
 
@@ -61,7 +67,7 @@ public class TranslationReportMqttHandler extends MqttTopicHandler {
 		Assert.isTrue(request.getBaseTopic().equals(baseTopic()), "MQTT topic-handler mismatch");
 
 		final MqttStatus responseStatus = MqttStatus.OK;
-		final Object responsePayload = null;
+		Object responsePayload = null;
 
 		switch (request.getOperation()) {
 		case Constants.SERVICE_OP_REPORT:
@@ -69,6 +75,11 @@ public class TranslationReportMqttHandler extends MqttTopicHandler {
 			report(request.getRequester(), reportDTO);
 			break;
 
+		case TranslationManagerConstants.SERVICE_OP_REPORT_BATCH:
+			final TranslationReportBatchRequestDTO reportBatchDTO = readPayload(request.getPayload(), TranslationReportBatchRequestDTO.class);
+			responsePayload = reportBatch(request.getRequester(), reportBatchDTO);
+			break;
+
 		default:
 			throw new InvalidParameterException("Unknown operation: " + request.getOperation());
 		}
@@ -82,6 +93,21 @@ public class TranslationReportMqttHandler extends MqttTopicHandler {
 	//-------------------------------------------------------------------------------------------------
 	private void report(final String requester, final TranslationReportRequestDTO reportDTO) {
 		logger.debug("TranslationReportMqttHandler.report started");
-		service.reportOperation(requester, reportDTO, baseTopic() + Constants.SERVICE_OP_REPORT);
+		final String origin = baseTopic() + Constants.SERVICE_OP_REPORT;
+
+		if (ingestionPipeline.isEnabled()) {
+			// validation errors are still reported back, the rest of the processing is asynchronous
+			ingestionPipeline.publish(service.validateReport(requester, reportDTO, origin), origin);
+		} else {
+			service.reportOperation(requester, reportDTO, origin);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// always synchronous, because the response contains the result of every report
+	private TranslationReportBatchResponseDTO reportBatch(final String requester, final TranslationReportBatchRequestDTO reportBatchDTO) {
+		logger.debug("TranslationReportMqttHandler.reportBatch started");
+
+		return service.reportBatchOperation(requester, reportBatchDTO, baseTopic() + TranslationManagerConstants.SERVICE_OP_REPORT_BATCH);
 	}
 }
\ No newline at end of file
@@ -28,10 +28,20 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_bridge_details_consumer", columnList = "consumer"),
+		@Index(name = "idx_bridge_details_provider", columnList = "provider"),
+		@Index(name = "idx_bridge_details_service_definition", columnList = "serviceDefinition"),
+		@Index(name = "idx_bridge_details_interface_translator", columnList = "interfaceTranslator"),
+		@Index(name = "idx_bridge_details_input_dm_translator", columnList = "inputDmTranslator"),
+		@Index(name = "idx_bridge_details_result_dm_translator", columnList = "resultDmTranslator")
+})
 public class BridgeDetails {
 
 	//=================================================================================================
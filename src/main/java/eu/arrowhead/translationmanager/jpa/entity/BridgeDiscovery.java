@@ -24,10 +24,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = @Index(name = "idx_bridge_discovery_header_id", columnList = "headerId"))
 public class BridgeDiscovery {
 
 	//=================================================================================================
@@ -25,8 +25,16 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_bridge_header_status", columnList = "status"),
+		@Index(name = "idx_bridge_header_created_at", columnList = "createdAt"),
+		@Index(name = "idx_bridge_header_created_by", columnList = "createdBy")
+})
 public class BridgeHeader extends ArrowheadEntity {
 
 	//=================================================================================================
@@ -50,6 +58,10 @@ public class BridgeHeader extends ArrowheadEntity {
 	@Column(nullable = true)
 	private ZonedDateTime alivesAt;
 
+	// optimistic locking: concurrent modifications of the same bridge (e.g. by different instances) are detected at update time
+	@Version
+	private long version;
+
 	//=================================================================================================
 	// methods
 
@@ -67,7 +79,7 @@ public class BridgeHeader extends ArrowheadEntity {
 	@Override
 	public String toString() {
 		return "BridgeHeader [id=" + id + ", uuid=" + uuid + ", createdBy=" + getCreatedBy() + ", status=" + status + ", message=" + message + ", usageReportCount=" + usageReportCount
-				+ ", alivesAt=" + alivesAt + ", updatedAt=" + updatedAt + ", createdAt=" + createdAt + "]";
+				+ ", alivesAt=" + alivesAt + ", version=" + version + ", updatedAt=" + updatedAt + ", createdAt=" + createdAt + "]";
 	}
 
 	//=================================================================================================
@@ -132,4 +144,14 @@ public class BridgeHeader extends ArrowheadEntity {
 	public void setAlivesAt(final ZonedDateTime alivesAt) {
 		this.alivesAt = alivesAt;
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getVersion() {
+		return version;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void setVersion(final long version) {
+		this.version = version;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.jpa.repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.dto.enums.TranslationBridgeStatus;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public final class BridgeDetailsSpecifications {
+
+	//=================================================================================================
+	// members
+
+	private static final String HEADER = "header";
+	private static final String HEADER_SORT_PREFIX = HEADER + "_";
+	private static final String ID = "id";
+	private static final String UUID_FIELD = "uuid";
+	private static final String CREATED_BY = "createdBy";
+	private static final String STATUS = "status";
+	private static final String CREATED_AT = "createdAt";
+	private static final String ALIVES_AT = "alivesAt";
+	private static final String USAGE_REPORT_COUNT = "usageReportCount";
+	private static final String CONSUMER = "consumer";
+	private static final String PROVIDER = "provider";
+	private static final String SERVICE_DEFINITION = "serviceDefinition";
+	private static final String INTERFACE_TRANSLATOR = "interfaceTranslator";
+	private static final String INPUT_DM_TRANSLATOR = "inputDmTranslator";
+	private static final String RESULT_DM_TRANSLATOR = "resultDmTranslator";
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// Every filter of the request is translated to a predicate, so the filtering, the paging and the sorting are all done by the database. Different filters are connected
+	// with AND, values of the same filter with OR (IN).
+	public static Specification<BridgeDetails> matchesQuery(final NormalizedTranslationQueryRequestDTO dto) {
+		return matchesQuery(dto, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Same as above, but if a cursor is specified, only the records after the cursor (in the order of the cursor's sort field and the id) are matched. With the
+	// index of the sort field this makes every page equally cheap, independently of its position.
+	@SuppressWarnings("unchecked")
+	public static Specification<BridgeDetails> matchesQuery(final NormalizedTranslationQueryRequestDTO dto, final BridgeQueryCursor cursor) {
+		Assert.notNull(dto, "dto is null");
+
+		return (root, query, cb) -> {
+			final Join<BridgeDetails, BridgeHeader> header;
+			if (Long.class == query.getResultType() || long.class == query.getResultType()) {
+				// count query of the paging
+				header = root.join(HEADER, JoinType.INNER);
+			} else {
+				// the header is needed anyway (eager relation), so it is loaded in the same statement
+				header = (Join<BridgeDetails, BridgeHeader>) root.<BridgeDetails, BridgeHeader>fetch(HEADER, JoinType.INNER);
+			}
+
+			final List<Predicate> predicates = new ArrayList<>();
+
+			if (!Utilities.isEmpty(dto.bridgeIds())) {
+				predicates.add(header.get(UUID_FIELD).in(dto.bridgeIds()
+						.stream()
+						.map(UUID::toString)
+						.toList()));
+			}
+
+			if (!Utilities.isEmpty(dto.creators())) {
+				predicates.add(header.get(CREATED_BY).in(dto.creators()));
+			}
+
+			if (!Utilities.isEmpty(dto.statuses())) {
+				predicates.add(header.<TranslationBridgeStatus>get(STATUS).in(dto.statuses()));
+			}
+
+			if (!Utilities.isEmpty(dto.consumers())) {
+				predicates.add(root.get(CONSUMER).in(dto.consumers()));
+			}
+
+			if (!Utilities.isEmpty(dto.providers())) {
+				predicates.add(root.get(PROVIDER).in(dto.providers()));
+			}
+
+			if (!Utilities.isEmpty(dto.serviceDefinitions())) {
+				predicates.add(root.get(SERVICE_DEFINITION).in(dto.serviceDefinitions()));
+			}
+
+			if (!Utilities.isEmpty(dto.interfaceTranslators())) {
+				predicates.add(root.get(INTERFACE_TRANSLATOR).in(dto.interfaceTranslators()));
+			}
+
+			if (!Utilities.isEmpty(dto.dataModelTranslators())) {
+				// input or result data model translator
+				predicates.add(cb.or(
+						root.get(INPUT_DM_TRANSLATOR).in(dto.dataModelTranslators()),
+						root.get(RESULT_DM_TRANSLATOR).in(dto.dataModelTranslators())));
+			}
+
+			if (dto.creationFrom() != null) {
+				predicates.add(cb.greaterThanOrEqualTo(header.<ZonedDateTime>get(CREATED_AT), dto.creationFrom()));
+			}
+
+			if (dto.creationTo() != null) {
+				predicates.add(cb.lessThanOrEqualTo(header.<ZonedDateTime>get(CREATED_AT), dto.creationTo()));
+			}
+
+			// comparisons with NULL are never true, so bridges without alive time are filtered out by these
+			if (dto.alivesFrom() != null) {
+				predicates.add(cb.greaterThanOrEqualTo(header.<ZonedDateTime>get(ALIVES_AT), dto.alivesFrom()));
+			}
+
+			if (dto.alivesTo() != null) {
+				predicates.add(cb.lessThanOrEqualTo(header.<ZonedDateTime>get(ALIVES_AT), dto.alivesTo()));
+			}
+
+			if (dto.minUsage() != null) {
+				predicates.add(cb.greaterThanOrEqualTo(header.<Integer>get(USAGE_REPORT_COUNT), dto.minUsage()));
+			}
+
+			if (dto.maxUsage() != null) {
+				predicates.add(cb.lessThanOrEqualTo(header.<Integer>get(USAGE_REPORT_COUNT), dto.maxUsage()));
+			}
+
+			if (cursor != null) {
+				predicates.add(isAfter(cursor, root, header, cb));
+			}
+
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Returns the value of the specified sort field of the record in the string form used by the cursors.
+	public static String getSortValue(final BridgeDetails record, final String sortField) {
+		Assert.notNull(record, "record is null");
+		Assert.isTrue(!Utilities.isEmpty(sortField), "sortField is empty");
+
+		return switch (sortField) {
+		case BridgeDetails.SORT_NAME_HEADER_UUID -> record.getHeader().getUuid();
+		case BridgeDetails.SORT_NAME_HEADER_CREATED_BY -> record.getHeader().getCreatedBy();
+		case BridgeDetails.SORT_NAME_HEADER_STATUS -> record.getHeader().getStatus().name();
+		case BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT -> String.valueOf(record.getHeader().getUsageReportCount());
+		case BridgeDetails.SORT_NAME_HEADER_ALIVES_AT -> record.getHeader().getAlivesAt() == null ? null : record.getHeader().getAlivesAt().toInstant().toString();
+		case BridgeDetails.SORT_NAME_HEADER_CREATED_AT -> record.getHeader().getCreatedAt().toInstant().toString();
+		case CONSUMER -> record.getConsumer();
+		case PROVIDER -> record.getProvider();
+		case SERVICE_DEFINITION -> record.getServiceDefinition();
+		default -> throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+		};
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Inverse of getSortValue(). Throws exception if the value is not valid for the specified sort field.
+	public static Comparable<?> parseSortValue(final String sortField, final String value) {
+		Assert.isTrue(!Utilities.isEmpty(sortField), "sortField is empty");
+
+		if (value == null) {
+			return null;
+		}
+
+		return switch (sortField) {
+		case BridgeDetails.SORT_NAME_HEADER_STATUS -> TranslationBridgeStatus.valueOf(value);
+		case BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT -> Integer.valueOf(value);
+		case BridgeDetails.SORT_NAME_HEADER_ALIVES_AT, BridgeDetails.SORT_NAME_HEADER_CREATED_AT -> ZonedDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC);
+		case BridgeDetails.SORT_NAME_HEADER_UUID, BridgeDetails.SORT_NAME_HEADER_CREATED_BY, CONSUMER, PROVIDER, SERVICE_DEFINITION -> value;
+		default -> throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+		};
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private BridgeDetailsSpecifications() {
+		throw new UnsupportedOperationException();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// (value, id) > (lastValue, lastId) in ascending order, (value, id) < (lastValue, lastId) in descending order. NULL is the smallest value (as in MySQL), so NULLs
+	// come first in ascending and last in descending order. Only the alive time can be NULL.
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Predicate isAfter(final BridgeQueryCursor cursor, final Root<BridgeDetails> root, final Join<BridgeDetails, BridgeHeader> header, final CriteriaBuilder cb) {
+		final Expression<Comparable> value = cursor.sortField().startsWith(HEADER_SORT_PREFIX)
+				? header.get(cursor.sortField().substring(HEADER_SORT_PREFIX.length()))
+				: root.get(cursor.sortField());
+		final Expression<Long> id = root.get(ID);
+		final Comparable lastValue = parseSortValue(cursor.sortField(), cursor.lastValue());
+		final boolean ascending = cursor.direction() == Direction.ASC;
+		final Predicate sameValueNextId = ascending ? cb.greaterThan(id, cursor.lastId()) : cb.lessThan(id, cursor.lastId());
+
+		if (lastValue == null) {
+			return ascending
+					? cb.or(cb.isNotNull(value), cb.and(cb.isNull(value), sameValueNextId))
+					: cb.and(cb.isNull(value), sameValueNextId);
+		}
+
+		final Predicate nextValue = ascending ? cb.greaterThan(value, lastValue) : cb.lessThan(value, lastValue);
+		final Predicate result = cb.or(nextValue, cb.and(cb.equal(value, lastValue), sameValueNextId));
+
+		return !ascending && BridgeDetails.SORT_NAME_HEADER_ALIVES_AT.equals(cursor.sortField())
+				? cb.or(result, cb.isNull(value))
+				: result;
+	}
+}
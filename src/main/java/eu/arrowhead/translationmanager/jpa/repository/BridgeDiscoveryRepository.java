@@ -16,9 +16,12 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.jpa.repository;
 
-import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import eu.arrowhead.common.jpa.RefreshableRepository;
@@ -38,6 +41,7 @@ public interface BridgeDiscoveryRepository extends RefreshableRepository<BridgeD
 	public void deleteByHeader(final BridgeHeader header);
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MethodNameCheck")
-	public List<BridgeDiscovery> findByHeader_CreatedAtLessThan(final ZonedDateTime time);
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM BridgeDiscovery d WHERE d.header.id IN :headerIds")
+	public int deleteByHeaderIds(@Param("headerIds") final Collection<Long> headerIds);
 }
\ No newline at end of file
@@ -16,11 +16,19 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.jpa.repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import eu.arrowhead.common.jpa.RefreshableRepository;
+import eu.arrowhead.dto.enums.TranslationBridgeStatus;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
 
 @Repository
@@ -31,4 +39,47 @@ public interface BridgeHeaderRepository extends RefreshableRepository<BridgeHead
 
 	//-------------------------------------------------------------------------------------------------
 	public Optional<BridgeHeader> findByUuid(final String uuid);
+
+	//-------------------------------------------------------------------------------------------------
+	// Applies a translation report in one statement: the header is only updated if it is in one of the specified statuses and the requester is the interface translator
+	// of the bridge. Returns the number of updated rows (0 or 1). The version is increased, so concurrent entity based modifications of the bridge detect the change.
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE BridgeHeader h SET h.status = :toStatus, h.alivesAt = :alivesAt, h.usageReportCount = h.usageReportCount + :usageIncrement, h.message = COALESCE(:message, h.message),"
+			+ " h.version = h.version + 1, h.updatedAt = :now"
+			+ " WHERE h.uuid = :uuid AND h.status IN :fromStatuses"
+			+ " AND EXISTS (SELECT d.id FROM BridgeDetails d WHERE d.header = h AND d.interfaceTranslator = :requester)")
+	public int applyReport(
+			@Param("uuid") final String uuid,
+			@Param("requester") final String requester,
+			@Param("fromStatuses") final Collection<TranslationBridgeStatus> fromStatuses,
+			@Param("toStatus") final TranslationBridgeStatus toStatus,
+			@Param("alivesAt") final ZonedDateTime alivesAt,
+			@Param("usageIncrement") final int usageIncrement,
+			@Param("message") final String message,
+			@Param("now") final ZonedDateTime now);
+
+	//-------------------------------------------------------------------------------------------------
+	// identifiers of the bridges that still have discovery records and are created before the threshold
+	@Query("SELECT h.id FROM BridgeHeader h WHERE h.createdAt < :threshold AND EXISTS (SELECT d.id FROM BridgeDiscovery d WHERE d.header = h) ORDER BY h.id")
+	public List<Long> findIdsWithDiscoveriesCreatedBefore(@Param("threshold") final ZonedDateTime threshold, final Pageable pageable);
+
+	//-------------------------------------------------------------------------------------------------
+	// identifiers of the specified bridges that still have discovery records
+	@Query("SELECT h.id FROM BridgeHeader h WHERE h.uuid IN :uuids AND EXISTS (SELECT d.id FROM BridgeDiscovery d WHERE d.header = h)")
+	public List<Long> findIdsWithDiscoveriesByUuids(@Param("uuids") final Collection<String> uuids);
+
+	//-------------------------------------------------------------------------------------------------
+	// bridges that still have discovery records, in the order of their identifiers (for keyset paging)
+	@Query("SELECT h FROM BridgeHeader h WHERE h.id > :lastId AND EXISTS (SELECT d.id FROM BridgeDiscovery d WHERE d.header = h) ORDER BY h.id")
+	public List<BridgeHeader> findWithDiscoveriesAfterId(@Param("lastId") final long lastId, final Pageable pageable);
+
+	//-------------------------------------------------------------------------------------------------
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE BridgeHeader h SET h.status = :toStatus, h.message = :message, h.version = h.version + 1, h.updatedAt = :now WHERE h.id IN :ids AND h.status IN :fromStatuses")
+	public int updateStatusByIds(
+			@Param("ids") final Collection<Long> ids,
+			@Param("fromStatuses") final Collection<TranslationBridgeStatus> fromStatuses,
+			@Param("toStatus") final TranslationBridgeStatus toStatus,
+			@Param("message") final String message,
+			@Param("now") final ZonedDateTime now);
 }
\ No newline at end of file
@@ -18,19 +18,32 @@ package eu.arrowhead.translationmanager.jpa.service;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.util.Pair;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 import eu.arrowhead.common.Utilities;
@@ -40,12 +53,15 @@ import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.dto.enums.TranslationBridgeEventState;
 import eu.arrowhead.dto.enums.TranslationBridgeStatus;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDiscovery;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
 import eu.arrowhead.translationmanager.jpa.repository.BridgeDetailsRepository;
+import eu.arrowhead.translationmanager.jpa.repository.BridgeDetailsSpecifications;
 import eu.arrowhead.translationmanager.jpa.repository.BridgeDiscoveryRepository;
 import eu.arrowhead.translationmanager.jpa.repository.BridgeHeaderRepository;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.TranslationDiscoveryModel;
@@ -67,7 +83,16 @@ public class BridgeDbService {
 	@Autowired
 	private BridgeDiscoveryRepository discoveryRepository;
 
-	private static final Object LOCK = new Object();
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value(TranslationManagerConstants.$BRIDGE_UPDATE_MAX_ATTEMPTS_WD)
+	private int maxUpdateAttempts;
+
+	// striped locks: modifications of different bridges can run in parallel (unless their identifiers fall into the same stripe)
+	private final LockRegistry bridgeLocks = new DefaultLockRegistry();
+
+	private static final String ID_FIELD = "id";
 
 	//=================================================================================================
 	// methods
@@ -81,42 +106,74 @@ public class BridgeDbService {
 		Assert.notNull(dto.timestamp(), "timestamp is null");
 
 		try {
-			final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(dto.bridgeId().toString());
-			if (headerOpt.isEmpty()) {
-				throw new InvalidParameterException("Invalid bridge id: " + dto.bridgeId().toString());
+			final ArrowheadException error = applyTranslationReport(dto);
+			if (error != null) {
+				throw error;
 			}
+		} catch (final InvalidParameterException | ForbiddenException ex) {
+			throw ex;
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
 
-			final BridgeHeader header = headerOpt.get();
-			final Optional<BridgeDetails> detailsOpt = detailsRepository.findByHeader(header);
-			if (detailsOpt.isEmpty()) {
-				throw new InvalidParameterException("Invalid bridge id: " + dto.bridgeId().toString());
-			}
+	//-------------------------------------------------------------------------------------------------
+	// Applies several reports in one transaction. Returns the result of every report in the order of the input list: null if the report is applied, the exception that
+	// describes the problem otherwise. A database error fails the whole batch.
+	@Transactional(rollbackFor = ArrowheadException.class)
+	public List<ArrowheadException> handleTranslationReports(final List<NormalizedTranslationReportRequestDTO> dtos) {
+		logger.debug("handleTranslationReports started...");
+		Assert.notNull(dtos, "dto list is null");
+		dtos.forEach(dto -> {
+			Assert.notNull(dto, "dto is null");
+			Assert.notNull(dto.bridgeId(), "bridgeId is null");
+			Assert.notNull(dto.timestamp(), "timestamp is null");
+		});
 
-			if (!detailsOpt.get().getInterfaceTranslator().equals(dto.requester())) {
-				// only the related interface translator has the right to report anything about the bridge
-				throw new ForbiddenException("Requester has no permission to report about the specified translation bridge");
+		try {
+			final List<ArrowheadException> result = new ArrayList<>(dtos.size());
+			for (final NormalizedTranslationReportRequestDTO dto : dtos) {
+				result.add(applyTranslationReport(dto));
 			}
 
-			final TranslationBridgeStatus toStatus = TranslationBridgeEventState.transformToBridgeStatus(dto.state());
-			if (!header.getStatus().isActiveStatus() || !TranslationBridgeStatus.isValidTransition(header.getStatus(), toStatus)) {
-				// bridge should not reporting or the reported transition is invalid
-				throw new InvalidParameterException("Invalid reporting case");
-			}
+			return result;
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
 
-			synchronized (LOCK) {
-				header.setStatus(toStatus);
-				header.setAlivesAt(dto.timestamp());
-				if (TranslationBridgeStatus.USED == toStatus) {
-					header.setUsageReportCount(header.getUsageReportCount() + 1);
-				}
-				if (!Utilities.isEmpty(dto.errorMessage())) {
-					header.setMessage(dto.errorMessage());
-				}
+	//-------------------------------------------------------------------------------------------------
+	// Writes the aggregated USED reports of several bridges in one transaction. Returns the identifiers of the bridges whose reports were rejected (the bridge is no longer
+	// in a status where usage can be reported or it is not belong to the requester anymore).
+	@Transactional(rollbackFor = ArrowheadException.class)
+	public List<UUID> handleAggregatedUsageReports(final List<UsageReport> reports) {
+		logger.debug("handleAggregatedUsageReports started...");
+		Assert.notNull(reports, "reports list is null");
 
-				headerRepository.saveAndFlush(header);
+		try {
+			final List<TranslationBridgeStatus> fromStatuses = getReportableStatuses(TranslationBridgeStatus.USED);
+			final List<UUID> rejected = new ArrayList<>();
+			for (final UsageReport report : reports) {
+				final int updated = headerRepository.applyReport(
+						report.bridgeId().toString(),
+						report.requester(),
+						fromStatuses,
+						TranslationBridgeStatus.USED,
+						report.alivesAt(),
+						report.count(),
+						null,
+						Utilities.utcNow());
+
+				if (updated == 0) {
+					rejected.add(report.bridgeId());
+				}
 			}
-		} catch (final InvalidParameterException | ForbiddenException ex) {
-			throw ex;
+
+			return rejected;
 		} catch (final Exception ex) {
 			logger.error(ex.getMessage());
 			logger.debug(ex);
@@ -125,6 +182,7 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
+	// the bridge is brand new, so nobody else can modify it yet: no need for the bridge lock
 	@Transactional(rollbackFor = ArrowheadException.class)
 	public Pair<BridgeHeader, List<BridgeDiscovery>> storeBridgeDiscoveries(final UUID bridgeId, final String createdBy, final List<TranslationDiscoveryModel> models) {
 		logger.debug("storeBridgeDiscoveries started...");
@@ -140,13 +198,11 @@ public class BridgeDbService {
 				discoveries.add(new BridgeDiscovery(header, Utilities.toJson(model)));
 			}
 
-			synchronized (LOCK) {
-				header = headerRepository.saveAndFlush(header);
-				discoveries = discoveryRepository.saveAllAndFlush(discoveries);
+			header = headerRepository.saveAndFlush(header);
+			discoveries = discoveryRepository.saveAllAndFlush(discoveries);
 
-				header.setStatus(TranslationBridgeStatus.DISCOVERED);
-				header = headerRepository.saveAndFlush(header);
-			}
+			header.setStatus(TranslationBridgeStatus.DISCOVERED);
+			header = headerRepository.saveAndFlush(header);
 
 			return Pair.of(header, discoveries);
 		} catch (final Exception ex) {
@@ -157,32 +213,31 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@Transactional(rollbackFor = ArrowheadException.class)
 	public Pair<TranslationDiscoveryModel, BridgeDetails> selectBridgeFromDiscoveries(final UUID bridgeId, final String instanceId) {
 		logger.debug("selectBridgeFromDiscoveries started...");
 		Assert.notNull(bridgeId, "bridgeId is null");
 		Assert.isTrue(!Utilities.isEmpty(instanceId), "instanceId is missing");
 
 		try {
-			// finding related header
-			final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(bridgeId.toString());
-			if (headerOpt.isEmpty()) {
-				throw new InvalidParameterException("Invalid bridge identifier: " + bridgeId.toString());
-			}
+			return executeOnBridge(bridgeId, () -> {
+				// finding related header
+				final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(bridgeId.toString());
+				if (headerOpt.isEmpty()) {
+					throw new InvalidParameterException("Invalid bridge identifier: " + bridgeId.toString());
+				}
 
-			BridgeHeader header = headerOpt.get();
-			if (!TranslationBridgeStatus.isValidTransition(header.getStatus(), TranslationBridgeStatus.PENDING)) {
-				throw new InvalidParameterException("Invalid bridge identifier: " + bridgeId.toString());
-			}
+				BridgeHeader header = headerOpt.get();
+				if (!TranslationBridgeStatus.isValidTransition(header.getStatus(), TranslationBridgeStatus.PENDING)) {
+					throw new InvalidParameterException("Invalid bridge identifier: " + bridgeId.toString());
+				}
 
-			// finding related discovery model
-			final List<BridgeDiscovery> discoveries = discoveryRepository.findByHeader(header);
-			final Optional<TranslationDiscoveryModel> modelOpt = findDiscoveryModelByInstanceId(discoveries, instanceId);
-			if (modelOpt.isEmpty()) {
-				throw new InvalidParameterException("Invalid bridge identifier: " + bridgeId.toString());
-			}
+				// finding related discovery model
+				final List<BridgeDiscovery> discoveries = discoveryRepository.findByHeader(header);
+				final Optional<TranslationDiscoveryModel> modelOpt = findDiscoveryModelByInstanceId(discoveries, instanceId);
+				if (modelOpt.isEmpty()) {
+					throw new InvalidParameterException("Invalid bridge identifier: " + bridgeId.toString());
+				}
 
-			synchronized (LOCK) {
 				// setting status
 				header.setStatus(TranslationBridgeStatus.PENDING);
 				header = headerRepository.saveAndFlush(header);
@@ -208,7 +263,7 @@ public class BridgeDbService {
 				details = detailsRepository.saveAndFlush(details);
 
 				return Pair.of(model, details);
-			}
+			});
 		} catch (final InvalidParameterException ex) {
 			throw ex;
 		} catch (final Exception ex) {
@@ -219,24 +274,24 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@Transactional(rollbackFor = ArrowheadException.class)
 	public boolean updateDetailsRecord(final BridgeDetails record) {
 		logger.debug("updateDetailsRecord started...");
 		Assert.notNull(record, "record is missing");
+		Assert.notNull(record.getHeader(), "header is missing");
 
 		try {
-			final Optional<BridgeDetails> currentDetailsOpt = detailsRepository.findById(record.getId());
-			if (currentDetailsOpt.isPresent()) {
-				if (currentDetailsOpt.get().getHeader().getStatus().isEndStatus()) {
-					return true;
-				}
+			return executeOnBridge(UUID.fromString(record.getHeader().getUuid()), () -> {
+				final Optional<BridgeDetails> currentDetailsOpt = detailsRepository.findById(record.getId());
+				if (currentDetailsOpt.isPresent()) {
+					if (currentDetailsOpt.get().getHeader().getStatus().isEndStatus()) {
+						return true;
+					}
 
-				synchronized (LOCK) {
 					detailsRepository.saveAndFlush(record);
 				}
-			}
 
-			return false;
+				return false;
+			});
 		} catch (final Exception ex) {
 			logger.error(ex.getMessage());
 			logger.debug(ex);
@@ -245,22 +300,28 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@Transactional(rollbackFor = ArrowheadException.class)
+	// the specified header can be outdated, so its current state is used
 	public boolean bridgeInitialized(final BridgeHeader header) {
 		logger.debug("bridgeInitialized started...");
 		Assert.notNull(header, "header is missing");
 
 		try {
-			if (TranslationBridgeStatus.PENDING == header.getStatus()) {
-				synchronized (LOCK) {
-					header.setStatus(TranslationBridgeStatus.INITIALIZED);
-					headerRepository.saveAndFlush(header);
+			return executeOnBridge(UUID.fromString(header.getUuid()), () -> {
+				final Optional<BridgeHeader> currentOpt = headerRepository.findByUuid(header.getUuid());
+				if (currentOpt.isEmpty()) {
+					return true;
 				}
-			} else if (header.getStatus().isEndStatus()) {
-				return true;
-			}
 
-			return false;
+				final BridgeHeader current = currentOpt.get();
+				if (TranslationBridgeStatus.PENDING == current.getStatus()) {
+					current.setStatus(TranslationBridgeStatus.INITIALIZED);
+					headerRepository.saveAndFlush(current);
+				} else if (current.getStatus().isEndStatus()) {
+					return true;
+				}
+
+				return false;
+			});
 		} catch (final Exception ex) {
 			logger.error(ex.getMessage());
 			logger.debug(ex);
@@ -269,22 +330,23 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@Transactional(rollbackFor = ArrowheadException.class)
 	public void storeBridgeProblem(final UUID bridgeId, final String errorMessage) {
 		logger.debug("storeBridgeProblem started...");
 		Assert.notNull(bridgeId, "bridgeId is null");
 		Assert.isTrue(!Utilities.isEmpty(errorMessage), "errorMessage is missing");
 
 		try {
-			final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(bridgeId.toString());
-			if (headerOpt.isPresent() && TranslationBridgeStatus.isValidTransition(headerOpt.get().getStatus(), TranslationBridgeStatus.ERROR)) {
-				final BridgeHeader header = headerOpt.get();
-				synchronized (LOCK) {
+			executeOnBridge(bridgeId, () -> {
+				final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(bridgeId.toString());
+				if (headerOpt.isPresent() && TranslationBridgeStatus.isValidTransition(headerOpt.get().getStatus(), TranslationBridgeStatus.ERROR)) {
+					final BridgeHeader header = headerOpt.get();
 					header.setStatus(TranslationBridgeStatus.ERROR);
 					header.setMessage(errorMessage);
 					headerRepository.saveAndFlush(header);
 				}
-			}
+
+				return null;
+			});
 		} catch (final Exception ex) {
 			// can't store a bridge problem in the db, so we store it at least in the log
 			logger.error("Bridge {} should be in ERROR state with the following error message: {}", bridgeId.toString(), errorMessage);
@@ -297,30 +359,29 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@Transactional(rollbackFor = ArrowheadException.class)
 	public AbortResult abortBridge(final UUID bridgeId, final String createdByRequirement) {
 		logger.debug("abortBridge started...");
 		Assert.notNull(bridgeId, "bridgeId is null");
 
 		try {
-			final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(bridgeId.toString());
-			if (headerOpt.isEmpty()) {
-				return new AbortResult(false, null, null);
-			}
+			return executeOnBridge(bridgeId, () -> {
+				final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(bridgeId.toString());
+				if (headerOpt.isEmpty()) {
+					return new AbortResult(false, null, null);
+				}
 
-			BridgeHeader header = headerOpt.get();
-			if (!Utilities.isEmpty(createdByRequirement)
-					&& !createdByRequirement.equals(header.getCreatedBy())) {
-				// no permission to abort this bridge
-				throw new ForbiddenException("No permission to abort bridge: " + bridgeId.toString());
-			}
+				BridgeHeader header = headerOpt.get();
+				if (!Utilities.isEmpty(createdByRequirement)
+						&& !createdByRequirement.equals(header.getCreatedBy())) {
+					// no permission to abort this bridge
+					throw new ForbiddenException("No permission to abort bridge: " + bridgeId.toString());
+				}
 
-			final TranslationBridgeStatus oldStatus = header.getStatus();
-			if (TranslationBridgeStatus.isValidTransition(oldStatus, TranslationBridgeStatus.ABORTED)) {
-				// delete related discovery records (if any)
-				discoveryRepository.deleteByHeader(header);
+				final TranslationBridgeStatus oldStatus = header.getStatus();
+				if (TranslationBridgeStatus.isValidTransition(oldStatus, TranslationBridgeStatus.ABORTED)) {
+					// delete related discovery records (if any)
+					discoveryRepository.deleteByHeader(header);
 
-				synchronized (LOCK) {
 					header.setStatus(TranslationBridgeStatus.ABORTED);
 					header = headerRepository.saveAndFlush(header);
 
@@ -328,10 +389,10 @@ public class BridgeDbService {
 
 					return new AbortResult(true, oldStatus, detailsOpt.isEmpty() ? null : detailsOpt.get());
 				}
-			}
 
-			// already aborted, closed or in error state
-			return new AbortResult(false, oldStatus, null);
+				// already aborted, closed or in error state
+				return new AbortResult(false, oldStatus, null);
+			});
 		} catch (final ForbiddenException ex) {
 			throw ex;
 		} catch (final Exception ex) {
@@ -347,11 +408,12 @@ public class BridgeDbService {
 		Assert.notNull(dto, "dto is missing");
 
 		try {
+			final PageRequest pageRequest = withTieBreaker(dto.pageRequest());
 			if (!dto.hasAnyFilter()) {
-				return detailsRepository.findAll(dto.pageRequest());
+				return detailsRepository.findAll(pageRequest);
 			}
 
-			return getBridgeDetailsPageByFilters(dto);
+			return getBridgeDetailsPageByFilters(dto, pageRequest);
 		} catch (final Exception ex) {
 			logger.error(ex.getMessage());
 			logger.debug(ex);
@@ -361,12 +423,56 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	public List<BridgeDiscovery> getBridgeDiscoveriesCreatedBefore(final ZonedDateTime threshold) {
-		logger.debug("getBridgeDiscoveriesCreatedBefore started...");
+	// Seek version of getBridgeDetailsPage(): returns the first page after the cursor (or the first page if cursor is null). The page number of the request is ignored
+	// and no count query is executed.
+	public Slice<BridgeDetails> getBridgeDetailsSlice(final NormalizedTranslationQueryRequestDTO dto, final BridgeQueryCursor cursor) {
+		logger.debug("getBridgeDetailsSlice started...");
+		Assert.notNull(dto, "dto is missing");
+
+		try {
+			final PageRequest pageRequest = withTieBreaker(PageRequest.of(0, dto.pageRequest().getPageSize(), dto.pageRequest().getSort()));
+			final int size = pageRequest.getPageSize();
+
+			// one extra record is enough to know whether there is a next page
+			final List<BridgeDetails> records = detailsRepository.findBy(
+					BridgeDetailsSpecifications.matchesQuery(dto, cursor),
+					query -> query.sortBy(pageRequest.getSort()).limit(size + 1).all());
+			final boolean hasNext = records.size() > size;
+
+			return new SliceImpl<>(hasNext ? records.subList(0, size) : records, pageRequest, hasNext);
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long countBridgeDetails(final NormalizedTranslationQueryRequestDTO dto) {
+		logger.debug("countBridgeDetails started...");
+		Assert.notNull(dto, "dto is missing");
+
+		try {
+			return dto.hasAnyFilter() ? detailsRepository.count(BridgeDetailsSpecifications.matchesQuery(dto)) : detailsRepository.count();
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Handles at most 'limit' bridges whose discovery records are obsoleted: the inactive ones are closed and all of their discovery records are removed. Uses two bulk
+	// statements, so the status condition is checked by the database and no entity is loaded. The concurrent updaters of the affected bridges fail with optimistic locking
+	// error (the version is increased), so they retry on the current state.
+	@Transactional(rollbackFor = ArrowheadException.class)
+	public CleanupResult cleanObsoletedBridgeDiscoveries(final ZonedDateTime threshold, final int limit) {
+		logger.debug("cleanObsoletedBridgeDiscoveries started...");
 		Assert.notNull(threshold, "threshold is missing");
+		Assert.isTrue(limit > 0, "limit is not positive");
 
 		try {
-			return discoveryRepository.findByHeader_CreatedAtLessThan(threshold);
+			return closeObsoletedBridges(headerRepository.findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, limit)));
 		} catch (final Exception ex) {
 			logger.error(ex.getMessage());
 			logger.debug(ex);
@@ -375,24 +481,31 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
+	// Same as cleanObsoletedBridgeDiscoveries, but for the specified bridges (their discovery records are expired according to the discovery expiry timing wheel). Bridges
+	// without discovery records (e.g. already selected ones) are left untouched.
 	@Transactional(rollbackFor = ArrowheadException.class)
-	public void handleObsoletedBridgeDiscovery(final BridgeDiscovery record) {
-		logger.debug("handleObsoletedBridgeDiscovery started...");
-		Assert.notNull(record, "record is missing");
+	public CleanupResult closeExpiredBridgeDiscoveries(final List<UUID> bridgeIds) {
+		logger.debug("closeExpiredBridgeDiscoveries started...");
+		Assert.isTrue(!Utilities.isEmpty(bridgeIds), "bridgeIds list is missing");
+		Assert.isTrue(!Utilities.containsNull(bridgeIds), "bridgeIds list contains null element");
 
 		try {
-			synchronized (LOCK) {
-				final BridgeHeader header = record.getHeader();
-				final TranslationBridgeStatus status = header.getStatus();
-				if (!status.isEndStatus() && !status.isActiveStatus()) {
-					header.setStatus(TranslationBridgeStatus.CLOSED);
-					header.setMessage("Closed by TranslationManager because of inactivity");
-					headerRepository.saveAndFlush(header);
-				}
-			}
+			return closeObsoletedBridges(headerRepository.findIdsWithDiscoveriesByUuids(bridgeIds.stream().map(UUID::toString).toList()));
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// at most 'limit' bridges that still have discovery records and their identifiers are greater than the specified one (for keyset paging)
+	public List<BridgeHeader> getBridgeHeadersWithDiscoveries(final long afterId, final int limit) {
+		logger.debug("getBridgeHeadersWithDiscoveries started...");
+		Assert.isTrue(limit > 0, "limit is not positive");
 
-			discoveryRepository.delete(record);
-			discoveryRepository.flush();
+		try {
+			return headerRepository.findWithDiscoveriesAfterId(afterId, PageRequest.of(0, limit));
 		} catch (final Exception ex) {
 			logger.error(ex.getMessage());
 			logger.debug(ex);
@@ -404,132 +517,146 @@ public class BridgeDbService {
 	// assistant methods
 
 	//-------------------------------------------------------------------------------------------------
-	private Optional<TranslationDiscoveryModel> findDiscoveryModelByInstanceId(final List<BridgeDiscovery> discoveries, final String instanceId) {
-		logger.debug("findDiscoveryModelByInstanceId started...");
-
-		for (final BridgeDiscovery record : discoveries) {
-			final TranslationDiscoveryModel model = Utilities.fromJson(record.getData(), TranslationDiscoveryModel.class);
-			if (model.getTargetInstanceId().equals(instanceId)) {
-				return Optional.of(model);
+	// Runs the operation in its own transaction while holding the lock of the specified bridge. The lock serializes the modifications of the same bridge inside this
+	// instance, the version check of the header detects the conflicting modifications made outside of it (e.g. by another instance). In the latter case the whole
+	// transaction is repeated with fresh data.
+	private <T> T executeOnBridge(final UUID bridgeId, final Supplier<T> operation) {
+		final Lock lock = bridgeLocks.obtain(bridgeId.toString());
+		lock.lock();
+		try {
+			final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			final int maxAttempts = Math.max(1, maxUpdateAttempts);
+			for (int attempt = 1;; ++attempt) {
+				try {
+					return transactionTemplate.execute(status -> operation.get());
+				} catch (final OptimisticLockingFailureException ex) {
+					if (attempt >= maxAttempts) {
+						throw ex;
+					}
+
+					logger.debug("Concurrent modification of bridge {} (attempt {} of {})", bridgeId, attempt, maxAttempts);
+				}
 			}
+		} finally {
+			lock.unlock();
 		}
-
-		return Optional.empty();
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private Page<BridgeDetails> getBridgeDetailsPageByFilters(final NormalizedTranslationQueryRequestDTO dto) {
-		logger.debug("getBridgeDetailsByFilters started...");
+	// Returns null if the report is applied, otherwise the exception that describes why it is rejected.
+	private ArrowheadException applyTranslationReport(final NormalizedTranslationReportRequestDTO dto) {
+		logger.debug("applyTranslationReport started...");
+
+		// the status check, the ownership check and the counter increment are done by the database in one atomic statement, so no lock is needed here
+		final TranslationBridgeStatus toStatus = TranslationBridgeEventState.transformToBridgeStatus(dto.state());
+		final List<TranslationBridgeStatus> fromStatuses = getReportableStatuses(toStatus);
+		final int updated = fromStatuses.isEmpty()
+				? 0
+				: headerRepository.applyReport(
+						dto.bridgeId().toString(),
+						dto.requester(),
+						fromStatuses,
+						toStatus,
+						dto.timestamp(),
+						TranslationBridgeStatus.USED == toStatus ? 1 : 0,
+						Utilities.isEmpty(dto.errorMessage()) ? null : dto.errorMessage(),
+						Utilities.utcNow());
+
+		// only the unsuccessful reports need to find out the reason
+		return updated == 0 ? createReportError(dto) : null;
+	}
 
-		BaseFilter baseFilter = BaseFilter.NONE;
-		synchronized (LOCK) {
-			List<BridgeDetails> toFilter = null;
-			if (!Utilities.isEmpty(dto.bridgeIds())) {
-				toFilter = detailsRepository.findByHeader_UuidIn(dto.bridgeIds()
-						.stream()
-						.map(UUID::toString)
-						.toList());
-				baseFilter = BaseFilter.BRIDGE_ID;
-			} else if (!Utilities.isEmpty(dto.consumers())) {
-				toFilter = detailsRepository.findByConsumerIn(dto.consumers());
-				baseFilter = BaseFilter.CONSUMER;
-			} else if (!Utilities.isEmpty(dto.providers())) {
-				toFilter = detailsRepository.findByProviderIn(dto.providers());
-				baseFilter = BaseFilter.PROVIDER;
-			} else if (!Utilities.isEmpty(dto.serviceDefinitions())) {
-				toFilter = detailsRepository.findByServiceDefinitionIn(dto.serviceDefinitions());
-				baseFilter = BaseFilter.SERVICE_DEF;
-			} else if (!Utilities.isEmpty(dto.interfaceTranslators())) {
-				toFilter = detailsRepository.findByInterfaceTranslatorIn(dto.interfaceTranslators());
-				baseFilter = BaseFilter.INTERFACE_TRANSLATOR;
-			} else if (!Utilities.isEmpty(dto.statuses())) {
-				toFilter = detailsRepository.findByHeader_StatusIn(dto.statuses());
-				baseFilter = BaseFilter.STATUS;
-			} else if (!Utilities.isEmpty(dto.creators())) {
-				toFilter = detailsRepository.findByHeader_CreatedByIn(dto.creators());
-				baseFilter = BaseFilter.CREATED_BY;
-			} else {
-				toFilter = detailsRepository.findAll();
-			}
+	//-------------------------------------------------------------------------------------------------
+	// statuses from which the bridge can move to the reported status
+	private List<TranslationBridgeStatus> getReportableStatuses(final TranslationBridgeStatus toStatus) {
+		return Arrays.stream(TranslationBridgeStatus.values())
+				.filter(s -> s.isActiveStatus() && TranslationBridgeStatus.isValidTransition(s, toStatus))
+				.toList();
+	}
 
-			final Set<Long> matchingIds = new HashSet<>();
-			for (final BridgeDetails record : toFilter) {
-				// Match against bridge ids is not needed since if bridge ids are defined then the toFilter list only contains matching records
+	//-------------------------------------------------------------------------------------------------
+	// closes the inactive ones from the specified bridges and removes all of their discovery records
+	private CleanupResult closeObsoletedBridges(final List<Long> headerIds) {
+		logger.debug("closeObsoletedBridges started...");
 
-				// Match against consumers
-				if (baseFilter != BaseFilter.CONSUMER && !Utilities.isEmpty(dto.consumers()) && !dto.consumers().contains(record.getConsumer())) {
-					continue;
-				}
+		if (headerIds.isEmpty()) {
+			return new CleanupResult(0, 0, 0);
+		}
 
-				// Match against providers
-				if (baseFilter != BaseFilter.PROVIDER && !Utilities.isEmpty(dto.providers()) && !dto.providers().contains(record.getProvider())) {
-					continue;
-				}
+		final int closed = headerRepository.updateStatusByIds(
+				headerIds,
+				getInactiveStatuses(),
+				TranslationBridgeStatus.CLOSED,
+				"Closed by TranslationManager because of inactivity",
+				Utilities.utcNow());
+		final int deleted = discoveryRepository.deleteByHeaderIds(headerIds);
 
-				// Match against service definitions
-				if (baseFilter != BaseFilter.SERVICE_DEF && !Utilities.isEmpty(dto.serviceDefinitions()) && !dto.serviceDefinitions().contains(record.getServiceDefinition())) {
-					continue;
-				}
+		return new CleanupResult(headerIds.size(), closed, deleted);
+	}
 
-				// Match against interface translators
-				if (baseFilter != BaseFilter.INTERFACE_TRANSLATOR && !Utilities.isEmpty(dto.interfaceTranslators()) && !dto.interfaceTranslators().contains(record.getInterfaceTranslator())) {
-					continue;
-				}
+	//-------------------------------------------------------------------------------------------------
+	// statuses of the bridges that are neither in use nor ended
+	private List<TranslationBridgeStatus> getInactiveStatuses() {
+		return Arrays.stream(TranslationBridgeStatus.values())
+				.filter(s -> !s.isActiveStatus() && !s.isEndStatus())
+				.toList();
+	}
 
-				// Match against statuses
-				if (baseFilter != BaseFilter.STATUS && !Utilities.isEmpty(dto.statuses()) && !dto.statuses().contains(record.getHeader().getStatus())) {
-					continue;
-				}
+	//-------------------------------------------------------------------------------------------------
+	private ArrowheadException createReportError(final NormalizedTranslationReportRequestDTO dto) {
+		logger.debug("createReportError started...");
 
-				// Match against creators
-				if (baseFilter != BaseFilter.CREATED_BY && !Utilities.isEmpty(dto.creators()) && !dto.creators().contains(record.getHeader().getCreatedBy())) {
-					continue;
-				}
+		final Optional<BridgeHeader> headerOpt = headerRepository.findByUuid(dto.bridgeId().toString());
+		if (headerOpt.isEmpty()) {
+			return new InvalidParameterException("Invalid bridge id: " + dto.bridgeId().toString());
+		}
 
-				// Match against data model translators
-				if (!Utilities.isEmpty(dto.dataModelTranslators())
-						&& !dto.dataModelTranslators().contains(record.getInputDmTranslator())
-						&& !dto.dataModelTranslators().contains(record.getResultDmTranslator())) {
-					continue;
-				}
+		final Optional<BridgeDetails> detailsOpt = detailsRepository.findByHeader(headerOpt.get());
+		if (detailsOpt.isEmpty()) {
+			return new InvalidParameterException("Invalid bridge id: " + dto.bridgeId().toString());
+		}
 
-				// Match against creation from
-				if (dto.creationFrom() != null && record.getHeader().getCreatedAt().isBefore(dto.creationFrom())) {
-					continue;
-				}
+		if (!detailsOpt.get().getInterfaceTranslator().equals(dto.requester())) {
+			// only the related interface translator has the right to report anything about the bridge
+			return new ForbiddenException("Requester has no permission to report about the specified translation bridge");
+		}
 
-				// Match against creation to
-				if (dto.creationTo() != null && record.getHeader().getCreatedAt().isAfter(dto.creationTo())) {
-					continue;
-				}
+		// bridge should not reporting or the reported transition is invalid
+		return new InvalidParameterException("Invalid reporting case");
+	}
 
-				// Match against alives from
-				if (dto.alivesFrom() != null
-						&& (record.getHeader().getAlivesAt() == null || record.getHeader().getAlivesAt().isBefore(dto.alivesFrom()))) {
-					continue;
-				}
+	//-------------------------------------------------------------------------------------------------
+	private Optional<TranslationDiscoveryModel> findDiscoveryModelByInstanceId(final List<BridgeDiscovery> discoveries, final String instanceId) {
+		logger.debug("findDiscoveryModelByInstanceId started...");
 
-				// Match against alives to
-				if (dto.alivesTo() != null
-						&& (record.getHeader().getAlivesAt() == null || record.getHeader().getAlivesAt().isAfter(dto.alivesTo()))) {
-					continue;
-				}
+		for (final BridgeDiscovery record : discoveries) {
+			final TranslationDiscoveryModel model = Utilities.fromJson(record.getData(), TranslationDiscoveryModel.class);
+			if (model.getTargetInstanceId().equals(instanceId)) {
+				return Optional.of(model);
+			}
+		}
 
-				// Match against min usage
-				if (dto.minUsage() != null && record.getHeader().getUsageReportCount() < dto.minUsage().intValue()) {
-					continue;
-				}
+		return Optional.empty();
+	}
 
-				// Match against max usage
-				if (dto.maxUsage() != null && record.getHeader().getUsageReportCount() > dto.maxUsage().intValue()) {
-					continue;
-				}
+	//-------------------------------------------------------------------------------------------------
+	private Page<BridgeDetails> getBridgeDetailsPageByFilters(final NormalizedTranslationQueryRequestDTO dto, final PageRequest pageRequest) {
+		logger.debug("getBridgeDetailsByFilters started...");
 
-				matchingIds.add(record.getId());
-			}
+		// filtering, paging and sorting in one statement; read only, so no need for the lock
+		return detailsRepository.findAll(BridgeDetailsSpecifications.matchesQuery(dto), pageRequest);
+	}
 
-			return detailsRepository.findAllByIdIn(matchingIds, dto.pageRequest());
-		}
+	//-------------------------------------------------------------------------------------------------
+	// the sort fields are not unique, so the id is added as last sort field to make the order (and the continuation tokens) stable
+	private PageRequest withTieBreaker(final PageRequest pageRequest) {
+		final Direction direction = pageRequest.getSort()
+				.stream()
+				.findFirst()
+				.map(Order::getDirection)
+				.orElse(Direction.ASC);
+
+		return pageRequest.withSort(pageRequest.getSort().and(Sort.by(direction, ID_FIELD)));
 	}
 
 	//=================================================================================================
@@ -543,7 +670,17 @@ public class BridgeDbService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private enum BaseFilter {
-		NONE, BRIDGE_ID, CONSUMER, PROVIDER, SERVICE_DEF, INTERFACE_TRANSLATOR, STATUS, CREATED_BY
+	public record UsageReport(
+			UUID bridgeId,
+			String requester,
+			int count,
+			ZonedDateTime alivesAt) {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public record CleanupResult(
+			int bridgeCount,
+			int closedCount,
+			int deletedDiscoveryCount) {
 	}
-}
\ No newline at end of file
+}
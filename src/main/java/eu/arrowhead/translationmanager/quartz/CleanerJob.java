@@ -17,7 +17,6 @@
 package eu.arrowhead.translationmanager.quartz;
 
 import java.time.ZonedDateTime;
-import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,8 +30,8 @@ import org.springframework.stereotype.Component;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
-import eu.arrowhead.translationmanager.jpa.entity.BridgeDiscovery;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.CleanupResult;
 
 @Component
 @DisallowConcurrentExecution
@@ -44,6 +43,12 @@ public class CleanerJob implements Job {
 	@Value(TranslationManagerConstants.$TRANSLATION_DISCOVERY_MAX_AGE_WD)
 	private int maxAge;
 
+	@Value(TranslationManagerConstants.$CLEANER_JOB_CHUNK_SIZE_WD)
+	private int chunkSize;
+
+	@Value(TranslationManagerConstants.$CLEANER_JOB_TIME_BUDGET_WD)
+	private long timeBudget;
+
 	@Autowired
 	private BridgeDbService dbService;
 
@@ -57,13 +62,36 @@ public class CleanerJob implements Job {
 	public void execute(final JobExecutionContext context) throws JobExecutionException {
 		logger.debug("execute started...");
 
-		final ZonedDateTime now = Utilities.utcNow();
+		final long start = System.currentTimeMillis();
+		final ZonedDateTime threshold = Utilities.utcNow().minusHours(maxAge);
+		int chunks = 0;
+		int bridges = 0;
+		int closed = 0;
+		int deleted = 0;
+		boolean finished = false;
+
 		try {
-			final List<BridgeDiscovery> obsoleted = dbService.getBridgeDiscoveriesCreatedBefore(now.minusHours(maxAge));
-			obsoleted.forEach(bd -> dbService.handleObsoletedBridgeDiscovery(bd));
+			// every chunk is a separate transaction, so a big backlog never holds locks for long and the work done is kept even if a later chunk fails; at least one
+			// chunk is handled in every run, the time budget only limits the starting of the further ones
+			do {
+				final CleanupResult result = dbService.cleanObsoletedBridgeDiscoveries(threshold, chunkSize);
+				++chunks;
+				bridges += result.bridgeCount();
+				closed += result.closedCount();
+				deleted += result.deletedDiscoveryCount();
+				finished = result.bridgeCount() < chunkSize;
+			} while (!finished && System.currentTimeMillis() - start < timeBudget);
 		} catch (final Exception ex) {
 			logger.debug(ex);
 			logger.error("Cleaner job error: " + ex.getMessage());
 		}
+
+		final long duration = System.currentTimeMillis() - start;
+		if (bridges > 0) {
+			logger.info("Cleaner job handled {} obsoleted bridge(s) in {} chunk(s) and {} ms: {} bridge(s) closed, {} discovery record(s) deleted{}",
+					bridges, chunks, duration, closed, deleted, finished ? "" : " (the rest is left for the next run)");
+		} else {
+			logger.debug("Cleaner job found no obsoleted bridge in {} ms", duration);
+		}
 	}
-}
\ No newline at end of file
+}
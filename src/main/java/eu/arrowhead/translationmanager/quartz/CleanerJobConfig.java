@@ -41,6 +41,12 @@ public class CleanerJobConfig {
 	@Value(TranslationManagerConstants.$CLEANER_JOB_INTERVAL_WD)
 	private long interval;
 
+	@Value(TranslationManagerConstants.$DISCOVERY_EXPIRY_ENABLED_WD)
+	private boolean expiryEnabled;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_EXPIRY_CLEANER_JOB_INTERVAL_WD)
+	private long expiryInterval;
+
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
 	//=================================================================================================
@@ -60,11 +66,14 @@ public class CleanerJobConfig {
 	//-------------------------------------------------------------------------------------------------
 	@Bean(TranslationManagerConstants.CLEANER_TRIGGER)
 	SimpleTriggerFactoryBean cleanerTrigger(@Qualifier(TranslationManagerConstants.CLEANER_JOB) final JobDetail job) {
+		// if the discovery expiry timing wheel closes the expired records, the job is only a safety net, so it can run less frequently
+		final long effectiveInterval = expiryEnabled ? expiryInterval : interval;
+
 		final SimpleTriggerFactoryBean trigger = new SimpleTriggerFactoryBean();
 		trigger.setJobDetail(job);
-		trigger.setRepeatInterval(interval);
+		trigger.setRepeatInterval(effectiveInterval);
 		trigger.setRepeatCount(SimpleTrigger.REPEAT_INDEFINITELY);
-		trigger.setStartDelay(interval);
+		trigger.setStartDelay(effectiveInterval);
 
 		return trigger;
 	}
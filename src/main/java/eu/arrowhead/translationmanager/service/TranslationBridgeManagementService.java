@@ -18,31 +18,40 @@ package eu.arrowhead.translationmanager.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.dto.TranslationAbortMgmtResponseDTO;
 import eu.arrowhead.dto.TranslationDiscoveryMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
 import eu.arrowhead.dto.TranslationNegotiationMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationNegotiationResponseDTO;
-import eu.arrowhead.dto.TranslationQueryListResponseDTO;
 import eu.arrowhead.dto.TranslationQueryRequestDTO;
 import eu.arrowhead.dto.enums.TranslationDiscoveryFlag;
 import eu.arrowhead.translationmanager.TranslationManagerSystemInfo;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.service.cache.CacheOwner;
+import eu.arrowhead.translationmanager.service.cache.CacheStatistics;
+import eu.arrowhead.translationmanager.service.cache.ExpiringLruCache;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
+import eu.arrowhead.translationmanager.service.dto.CacheStatisticsListResponseDTO;
 import eu.arrowhead.translationmanager.service.dto.DTOConverter;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationDiscoveryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationQueryCursorListResponseDTO;
 import eu.arrowhead.translationmanager.service.engine.TranslatorBridgeEngine;
 import eu.arrowhead.translationmanager.service.validation.TranslationBridgeMgmtValidation;
 
@@ -69,6 +78,9 @@ public class TranslationBridgeManagementService {
 	@Autowired
 	private DTOConverter converter;
 
+	@Autowired
+	private List<CacheOwner> cacheOwners;
+
 	//=================================================================================================
 	// methods
 
@@ -106,19 +118,88 @@ public class TranslationBridgeManagementService {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	public TranslationQueryListResponseDTO queryOperation(final TranslationQueryRequestDTO dto, final String origin) {
+	// Without continuation token and skipCount flag, this is a traditional offset based paging. Otherwise it works in seek mode: the continuation token (returned with
+	// every non-last page) marks the position where the next page starts, so the database does not need to skip the previous records, and the (expensive) count of
+	// all matching records can be omitted. (The MQTT API only uses the offset based paging.)
+	public TranslationQueryCursorListResponseDTO queryOperation(final TranslationQueryRequestDTO dto, final String continuationToken, final boolean skipCount, final String origin) {
 		logger.debug("queryOperation started...");
 		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
 
 		final NormalizedTranslationQueryRequestDTO normalized = validator.validateAndNormalizeQueryMgmtRequest(dto, origin);
-		final Page<BridgeDetails> page = dbService.getBridgeDetailsPage(normalized);
+		if (Utilities.isEmpty(continuationToken) && !skipCount) {
+			final Page<BridgeDetails> page = dbService.getBridgeDetailsPage(normalized);
+
+			return converter.convertBridgeDetailsPage(page);
+		}
+
+		final BridgeQueryCursor cursor = validator.validateAndNormalizeSeekParameters(continuationToken, normalized, origin);
+		final Slice<BridgeDetails> slice = dbService.getBridgeDetailsSlice(normalized, cursor);
+		final Long count = skipCount ? null : dbService.countBridgeDetails(normalized);
+
+		return converter.convertBridgeDetailsSlice(slice, count);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public CacheStatisticsListResponseDTO cacheStatisticsOperation(final String origin) {
+		logger.debug("cacheStatisticsOperation started...");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		return convertCacheStatistics(collectManagedCaches());
+	}
 
-		return converter.convertBridgeDetailsPage(page);
+	//-------------------------------------------------------------------------------------------------
+	public CacheStatisticsListResponseDTO invalidateCacheOperation(final List<String> names, final String origin) {
+		logger.debug("invalidateCacheOperation started...");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		final List<String> normalized = validator.validateAndNormalizeCacheNames(names, origin);
+		final List<ExpiringLruCache<?, ?>> caches = collectManagedCaches();
+		final Set<String> knownNames = caches
+				.stream()
+				.map(c -> c.getName())
+				.collect(Collectors.toSet());
+
+		normalized.forEach(n -> {
+			if (!knownNames.contains(n)) {
+				throw new InvalidParameterException("Unknown cache: " + n, origin);
+			}
+		});
+
+		caches.forEach(c -> {
+			if (normalized.isEmpty() || normalized.contains(c.getName())) {
+				c.invalidateAll();
+				logger.info("Cache is invalidated: {}", c.getName());
+			}
+		});
+
+		return convertCacheStatistics(caches);
 	}
 
 	//=================================================================================================
 	// assistant methods
 
+	//-------------------------------------------------------------------------------------------------
+	private List<ExpiringLruCache<?, ?>> collectManagedCaches() {
+		logger.debug("collectManagedCaches started...");
+
+		return cacheOwners
+				.stream()
+				.flatMap(o -> o.getManagedCaches().stream())
+				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private CacheStatisticsListResponseDTO convertCacheStatistics(final List<ExpiringLruCache<?, ?>> caches) {
+		logger.debug("convertCacheStatistics started...");
+
+		final List<CacheStatistics> entries = caches
+				.stream()
+				.map(c -> c.getStatistics())
+				.toList();
+
+		return new CacheStatisticsListResponseDTO(entries, entries.size());
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private Map<TranslationDiscoveryFlag, Boolean> mergeUserFlagsWithSettings(final Map<TranslationDiscoveryFlag, Boolean> userFlags) {
 		logger.debug("mergeUserFlagsWithSettings started...");
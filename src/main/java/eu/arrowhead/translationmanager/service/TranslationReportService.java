@@ -16,6 +16,10 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,12 +27,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.dto.TranslationReportRequestDTO;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.service.dto.DTOConverter;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchResponseDTO;
+import eu.arrowhead.translationmanager.service.engine.UsageReportAggregator;
 import eu.arrowhead.translationmanager.service.validation.TranslationReportValidation;
 
 @Service
@@ -45,6 +54,12 @@ public class TranslationReportService {
 	@Autowired
 	private BridgeDbService dbService;
 
+	@Autowired
+	private UsageReportAggregator usageReportAggregator;
+
+	@Autowired
+	private DTOConverter dtoConverter;
+
 	//=================================================================================================
 	// methods
 
@@ -57,7 +72,15 @@ public class TranslationReportService {
 		final NormalizedTranslationReportRequestDTO normalized = validator.validateAndNormalizeReport(normalizedRequester, dto, origin);
 
 		try {
+			if (usageReportAggregator.offer(normalized)) {
+				// bridge is known to be in use, the report is written later together with others
+				return;
+			}
+
+			// pending USED reports must be written before a status change
+			usageReportAggregator.flushBridge(normalized.bridgeId());
 			dbService.handleTranslationReport(normalized);
+			usageReportAggregator.register(normalized);
 		} catch (final InvalidParameterException ex) {
 			throw new InvalidParameterException(ex.getMessage(), origin);
 		} catch (final ForbiddenException ex) {
@@ -66,4 +89,71 @@ public class TranslationReportService {
 			throw new InternalServerError(ex.getMessage(), origin);
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	public TranslationReportBatchResponseDTO reportBatchOperation(final String requester, final TranslationReportBatchRequestDTO dto, final String origin) {
+		logger.debug("reportBatchOperation started...");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		final String normalizedRequester = validator.validateAndNormalizeRequester(requester, origin);
+		final List<NormalizedTranslationReportRequestDTO> normalized = validator.validateAndNormalizeReportBatch(normalizedRequester, dto, origin);
+
+		return dtoConverter.convertReportResults(normalized, processReports(normalized));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// for asynchronous processing: the report is validated on arrival, but handled later by processReports()
+	public NormalizedTranslationReportRequestDTO validateReport(final String requester, final TranslationReportRequestDTO dto, final String origin) {
+		logger.debug("validateReport started...");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		final String normalizedRequester = validator.validateAndNormalizeRequester(requester, origin);
+
+		return validator.validateAndNormalizeReport(normalizedRequester, dto, origin);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Handles already validated reports. The ones that can't be aggregated are written in one transaction. Returns the result of every report in the order of the input
+	// list: null if the report is accepted, the exception that describes the problem otherwise.
+	public List<ArrowheadException> processReports(final List<NormalizedTranslationReportRequestDTO> reports) {
+		logger.debug("processReports started...");
+		Assert.notNull(reports, "reports list is null");
+
+		final List<ArrowheadException> result = new ArrayList<>(Collections.nCopies(reports.size(), null));
+		final List<Integer> indicesToWrite = new ArrayList<>();
+		final List<NormalizedTranslationReportRequestDTO> reportsToWrite = new ArrayList<>();
+		for (int i = 0; i < reports.size(); ++i) {
+			final NormalizedTranslationReportRequestDTO report = reports.get(i);
+			if (usageReportAggregator.offer(report)) {
+				continue;
+			}
+
+			try {
+				// pending USED reports must be written before a status change
+				usageReportAggregator.flushBridge(report.bridgeId());
+				indicesToWrite.add(i);
+				reportsToWrite.add(report);
+			} catch (final InternalServerError ex) {
+				result.set(i, ex);
+			}
+		}
+
+		if (reportsToWrite.isEmpty()) {
+			return result;
+		}
+
+		try {
+			final List<ArrowheadException> dbResult = dbService.handleTranslationReports(reportsToWrite);
+			for (int i = 0; i < dbResult.size(); ++i) {
+				result.set(indicesToWrite.get(i), dbResult.get(i));
+				if (dbResult.get(i) == null) {
+					usageReportAggregator.register(reportsToWrite.get(i));
+				}
+			}
+		} catch (final InternalServerError ex) {
+			indicesToWrite.forEach(idx -> result.set(idx, ex));
+		}
+
+		return result;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.cache;
+
+public record CacheStatistics(
+		String name,
+		int size,
+		int maxSize,
+		long hits,
+		long misses,
+		long evictions) {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public double hitRatio() {
+		final long all = hits + misses;
+
+		return all == 0 ? 0 : (double) hits / all;
+	}
+}
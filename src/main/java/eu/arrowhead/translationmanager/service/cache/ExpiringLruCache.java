@@ -0,0 +1,163 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+public class ExpiringLruCache<K, V> {
+
+	//=================================================================================================
+	// members
+
+	private final String name;
+	private final int maxSize;
+	private final long defaultTimeToLive; // in milliseconds
+	private final LongSupplier clock;
+	private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public ExpiringLruCache(final String name, final int maxSize, final long defaultTimeToLive) {
+		this(name, maxSize, defaultTimeToLive, System::currentTimeMillis);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public ExpiringLruCache(final String name, final int maxSize, final long defaultTimeToLive, final LongSupplier clock) {
+		Assert.notNull(clock, "clock is null");
+
+		this.name = name;
+		this.maxSize = maxSize;
+		this.defaultTimeToLive = defaultTimeToLive;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true); // access order => least recently used entry comes first
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public String getName() {
+		return name;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isEnabled() {
+		return maxSize > 0 && defaultTimeToLive > 0;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns null if the key is not cached or the cached value is expired
+	public synchronized V get(final K key) {
+		if (!isEnabled()) {
+			return null;
+		}
+
+		final CacheEntry<V> entry = entries.get(key);
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+
+		if (entry.expiresAt() <= clock.getAsLong()) {
+			entries.remove(key);
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return entry.value();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void put(final K key, final V value) {
+		put(key, value, defaultTimeToLive);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void put(final K key, final V value, final long timeToLive) {
+		Assert.notNull(key, "key is null");
+		Assert.notNull(value, "value is null");
+
+		if (!isEnabled() || timeToLive <= 0) {
+			return;
+		}
+
+		entries.put(key, new CacheEntry<>(value, clock.getAsLong() + timeToLive));
+		if (entries.size() > maxSize) {
+			removeExpiredEntries();
+		}
+
+		final Iterator<K> iterator = entries.keySet().iterator();
+		while (entries.size() > maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void invalidate(final K key) {
+		entries.remove(key);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void invalidateIf(final BiPredicate<K, V> predicate) {
+		Assert.notNull(predicate, "predicate is null");
+
+		entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void invalidateAll() {
+		entries.clear();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized CacheStatistics getStatistics() {
+		return new CacheStatistics(name, entries.size(), maxSize, hits, misses, evictions);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void removeExpiredEntries() {
+		final long now = clock.getAsLong();
+		final Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getValue().expiresAt() <= now) {
+				iterator.remove();
+			}
+		}
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record CacheEntry<V>(V value, long expiresAt) {
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.cache;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.data.util.Pair;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Utilities;
+
+public class InterfaceBridgeTokenPool {
+
+	//=================================================================================================
+	// members
+
+	private final int usesPerHandout;
+	private final Map<String, PooledToken> tokens = new HashMap<>(); // interface translator system name => token
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public InterfaceBridgeTokenPool(final int usesPerHandout) {
+		Assert.isTrue(usesPerHandout > 0, "usesPerHandout must be positive");
+
+		this.usesPerHandout = usesPerHandout;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns null if there is no pooled token that is valid at least until the specified time and has enough remaining uses
+	public synchronized String acquire(final String translator, final String policy, final ZonedDateTime validUntil) {
+		logger.debug("acquire started...");
+		Assert.isTrue(!Utilities.isEmpty(translator), "translator is missing");
+		Assert.isTrue(!Utilities.isEmpty(policy), "policy is missing");
+		Assert.notNull(validUntil, "validUntil is null");
+
+		final PooledToken pooled = tokens.get(translator);
+		if (pooled == null
+				|| !pooled.policy.equals(policy)
+				|| pooled.remainingUses < usesPerHandout
+				|| (pooled.expiresAt != null && pooled.expiresAt.isBefore(validUntil))) {
+			return null;
+		}
+
+		pooled.remainingUses -= usesPerHandout;
+		pooled.lastUsedAt = Utilities.utcNow();
+
+		return pooled.token;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void put(final String translator, final String policy, final String token, final ZonedDateTime expiresAt, final Integer usageLimit) {
+		logger.debug("put started...");
+		Assert.isTrue(!Utilities.isEmpty(translator), "translator is missing");
+		Assert.isTrue(!Utilities.isEmpty(policy), "policy is missing");
+		Assert.isTrue(!Utilities.isEmpty(token), "token is missing");
+
+		final PooledToken previous = tokens.get(translator);
+		final PooledToken pooled = new PooledToken(policy, token, expiresAt, usageLimit == null ? Integer.MAX_VALUE : usageLimit);
+		pooled.lastUsedAt = previous == null ? Utilities.utcNow() : previous.lastUsedAt; // refreshing is not a real usage
+
+		tokens.put(translator, pooled);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Removes the expired tokens and returns the (translator, policy) pairs whose tokens should be replaced soon. Tokens that are not used since the
+	// specified time are not refreshed.
+	public synchronized List<Pair<String, String>> collectRefreshCandidates(final ZonedDateTime validUntil, final int minRemainingUses, final ZonedDateTime usedAfter) {
+		logger.debug("collectRefreshCandidates started...");
+		Assert.notNull(validUntil, "validUntil is null");
+		Assert.notNull(usedAfter, "usedAfter is null");
+
+		final ZonedDateTime now = Utilities.utcNow();
+		tokens.entrySet().removeIf(e -> e.getValue().expiresAt != null && !e.getValue().expiresAt.isAfter(now));
+
+		final List<Pair<String, String>> result = new ArrayList<>();
+		tokens.forEach((translator, pooled) -> {
+			final boolean runsOut = pooled.remainingUses < Math.max(minRemainingUses, usesPerHandout)
+					|| (pooled.expiresAt != null && pooled.expiresAt.isBefore(validUntil));
+			if (runsOut && pooled.lastUsedAt.isAfter(usedAfter)) {
+				result.add(Pair.of(translator, pooled.policy));
+			}
+		});
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized int size() {
+		return tokens.size();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void clear() {
+		tokens.clear();
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class PooledToken {
+
+		//=================================================================================================
+		// members
+
+		private final String policy;
+		private final String token;
+		private final ZonedDateTime expiresAt;
+		private int remainingUses;
+		private ZonedDateTime lastUsedAt;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private PooledToken(final String policy, final String token, final ZonedDateTime expiresAt, final int remainingUses) {
+			this.policy = policy;
+			this.token = token;
+			this.expiresAt = expiresAt;
+			this.remainingUses = remainingUses;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Utilities;
+
+// Position of the last returned record in the ordered result of a bridge query. The clients get it as an opaque continuation token.
+public record BridgeQueryCursor(
+		String sortField,
+		Direction direction,
+		String lastValue,
+		long lastId) {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public String toToken() {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(Utilities.toJson(this).getBytes(StandardCharsets.UTF_8));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// throws exception if the token is not a valid one
+	public static BridgeQueryCursor fromToken(final String token) {
+		Assert.isTrue(!Utilities.isEmpty(token), "token is empty");
+
+		return Utilities.fromJson(new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8), BridgeQueryCursor.class);
+	}
+}
@@ -16,23 +16,27 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.service.dto;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.dto.TranslationBridgeCandidateDTO;
 import eu.arrowhead.dto.TranslationDataModelTranslationDataDescriptorDTO;
 import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
 import eu.arrowhead.dto.TranslationInterfaceTranslationDataDescriptorDTO;
-import eu.arrowhead.dto.TranslationQueryListResponseDTO;
 import eu.arrowhead.dto.TranslationQueryResponseDTO;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.repository.BridgeDetailsSpecifications;
 
 @Service
 public class DTOConverter {
@@ -61,11 +65,53 @@ public class DTOConverter {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	public TranslationQueryListResponseDTO convertBridgeDetailsPage(final Page<BridgeDetails> page) {
+	public TranslationQueryCursorListResponseDTO convertBridgeDetailsPage(final Page<BridgeDetails> page) {
 		logger.debug("convertBridgeDetailsPage started...");
 		Assert.notNull(page, "page is null");
 
-		final List<TranslationQueryResponseDTO> result = page
+		return convertBridgeDetailsSlice(page, page.getTotalElements());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// count can be null if it is not calculated
+	public TranslationQueryCursorListResponseDTO convertBridgeDetailsSlice(final Slice<BridgeDetails> slice, final Long count) {
+		logger.debug("convertBridgeDetailsSlice started...");
+		Assert.notNull(slice, "slice is null");
+
+		return new TranslationQueryCursorListResponseDTO(
+				convertBridgeDetailsList(slice.getContent()),
+				count,
+				slice.hasNext() ? createContinuationToken(slice) : null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// results contains null for the successful reports
+	public TranslationReportBatchResponseDTO convertReportResults(final List<NormalizedTranslationReportRequestDTO> reports, final List<ArrowheadException> results) {
+		logger.debug("convertReportResults started...");
+		Assert.notNull(reports, "reports list is null");
+		Assert.notNull(results, "results list is null");
+		Assert.isTrue(reports.size() == results.size(), "reports and results lists have different sizes");
+
+		final List<TranslationReportResultDTO> converted = new ArrayList<>(reports.size());
+		for (int i = 0; i < reports.size(); ++i) {
+			final ArrowheadException error = results.get(i);
+			converted.add(new TranslationReportResultDTO(
+					reports.get(i).bridgeId().toString(),
+					error == null,
+					error == null ? null : error.getMessage()));
+		}
+
+		return new TranslationReportBatchResponseDTO(converted);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private List<TranslationQueryResponseDTO> convertBridgeDetailsList(final List<BridgeDetails> records) {
+		logger.debug("convertBridgeDetailsList started...");
+
+		return records
 				.stream()
 				.map(e -> new TranslationQueryResponseDTO(
 							e.getHeader().getUuid(),
@@ -87,7 +133,21 @@ public class DTOConverter {
 							Utilities.convertZonedDateTimeToUTCString(e.getHeader().getCreatedAt()),
 							Utilities.convertZonedDateTimeToUTCString(e.getHeader().getUpdatedAt())))
 				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the cursor points to the last record of the slice, in the order of the first sort field (the id is always the last sort field)
+	private String createContinuationToken(final Slice<BridgeDetails> slice) {
+		logger.debug("createContinuationToken started...");
+
+		final Order order = slice.getSort().iterator().next();
+		final BridgeDetails last = slice.getContent().get(slice.getNumberOfElements() - 1);
 
-		return new TranslationQueryListResponseDTO(result, page.getTotalElements());
+		return new BridgeQueryCursor(
+				order.getProperty(),
+				order.getDirection(),
+				BridgeDetailsSpecifications.getSortValue(last, order.getProperty()),
+				last.getId())
+				.toToken();
 	}
 }
\ No newline at end of file
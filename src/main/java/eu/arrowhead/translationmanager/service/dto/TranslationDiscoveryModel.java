@@ -16,6 +16,7 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.service.dto;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -81,6 +82,34 @@ public class TranslationDiscoveryModel {
 		this.outputDataModelIdRequirement = outputDataModelIdRequirement;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// copy constructor (property maps are copied, their values are shared)
+	public TranslationDiscoveryModel(final TranslationDiscoveryModel other) {
+		this.targetInstanceId = other.targetInstanceId;
+		this.provider = other.provider;
+		this.serviceDefinition = other.serviceDefinition;
+		this.operation = other.operation;
+		this.targetInputDataModelId = other.targetInputDataModelId;
+		this.targetOutputDataModelId = other.targetOutputDataModelId;
+		this.targetPolicy = other.targetPolicy;
+		this.targetProperties = copyMap(other.targetProperties);
+		this.consumer = other.consumer;
+		this.inputDataModelIdRequirement = other.inputDataModelIdRequirement;
+		this.outputDataModelIdRequirement = other.outputDataModelIdRequirement;
+		this.fromInterfaceTemplate = other.fromInterfaceTemplate;
+		this.toInterfaceTemplate = other.toInterfaceTemplate;
+		this.interfaceTranslator = other.interfaceTranslator;
+		this.interfaceTranslatorPolicy = other.interfaceTranslatorPolicy;
+		this.interfaceTranslatorProperties = copyMap(other.interfaceTranslatorProperties);
+		this.interfaceTranslatorToken = other.interfaceTranslatorToken;
+		this.inputDataModelTranslator = other.inputDataModelTranslator;
+		this.inputDataModelTranslatorFactory = other.inputDataModelTranslatorFactory;
+		this.inputDataModelTranslatorProperties = copyMap(other.inputDataModelTranslatorProperties);
+		this.outputDataModelTranslator = other.outputDataModelTranslator;
+		this.outputDataModelTranslatorFactory = other.outputDataModelTranslatorFactory;
+		this.outputDataModelTranslatorProperties = copyMap(other.outputDataModelTranslatorProperties);
+	}
+
 	//=================================================================================================
 	// boilerplate
 
@@ -385,4 +414,12 @@ public class TranslationDiscoveryModel {
 				&& Objects.equals(targetProperties, other.targetProperties)
 				&& Objects.equals(toInterfaceTemplate, other.toInterfaceTemplate);
 	}
-}
\ No newline at end of file
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private static Map<String, Object> copyMap(final Map<String, Object> map) {
+		return map == null ? null : new HashMap<>(map);
+	}
+}
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.dto;
+
+import java.util.List;
+
+import eu.arrowhead.dto.TranslationReportRequestDTO;
+
+public record TranslationReportBatchRequestDTO(
+		List<TranslationReportRequestDTO> reports) {
+}
@@ -16,18 +16,23 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.service.engine;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.util.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
@@ -40,6 +45,7 @@ import eu.arrowhead.common.exception.AuthException;
 import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.http.ArrowheadHttpService;
 import eu.arrowhead.common.http.filter.authentication.AuthenticationPolicy;
+import eu.arrowhead.common.service.validation.MetadataRequirementsMatcher;
 import eu.arrowhead.common.service.validation.meta.MetaOps;
 import eu.arrowhead.common.service.validation.meta.MetadataRequirementTokenizer;
 import eu.arrowhead.dto.AuthorizationTokenGenerationMgmtListRequestDTO;
@@ -61,21 +67,65 @@ import eu.arrowhead.dto.enums.AuthorizationTargetType;
 import eu.arrowhead.dto.enums.ServiceInterfacePolicy;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.TranslationManagerSystemInfo;
+import eu.arrowhead.translationmanager.service.cache.CacheOwner;
+import eu.arrowhead.translationmanager.service.cache.CacheStatistics;
+import eu.arrowhead.translationmanager.service.cache.ExpiringLruCache;
+import eu.arrowhead.translationmanager.service.cache.InterfaceBridgeTokenPool;
 import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
 import eu.arrowhead.translationmanager.service.dto.TranslationDiscoveryModel;
+import jakarta.annotation.PostConstruct;
 
 @Service
-public class CoreSystemsDriver {
+public class CoreSystemsDriver implements CacheOwner {
 
 	//=================================================================================================
 	// members
 
 	private static final int tokenIntervalForInterfaceBridgeManagement = 24; // in hours
 	private static final int tokenUsageLimitForInterfaceBridgeManagement = 100;
+	private static final int tokenUsesPerDiscoveryForInterfaceBridgeManagement = 3; // check targets, initialize bridge, abort bridge
+	private static final int tokenRefreshUsageThresholdForInterfaceBridgeManagement = 20;
+	private static final int tokenRefreshIdleLimitForInterfaceBridgeManagement = 1; // in hours
+	private static final int tokenPoolValidityMarginForInterfaceBridgeManagement = 2; // in hours, how much older a pooled token can be than a freshly generated one
+	private static final String LOOKUP_CACHE_NAME = "translatorLookup";
+	private static final String BLACKLIST_CACHE_NAME = "blacklistDecision";
+	private static final String AUTHORIZATION_CACHE_NAME = "authorizationDecision";
 
 	@Value(TranslationManagerConstants.$TRANSLATOR_SERVICE_MIN_AVAILABILITY_WD)
 	private int translatorServiceMinAvailability;
 
+	@Value(TranslationManagerConstants.$INTERFACE_BRIDGE_TOKEN_POOL_ENABLED_WD)
+	private boolean tokenPoolEnabled;
+
+	@Value(TranslationManagerConstants.$TRANSLATOR_LOOKUP_CACHE_TTL_WD)
+	private int lookupCacheTimeToLive; // in seconds
+
+	@Value(TranslationManagerConstants.$TRANSLATOR_LOOKUP_CACHE_MAX_SIZE_WD)
+	private int lookupCacheMaxSize;
+
+	@Value(TranslationManagerConstants.$BLACKLIST_CACHE_TTL_WD)
+	private int blacklistCacheTimeToLive; // in seconds
+
+	@Value(TranslationManagerConstants.$BLACKLIST_CACHE_MAX_SIZE_WD)
+	private int blacklistCacheMaxSize;
+
+	@Value(TranslationManagerConstants.$AUTHORIZATION_CACHE_TTL_WD)
+	private int authorizationCacheTimeToLive; // in seconds
+
+	@Value(TranslationManagerConstants.$AUTHORIZATION_CACHE_MAX_SIZE_WD)
+	private int authorizationCacheMaxSize;
+
+	// disabled until initialization
+	private ExpiringLruCache<ServiceInstanceLookupRequestDTO, List<ServiceInstanceResponseDTO>> lookupCache = new ExpiringLruCache<>(LOOKUP_CACHE_NAME, 0, 0);
+
+	// system name => blacklisted or not; disabled until initialization
+	private ExpiringLruCache<String, Boolean> blacklistCache = new ExpiringLruCache<>(BLACKLIST_CACHE_NAME, 0, 0);
+
+	// (provider, consumer, service definition, operation) => granted or not; disabled until initialization
+	private ExpiringLruCache<AuthorizationDecisionKey, Boolean> authorizationCache = new ExpiringLruCache<>(AUTHORIZATION_CACHE_NAME, 0, 0);
+
+	private final InterfaceBridgeTokenPool tokenPool = new InterfaceBridgeTokenPool(tokenUsesPerDiscoveryForInterfaceBridgeManagement);
+
 	@Autowired
 	private TranslationManagerSystemInfo sysInfo;
 
@@ -87,6 +137,20 @@ public class CoreSystemsDriver {
 	//=================================================================================================
 	// methods
 
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		lookupCache = new ExpiringLruCache<>(LOOKUP_CACHE_NAME, lookupCacheMaxSize, TimeUnit.SECONDS.toMillis(lookupCacheTimeToLive));
+		blacklistCache = new ExpiringLruCache<>(BLACKLIST_CACHE_NAME, blacklistCacheMaxSize, TimeUnit.SECONDS.toMillis(blacklistCacheTimeToLive));
+		authorizationCache = new ExpiringLruCache<>(AUTHORIZATION_CACHE_NAME, authorizationCacheMaxSize, TimeUnit.SECONDS.toMillis(authorizationCacheTimeToLive));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public List<ExpiringLruCache<?, ?>> getManagedCaches() {
+		return List.of(lookupCache, blacklistCache, authorizationCache);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	public boolean isBlacklisted(final String systemName) {
 		logger.debug("isBlacklisted started...");
@@ -111,45 +175,39 @@ public class CoreSystemsDriver {
 			return systemNames;
 		}
 
+		// using the cached decisions where it is possible
+		final Map<String, Boolean> decisions = new HashMap<>(candidates.size());
+		final List<String> toCheck = new ArrayList<>(candidates.size());
+		candidates.forEach(sysName -> {
+			final Boolean cached = blacklistCache.get(sysName);
+			if (cached == null) {
+				toCheck.add(sysName);
+			} else {
+				decisions.put(sysName, cached);
+			}
+		});
+
 		try {
-			boolean hasMorePage = false;
-			int pageNumber = 0;
-			Integer pageSize = null;
-
-			final List<BlacklistEntryDTO> blacklistEntries = new ArrayList<BlacklistEntryDTO>();
-			do {
-				final BlacklistEntryListResponseDTO response = ahHttpService.consumeService(
-						Constants.SERVICE_DEF_BLACKLIST_MANAGEMENT,
-						Constants.SERVICE_OP_BLACKLIST_QUERY,
-						Constants.SYS_NAME_BLACKLIST,
-						BlacklistEntryListResponseDTO.class,
-						new BlacklistQueryRequestDTO(
-								new PageDTO(pageNumber == 0 ? null : pageNumber, pageSize, null, null),
-								candidates,
-								null,
-								null,
-								null,
-								null,
-								Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow())));
-				blacklistEntries.addAll(response.entries());
-				hasMorePage = blacklistEntries.size() < response.count();
-				pageNumber = hasMorePage ? pageNumber + 1 : pageNumber;
-				pageSize = pageSize == null ? response.entries().size() : pageSize;
-			} while (hasMorePage);
+			if (!toCheck.isEmpty()) {
+				final List<BlacklistEntryDTO> blacklistEntries = queryBlacklistEntries(toCheck);
+				toCheck.forEach(sysName -> {
+					final List<BlacklistEntryDTO> relatedEntries = blacklistEntries
+							.stream()
+							.filter(blDTO -> sysName.equals(blDTO.systemName()))
+							.toList();
+					final boolean isBlacklisted = !relatedEntries.isEmpty();
+
+					decisions.put(sysName, isBlacklisted);
+					if (blacklistCache.isEnabled()) {
+						blacklistCache.put(sysName, isBlacklisted, calculateBlacklistDecisionTimeToLive(relatedEntries));
+					}
+				});
+			}
 
 			final List<String> result = systemNames
 					.stream()
-					.filter(name -> {
-						boolean isBlacklisted = false;
-						for (final BlacklistEntryDTO blDTO : blacklistEntries) {
-							if (name.equals(blDTO.systemName())) {
-								isBlacklisted = true;
-								break;
-							}
-						}
-
-						return !isBlacklisted;
-					}).toList();
+					.filter(name -> !decisions.getOrDefault(name, false))
+					.toList();
 
 			return result;
 		} catch (final ForbiddenException | AuthException ex) {
@@ -157,13 +215,24 @@ public class CoreSystemsDriver {
 		} catch (final ArrowheadException ex) {
 			logger.error("Blacklist server is not available during the translation bridge process");
 			logger.debug(ex);
-			if (sysInfo.isBlacklistForced()) {
-				logger.error("All the systems have been filtered out, because blacklist is forced");
-				return List.of();
-			} else {
-				logger.error("All the systems have been passed, because blacklist is not forced");
-				return systemNames;
-			}
+
+			return handleBlacklistUnavailability(systemNames);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Used when the blacklist decisions can't be obtained (the server is not available or the check is not finished in time): if the blacklist is forced, all the
+	// systems are filtered out, otherwise all of them are passed.
+	public List<String> handleBlacklistUnavailability(final List<String> systemNames) {
+		logger.debug("handleBlacklistUnavailability started...");
+		Assert.notNull(systemNames, "systemNames is null");
+
+		if (sysInfo.isBlacklistForced()) {
+			logger.error("All the systems have been filtered out, because blacklist is forced");
+			return List.of();
+		} else {
+			logger.error("All the systems have been passed, because blacklist is not forced");
+			return systemNames;
 		}
 	}
 
@@ -175,59 +244,141 @@ public class CoreSystemsDriver {
 		Assert.isTrue(!Utilities.isEmpty(consumer), "consumer is missing");
 		Assert.isTrue(!Utilities.isEmpty(serviceDefinition), "serviceDefinition is missing");
 
-		final AuthorizationVerifyListRequestDTO payload = calculateVerifyPayload(candidates, consumer, serviceDefinition, operation);
-		final AuthorizationVerifyListResponseDTO response = ahHttpService.consumeService(
-				Constants.SERVICE_DEF_AUTHORIZATION_MANAGEMENT,
-				Constants.SERVICE_OP_AUTHORIZATION_CHECK_POLICIES,
-				Constants.SYS_NAME_CONSUMER_AUTHORIZATION,
-				AuthorizationVerifyListResponseDTO.class,
-				payload);
+		final Map<String, List<String>> allowed = filterOutProvidersBecauseOfUnauthorization(Map.of(consumer, candidates), serviceDefinition, operation);
 
-		if (response.entries().isEmpty()) {
-			return List.of();
-		}
+		return allowed.get(consumer);
+	}
 
-		final List<String> result = new ArrayList<>();
-		candidates.forEach(c -> {
-			final boolean denied = response
-					.entries()
-					.stream()
-					.anyMatch(e -> e.provider().equals(c) && !e.granted());
+	//-------------------------------------------------------------------------------------------------
+	// Batch version: every consumer has its own list of candidate providers, but all the decisions that are not cached are asked in one request. The result contains the
+	// allowed providers for every consumer (in the original order).
+	public Map<String, List<String>> filterOutProvidersBecauseOfUnauthorization(final Map<String, List<String>> candidatesByConsumer, final String serviceDefinition, final String operation) {
+		logger.debug("filterOutProvidersBecauseOfUnauthorization started...");
+		Assert.isTrue(!Utilities.isEmpty(candidatesByConsumer), "candidatesByConsumer map is missing");
+		Assert.isTrue(!Utilities.isEmpty(serviceDefinition), "serviceDefinition is missing");
 
-			if (!denied) {
-				// has access the specified operation  (or all operations if nothing is specified)
-				result.add(c);
-			}
+		// using the cached decisions where it is possible
+		final Map<AuthorizationDecisionKey, Boolean> decisions = new HashMap<>();
+		final Set<AuthorizationDecisionKey> toCheck = new LinkedHashSet<>();
+		candidatesByConsumer.forEach((consumer, candidates) -> {
+			Assert.isTrue(!Utilities.isEmpty(consumer), "consumer is missing");
+			Assert.isTrue(!Utilities.isEmpty(candidates), "candidates list is missing");
+			Assert.isTrue(!Utilities.containsNullOrEmpty(candidates), "candidates list contains null or empty value");
+
+			candidates.forEach(c -> {
+				final AuthorizationDecisionKey key = new AuthorizationDecisionKey(c, consumer, serviceDefinition, operation);
+				final Boolean cached = authorizationCache.get(key);
+				if (cached == null) {
+					toCheck.add(key);
+				} else {
+					decisions.put(key, cached);
+				}
+			});
 		});
 
+		if (!toCheck.isEmpty()) {
+			final AuthorizationVerifyListRequestDTO payload = calculateVerifyPayload(List.copyOf(toCheck));
+			final AuthorizationVerifyListResponseDTO response = ahHttpService.consumeService(
+					Constants.SERVICE_DEF_AUTHORIZATION_MANAGEMENT,
+					Constants.SERVICE_OP_AUTHORIZATION_CHECK_POLICIES,
+					Constants.SYS_NAME_CONSUMER_AUTHORIZATION,
+					AuthorizationVerifyListResponseDTO.class,
+					payload);
+
+			if (response.entries().isEmpty()) {
+				// this kind of answer is not cached
+				toCheck.forEach(k -> decisions.put(k, false));
+			} else {
+				toCheck.forEach(k -> {
+					final boolean denied = response
+							.entries()
+							.stream()
+							.anyMatch(e -> e.provider().equals(k.provider()) && k.consumer().equals(e.consumer()) && !e.granted());
+
+					// has access the specified operation (or all operations if nothing is specified) if not denied
+					decisions.put(k, !denied);
+					authorizationCache.put(k, !denied);
+				});
+			}
+		}
+
+		final Map<String, List<String>> result = new HashMap<>(candidatesByConsumer.size());
+		candidatesByConsumer.forEach((consumer, candidates) -> result.put(
+				consumer,
+				candidates
+						.stream()
+						.filter(c -> decisions.get(new AuthorizationDecisionKey(c, consumer, serviceDefinition, operation)))
+						.toList()));
+
 		return result;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	public void invalidateAuthorizationCache() {
+		logger.debug("invalidateAuthorizationCache started...");
+
+		authorizationCache.invalidateAll();
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	public Map<String, String> generateTokenForManagerToInterfaceBridgeManagementService(final List<ServiceInstanceResponseDTO> interfaceTranslators) {
 		logger.debug("generateTokenForManagerToInterfaceBridgeManagementService started...");
 		Assert.isTrue(!Utilities.isEmpty(interfaceTranslators), "interfaceTranslators list is missing");
 		Assert.isTrue(!Utilities.containsNull(interfaceTranslators), "interfaceTranslators list contains null element");
 
-		final AuthorizationTokenGenerationMgmtListRequestDTO payload = calculateTokenGenerationPayloadForInterfaceBridgeManagementService(interfaceTranslators);
-		if (Utilities.isEmpty(payload.list())) {
+		final List<Pair<String, String>> tokenRequirements = collectTokenRequirementsForInterfaceBridgeManagementService(interfaceTranslators);
+		if (tokenRequirements.isEmpty()) {
 			// no tokens
 			return Map.of();
 		}
 
-		final AuthorizationTokenMgmtListResponseDTO response = ahHttpService.consumeService(
-				Constants.SERVICE_DEF_AUTHORIZATION_TOKEN_MANAGEMENT,
-				Constants.SERVICE_OP_AUTHORIZATION_GENERATE_TOKENS,
-				Constants.SYS_NAME_CONSUMER_AUTHORIZATION,
-				AuthorizationTokenMgmtListResponseDTO.class,
-				payload,
-				new LinkedMultiValueMap<>(Map.of(Constants.UNBOUND, List.of(Boolean.TRUE.toString()))));
+		return generateTokensForInterfaceBridgeManagementService(tokenRequirements);
+	}
 
-		final Map<String, String> result = new HashMap<>(response.entries().size());
-		response.entries()
-				.forEach(e -> result.put(e.provider(), e.token()));
+	//-------------------------------------------------------------------------------------------------
+	// for the cases when only the interface translator names and their policies are known (e.g. reused discovery results); only token policies are allowed
+	public Map<String, String> generateTokenForManagerToInterfaceBridgeManagementService(final Map<String, String> interfaceTranslatorPolicies) {
+		logger.debug("generateTokenForManagerToInterfaceBridgeManagementService started...");
+		Assert.isTrue(!Utilities.isEmpty(interfaceTranslatorPolicies), "interfaceTranslatorPolicies map is missing");
 
-		return result;
+		final List<Pair<String, String>> tokenRequirements = new ArrayList<>(interfaceTranslatorPolicies.size());
+		interfaceTranslatorPolicies.forEach((translator, policy) -> {
+			Assert.isTrue(!Utilities.isEmpty(translator), "interface translator name is missing");
+			Assert.isTrue(!Utilities.isEmpty(policy) && policy.endsWith(Constants.AUTHORIZATION_TOKEN_VARIANT_SUFFIX), "Invalid policy: " + policy);
+
+			tokenRequirements.add(Pair.of(translator, policy));
+		});
+
+		return generateTokensForInterfaceBridgeManagementService(tokenRequirements);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Scheduled(fixedDelayString = TranslationManagerConstants.$INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL_WD, initialDelayString = TranslationManagerConstants.$INTERFACE_BRIDGE_TOKEN_POOL_REFRESH_INTERVAL_WD)
+	public void refreshInterfaceBridgeManagementTokens() {
+		logger.debug("refreshInterfaceBridgeManagementTokens started...");
+
+		if (!tokenPoolEnabled) {
+			return;
+		}
+
+		final ZonedDateTime now = Utilities.utcNow();
+		final List<Pair<String, String>> candidates = tokenPool.collectRefreshCandidates(
+				calculateMinimumPooledTokenValidity(now).plusHours(1), // one more hour to make sure that the replacement is ready before it is needed
+				tokenRefreshUsageThresholdForInterfaceBridgeManagement,
+				now.minusHours(tokenRefreshIdleLimitForInterfaceBridgeManagement));
+
+		if (candidates.isEmpty()) {
+			return;
+		}
+
+		try {
+			putTokensIntoPool(candidates, requestTokensForInterfaceBridgeManagementService(candidates));
+			logger.debug("{} interface bridge management token(s) refreshed", candidates.size());
+		} catch (final ArrowheadException ex) {
+			// discoveries will try again if necessary
+			logger.warn("Unable to refresh interface bridge management tokens: {}", ex.getMessage());
+			logger.debug(ex);
+		}
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -266,15 +417,29 @@ public class CoreSystemsDriver {
 		Assert.isTrue(!Utilities.isEmpty(targets), "targets list is missing");
 		Assert.isTrue(!Utilities.containsNull(targets), "targets list contains null element");
 
-		final ServiceInstanceLookupRequestDTO payload = calculateInterfaceTranslatorLookupPayload(inputInterfaceRequirements, targets);
-		final ServiceInstanceListResponseDTO response = ahHttpService.consumeService(
-				Constants.SERVICE_DEF_SERVICE_DISCOVERY,
-				Constants.SERVICE_OP_LOOKUP,
-				Constants.SYS_NAME_SERVICE_REGISTRY,
-				ServiceInstanceListResponseDTO.class,
-				payload);
+		final ServiceInstanceLookupRequestDTO.Builder payloadBuilder = calculateInterfaceTranslatorLookupPayloadBuilder(inputInterfaceRequirements, targets);
 
-		return response.entries();
+		return lookupTranslators(payloadBuilder);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Applies the same metadata requirements locally that collectInterfaceTranslatorCandidates sends to the Service Registry. Useful when the lookup was done for a wider
+	// target list and only a subset of the targets remained.
+	public List<ServiceInstanceResponseDTO> filterInterfaceTranslatorCandidates(
+			final List<ServiceInstanceResponseDTO> interfaceTranslators,
+			final List<String> inputInterfaceRequirements,
+			final List<NormalizedServiceInstanceDTO> targets) {
+		logger.debug("filterInterfaceTranslatorCandidates started...");
+		Assert.notNull(interfaceTranslators, "interfaceTranslators list is null");
+		Assert.isTrue(!Utilities.isEmpty(inputInterfaceRequirements), "inputInterfaceRequirements list is missing");
+		Assert.isTrue(!Utilities.isEmpty(targets), "targets list is missing");
+
+		final List<MetadataRequirementDTO> requirements = calculateInterfaceTranslatorMetadataRequirements(inputInterfaceRequirements, targets);
+
+		return interfaceTranslators
+				.stream()
+				.filter(it -> requirements.stream().anyMatch(req -> MetadataRequirementsMatcher.isMetadataMatch(it.metadata(), req)))
+				.toList();
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -283,30 +448,39 @@ public class CoreSystemsDriver {
 		Assert.isTrue(!Utilities.isEmpty(models), "models list is missing");
 		Assert.isTrue(!Utilities.containsNull(models), "models list contains null element");
 
-		final ServiceInstanceLookupRequestDTO payload = calculateDataModelTranslatorLookupPayload(models);
-		final ServiceInstanceListResponseDTO response = ahHttpService.consumeService(
-				Constants.SERVICE_DEF_SERVICE_DISCOVERY,
-				Constants.SERVICE_OP_LOOKUP,
-				Constants.SYS_NAME_SERVICE_REGISTRY,
-				ServiceInstanceListResponseDTO.class,
-				payload);
+		final ServiceInstanceLookupRequestDTO.Builder payloadBuilder = calculateDataModelTranslatorLookupPayloadBuilder(models);
 
-		return response.entries();
+		return lookupTranslators(payloadBuilder);
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	public List<ServiceInstanceResponseDTO> collectDataModelTranslatorFactoryCandidates() {
 		logger.debug("collectDataModelTranslatorFactoryCandidates started...");
 
-		final ServiceInstanceLookupRequestDTO payload = calculateDataModelTranslatorFactoryLookupPayload();
-		final ServiceInstanceListResponseDTO response = ahHttpService.consumeService(
-				Constants.SERVICE_DEF_SERVICE_DISCOVERY,
-				Constants.SERVICE_OP_LOOKUP,
-				Constants.SYS_NAME_SERVICE_REGISTRY,
-				ServiceInstanceListResponseDTO.class,
-				payload);
+		final ServiceInstanceLookupRequestDTO.Builder payloadBuilder = calculateDataModelTranslatorFactoryLookupPayloadBuilder();
 
-		return response.entries();
+		return lookupTranslators(payloadBuilder);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public CacheStatistics getLookupCacheStatistics() {
+		logger.debug("getLookupCacheStatistics started...");
+
+		return lookupCache.getStatistics();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public CacheStatistics getBlacklistCacheStatistics() {
+		logger.debug("getBlacklistCacheStatistics started...");
+
+		return blacklistCache.getStatistics();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public CacheStatistics getAuthorizationCacheStatistics() {
+		logger.debug("getAuthorizationCacheStatistics started...");
+
+		return authorizationCache.getStatistics();
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -323,47 +497,248 @@ public class CoreSystemsDriver {
 	// assistant methods
 
 	//-------------------------------------------------------------------------------------------------
-	private AuthorizationVerifyListRequestDTO calculateVerifyPayload(final List<String> candidates, final String consumer, final String serviceDefinition, final String operation) {
+	private List<BlacklistEntryDTO> queryBlacklistEntries(final List<String> systemNames) {
+		logger.debug("queryBlacklistEntries started...");
+
+		boolean hasMorePage = false;
+		int pageNumber = 0;
+		Integer pageSize = null;
+
+		final List<BlacklistEntryDTO> blacklistEntries = new ArrayList<BlacklistEntryDTO>();
+		do {
+			final BlacklistEntryListResponseDTO response = ahHttpService.consumeService(
+					Constants.SERVICE_DEF_BLACKLIST_MANAGEMENT,
+					Constants.SERVICE_OP_BLACKLIST_QUERY,
+					Constants.SYS_NAME_BLACKLIST,
+					BlacklistEntryListResponseDTO.class,
+					new BlacklistQueryRequestDTO(
+							new PageDTO(pageNumber == 0 ? null : pageNumber, pageSize, null, null),
+							systemNames,
+							null,
+							null,
+							null,
+							null,
+							Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow())));
+			blacklistEntries.addAll(response.entries());
+			hasMorePage = blacklistEntries.size() < response.count();
+			pageNumber = hasMorePage ? pageNumber + 1 : pageNumber;
+			pageSize = pageSize == null ? response.entries().size() : pageSize;
+		} while (hasMorePage);
+
+		return blacklistEntries;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// in milliseconds
+	private long calculateBlacklistDecisionTimeToLive(final List<BlacklistEntryDTO> relatedEntries) {
+		logger.debug("calculateBlacklistDecisionTimeToLive started...");
+
+		final long maxTimeToLive = TimeUnit.SECONDS.toMillis(blacklistCacheTimeToLive);
+		if (relatedEntries.isEmpty()) {
+			// not blacklisted
+			return maxTimeToLive;
+		}
+
+		final ZonedDateTime now = Utilities.utcNow();
+		long timeToLive = 0;
+		for (final BlacklistEntryDTO entry : relatedEntries) {
+			if (Utilities.isEmpty(entry.expiresAt())) {
+				// permanent entry
+				return maxTimeToLive;
+			}
+
+			final long untilExpiration = Duration.between(now, Utilities.parseUTCStringToZonedDateTime(entry.expiresAt())).toMillis();
+			timeToLive = Math.max(timeToLive, untilExpiration);
+		}
+
+		// the decision can't outlive the blacklist entry
+		return Math.min(timeToLive, maxTimeToLive);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<ServiceInstanceResponseDTO> lookupTranslators(final ServiceInstanceLookupRequestDTO.Builder payloadBuilder) {
+		logger.debug("lookupTranslators started...");
+
+		// the availability requirement changes by every call, so it can't be part of the cache key
+		final ServiceInstanceLookupRequestDTO cacheKey = payloadBuilder.build();
+
+		ZonedDateTime alivesAt = null;
+		ServiceInstanceLookupRequestDTO.Builder builder = payloadBuilder;
+		if (translatorServiceMinAvailability > 0) {
+			alivesAt = Utilities.utcNow().plusMinutes(translatorServiceMinAvailability);
+			builder = builder.alivesAt(Utilities.convertZonedDateTimeToUTCString(alivesAt));
+		}
+
+		final List<ServiceInstanceResponseDTO> cached = lookupCache.get(cacheKey);
+		if (cached != null) {
+			logger.debug("Translator lookup result is served from cache");
+			// callers may reorder the list (e.g. shuffle), so they get their own copy
+			return new ArrayList<>(filterOutNotAvailableInstances(cached, alivesAt));
+		}
+
+		final ServiceInstanceListResponseDTO response = ahHttpService.consumeService(
+				Constants.SERVICE_DEF_SERVICE_DISCOVERY,
+				Constants.SERVICE_OP_LOOKUP,
+				Constants.SYS_NAME_SERVICE_REGISTRY,
+				ServiceInstanceListResponseDTO.class,
+				builder.build());
+
+		// the cache keeps an immutable copy, so the callers can't modify the shared entry
+		lookupCache.put(cacheKey, List.copyOf(response.entries()));
+
+		return new ArrayList<>(response.entries());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<ServiceInstanceResponseDTO> filterOutNotAvailableInstances(final List<ServiceInstanceResponseDTO> instances, final ZonedDateTime alivesAt) {
+		logger.debug("filterOutNotAvailableInstances started...");
+
+		if (alivesAt == null) {
+			return instances;
+		}
+
+		// cached instances were only checked against an earlier availability requirement
+		return instances
+				.stream()
+				.filter(i -> Utilities.isEmpty(i.expiresAt()) || !Utilities.parseUTCStringToZonedDateTime(i.expiresAt()).isBefore(alivesAt))
+				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private AuthorizationVerifyListRequestDTO calculateVerifyPayload(final List<AuthorizationDecisionKey> decisionKeys) {
 		logger.debug("calculateVerifyPayload started...");
 
-		final List<AuthorizationVerifyRequestDTO> list = new ArrayList<>(candidates.size());
-		candidates.forEach(c -> {
+		final List<AuthorizationVerifyRequestDTO> list = new ArrayList<>(decisionKeys.size());
+		decisionKeys.forEach(k -> {
 			list.add(new AuthorizationVerifyRequestDTO(
-					c,
-					consumer,
+					k.provider(),
+					k.consumer(),
 					null, // local cloud
 					AuthorizationTargetType.SERVICE_DEF.name(),
-					serviceDefinition,
-					operation));
+					k.serviceDefinition(),
+					k.operation()));
 		});
 
 		return new AuthorizationVerifyListRequestDTO(list);
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private AuthorizationTokenGenerationMgmtListRequestDTO calculateTokenGenerationPayloadForInterfaceBridgeManagementService(final List<ServiceInstanceResponseDTO> interfaceTranslators) {
-		logger.debug("calculateTokenGenerationPayloadForInterfaceBridgeManagementService started...");
-
-		final ZonedDateTime now = Utilities.utcNow();
-		final List<AuthorizationTokenGenerationMgmtRequestDTO> list = new ArrayList<>(interfaceTranslators.size());
+	// (translator system name, policy) pairs
+	private List<Pair<String, String>> collectTokenRequirementsForInterfaceBridgeManagementService(final List<ServiceInstanceResponseDTO> interfaceTranslators) {
+		logger.debug("collectTokenRequirementsForInterfaceBridgeManagementService started...");
 
+		final List<Pair<String, String>> result = new ArrayList<>(interfaceTranslators.size());
 		interfaceTranslators
 				.forEach(itp -> {
 					final String policy = itp.interfaces().get(0).policy();
 					if (policy.endsWith(Constants.AUTHORIZATION_TOKEN_VARIANT_SUFFIX)) {
-						list.add(new AuthorizationTokenGenerationMgmtRequestDTO(
-								policy,
-								AuthorizationTargetType.SERVICE_DEF.name(),
-								Defaults.DEFAULT_CLOUD,
-								sysInfo.getSystemName(),
-								itp.provider().name(),
-								Constants.SERVICE_DEF_INTERFACE_BRIDGE_MANAGEMENT,
-								null,
-								Utilities.convertZonedDateTimeToUTCString(now.plusHours(tokenIntervalForInterfaceBridgeManagement)),
-								tokenUsageLimitForInterfaceBridgeManagement));
+						result.add(Pair.of(itp.provider().name(), policy));
 					}
 				});
 
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// translator => token
+	private Map<String, String> generateTokensForInterfaceBridgeManagementService(final List<Pair<String, String>> tokenRequirements) {
+		logger.debug("generateTokensForInterfaceBridgeManagementService started...");
+
+		if (!tokenPoolEnabled) {
+			final Map<String, String> result = new HashMap<>(tokenRequirements.size());
+			requestTokensForInterfaceBridgeManagementService(tokenRequirements)
+					.forEach(e -> result.put(e.provider(), e.token()));
+
+			return result;
+		}
+
+		// the token is stored with the bridge and used during its whole life, so a pooled token has to be valid almost as long as a freshly generated one
+		final ZonedDateTime validUntil = calculateMinimumPooledTokenValidity(Utilities.utcNow());
+		final Map<String, String> result = new HashMap<>(tokenRequirements.size());
+		final List<Pair<String, String>> missing = new ArrayList<>();
+		tokenRequirements.forEach(req -> {
+			final String token = tokenPool.acquire(req.getFirst(), req.getSecond(), validUntil);
+			if (token == null) {
+				missing.add(req);
+			} else {
+				result.put(req.getFirst(), token);
+			}
+		});
+
+		if (!missing.isEmpty()) {
+			putTokensIntoPool(missing, requestTokensForInterfaceBridgeManagementService(missing));
+
+			// fresh tokens are handed out even if they are not valid long enough (when the token server shortens the requested validity)
+			final ZonedDateTime now = Utilities.utcNow();
+			missing.forEach(req -> {
+				final String token = tokenPool.acquire(req.getFirst(), req.getSecond(), now);
+				if (token != null) {
+					result.put(req.getFirst(), token);
+				}
+			});
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ZonedDateTime calculateMinimumPooledTokenValidity(final ZonedDateTime now) {
+		return now.plusHours(tokenIntervalForInterfaceBridgeManagement - tokenPoolValidityMarginForInterfaceBridgeManagement);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<AuthorizationTokenResponseDTO> requestTokensForInterfaceBridgeManagementService(final List<Pair<String, String>> tokenRequirements) {
+		logger.debug("requestTokensForInterfaceBridgeManagementService started...");
+
+		final AuthorizationTokenGenerationMgmtListRequestDTO payload = calculateTokenGenerationPayloadForInterfaceBridgeManagementService(tokenRequirements);
+		final AuthorizationTokenMgmtListResponseDTO response = ahHttpService.consumeService(
+				Constants.SERVICE_DEF_AUTHORIZATION_TOKEN_MANAGEMENT,
+				Constants.SERVICE_OP_AUTHORIZATION_GENERATE_TOKENS,
+				Constants.SYS_NAME_CONSUMER_AUTHORIZATION,
+				AuthorizationTokenMgmtListResponseDTO.class,
+				payload,
+				new LinkedMultiValueMap<>(Map.of(Constants.UNBOUND, List.of(Boolean.TRUE.toString()))));
+
+		return response.entries();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void putTokensIntoPool(final List<Pair<String, String>> tokenRequirements, final List<AuthorizationTokenResponseDTO> tokens) {
+		logger.debug("putTokensIntoPool started...");
+
+		// if the token server does not return the expiration time, the requested one is used
+		final ZonedDateTime defaultExpiresAt = Utilities.utcNow().plusHours(tokenIntervalForInterfaceBridgeManagement);
+		tokens.forEach(t -> tokenRequirements
+				.stream()
+				.filter(req -> req.getFirst().equals(t.provider()))
+				.findFirst()
+				.ifPresent(req -> tokenPool.put(
+						req.getFirst(),
+						req.getSecond(),
+						t.token(),
+						Utilities.isEmpty(t.expiresAt()) ? defaultExpiresAt : Utilities.parseUTCStringToZonedDateTime(t.expiresAt()),
+						t.usageLimit() == null ? tokenUsageLimitForInterfaceBridgeManagement : t.usageLimit())));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private AuthorizationTokenGenerationMgmtListRequestDTO calculateTokenGenerationPayloadForInterfaceBridgeManagementService(final List<Pair<String, String>> tokenRequirements) {
+		logger.debug("calculateTokenGenerationPayloadForInterfaceBridgeManagementService started...");
+
+		final ZonedDateTime now = Utilities.utcNow();
+		final List<AuthorizationTokenGenerationMgmtRequestDTO> list = new ArrayList<>(tokenRequirements.size());
+
+		tokenRequirements
+				.forEach(req -> list.add(new AuthorizationTokenGenerationMgmtRequestDTO(
+						req.getSecond(),
+						AuthorizationTargetType.SERVICE_DEF.name(),
+						Defaults.DEFAULT_CLOUD,
+						sysInfo.getSystemName(),
+						req.getFirst(),
+						Constants.SERVICE_DEF_INTERFACE_BRIDGE_MANAGEMENT,
+						null,
+						Utilities.convertZonedDateTimeToUTCString(now.plusHours(tokenIntervalForInterfaceBridgeManagement)),
+						tokenUsageLimitForInterfaceBridgeManagement)));
+
 		return new AuthorizationTokenGenerationMgmtListRequestDTO(list);
 	}
 
@@ -390,22 +765,17 @@ public class CoreSystemsDriver {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private ServiceInstanceLookupRequestDTO calculateInterfaceTranslatorLookupPayload(final List<String> inputInterfaceRequirements, final List<NormalizedServiceInstanceDTO> targets) {
-		logger.debug("calculateInterfaceTranslatorLookupPayload started...");
+	private ServiceInstanceLookupRequestDTO.Builder calculateInterfaceTranslatorLookupPayloadBuilder(final List<String> inputInterfaceRequirements, final List<NormalizedServiceInstanceDTO> targets) {
+		logger.debug("calculateInterfaceTranslatorLookupPayloadBuilder started...");
 
 		final String templateName = sysInfo.isSslEnabled() ? Constants.GENERIC_HTTPS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_HTTP_INTERFACE_TEMPLATE_NAME;
 
-		ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
+		final ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
 				.serviceDefinitionName(Constants.SERVICE_DEF_INTERFACE_BRIDGE_MANAGEMENT)
 				.interfaceTemplateName(templateName)
 				.metadataRequirementsList(calculateInterfaceTranslatorMetadataRequirements(inputInterfaceRequirements, targets));
 
-		if (translatorServiceMinAvailability > 0) {
-			final ZonedDateTime alivesAt = Utilities.utcNow().plusMinutes(translatorServiceMinAvailability);
-			builder = builder.alivesAt(Utilities.convertZonedDateTimeToUTCString(alivesAt));
-		}
-
-		return builder.build();
+		return builder;
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -431,26 +801,21 @@ public class CoreSystemsDriver {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private ServiceInstanceLookupRequestDTO calculateDataModelTranslatorLookupPayload(final List<TranslationDiscoveryModel> models) {
-		logger.debug("calculateDataModelTranslatorLookupPayload started...");
+	private ServiceInstanceLookupRequestDTO.Builder calculateDataModelTranslatorLookupPayloadBuilder(final List<TranslationDiscoveryModel> models) {
+		logger.debug("calculateDataModelTranslatorLookupPayloadBuilder started...");
 
 		final String templateName = sysInfo.isSslEnabled() ? Constants.GENERIC_HTTPS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_HTTP_INTERFACE_TEMPLATE_NAME;
 		final List<String> policies = AuthenticationPolicy.CERTIFICATE == sysInfo.getAuthenticationPolicy()
 				? List.of(ServiceInterfacePolicy.CERT_AUTH.name(), ServiceInterfacePolicy.NONE.name())
 				: List.of(ServiceInterfacePolicy.NONE.name());
 
-		ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
+		final ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
 				.serviceDefinitionName(Constants.SERVICE_DEF_DATA_MODEL_TRANSLATION)
 				.interfaceTemplateName(templateName)
 				.policies(policies)
 				.metadataRequirementsList(calculateDataModelTranslatorMetadataRequirements(models));
 
-		if (translatorServiceMinAvailability > 0) {
-			final ZonedDateTime alivesAt = Utilities.utcNow().plusMinutes(translatorServiceMinAvailability);
-			builder = builder.alivesAt(Utilities.convertZonedDateTimeToUTCString(alivesAt));
-		}
-
-		return builder.build();
+		return builder;
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -482,24 +847,26 @@ public class CoreSystemsDriver {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private ServiceInstanceLookupRequestDTO calculateDataModelTranslatorFactoryLookupPayload() {
-		logger.debug("calculateDataModelTranslatorFactoryLookupPayload started...");
+	private ServiceInstanceLookupRequestDTO.Builder calculateDataModelTranslatorFactoryLookupPayloadBuilder() {
+		logger.debug("calculateDataModelTranslatorFactoryLookupPayloadBuilder started...");
 
 		final String templateName = sysInfo.isSslEnabled() ? Constants.GENERIC_HTTPS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_HTTP_INTERFACE_TEMPLATE_NAME;
 		final List<String> policies = AuthenticationPolicy.CERTIFICATE == sysInfo.getAuthenticationPolicy()
 				? List.of(ServiceInterfacePolicy.CERT_AUTH.name(), ServiceInterfacePolicy.NONE.name())
 				: List.of(ServiceInterfacePolicy.NONE.name());
 
-		ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
+		final ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
 				.serviceDefinitionName(Constants.SERVICE_DEF_DATA_MODEL_TRANSLATOR_FACTORY_CONTROL)
 				.interfaceTemplateName(templateName)
 				.policies(policies);
 
-		if (translatorServiceMinAvailability > 0) {
-			final ZonedDateTime alivesAt = Utilities.utcNow().plusMinutes(translatorServiceMinAvailability);
-			builder = builder.alivesAt(Utilities.convertZonedDateTimeToUTCString(alivesAt));
-		}
+		return builder;
+	}
 
-		return builder.build();
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record AuthorizationDecisionKey(String provider, String consumer, String serviceDefinition, String operation) {
 	}
 }
\ No newline at end of file
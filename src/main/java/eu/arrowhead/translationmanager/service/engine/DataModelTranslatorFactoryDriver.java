@@ -16,13 +16,18 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.service.engine;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
@@ -44,15 +49,34 @@ import eu.arrowhead.common.intf.properties.PropertyValidators;
 import eu.arrowhead.dto.DataModelFactoryTranslatorInitiaizationResponseDTO;
 import eu.arrowhead.dto.DataModelTranslatorFactoryRequestDTO;
 import eu.arrowhead.dto.TranslationDataModelTranslatorInitializationResponseDTO;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.service.cache.CacheOwner;
+import eu.arrowhead.translationmanager.service.cache.CacheStatistics;
+import eu.arrowhead.translationmanager.service.cache.ExpiringLruCache;
+import jakarta.annotation.PostConstruct;
 
 @Service
-public class DataModelTranslatorFactoryDriver {
+public class DataModelTranslatorFactoryDriver implements CacheOwner {
 
 	//=================================================================================================
 	// members
 
+	public static final String CAPABILITY_CACHE_NAME = "factoryCapability";
+
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
+	@Value(TranslationManagerConstants.$FACTORY_CAPABILITY_CACHE_POSITIVE_TTL_WD)
+	private int capabilityCachePositiveTimeToLive; // in seconds
+
+	@Value(TranslationManagerConstants.$FACTORY_CAPABILITY_CACHE_NEGATIVE_TTL_WD)
+	private int capabilityCacheNegativeTimeToLive; // in seconds
+
+	@Value(TranslationManagerConstants.$FACTORY_CAPABILITY_CACHE_MAX_SIZE_WD)
+	private int capabilityCacheMaxSize;
+
+	// (factory instance, from, to) => supported or not; disabled until initialization
+	private ExpiringLruCache<FactoryCapabilityKey, Boolean> capabilityCache = new ExpiringLruCache<>(CAPABILITY_CACHE_NAME, 0, 0);
+
 	@Autowired
 	private SystemInfo sysInfo;
 
@@ -65,6 +89,21 @@ public class DataModelTranslatorFactoryDriver {
 	//=================================================================================================
 	// methods
 
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		capabilityCache = new ExpiringLruCache<>(
+				CAPABILITY_CACHE_NAME,
+				capabilityCacheMaxSize,
+				TimeUnit.SECONDS.toMillis(Math.max(capabilityCachePositiveTimeToLive, capabilityCacheNegativeTimeToLive)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public List<ExpiringLruCache<?, ?>> getManagedCaches() {
+		return List.of(capabilityCache);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings("unchecked")
 	public boolean isFactorySupportsTranslation(
@@ -73,10 +112,7 @@ public class DataModelTranslatorFactoryDriver {
 			final String fromDataModelId,
 			final String toDataModelId) {
 		logger.debug("isFactorySupportsTranslation started...");
-		Assert.isTrue(!Utilities.isEmpty(factoryName), "Factory name is missing");
-		Assert.isTrue(!Utilities.isEmpty(factoryInterfaceProperties), "Factory interface properties is missing");
-		Assert.isTrue(!Utilities.isEmpty(fromDataModelId), "From data model identifier is missing");
-		Assert.isTrue(!Utilities.isEmpty(toDataModelId), "To data model identifier is missing");
+		validateCapabilityParameters(factoryName, factoryInterfaceProperties, fromDataModelId, toDataModelId);
 
 		HttpMethod method = HttpMethod.GET; // default method
 		String operationPath = "/check"; // default path
@@ -97,6 +133,13 @@ public class DataModelTranslatorFactoryDriver {
 			}
 		}
 
+		final FactoryCapabilityKey cacheKey = createCapabilityKey(factoryName, factoryInterfaceProperties, fromDataModelId, toDataModelId);
+		final Boolean cached = capabilityCache.get(cacheKey);
+		if (cached != null) {
+			logger.debug("Factory capability is served from cache");
+			return cached;
+		}
+
 		final UriComponents uri = HttpUtilities.createURI(scheme, host, port, basePath + operationPath);
 		final DataModelTranslatorFactoryRequestDTO payload = calculatePayload(fromDataModelId, toDataModelId);
 
@@ -107,8 +150,15 @@ public class DataModelTranslatorFactoryDriver {
 					Boolean.class,
 					payload);
 
-			return response == null ? false : response.booleanValue();
+			final boolean supported = response == null ? false : response.booleanValue();
+			capabilityCache.put(
+					cacheKey,
+					supported,
+					TimeUnit.SECONDS.toMillis(supported ? capabilityCachePositiveTimeToLive : capabilityCacheNegativeTimeToLive));
+
+			return supported;
 		} catch (final ArrowheadException ex) {
+			// communication errors are not cached, the factory may be available again at the next discovery
 			logger.error(ex.getMessage());
 			logger.debug(ex);
 
@@ -116,6 +166,36 @@ public class DataModelTranslatorFactoryDriver {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// returns the cached answer of the factory or null if there is none, the factory is not contacted
+	public Boolean getCachedFactoryCapability(
+			final String factoryName,
+			final Map<String, Object> factoryInterfaceProperties,
+			final String fromDataModelId,
+			final String toDataModelId) {
+		logger.debug("getCachedFactoryCapability started...");
+		validateCapabilityParameters(factoryName, factoryInterfaceProperties, fromDataModelId, toDataModelId);
+
+		return capabilityCache.get(createCapabilityKey(factoryName, factoryInterfaceProperties, fromDataModelId, toDataModelId));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// drops the cached capabilities of every factory that is not in the specified collection (e.g. because it is unregistered)
+	public void retainFactories(final Collection<String> factoryNames) {
+		logger.debug("retainFactories started...");
+		Assert.notNull(factoryNames, "factoryNames is null");
+
+		final Set<String> names = new HashSet<>(factoryNames);
+		capabilityCache.invalidateIf((key, value) -> !names.contains(key.factoryName()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public CacheStatistics getCapabilityCacheStatistics() {
+		logger.debug("getCapabilityCacheStatistics started...");
+
+		return capabilityCache.getStatistics();
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings("unchecked")
 	public TranslationDataModelTranslatorInitializationResponseDTO initializeDataModelTranslator(
@@ -163,6 +243,33 @@ public class DataModelTranslatorFactoryDriver {
 	//=================================================================================================
 	// assistant methods
 
+	//-------------------------------------------------------------------------------------------------
+	private void validateCapabilityParameters(
+			final String factoryName,
+			final Map<String, Object> factoryInterfaceProperties,
+			final String fromDataModelId,
+			final String toDataModelId) {
+		Assert.isTrue(!Utilities.isEmpty(factoryName), "Factory name is missing");
+		Assert.isTrue(!Utilities.isEmpty(factoryInterfaceProperties), "Factory interface properties is missing");
+		Assert.isTrue(!Utilities.isEmpty(fromDataModelId), "From data model identifier is missing");
+		Assert.isTrue(!Utilities.isEmpty(toDataModelId), "To data model identifier is missing");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// a factory instance is identified by its name and access endpoint
+	@SuppressWarnings("unchecked")
+	private FactoryCapabilityKey createCapabilityKey(
+			final String factoryName,
+			final Map<String, Object> factoryInterfaceProperties,
+			final String fromDataModelId,
+			final String toDataModelId) {
+		final String host = ((List<String>) factoryInterfaceProperties.get(HttpInterfaceModel.PROP_NAME_ACCESS_ADDRESSES)).get(0);
+		final int port = (int) factoryInterfaceProperties.get(HttpInterfaceModel.PROP_NAME_ACCESS_PORT);
+		final String basePath = factoryInterfaceProperties.get(HttpInterfaceModel.PROP_NAME_BASE_PATH).toString();
+
+		return new FactoryCapabilityKey(factoryName, host, port, basePath, fromDataModelId, toDataModelId);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private DataModelTranslatorFactoryRequestDTO calculatePayload(final String fromDataModelId, final String toDataModelId) {
 		logger.debug("calculateCheckPayload started...");
@@ -251,4 +358,11 @@ public class DataModelTranslatorFactoryDriver {
 
 		return new TranslationDataModelTranslatorInitializationResponseDTO(response.dataModelTranslatorName(), normalizedProperties);
 	}
-}
\ No newline at end of file
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record FactoryCapabilityKey(String factoryName, String host, int port, String basePath, String fromDataModelId, String toDataModelId) {
+	}
+}
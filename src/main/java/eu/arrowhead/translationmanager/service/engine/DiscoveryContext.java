@@ -0,0 +1,100 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.springframework.data.util.Pair;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.dto.ServiceInstanceResponseDTO;
+import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
+
+// Holds the results of the remote calls that can be reused during one discovery. Not thread-safe: an instance belongs to exactly one doDiscovery call.
+public class DiscoveryContext {
+
+	//=================================================================================================
+	// members
+
+	private List<ServiceInstanceResponseDTO> factoryCandidates; // null until the first lookup
+
+	// (from, to) => selected factory (null value means that no factory supports the translation)
+	private final Map<Pair<String, String>, ServiceInstanceResponseDTO> factorySelections = new HashMap<>();
+
+	// speculative interface translator lookup (pipelined mode) and the targets it was started with
+	private Future<List<ServiceInstanceResponseDTO>> interfaceTranslatorPrefetch;
+	private List<NormalizedServiceInstanceDTO> interfaceTranslatorPrefetchTargets;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public List<ServiceInstanceResponseDTO> getFactoryCandidates(final Supplier<List<ServiceInstanceResponseDTO>> lookup) {
+		Assert.notNull(lookup, "lookup is null");
+
+		if (factoryCandidates == null) {
+			final List<ServiceInstanceResponseDTO> result = lookup.get();
+			factoryCandidates = result == null ? List.of() : List.copyOf(result);
+		}
+
+		return factoryCandidates;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public ServiceInstanceResponseDTO getFactorySelection(final String from, final String to, final Supplier<ServiceInstanceResponseDTO> selector) {
+		Assert.notNull(selector, "selector is null");
+
+		final Pair<String, String> key = Pair.of(from, to);
+		if (!factorySelections.containsKey(key)) {
+			factorySelections.put(key, selector.get());
+		}
+
+		return factorySelections.get(key);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void setInterfaceTranslatorPrefetch(final List<NormalizedServiceInstanceDTO> targets, final Future<List<ServiceInstanceResponseDTO>> prefetch) {
+		Assert.notNull(targets, "targets is null");
+		Assert.notNull(prefetch, "prefetch is null");
+
+		cancelPrefetches();
+		this.interfaceTranslatorPrefetchTargets = targets;
+		this.interfaceTranslatorPrefetch = prefetch;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public Future<List<ServiceInstanceResponseDTO>> getInterfaceTranslatorPrefetch() {
+		return interfaceTranslatorPrefetch;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public List<NormalizedServiceInstanceDTO> getInterfaceTranslatorPrefetchTargets() {
+		return interfaceTranslatorPrefetchTargets;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// discards the speculative work that is not needed (or not finished) yet
+	public void cancelPrefetches() {
+		if (interfaceTranslatorPrefetch != null) {
+			interfaceTranslatorPrefetch.cancel(true);
+		}
+	}
+}
@@ -0,0 +1,372 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.CleanupResult;
+import jakarta.annotation.PostConstruct;
+
+// Event-driven expiry of the discovery records. Every discovered bridge gets a deadline (creation time + translation.discovery.max.age) in a hierarchical timing wheel,
+// so the expired bridges are closed close to their deadline without scanning the database. The wheel is rebuilt from the database on startup. The cleaner job is only
+// a low-frequency safety net for the bridges that are missed here (e.g. because of a failed database operation).
+@Component
+public class DiscoveryExpiryScheduler {
+
+	//=================================================================================================
+	// members
+
+	@Value(TranslationManagerConstants.$DISCOVERY_EXPIRY_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_EXPIRY_TICK_WD)
+	private long tick;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_EXPIRY_WHEEL_SIZE_WD)
+	private int wheelSize;
+
+	@Value(TranslationManagerConstants.$TRANSLATION_DISCOVERY_MAX_AGE_WD)
+	private int maxAge; // in hours
+
+	@Value(TranslationManagerConstants.$CLEANER_JOB_CHUNK_SIZE_WD)
+	private int chunkSize;
+
+	@Autowired
+	private BridgeDbService dbService;
+
+	private final ReentrantLock wheelLock = new ReentrantLock();
+	private final Map<UUID, Entry> entries = new HashMap<>(); // bridge id => its entry in the wheel, guarded by wheelLock
+	private TimingWheel wheel; // guarded by wheelLock
+	private Set<Entry> imminent = new LinkedHashSet<>(); // entries with deadline inside the current tick, guarded by wheelLock
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			logger.info("Discovery expiry timing wheel is disabled.");
+			return;
+		}
+
+		Assert.isTrue(tick > 0, "Discovery expiry tick must be positive");
+		Assert.isTrue(wheelSize > 1, "Discovery expiry wheel size must be greater than 1");
+
+		wheelLock.lock();
+		try {
+			wheel = new TimingWheel(tick, wheelSize, System.currentTimeMillis());
+		} finally {
+			wheelLock.unlock();
+		}
+
+		rebuild();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Schedules the expiry of the discovery records of the specified bridge. Scheduling an already scheduled bridge replaces its deadline.
+	public void schedule(final UUID bridgeId, final ZonedDateTime createdAt) {
+		logger.debug("schedule started...");
+		Assert.notNull(bridgeId, "bridgeId is null");
+		Assert.notNull(createdAt, "createdAt is null");
+
+		if (!enabled) {
+			return;
+		}
+
+		final Entry entry = new Entry(bridgeId, createdAt.plusHours(maxAge).toInstant().toEpochMilli());
+
+		wheelLock.lock();
+		try {
+			final Entry previous = entries.put(bridgeId, entry);
+			if (previous != null) {
+				previous.detach();
+			}
+
+			add(entry);
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// The bridge no longer needs its discovery records (e.g. one of them is selected), so its entry is removed from the wheel.
+	public void cancel(final UUID bridgeId) {
+		logger.debug("cancel started...");
+		Assert.notNull(bridgeId, "bridgeId is null");
+
+		wheelLock.lock();
+		try {
+			final Entry entry = entries.remove(bridgeId);
+			if (entry != null) {
+				entry.detach();
+			}
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Scheduled(fixedDelayString = TranslationManagerConstants.$DISCOVERY_EXPIRY_TICK_WD, initialDelayString = TranslationManagerConstants.$DISCOVERY_EXPIRY_TICK_WD)
+	public void expire() {
+		logger.debug("expire started...");
+
+		final List<UUID> expired = collectExpired(System.currentTimeMillis());
+		for (int from = 0; from < expired.size(); from += chunkSize) {
+			final List<UUID> chunk = expired.subList(from, Math.min(from + chunkSize, expired.size()));
+			try {
+				final CleanupResult result = dbService.closeExpiredBridgeDiscoveries(chunk);
+				logger.debug("Discovery expiry: {} bridge(s) closed, {} discovery record(s) deleted", result.closedCount(), result.deletedDiscoveryCount());
+			} catch (final Exception ex) {
+				// the cleaner job will take care of these bridges
+				logger.debug(ex);
+				logger.error("Discovery expiry error: " + ex.getMessage());
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Advances the wheel to the specified time (epoch millis) and returns the bridges whose deadline is passed. The returned bridges are no longer scheduled.
+	public List<UUID> collectExpired(final long now) {
+		logger.debug("collectExpired started...");
+
+		if (!enabled) {
+			return List.of();
+		}
+
+		final List<UUID> expired = new ArrayList<>();
+		wheelLock.lock();
+		try {
+			final List<Entry> due = new ArrayList<>(imminent);
+			imminent = new LinkedHashSet<>();
+			wheel.advance(now, due);
+
+			// the entries of the higher levels are cascaded down to the finer ones
+			for (final Entry entry : due) {
+				entry.bucket = null;
+				if (entry.deadline <= now) {
+					entries.remove(entry.bridgeId, entry);
+					expired.add(entry.bridgeId);
+				} else {
+					add(entry);
+				}
+			}
+		} finally {
+			wheelLock.unlock();
+		}
+
+		return expired;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public int getScheduledCount() {
+		wheelLock.lock();
+		try {
+			return entries.size();
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// number of entries held by the wheel (including the imminent ones), it is the same as the scheduled count
+	public int getWheelEntryCount() {
+		wheelLock.lock();
+		try {
+			return wheel == null ? 0 : wheel.entryCount() + imminent.size();
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// keyset paging, so the bridges created during the rebuild are neither skipped nor cause duplicates (scheduling is idempotent anyway)
+	private void rebuild() {
+		logger.debug("rebuild started...");
+
+		int count = 0;
+		try {
+			long lastId = 0;
+			List<BridgeHeader> page;
+			do {
+				page = dbService.getBridgeHeadersWithDiscoveries(lastId, chunkSize);
+				for (final BridgeHeader header : page) {
+					schedule(UUID.fromString(header.getUuid()), header.getCreatedAt());
+					lastId = header.getId();
+				}
+
+				count += page.size();
+			} while (page.size() == chunkSize);
+
+			logger.info("Discovery expiry timing wheel is initialized with {} bridge(s).", count);
+		} catch (final Exception ex) {
+			// the cleaner job will take care of the missing bridges
+			logger.debug(ex);
+			logger.error("Discovery expiry timing wheel rebuild error (after {} bridge(s)): {}", count, ex.getMessage());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// wheelLock must be held
+	private void add(final Entry entry) {
+		if (!wheel.add(entry)) {
+			// deadline is inside the current tick (or already passed): handled by the next expiry round
+			imminent.add(entry);
+			entry.bucket = imminent;
+		}
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	// identity based equality, so the entries of a rescheduled bridge are never confused
+	private static final class Entry {
+
+		//=================================================================================================
+		// members
+
+		private final UUID bridgeId;
+		private final long deadline; // epoch millis
+		private Set<Entry> bucket; // the slot (or the imminent set) that holds the entry, guarded by wheelLock
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private Entry(final UUID bridgeId, final long deadline) {
+			this.bridgeId = bridgeId;
+			this.deadline = deadline;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		// wheelLock must be held
+		private void detach() {
+			if (bucket != null) {
+				bucket.remove(this);
+				bucket = null;
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// One level of the hierarchical timing wheel. A slot of a level covers 'tick' milliseconds and the whole level covers 'tick * size' milliseconds, which is the tick of the
+	// next (lazily created) level. Adding is O(1); advancing drains the slots passed since the last advance on every level, and the drained entries are added again by the
+	// caller, so they cascade down to the finer levels until they expire.
+	private static final class TimingWheel {
+
+		//=================================================================================================
+		// members
+
+		private final long tick;
+		private final int size;
+		private final long interval;
+		private final List<Set<Entry>> slots;
+		private long currentTime; // always a multiple of tick
+		private TimingWheel overflow;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private TimingWheel(final long tick, final int size, final long startTime) {
+			this.tick = tick;
+			this.size = size;
+			this.interval = tick * size;
+			this.currentTime = startTime - startTime % tick;
+			this.slots = new ArrayList<>(size);
+			for (int i = 0; i < size; ++i) {
+				slots.add(new LinkedHashSet<>());
+			}
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		// returns false if the deadline is inside the current tick of this level
+		private boolean add(final Entry entry) {
+			if (entry.deadline < currentTime + tick) {
+				return false;
+			}
+
+			if (entry.deadline < currentTime + interval) {
+				final Set<Entry> slot = slots.get((int) ((entry.deadline / tick) % size));
+				slot.add(entry);
+				entry.bucket = slot;
+				return true;
+			}
+
+			if (overflow == null) {
+				overflow = new TimingWheel(interval, size, currentTime);
+			}
+
+			// the overflow level is never ahead of this one, so it can always accept the entry
+			return overflow.add(entry);
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private void advance(final long now, final List<Entry> drained) {
+			if (now >= currentTime + tick) {
+				final long newTime = now - now % tick;
+				final long passedSlots = Math.min((newTime - currentTime) / tick, size);
+				for (long i = 1; i <= passedSlots; ++i) {
+					final Set<Entry> slot = slots.get((int) (((currentTime + i * tick) / tick) % size));
+					drained.addAll(slot);
+					slot.clear();
+				}
+
+				currentTime = newTime;
+			}
+
+			if (overflow != null) {
+				overflow.advance(now, drained);
+			}
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private int entryCount() {
+			int count = 0;
+			for (final Set<Entry> slot : slots) {
+				count += slot.size();
+			}
+
+			return overflow == null ? count : count + overflow.entryCount();
+		}
+	}
+}
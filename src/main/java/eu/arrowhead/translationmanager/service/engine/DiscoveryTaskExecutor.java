@@ -0,0 +1,340 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class DiscoveryTaskExecutor {
+
+	//=================================================================================================
+	// members
+
+	private static final String THREAD_NAME_PREFIX = "discovery-worker-";
+	private static final long NOT_STARTED = Long.MIN_VALUE;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_PARALLELISM_WD)
+	private int parallelism;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_CALL_TIMEOUT_WD)
+	private long callTimeout;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_QUEUE_TIMEOUT_WD)
+	private long queueTimeout;
+
+	private ExecutorService executor;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		if (parallelism > 0) {
+			final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+			threadFactory.setDaemon(true);
+			executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+			logger.info("Discovery task executor is initialized with {} threads.", parallelism);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	public void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isParallel() {
+		return executor != null;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Starts the task in the background. Only works in parallel mode.
+	public <R> Future<R> submit(final Supplier<R> task) {
+		logger.debug("submit started...");
+		Assert.notNull(task, "task is null");
+		Assert.state(executor != null, "Executor is not initialized");
+
+		return executor.submit(() -> task.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Waits (at most for the call timeout) for a background task started by submit(). The fallback value is returned if the task is failed or not finished in time, so the
+	// caller can decide to do the work itself.
+	public <R> R getOrDefault(final Future<R> future, final R fallback) {
+		logger.debug("getOrDefault started...");
+		Assert.notNull(future, "future is null");
+
+		try {
+			return future.get(callTimeout, TimeUnit.MILLISECONDS);
+		} catch (final TimeoutException ex) {
+			logger.warn("A background discovery task is cancelled because of timeout");
+			future.cancel(true);
+
+			return fallback;
+		} catch (final ExecutionException ex) {
+			logger.debug("A background discovery task is failed: {}", ex.getCause().getMessage());
+
+			return fallback;
+		} catch (final InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+
+			throw new InternalServerError("Discovery is interrupted");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Applies the task to every input and returns the results in the order of the inputs. In parallel mode, a task that is not finished in time (measured from its start)
+	// or not started in time (measured from the call) is cancelled and the fallback value is used as its result. Runtime exceptions thrown by the tasks are propagated to
+	// the caller in both modes.
+	public <T, R> List<R> invokeAll(final List<T> inputs, final Function<T, R> task, final R fallback) {
+		logger.debug("invokeAll started...");
+		Assert.notNull(inputs, "inputs list is null");
+		Assert.notNull(task, "task is null");
+
+		if (executor == null || inputs.size() < 2) {
+			// no need to use other threads
+			return inputs
+					.stream()
+					.map(task)
+					.toList();
+		}
+
+		// the pool is shared by the concurrent discoveries, so the time window of a task starts when the task is actually started (not when it is queued), but the time
+		// spent in the queue is also limited
+		final long submittedAt = System.nanoTime();
+		final List<Future<R>> futures = new ArrayList<>(inputs.size());
+		final List<AtomicLong> startTimes = new ArrayList<>(inputs.size());
+		inputs.forEach(input -> {
+			final AtomicLong startTime = new AtomicLong(NOT_STARTED);
+			startTimes.add(startTime);
+			futures.add(executor.submit(() -> {
+				startTime.set(System.nanoTime());
+				return task.apply(input);
+			}));
+		});
+
+		final List<R> result = new ArrayList<>(inputs.size());
+		for (int i = 0; i < futures.size(); ++i) {
+			result.add(waitForResult(futures.get(i), startTimes.get(i), submittedAt, fallback, futures));
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Returns the first input (in the order of completion) that satisfies the condition or null if there is no such input. In parallel mode, the remaining tests are
+	// cancelled as soon as one of them succeeds and tests that are not finished in time (measured from their start) or not started in time (measured from the call) are
+	// considered failed. Runtime exceptions thrown by the tests are propagated to the caller in both modes.
+	public <T> T findFirst(final List<T> inputs, final Predicate<T> condition) {
+		logger.debug("findFirst started...");
+		Assert.notNull(inputs, "inputs list is null");
+		Assert.notNull(condition, "condition is null");
+
+		if (executor == null || inputs.size() < 2) {
+			// no need to use other threads
+			return inputs
+					.stream()
+					.filter(condition)
+					.findFirst()
+					.orElse(null);
+		}
+
+		// same time windows as in invokeAll: the test must be started in time, then finished in time
+		final long submittedAt = System.nanoTime();
+		final CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		final List<Future<T>> futures = new ArrayList<>(inputs.size());
+		final List<AtomicLong> startTimes = new ArrayList<>(inputs.size());
+		inputs.forEach(input -> {
+			final AtomicLong startTime = new AtomicLong(NOT_STARTED);
+			startTimes.add(startTime);
+			futures.add(completionService.submit(() -> {
+				startTime.set(System.nanoTime());
+				return condition.test(input) ? input : null;
+			}));
+		});
+
+		try {
+			// a cancelled test only gets into the completion queue when a thread picks it up, so cancelled tests are removed from here directly
+			final Set<Future<T>> pending = new HashSet<>(futures);
+			while (!pending.isEmpty()) {
+				final Future<T> future = completionService.poll(getWaitTime(futures, startTimes, submittedAt), TimeUnit.NANOSECONDS);
+				if (future == null) {
+					cancelOverdue(futures, startTimes, submittedAt);
+					pending.removeIf(f -> f.isCancelled());
+					continue;
+				}
+
+				if (!pending.remove(future) || future.isCancelled()) {
+					continue;
+				}
+
+				final T result = future.get();
+				if (result != null) {
+					return result;
+				}
+			}
+
+			return null;
+		} catch (final ExecutionException ex) {
+			if (ex.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+
+			throw new InternalServerError(Utilities.isEmpty(ex.getCause().getMessage()) ? "Discovery task error" : ex.getCause().getMessage());
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+
+			throw new InternalServerError("Discovery is interrupted");
+		} finally {
+			// the winner (if any) is already completed, so this only stops the losers
+			cancelAll(futures);
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// a task still in the queue is waited for until the queue timeout, then it is cancelled (so it will never be started)
+	private <R> R waitForResult(final Future<R> future, final AtomicLong startTime, final long submittedAt, final R fallback, final List<Future<R>> allFutures) {
+		final long timeoutInNanos = TimeUnit.MILLISECONDS.toNanos(callTimeout);
+		final long queueTimeoutInNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+
+		try {
+			while (true) {
+				// a queued task is checked at least once in every call timeout, so its start is noticed in time
+				final long started = startTime.get();
+				final long waitTime = started == NOT_STARTED
+						? Math.min(timeoutInNanos, submittedAt + queueTimeoutInNanos - System.nanoTime())
+						: started + timeoutInNanos - System.nanoTime();
+				try {
+					return future.get(Math.max(0, waitTime), TimeUnit.NANOSECONDS);
+				} catch (final TimeoutException ex) {
+					if (isOverdue(startTime.get(), timeoutInNanos)) {
+						logger.warn("A discovery task is cancelled because of timeout");
+						future.cancel(true);
+
+						return fallback;
+					}
+
+					if (isQueueOverdue(startTime.get(), submittedAt, queueTimeoutInNanos) && future.cancel(true)) {
+						// if the cancellation failed, the task is just finished, so its result is available in the next round
+						logger.warn("A discovery task is cancelled because it is not started in time");
+
+						return fallback;
+					}
+				}
+			}
+		} catch (final ExecutionException ex) {
+			cancelAll(allFutures);
+			if (ex.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+
+			throw new InternalServerError(Utilities.isEmpty(ex.getCause().getMessage()) ? "Discovery task error" : ex.getCause().getMessage());
+		} catch (final InterruptedException ex) {
+			cancelAll(allFutures);
+			Thread.currentThread().interrupt();
+
+			throw new InternalServerError("Discovery is interrupted");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// time until the first unfinished task becomes overdue (running tasks by the call timeout, queued tasks by the queue timeout)
+	private <R> long getWaitTime(final List<Future<R>> futures, final List<AtomicLong> startTimes, final long submittedAt) {
+		final long timeoutInNanos = TimeUnit.MILLISECONDS.toNanos(callTimeout);
+		final long queueTimeoutInNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+		final long now = System.nanoTime();
+
+		long result = timeoutInNanos;
+		for (int i = 0; i < futures.size(); ++i) {
+			if (!futures.get(i).isDone()) {
+				final long started = startTimes.get(i).get();
+				result = Math.min(result, started == NOT_STARTED ? submittedAt + queueTimeoutInNanos - now : started + timeoutInNanos - now);
+			}
+		}
+
+		return Math.max(0, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private <R> void cancelOverdue(final List<Future<R>> futures, final List<AtomicLong> startTimes, final long submittedAt) {
+		final long timeoutInNanos = TimeUnit.MILLISECONDS.toNanos(callTimeout);
+		final long queueTimeoutInNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+		for (int i = 0; i < futures.size(); ++i) {
+			final Future<R> future = futures.get(i);
+			if (!future.isDone() && isOverdue(startTimes.get(i).get(), timeoutInNanos)) {
+				logger.warn("A discovery task is cancelled because of timeout");
+				future.cancel(true);
+			} else if (!future.isDone() && isQueueOverdue(startTimes.get(i).get(), submittedAt, queueTimeoutInNanos)) {
+				logger.warn("A discovery task is cancelled because it is not started in time");
+				future.cancel(true);
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isOverdue(final long startTime, final long timeoutInNanos) {
+		return startTime != NOT_STARTED && System.nanoTime() - startTime >= timeoutInNanos;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isQueueOverdue(final long startTime, final long submittedAt, final long queueTimeoutInNanos) {
+		return startTime == NOT_STARTED && System.nanoTime() - submittedAt >= queueTimeoutInNanos;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private <R> void cancelAll(final List<Future<R>> futures) {
+		futures.forEach(f -> f.cancel(true));
+	}
+}
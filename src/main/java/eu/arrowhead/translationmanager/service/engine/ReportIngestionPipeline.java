@@ -0,0 +1,273 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.service.TranslationReportService;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Asynchronous ingestion of the (already validated) reports that are received via MQTT, so a burst of reports does not block the MQTT client. There is a fixed number of
+// consumer threads and every consumer has its own ring buffer. Every bridge belongs to exactly one consumer, so the reports of the same bridge are processed in the order
+// of their arrival, and a slow consumer only fills its own buffer. A consumer collects the reports of its bridges and hands them over in batches.
+// Note that a successfully queued report can still be rejected during the processing, these rejections are only logged and counted.
+@Component
+@ConditionalOnProperty(name = Constants.MQTT_API_ENABLED, matchIfMissing = false)
+public class ReportIngestionPipeline {
+
+	//=================================================================================================
+	// members
+
+	private static final String THREAD_NAME_PREFIX = "report-ingestion-";
+	private static final long PUBLISH_RETRY_PAUSE = TimeUnit.MICROSECONDS.toNanos(100);
+	private static final long SHUTDOWN_TIMEOUT = 10; // in seconds
+
+	private static final EventTranslatorOneArg<ReportEvent, NormalizedTranslationReportRequestDTO> TRANSLATOR = (event, sequence, report) -> event.report = report;
+
+	@Value(TranslationManagerConstants.$REPORT_INGESTION_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(TranslationManagerConstants.$REPORT_INGESTION_BUFFER_SIZE_WD)
+	private int bufferSize;
+
+	@Value(TranslationManagerConstants.$REPORT_INGESTION_CONSUMERS_WD)
+	private int consumers;
+
+	@Value(TranslationManagerConstants.$REPORT_INGESTION_MAX_BATCH_SIZE_WD)
+	private int maxBatchSize;
+
+	@Value(TranslationManagerConstants.$REPORT_INGESTION_PUBLISH_TIMEOUT_WD)
+	private long publishTimeout;
+
+	@Autowired
+	private TranslationReportService reportService;
+
+	private List<Disruptor<ReportEvent>> disruptors;
+	private List<RingBuffer<ReportEvent>> ringBuffers;
+
+	private final AtomicLong publishedCount = new AtomicLong(0);
+	private final AtomicLong droppedCount = new AtomicLong(0);
+	private final AtomicLong processedCount = new AtomicLong(0);
+	private final AtomicLong rejectedCount = new AtomicLong(0);
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+
+		Assert.isTrue(consumers > 0, "Number of report ingestion consumers must be positive");
+		Assert.isTrue(maxBatchSize > 0, "Report ingestion batch size must be positive");
+
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+
+		final List<Disruptor<ReportEvent>> shardDisruptors = new ArrayList<>(consumers);
+		final List<RingBuffer<ReportEvent>> shardRingBuffers = new ArrayList<>(consumers);
+		for (int i = 0; i < consumers; ++i) {
+			final Disruptor<ReportEvent> disruptor = new Disruptor<>(ReportEvent::new, bufferSize, threadFactory, ProducerType.MULTI, new BlockingWaitStrategy());
+			disruptor.handleEventsWith(new ShardConsumer());
+			shardRingBuffers.add(disruptor.start());
+			shardDisruptors.add(disruptor);
+		}
+
+		disruptors = shardDisruptors;
+		ringBuffers = shardRingBuffers;
+		logger.info("Report ingestion pipeline is initialized with {} consumers and a buffer of {} reports per consumer.", consumers, bufferSize);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	public void destroy() {
+		if (disruptors == null) {
+			return;
+		}
+
+		final List<Disruptor<ReportEvent>> toShutdown = disruptors;
+		disruptors = null;
+		ringBuffers = null;
+		for (final Disruptor<ReportEvent> disruptor : toShutdown) {
+			try {
+				// waits for the queued reports to be processed
+				disruptor.shutdown(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+			} catch (final TimeoutException ex) {
+				logger.warn("Report ingestion consumer is halted with unprocessed reports");
+				disruptor.halt();
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isEnabled() {
+		return ringBuffers != null;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Queues the report. If the queue is full, waits at most for the publish timeout, then rejects the report.
+	public void publish(final NormalizedTranslationReportRequestDTO report, final String origin) {
+		logger.debug("publish started...");
+		Assert.notNull(report, "report is null");
+		Assert.notNull(report.bridgeId(), "bridgeId is null");
+		final List<RingBuffer<ReportEvent>> shardRingBuffers = ringBuffers;
+		Assert.state(shardRingBuffers != null, "Report ingestion pipeline is not initialized");
+
+		final RingBuffer<ReportEvent> ringBuffer = shardRingBuffers.get(Math.floorMod(report.bridgeId().hashCode(), shardRingBuffers.size()));
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(publishTimeout);
+		while (!ringBuffer.tryPublishEvent(TRANSLATOR, report)) {
+			if (System.nanoTime() - deadline >= 0) {
+				droppedCount.incrementAndGet();
+				logger.warn("Report of bridge {} is rejected because the report queue is full", report.bridgeId());
+
+				throw new InternalServerError("Report queue is full", origin);
+			}
+
+			LockSupport.parkNanos(PUBLISH_RETRY_PAUSE);
+		}
+
+		publishedCount.incrementAndGet();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getQueueDepth() {
+		final List<RingBuffer<ReportEvent>> shardRingBuffers = ringBuffers;
+		if (shardRingBuffers == null) {
+			return 0;
+		}
+
+		long depth = 0;
+		for (final RingBuffer<ReportEvent> ringBuffer : shardRingBuffers) {
+			depth += ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+		}
+
+		return depth;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getPublishedCount() {
+		return publishedCount.get();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getProcessedCount() {
+		return processedCount.get();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class ReportEvent {
+
+		//=================================================================================================
+		// members
+
+		private NormalizedTranslationReportRequestDTO report;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the only consumer of its ring buffer
+	private final class ShardConsumer implements EventHandler<ReportEvent> {
+
+		//=================================================================================================
+		// members
+
+		private final List<NormalizedTranslationReportRequestDTO> batch = new ArrayList<>();
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public void onEvent(final ReportEvent event, final long sequence, final boolean endOfBatch) {
+			batch.add(event.report);
+			event.report = null;
+
+			if (endOfBatch || batch.size() >= maxBatchSize) {
+				processBatch();
+			}
+		}
+
+		//=================================================================================================
+		// assistant methods
+
+		//-------------------------------------------------------------------------------------------------
+		private void processBatch() {
+			try {
+				final List<ArrowheadException> results = reportService.processReports(batch);
+				for (int i = 0; i < results.size(); ++i) {
+					final ArrowheadException error = results.get(i);
+					if (error != null) {
+						rejectedCount.incrementAndGet();
+						// the sender already got a successful response, so this is the only trace of the rejection
+						logger.warn("Queued report of bridge {} is rejected: {}", batch.get(i).bridgeId(), error.getMessage());
+					}
+				}
+			} catch (final Exception ex) {
+				// the consumer must survive anything
+				rejectedCount.addAndGet(batch.size());
+				logger.error("Unable to process {} queued report(s) of bridge(s) {}: {}", batch.size(), batch.stream().map(report -> report.bridgeId()).distinct().toList(), ex.getMessage());
+				logger.debug(ex);
+			} finally {
+				processedCount.addAndGet(batch.size());
+				batch.clear();
+			}
+		}
+	}
+}
@@ -19,15 +19,21 @@ package eu.arrowhead.translationmanager.service.engine;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
@@ -59,23 +65,42 @@ import eu.arrowhead.dto.enums.TranslationDiscoveryFlag;
 import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.TranslationManagerSystemInfo;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDiscovery;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.AbortResult;
+import eu.arrowhead.translationmanager.service.cache.CacheOwner;
+import eu.arrowhead.translationmanager.service.cache.ExpiringLruCache;
 import eu.arrowhead.translationmanager.service.dto.DTOConverter;
 import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationDiscoveryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.TranslationDiscoveryModel;
 import eu.arrowhead.translationmanager.service.matchmaking.DataModelTranslatorMatchmaker;
 import eu.arrowhead.translationmanager.service.matchmaking.InterfaceTranslatorMatchmaker;
+import jakarta.annotation.PostConstruct;
 
 @Service
-public class TranslatorBridgeEngine {
+public class TranslatorBridgeEngine implements CacheOwner {
 
 	//=================================================================================================
 	// members
 
+	public static final String DISCOVERY_MEMO_NAME = "discoveryResult";
+
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
+	@Value(TranslationManagerConstants.$DISCOVERY_PIPELINED_WD)
+	private boolean pipelined;
+
+	@Value(TranslationManagerConstants.$DISCOVERY_MEMO_TTL_WD)
+	private int discoveryMemoTimeToLive; // in seconds
+
+	@Value(TranslationManagerConstants.$DISCOVERY_MEMO_MAX_SIZE_WD)
+	private int discoveryMemoMaxSize;
+
+	// request content => computed discovery models; disabled until initialization
+	private ExpiringLruCache<DiscoveryMemoKey, List<TranslationDiscoveryModel>> discoveryMemo = new ExpiringLruCache<>(DISCOVERY_MEMO_NAME, 0, 0);
+
 	@Autowired
 	private CoreSystemsDriver csDriver;
 
@@ -106,9 +131,27 @@ public class TranslatorBridgeEngine {
 	@Autowired
 	private TranslationManagerSystemInfo sysInfo;
 
+	@Autowired
+	private DiscoveryTaskExecutor taskExecutor;
+
+	@Autowired
+	private DiscoveryExpiryScheduler expiryScheduler;
+
 	//=================================================================================================
 	// methods
 
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		discoveryMemo = new ExpiringLruCache<>(DISCOVERY_MEMO_NAME, discoveryMemoMaxSize, TimeUnit.SECONDS.toMillis(discoveryMemoTimeToLive));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public List<ExpiringLruCache<?, ?>> getManagedCaches() {
+		return List.of(discoveryMemo);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	public TranslationDiscoveryResponseDTO doDiscovery(final NormalizedTranslationDiscoveryRequestDTO dto, final Map<TranslationDiscoveryFlag, Boolean> discoveryFlags, final String origin) {
 		logger.debug("doDiscovery started...");
@@ -122,15 +165,31 @@ public class TranslatorBridgeEngine {
 			throw new ForbiddenException(dto.consumer() + " system is blacklisted", origin);
 		}
 
+		final DiscoveryContext context = new DiscoveryContext();
 		try {
+			// identical requests within a short time window get the same result (with a new bridge identifier)
+			final DiscoveryMemoKey memoKey = new DiscoveryMemoKey(
+					dto.candidates(),
+					dto.consumer(),
+					dto.operation(),
+					dto.interfaceTemplateNames(),
+					dto.inputDataModelId(),
+					dto.outputDataModelId(),
+					Map.copyOf(discoveryFlags));
+			final List<TranslationDiscoveryModel> memoized = discoveryMemo.get(memoKey);
+			if (memoized != null) {
+				logger.debug("Discovery result is reused");
+				return storeDiscoveryModels(dto.createdBy(), reuseDiscoveryModels(memoized));
+			}
+
 			// removing all candidates that not appropriate as a translation target
-			final List<NormalizedServiceInstanceDTO> candidates = filterCandidates(dto, discoveryFlags);
+			final List<NormalizedServiceInstanceDTO> candidates = filterCandidates(dto, discoveryFlags, context);
 			if (candidates.isEmpty()) {
 				return new TranslationDiscoveryResponseDTO(null, List.of());
 			}
 
 			// collecting interface translator candidates
-			final List<ServiceInstanceResponseDTO> appropriateInterfaceTranslatorCandidates = collectAppropriateInterfaceTranslators(dto, discoveryFlags, candidates);
+			final List<ServiceInstanceResponseDTO> appropriateInterfaceTranslatorCandidates = collectAppropriateInterfaceTranslators(dto, discoveryFlags, candidates, context);
 			if (appropriateInterfaceTranslatorCandidates.isEmpty()) {
 				return new TranslationDiscoveryResponseDTO(null, List.of());
 			}
@@ -164,16 +223,17 @@ public class TranslatorBridgeEngine {
 				// we don't return if no candidate is available at this point because data model translator factories may create the necessary translators
 
 				// adding data model translators to models
-				models = extendDiscoveryModels(models, dataModelTranslatorCandidates, discoveryFlags);
+				models = extendDiscoveryModels(models, dataModelTranslatorCandidates, discoveryFlags, context);
 				if (models.isEmpty()) {
 					return new TranslationDiscoveryResponseDTO(null, List.of());
 				}
 			}
 
-			final UUID bridgeId = UUID.randomUUID();
-			dbService.storeBridgeDiscoveries(bridgeId, dto.createdBy(), models);
+			if (discoveryMemo.isEnabled()) {
+				discoveryMemo.put(memoKey, models.stream().map(TranslationDiscoveryModel::new).toList());
+			}
 
-			return converter.convertDiscoveryModels(bridgeId, models);
+			return storeDiscoveryModels(dto.createdBy(), models);
 		} catch (final AuthException ex) {
 			throw new AuthException(ex.getMessage(), origin);
 		} catch (final ForbiddenException ex) {
@@ -184,6 +244,9 @@ public class TranslatorBridgeEngine {
 			throw new ExternalServerError(ex.getMessage(), origin);
 		} catch (final Exception ex) {
 			throw new InternalServerError(ex.getMessage(), origin);
+		} finally {
+			// speculative work is useless after the discovery
+			context.cancelPrefetches();
 		}
 	}
 
@@ -198,6 +261,7 @@ public class TranslatorBridgeEngine {
 		try {
 			final Pair<TranslationDiscoveryModel, BridgeDetails> bridgePair = dbService.selectBridgeFromDiscoveries(bridgeId, targetInstanceId);
 			storeException = true;
+			expiryScheduler.cancel(bridgeId); // discovery records are already removed
 			final TranslationDiscoveryModel model = bridgePair.getFirst();
 			final BridgeDetails detailsRecord = bridgePair.getSecond();
 
@@ -343,7 +407,50 @@ public class TranslatorBridgeEngine {
 	// assistant methods
 
 	//-------------------------------------------------------------------------------------------------
-	private List<NormalizedServiceInstanceDTO> filterCandidates(final NormalizedTranslationDiscoveryRequestDTO dto, final Map<TranslationDiscoveryFlag, Boolean> discoveryFlags) {
+	private TranslationDiscoveryResponseDTO storeDiscoveryModels(final String createdBy, final List<TranslationDiscoveryModel> models) {
+		logger.debug("storeDiscoveryModels started...");
+
+		final UUID bridgeId = UUID.randomUUID();
+		final Pair<BridgeHeader, List<BridgeDiscovery>> stored = dbService.storeBridgeDiscoveries(bridgeId, createdBy, models);
+		expiryScheduler.schedule(bridgeId, stored.getFirst().getCreatedAt()); // same deadline as the one the cleaner job uses
+
+		return converter.convertDiscoveryModels(bridgeId, models);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<TranslationDiscoveryModel> reuseDiscoveryModels(final List<TranslationDiscoveryModel> memoized) {
+		logger.debug("reuseDiscoveryModels started...");
+
+		final List<TranslationDiscoveryModel> models = memoized
+				.stream()
+				.map(TranslationDiscoveryModel::new)
+				.toList();
+
+		// usage limited tokens can't be shared between bridges, so every reused result needs its own tokens
+		final Map<String, String> tokenPolicies = new HashMap<>();
+		models.forEach(m -> {
+			if (m.getInterfaceTranslatorToken() != null) {
+				tokenPolicies.put(m.getInterfaceTranslator(), m.getInterfaceTranslatorPolicy());
+			}
+		});
+
+		if (!tokenPolicies.isEmpty()) {
+			final Map<String, String> tokens = csDriver.generateTokenForManagerToInterfaceBridgeManagementService(tokenPolicies);
+			models.forEach(m -> {
+				if (m.getInterfaceTranslatorToken() != null) {
+					m.setInterfaceTranslatorToken(tokens.get(m.getInterfaceTranslator()));
+				}
+			});
+		}
+
+		return models;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<NormalizedServiceInstanceDTO> filterCandidates(
+			final NormalizedTranslationDiscoveryRequestDTO dto,
+			final Map<TranslationDiscoveryFlag, Boolean> discoveryFlags,
+			final DiscoveryContext context) {
 		logger.debug("filterCandidates started...");
 
 		List<NormalizedServiceInstanceDTO> candidates = filterOutNotAppropriateCandidates(dto);
@@ -351,39 +458,36 @@ public class TranslatorBridgeEngine {
 			return List.of();
 		}
 
+		if (pipelined && taskExecutor.isParallel()) {
+			// the interface translator lookup only depends on the interface templates, so it can run while the Core systems filter the candidates
+			final List<NormalizedServiceInstanceDTO> speculativeTargets = candidates;
+			context.setInterfaceTranslatorPrefetch(
+					speculativeTargets,
+					taskExecutor.submit(() -> csDriver.collectInterfaceTranslatorCandidates(dto.interfaceTemplateNames(), speculativeTargets)));
+		}
+
+		final List<SystemFilter> filters = new ArrayList<>(2);
 		if (discoveryFlags.getOrDefault(TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, false)) {
 			// blacklist check for the remaining candidates
-			final List<String> notBlacklistedProviders = csDriver.filterOutBlacklistedSystems(candidates
-					.stream()
-					.map(c -> c.provider())
-					.toList());
-
-			if (notBlacklistedProviders.isEmpty()) {
-				return List.of();
-			} else {
-				candidates = candidates
-						.stream()
-						.filter(c -> notBlacklistedProviders.contains(c.provider()))
-						.toList();
-			}
+			filters.add(blacklistFilter());
 		}
 
 		if (discoveryFlags.getOrDefault(TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false)) {
 			// authorization check that the consumer have access to providers' service/operation combination
-			final List<String> allowedProviders = csDriver.filterOutProvidersBecauseOfUnauthorization(
-					candidates.stream().map(c -> c.provider()).toList(),
-					dto.consumer(),
-					candidates.get(0).serviceDefinition(),
-					dto.operation());
+			final String serviceDefinition = candidates.get(0).serviceDefinition();
+			filters.add(authorizationFilter(providers -> csDriver.filterOutProvidersBecauseOfUnauthorization(providers, dto.consumer(), serviceDefinition, dto.operation())));
+		}
 
+		if (!filters.isEmpty()) {
+			final List<String> allowedProviders = applyIndependentFilters(candidates.stream().map(c -> c.provider()).toList(), filters);
 			if (allowedProviders.isEmpty()) {
 				return List.of();
-			} else {
-				candidates = candidates
-						.stream()
-						.filter(c -> allowedProviders.contains(c.provider()))
-						.toList();
 			}
+
+			candidates = candidates
+					.stream()
+					.filter(c -> allowedProviders.contains(c.provider()))
+					.toList();
 		}
 
 		return candidates;
@@ -511,50 +615,37 @@ public class TranslatorBridgeEngine {
 	private List<ServiceInstanceResponseDTO> collectAppropriateInterfaceTranslators(
 			final NormalizedTranslationDiscoveryRequestDTO dto,
 			final Map<TranslationDiscoveryFlag, Boolean> discoveryFlags,
-			final List<NormalizedServiceInstanceDTO> candidates) {
+			final List<NormalizedServiceInstanceDTO> candidates,
+			final DiscoveryContext context) {
 		logger.debug("collectAppropriateInterfaceTranslators started...");
 
-		List<ServiceInstanceResponseDTO> interfaceTranslatorCandidates = csDriver.collectInterfaceTranslatorCandidates(dto.interfaceTemplateNames(), candidates);
+		List<ServiceInstanceResponseDTO> interfaceTranslatorCandidates = lookupInterfaceTranslatorCandidates(dto, candidates, context);
 		if (interfaceTranslatorCandidates.isEmpty()) {
 			return List.of();
 		}
 
+		final List<SystemFilter> filters = new ArrayList<>(2);
 		if (discoveryFlags.getOrDefault(TranslationDiscoveryFlag.TRANSLATORS_BLACKLIST_CHECK, false)) {
 			// blacklist check for the interface translator candidates
-			final List<String> notBlacklistedInterfaceTranslators = csDriver.filterOutBlacklistedSystems(interfaceTranslatorCandidates
-					.stream()
-					.map(c -> c.provider().name())
-					.toList());
-
-			if (notBlacklistedInterfaceTranslators.isEmpty()) {
-				return List.of();
-			} else {
-				interfaceTranslatorCandidates = interfaceTranslatorCandidates
-						.stream()
-						.filter(c -> notBlacklistedInterfaceTranslators.contains(c.provider().name()))
-						.toList();
-			}
+			filters.add(blacklistFilter());
 		}
 
 		if (discoveryFlags.getOrDefault(TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false)) {
 			// authorization check that the TranslationManager has access to interface translators' service
-			final List<String> allowedInterfaceTranslators = csDriver.filterOutProvidersBecauseOfUnauthorization(
-					interfaceTranslatorCandidates
-							.stream()
-							.map(c -> c.provider().name())
-							.toList(),
-					sysInfo.getSystemName(),
-					Constants.SERVICE_DEF_INTERFACE_BRIDGE_MANAGEMENT,
-					null);
+			filters.add(authorizationFilter(
+					translators -> csDriver.filterOutProvidersBecauseOfUnauthorization(translators, sysInfo.getSystemName(), Constants.SERVICE_DEF_INTERFACE_BRIDGE_MANAGEMENT, null)));
+		}
 
+		if (!filters.isEmpty()) {
+			final List<String> allowedInterfaceTranslators = applyIndependentFilters(interfaceTranslatorCandidates.stream().map(c -> c.provider().name()).toList(), filters);
 			if (allowedInterfaceTranslators.isEmpty()) {
 				return List.of();
-			} else {
-				interfaceTranslatorCandidates = interfaceTranslatorCandidates
-						.stream()
-						.filter(c -> allowedInterfaceTranslators.contains(c.provider().name()))
-						.toList();
 			}
+
+			interfaceTranslatorCandidates = interfaceTranslatorCandidates
+					.stream()
+					.filter(c -> allowedInterfaceTranslators.contains(c.provider().name()))
+					.toList();
 		}
 
 		// authorization check for the interface translators (regarding the consumer) are not necessary, because they "create" a new service/operation for the consumer
@@ -563,6 +654,89 @@ public class TranslatorBridgeEngine {
 		return interfaceTranslatorCandidates;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	private List<ServiceInstanceResponseDTO> lookupInterfaceTranslatorCandidates(
+			final NormalizedTranslationDiscoveryRequestDTO dto,
+			final List<NormalizedServiceInstanceDTO> candidates,
+			final DiscoveryContext context) {
+		logger.debug("lookupInterfaceTranslatorCandidates started...");
+
+		if (context.getInterfaceTranslatorPrefetch() != null) {
+			final List<ServiceInstanceResponseDTO> prefetched = taskExecutor.getOrDefault(context.getInterfaceTranslatorPrefetch(), null);
+			if (prefetched != null) {
+				if (context.getInterfaceTranslatorPrefetchTargets().equals(candidates)) {
+					return prefetched;
+				}
+
+				// the prefetch was done for a wider target list, the translators of the filtered out targets must be removed
+				return csDriver.filterInterfaceTranslatorCandidates(prefetched, dto.interfaceTemplateNames(), candidates);
+			}
+
+			// failed or timed out prefetch: doing the lookup again, so errors are handled the same way as in the non-pipelined mode
+		}
+
+		return csDriver.collectInterfaceTranslatorCandidates(dto.interfaceTemplateNames(), candidates);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Returns the system names that pass all the filters (in the original order). The filters are independent reads (e.g. blacklist and authorization), so if the discovery
+	// executor is available they run concurrently on the full list and their results are intersected. Otherwise they run one after the other on the remaining names and an
+	// empty intermediate result skips the rest. A filter that is not finished in time is handled the same way as its call timeout in the sequential mode.
+	private List<String> applyIndependentFilters(final List<String> systemNames, final List<SystemFilter> filters) {
+		logger.debug("applyIndependentFilters started...");
+
+		if (!taskExecutor.isParallel() || filters.size() < 2) {
+			List<String> remaining = systemNames;
+			for (final SystemFilter filter : filters) {
+				remaining = filter.filter().apply(remaining);
+				if (remaining.isEmpty()) {
+					return List.of();
+				}
+			}
+
+			return remaining;
+		}
+
+		// null result means timeout (the filters never return null)
+		final List<List<String>> results = taskExecutor.invokeAll(filters, filter -> filter.filter().apply(systemNames), null);
+
+		final List<Set<String>> passedSets = new ArrayList<>(results.size());
+		for (int i = 0; i < results.size(); ++i) {
+			final List<String> passed = results.get(i) == null ? filters.get(i).timeoutHandler().apply(systemNames) : results.get(i);
+			if (passed.isEmpty()) {
+				return List.of();
+			}
+
+			passedSets.add(new HashSet<>(passed));
+		}
+
+		return systemNames
+				.stream()
+				.filter(name -> passedSets.stream().allMatch(set -> set.contains(name)))
+				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// an unanswered blacklist check is handled as an unavailable blacklist server (depends on the force.blacklist.filter setting)
+	private SystemFilter blacklistFilter() {
+		return new SystemFilter(
+				systemNames -> csDriver.filterOutBlacklistedSystems(systemNames),
+				systemNames -> {
+					logger.error("Blacklist check is not finished in time during the translation bridge process");
+					return csDriver.handleBlacklistUnavailability(systemNames);
+				});
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// an unanswered authorization check is an error (as a failed authorization request)
+	private SystemFilter authorizationFilter(final UnaryOperator<List<String>> filter) {
+		return new SystemFilter(
+				filter,
+				systemNames -> {
+					throw new ExternalServerError("Authorization check is not finished in time");
+				});
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings("unchecked")
 	private Map<String, List<Pair<ServiceInstanceResponseDTO, List<String>>>> calculateInterfaceTranslatorMap(
@@ -572,26 +746,38 @@ public class TranslatorBridgeEngine {
 			final List<NormalizedServiceInstanceDTO> targets) {
 		logger.debug("calculateInterfaceTranslatorMap started...");
 
-		final Map<String, List<Pair<ServiceInstanceResponseDTO, List<String>>>> result = new HashMap<>(targets.size());
+		// inverted index: template name => targets with such interface (in the original order)
+		final Map<String, List<NormalizedServiceInstanceDTO>> targetsByTemplateName = new HashMap<>();
+		targets.forEach(t -> t.interfaces()
+				.stream()
+				.map(intf -> intf.templateName())
+				.distinct()
+				.forEach(templateName -> targetsByTemplateName.computeIfAbsent(templateName, k -> new ArrayList<>()).add(t)));
+
+		final List<Pair<ServiceInstanceResponseDTO, List<NormalizedServiceInstanceDTO>>> checkJobs = new ArrayList<>(interfaceTranslators.size());
 		interfaceTranslators.forEach(itp -> {
 			final Map<String, Object> interfaceBridge = (Map<String, Object>) itp.metadata().get(Constants.METADATA_KEY_INTERFACE_BRIDGE);
 			final String toInterface = interfaceBridge.get(Constants.METADATA_KEY_TO).toString();
 
-			List<NormalizedServiceInstanceDTO> relatedTargets = targets
-					.stream()
-					.filter(t -> t.interfaces()
-							.stream()
-							.map(intf -> intf.templateName())
-							.toList()
-							.contains(toInterface))
-					.toList();
+			checkJobs.add(Pair.of(itp, targetsByTemplateName.getOrDefault(toInterface, List.of())));
+		});
+
+		// asking the interface translators at the same time (if allowed); a translator that is not answering in time can't be used (same as it returns with an error)
+		final List<List<NormalizedServiceInstanceDTO>> checkResults = taskExecutor.invokeAll(
+				checkJobs,
+				job -> itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(job.getFirst(), tokens.get(job.getFirst().provider().name()), targetOperation, job.getSecond()),
+				List.of());
 
-			relatedTargets = itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(itp, tokens.get(itp.provider().name()), targetOperation, relatedTargets);
-			relatedTargets.forEach(t -> {
+		// merging results in the order of the interface translators
+		final Map<String, List<Pair<ServiceInstanceResponseDTO, List<String>>>> result = new HashMap<>(targets.size());
+		for (int i = 0; i < checkJobs.size(); ++i) {
+			final ServiceInstanceResponseDTO itp = checkJobs.get(i).getFirst();
+			checkResults.get(i).forEach(t -> {
 				if (!result.containsKey(t.instanceId())) {
 					result.put(t.instanceId(), new ArrayList<>());
 				}
 
+				// the interfaces of the checked target are used, because the interface translator can narrow them
 				result.get(t.instanceId())
 						.add(Pair.of(
 								itp,
@@ -600,7 +786,7 @@ public class TranslatorBridgeEngine {
 										.map(intf -> intf.templateName())
 										.toList()));
 			});
-		});
+		}
 
 		return result;
 	}
@@ -758,9 +944,15 @@ public class TranslatorBridgeEngine {
 	private List<TranslationDiscoveryModel> extendDiscoveryModels(
 			final List<TranslationDiscoveryModel> models,
 			final List<ServiceInstanceResponseDTO> dataModelTranslatorCandidates,
-			final Map<TranslationDiscoveryFlag, Boolean> discoveryFlags) {
+			final Map<TranslationDiscoveryFlag, Boolean> discoveryFlags,
+			final DiscoveryContext context) {
 		logger.debug("extendDiscoveryModels started...");
 
+		// authorization check that the interface translators have access to data model translators' service (one request for all models)
+		final Map<String, List<String>> allowedDataModelTranslators = discoveryFlags.getOrDefault(TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false)
+				? collectAllowedDataModelTranslators(models, dataModelTranslatorCandidates)
+				: null;
+
 		final List<TranslationDiscoveryModel> result = new ArrayList<>(models.size());
 		models.forEach(m -> {
 			boolean keep = true;
@@ -770,12 +962,12 @@ public class TranslatorBridgeEngine {
 				ServiceInstanceResponseDTO selectedInputDataModelTranslator = selectDataModelTranslator(
 						m,
 						dataModelTranslatorCandidates,
-						discoveryFlags.getOrDefault(TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false),
+						allowedDataModelTranslators,
 						true);
 
 				if (selectedInputDataModelTranslator == null) {
 					// select a data model factory if possible
-					selectedInputDataModelTranslator = selectDataModelTranslatorFactoryIfPossible(m.getInputDataModelIdRequirement(), m.getTargetInputDataModelId());
+					selectedInputDataModelTranslator = selectDataModelTranslatorFactoryIfPossible(m.getInputDataModelIdRequirement(), m.getTargetInputDataModelId(), context);
 					isFactory = true;
 				}
 
@@ -794,12 +986,12 @@ public class TranslatorBridgeEngine {
 				ServiceInstanceResponseDTO selectedOutputDataModelTranslator = selectDataModelTranslator(
 						m,
 						dataModelTranslatorCandidates,
-						discoveryFlags.getOrDefault(TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false),
+						allowedDataModelTranslators,
 						false);
 
 				if (selectedOutputDataModelTranslator == null) {
 					// select a data model factory if possible
-					selectedOutputDataModelTranslator = selectDataModelTranslatorFactoryIfPossible(m.getTargetOutputDataModelId(), m.getOutputDataModelIdRequirement());
+					selectedOutputDataModelTranslator = selectDataModelTranslatorFactoryIfPossible(m.getTargetOutputDataModelId(), m.getOutputDataModelIdRequirement(), context);
 					isFactory = true;
 				}
 
@@ -821,12 +1013,39 @@ public class TranslatorBridgeEngine {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private ServiceInstanceResponseDTO selectDataModelTranslator(
+	// interface translator => data model translators that are accessible by the interface translator
+	private Map<String, List<String>> collectAllowedDataModelTranslators(final List<TranslationDiscoveryModel> models, final List<ServiceInstanceResponseDTO> dataModelTranslatorCandidates) {
+		logger.debug("collectAllowedDataModelTranslators started...");
+
+		final Map<String, Set<String>> toCheck = new HashMap<>();
+		models.forEach(m -> {
+			if (m.getInputDataModelIdRequirement() != null) {
+				collectRelatedDataModelTranslators(m, dataModelTranslatorCandidates, true)
+						.forEach(dmt -> toCheck.computeIfAbsent(m.getInterfaceTranslator(), k -> new LinkedHashSet<>()).add(dmt.provider().name()));
+			}
+
+			if (m.getOutputDataModelIdRequirement() != null) {
+				collectRelatedDataModelTranslators(m, dataModelTranslatorCandidates, false)
+						.forEach(dmt -> toCheck.computeIfAbsent(m.getInterfaceTranslator(), k -> new LinkedHashSet<>()).add(dmt.provider().name()));
+			}
+		});
+
+		if (toCheck.isEmpty()) {
+			return Map.of();
+		}
+
+		final Map<String, List<String>> candidatesByInterfaceTranslator = new HashMap<>(toCheck.size());
+		toCheck.forEach((it, dmts) -> candidatesByInterfaceTranslator.put(it, new ArrayList<>(dmts)));
+
+		return csDriver.filterOutProvidersBecauseOfUnauthorization(candidatesByInterfaceTranslator, Constants.SERVICE_DEF_DATA_MODEL_TRANSLATION, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<ServiceInstanceResponseDTO> collectRelatedDataModelTranslators(
 			final TranslationDiscoveryModel model,
 			final List<ServiceInstanceResponseDTO> dataModelTranslatorCandidates,
-			final boolean authorizationCheck,
 			final boolean input) {
-		logger.debug("selectDataModelTranslator started...");
+		logger.debug("collectRelatedDataModelTranslators started...");
 
 		final MetadataRequirementDTO req = new MetadataRequirementDTO();
 		if (input) {
@@ -841,64 +1060,96 @@ public class TranslatorBridgeEngine {
 					MetadataRequirementTokenizer.VALUE, translationDirection));
 		}
 
-		List<ServiceInstanceResponseDTO> relatedTranslators = dataModelTranslatorCandidates
+		return dataModelTranslatorCandidates
 				.stream()
 				.filter(dmc -> MetadataRequirementsMatcher.isMetadataMatch(dmc.metadata(), req))
 				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// allowedDataModelTranslators is null if no authorization check is needed
+	private ServiceInstanceResponseDTO selectDataModelTranslator(
+			final TranslationDiscoveryModel model,
+			final List<ServiceInstanceResponseDTO> dataModelTranslatorCandidates,
+			final Map<String, List<String>> allowedDataModelTranslators,
+			final boolean input) {
+		logger.debug("selectDataModelTranslator started...");
 
+		List<ServiceInstanceResponseDTO> relatedTranslators = collectRelatedDataModelTranslators(model, dataModelTranslatorCandidates, input);
 		if (relatedTranslators.isEmpty()) {
 			return null;
 		}
 
-		if (authorizationCheck) {
-			// authorization check that the interface translator have access to data model translators' service
-			final List<String> allowedTranslators = csDriver.filterOutProvidersBecauseOfUnauthorization(
-					relatedTranslators.stream().map(c -> c.provider().name()).toList(),
-					model.getInterfaceTranslator(),
-					Constants.SERVICE_DEF_DATA_MODEL_TRANSLATION,
-					null);
-
-			if (allowedTranslators.isEmpty()) {
-				logger.warn("Check the data model translators in the local cloud, because some of them are not accessible by the interface translator {}", model.getInterfaceTranslator());
-				return null;
-			}
-
+		if (allowedDataModelTranslators != null) {
+			final List<String> allowedTranslators = allowedDataModelTranslators.getOrDefault(model.getInterfaceTranslator(), List.of());
 			relatedTranslators = relatedTranslators
 					.stream()
 					.filter(c -> allowedTranslators.contains(c.provider().name()))
 					.toList();
+
+			if (relatedTranslators.isEmpty()) {
+				logger.warn("Check the data model translators in the local cloud, because some of them are not accessible by the interface translator {}", model.getInterfaceTranslator());
+				return null;
+			}
 		}
 
 		return dataModelTranslatorMatchmaker.doMatchmaking(relatedTranslators, Map.of());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private ServiceInstanceResponseDTO selectDataModelTranslatorFactoryIfPossible(final String from, final String to) {
+	private ServiceInstanceResponseDTO selectDataModelTranslatorFactoryIfPossible(final String from, final String to, final DiscoveryContext context) {
 		logger.debug("selectDataModelTranslatorFactoryIfPossible started...");
 
-		final List<ServiceInstanceResponseDTO> dmtfCandidates = csDriver.collectDataModelTranslatorFactoryCandidates();
+		// models with the same translation direction get the same factory, so the lookup and the checks are done only once per discovery
+		return context.getFactorySelection(from, to, () -> selectDataModelTranslatorFactory(from, to, context));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceResponseDTO selectDataModelTranslatorFactory(final String from, final String to, final DiscoveryContext context) {
+		logger.debug("selectDataModelTranslatorFactory started...");
+
+		final List<ServiceInstanceResponseDTO> dmtfCandidates = context.getFactoryCandidates(() -> {
+			final List<ServiceInstanceResponseDTO> factories = csDriver.collectDataModelTranslatorFactoryCandidates();
+
+			// forget the capabilities of the factories that are no longer registered
+			dmfDriver.retainFactories(Utilities.isEmpty(factories) ? List.of() : factories.stream().map(f -> f.provider().name()).toList());
+
+			return factories;
+		});
+
 		if (Utilities.isEmpty(dmtfCandidates)) {
 			// no available factories
 
 			return null;
 		}
 
-		// shuffle to give every factory instance an "equal" chance
-		Collections.shuffle(dmtfCandidates);
-
-		for (final ServiceInstanceResponseDTO factory : dmtfCandidates) {
-			final boolean supported = dmfDriver.isFactorySupportsTranslation(
-					factory.provider().name(),
-					factory.interfaces().get(0).properties(),
-					from,
-					to);
-
-			if (supported) {
+		// shuffle to give every factory instance an "equal" chance (probes are submitted in this order, so it also matters when there are more factories than threads)
+		final List<ServiceInstanceResponseDTO> shuffled = new ArrayList<>(dmtfCandidates);
+		Collections.shuffle(shuffled);
+
+		// a factory that is known to support the translation is selected without remote calls, the ones known not to support it are not asked again
+		final List<ServiceInstanceResponseDTO> unknown = new ArrayList<>(shuffled.size());
+		for (final ServiceInstanceResponseDTO factory : shuffled) {
+			final Boolean cached = dmfDriver.getCachedFactoryCapability(factory.provider().name(), factory.interfaces().get(0).properties(), from, to);
+			if (cached == null) {
+				unknown.add(factory);
+			} else if (cached) {
 				return factory;
 			}
 		}
 
-		return null;
+		if (unknown.isEmpty()) {
+			return null;
+		}
+
+		// first factory that supports the translation wins, the other probes are cancelled
+		return taskExecutor.findFirst(
+				unknown,
+				factory -> dmfDriver.isFactorySupportsTranslation(
+						factory.provider().name(),
+						factory.interfaces().get(0).properties(),
+						from,
+						to));
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -977,4 +1228,26 @@ public class TranslatorBridgeEngine {
 
 		return outputDataModelTranslatorSettings;
 	}
-}
\ No newline at end of file
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	// timeoutHandler calculates the result if the filter is not finished in time (parallel mode only)
+	private record SystemFilter(
+			UnaryOperator<List<String>> filter,
+			UnaryOperator<List<String>> timeoutHandler) {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the requester (createdBy) is not part of the key, because it does not affect the result
+	private record DiscoveryMemoKey(
+			List<NormalizedServiceInstanceDTO> candidates,
+			String consumer,
+			String operation,
+			List<String> interfaceTemplateNames,
+			String inputDataModelId,
+			String outputDataModelId,
+			Map<TranslationDiscoveryFlag, Boolean> discoveryFlags) {
+	}
+}
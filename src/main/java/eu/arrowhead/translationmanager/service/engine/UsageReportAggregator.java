@@ -0,0 +1,251 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.dto.enums.TranslationBridgeEventState;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.UsageReport;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+import jakarta.annotation.PreDestroy;
+
+// Write-behind buffer for USED reports. Only the bridges that are already known to be in USED status (a USED report of the same requester was successfully written
+// synchronously) are aggregated: their reports are counted in memory and written to the database in batches. A bridge is forgotten after a flush period without
+// reports or when the database rejects its aggregated report, so its next report goes through the normal (validating) path again.
+@Component
+public class UsageReportAggregator {
+
+	//=================================================================================================
+	// members
+
+	@Value(TranslationManagerConstants.$REPORT_AGGREGATION_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(TranslationManagerConstants.$REPORT_AGGREGATION_MAX_PENDING_WD)
+	private int maxPending;
+
+	@Autowired
+	private BridgeDbService dbService;
+
+	private final Map<UUID, Aggregate> aggregates = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingCount = new AtomicInteger(0);
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// Returns true if the report is accepted for a delayed write. Otherwise the caller has to handle the report synchronously.
+	public boolean offer(final NormalizedTranslationReportRequestDTO report) {
+		logger.debug("offer started...");
+		Assert.notNull(report, "report is null");
+
+		if (!enabled || TranslationBridgeEventState.USED != report.state() || report.bridgeId() == null) {
+			return false;
+		}
+
+		final AtomicBoolean accepted = new AtomicBoolean(false);
+		aggregates.computeIfPresent(report.bridgeId(), (id, aggregate) -> {
+			if (aggregate.requester.equals(report.requester())) {
+				aggregate.add(report.timestamp());
+				accepted.set(true);
+			}
+
+			return aggregate;
+		});
+
+		if (accepted.get() && pendingCount.incrementAndGet() >= maxPending) {
+			flush();
+		}
+
+		return accepted.get();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Marks the bridge as aggregatable after a successfully written synchronous USED report.
+	public void register(final NormalizedTranslationReportRequestDTO report) {
+		logger.debug("register started...");
+		Assert.notNull(report, "report is null");
+
+		if (enabled && TranslationBridgeEventState.USED == report.state() && report.bridgeId() != null) {
+			aggregates.putIfAbsent(report.bridgeId(), new Aggregate(report.requester()));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Writes the pending reports of the specified bridge (if any) and forgets the bridge. Must be called before a status changing report of the bridge is handled, so the
+	// reports are written in the order of their arrival. Waits for a running flush, because it may have already drained the reports of the bridge without writing them.
+	public void flushBridge(final UUID bridgeId) {
+		logger.debug("flushBridge started...");
+		Assert.notNull(bridgeId, "bridgeId is null");
+
+		flushLock.lock();
+		try {
+			final Aggregate aggregate = aggregates.remove(bridgeId);
+			if (aggregate == null) {
+				return;
+			}
+
+			final UsageReport pending = aggregate.drain(bridgeId);
+			if (pending != null) {
+				pendingCount.addAndGet(-pending.count());
+				dbService.handleAggregatedUsageReports(List.of(pending));
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Scheduled(fixedDelayString = TranslationManagerConstants.$REPORT_AGGREGATION_FLUSH_INTERVAL_WD, initialDelayString = TranslationManagerConstants.$REPORT_AGGREGATION_FLUSH_INTERVAL_WD)
+	public void flush() {
+		logger.debug("flush started...");
+
+		if (!flushLock.tryLock()) {
+			// another flush is in progress, it will take care of the pending reports
+			return;
+		}
+
+		try {
+			final List<UsageReport> batch = new ArrayList<>();
+			for (final UUID bridgeId : aggregates.keySet()) {
+				aggregates.computeIfPresent(bridgeId, (id, aggregate) -> {
+					final UsageReport pending = aggregate.drain(id);
+					if (pending == null) {
+						// no reports since the last flush
+						return null;
+					}
+
+					batch.add(pending);
+					return aggregate;
+				});
+			}
+
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			pendingCount.addAndGet(-batch.stream().mapToInt(UsageReport::count).sum());
+			write(batch);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	public void destroy() {
+		flush();
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void write(final List<UsageReport> batch) {
+		logger.debug("write started...");
+
+		try {
+			final List<UUID> rejected = dbService.handleAggregatedUsageReports(batch);
+			rejected.forEach(aggregates::remove);
+			logger.debug("{} aggregated usage report(s) written, {} rejected", batch.size(), rejected.size());
+		} catch (final InternalServerError ex) {
+			// put the counts back, the next flush will try again
+			logger.warn("Unable to write aggregated usage reports: {}", ex.getMessage());
+			for (final UsageReport report : batch) {
+				aggregates.computeIfPresent(report.bridgeId(), (id, aggregate) -> {
+					aggregate.restore(report);
+					pendingCount.addAndGet(report.count());
+					return aggregate;
+				});
+			}
+		}
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	// accessed only inside the compute methods of the map, so no additional synchronization is needed
+	private static final class Aggregate {
+
+		//=================================================================================================
+		// members
+
+		private final String requester;
+		private int count = 0;
+		private ZonedDateTime alivesAt;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private Aggregate(final String requester) {
+			this.requester = requester;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private void add(final ZonedDateTime timestamp) {
+			++count;
+			if (alivesAt == null || timestamp.isAfter(alivesAt)) {
+				alivesAt = timestamp;
+			}
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private void restore(final UsageReport report) {
+			count += report.count();
+			if (alivesAt == null || report.alivesAt().isAfter(alivesAt)) {
+				alivesAt = report.alivesAt();
+			}
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private UsageReport drain(final UUID bridgeId) {
+			if (count == 0) {
+				return null;
+			}
+
+			final UsageReport result = new UsageReport(bridgeId, requester, count, alivesAt);
+			count = 0;
+			alivesAt = null;
+
+			return result;
+		}
+	}
+}
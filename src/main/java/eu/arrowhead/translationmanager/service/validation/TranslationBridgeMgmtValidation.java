@@ -27,6 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
@@ -57,6 +58,8 @@ import eu.arrowhead.dto.enums.ServiceInterfacePolicy;
 import eu.arrowhead.dto.enums.TranslationBridgeStatus;
 import eu.arrowhead.dto.enums.TranslationDiscoveryFlag;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.repository.BridgeDetailsSpecifications;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
 import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationDiscoveryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
@@ -196,6 +199,63 @@ public class TranslationBridgeMgmtValidation {
 		return normalized;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// Validates the seek mode specific parameters of a query request. Returns null if no continuation token is specified (first page).
+	public BridgeQueryCursor validateAndNormalizeSeekParameters(final String continuationToken, final NormalizedTranslationQueryRequestDTO normalized, final String origin) {
+		logger.debug("validateAndNormalizeSeekParameters started...");
+		Assert.notNull(normalized, "normalized request is null");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		if (normalized.pageRequest().getPageNumber() > 0) {
+			throw new InvalidParameterException("Page number can't be used in seek mode, use the continuation token instead", origin);
+		}
+
+		if (Utilities.isEmpty(continuationToken)) {
+			return null;
+		}
+
+		final BridgeQueryCursor cursor;
+		try {
+			cursor = BridgeQueryCursor.fromToken(continuationToken);
+			BridgeDetailsSpecifications.parseSortValue(cursor.sortField(), cursor.lastValue());
+		} catch (final Exception __) {
+			throw new InvalidParameterException("Continuation token is invalid", origin);
+		}
+
+		if (cursor.direction() == null) {
+			throw new InvalidParameterException("Continuation token is invalid", origin);
+		}
+
+		// the token is only valid for the same order
+		final Order order = normalized.pageRequest().getSort().iterator().next();
+		if (!order.getProperty().equals(cursor.sortField()) || order.getDirection() != cursor.direction()) {
+			throw new InvalidParameterException("Continuation token does not belong to the specified sort field and direction", origin);
+		}
+
+		return cursor;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// empty result means all caches
+	public List<String> validateAndNormalizeCacheNames(final List<String> names, final String origin) {
+		logger.debug("validateAndNormalizeCacheNames started...");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		if (Utilities.isEmpty(names)) {
+			return List.of();
+		}
+
+		if (Utilities.containsNullOrEmpty(names)) {
+			throw new InvalidParameterException("Cache name list contains null or empty element", origin);
+		}
+
+		return names
+				.stream()
+				.map(n -> n.trim())
+				.distinct()
+				.toList();
+	}
+
 	//=================================================================================================
 	// assistant methods
 
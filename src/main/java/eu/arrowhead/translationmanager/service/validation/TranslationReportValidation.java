@@ -18,11 +18,14 @@ package eu.arrowhead.translationmanager.service.validation;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
@@ -32,7 +35,9 @@ import eu.arrowhead.common.service.validation.name.SystemNameNormalizer;
 import eu.arrowhead.common.service.validation.name.SystemNameValidator;
 import eu.arrowhead.dto.TranslationReportRequestDTO;
 import eu.arrowhead.dto.enums.TranslationBridgeEventState;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchRequestDTO;
 
 @Service
 public class TranslationReportValidation {
@@ -48,6 +53,9 @@ public class TranslationReportValidation {
 	@Autowired
 	private SystemNameValidator systemNameValidator;
 
+	@Value(TranslationManagerConstants.$REPORT_BATCH_MAX_SIZE_WD)
+	private int maxBatchSize;
+
 	//=================================================================================================
 	// methods
 
@@ -80,6 +88,29 @@ public class TranslationReportValidation {
 		return normalizeReport(requester, dto);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// the batch is rejected as a whole if any of its reports is malformed
+	public List<NormalizedTranslationReportRequestDTO> validateAndNormalizeReportBatch(final String requester, final TranslationReportBatchRequestDTO dto, final String origin) {
+		logger.debug("validateAndNormalizeReportBatch started...");
+		Assert.isTrue(!Utilities.isEmpty(origin), "origin is empty");
+
+		validateReportBatch(dto, origin);
+
+		final List<NormalizedTranslationReportRequestDTO> result = new ArrayList<>(dto.reports().size());
+		for (int i = 0; i < dto.reports().size(); ++i) {
+			final TranslationReportRequestDTO report = dto.reports().get(i);
+			try {
+				validateReport(report, origin);
+			} catch (final InvalidParameterException ex) {
+				throw new InvalidParameterException("Invalid report at index " + i + ": " + ex.getMessage(), origin);
+			}
+
+			result.add(normalizeReport(requester, report));
+		}
+
+		return result;
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -130,6 +161,23 @@ public class TranslationReportValidation {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	private void validateReportBatch(final TranslationReportBatchRequestDTO dto, final String origin) {
+		logger.debug("validateReportBatch started...");
+
+		if (dto == null) {
+			throw new InvalidParameterException("Request is missing", origin);
+		}
+
+		if (Utilities.isEmpty(dto.reports())) {
+			throw new InvalidParameterException("Report list is missing or empty", origin);
+		}
+
+		if (dto.reports().size() > maxBatchSize) {
+			throw new InvalidParameterException("Too many reports, the maximum is " + maxBatchSize, origin);
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	// NORMALIZATION
 
@@ -22,10 +22,14 @@ CREATE TABLE IF NOT EXISTS `bridge_header` (
   `message` mediumtext,
   `usage_report_count` integer NOT NULL DEFAULT 0,
   `alives_at` timestamp,
+  `version` bigint(20) NOT NULL DEFAULT 0,
   `created_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
   `updated_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
-  UNIQUE KEY (`uuid`)
+  UNIQUE KEY (`uuid`),
+  KEY `idx_bridge_header_status` (`status`),
+  KEY `idx_bridge_header_created_at` (`created_at`),
+  KEY `idx_bridge_header_created_by` (`created_by`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
 
 -- BridgeDiscovery
@@ -35,6 +39,7 @@ CREATE TABLE IF NOT EXISTS `bridge_discovery` (
   `header_id` bigint(20) NOT NULL,
   `data` mediumtext NOT NULL,
   PRIMARY KEY (`id`),
+  KEY `idx_bridge_discovery_header_id` (`header_id`),
   CONSTRAINT `fk_bridge_header_discovery` FOREIGN KEY (`header_id`) REFERENCES `bridge_header` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
 
@@ -55,5 +60,11 @@ CREATE TABLE IF NOT EXISTS `bridge_details` (
   `result_dm_translator_data` mediumtext,
   PRIMARY KEY (`id`),
   UNIQUE KEY (`header_id`),
+  KEY `idx_bridge_details_consumer` (`consumer`),
+  KEY `idx_bridge_details_provider` (`provider`),
+  KEY `idx_bridge_details_service_definition` (`service_definition`),
+  KEY `idx_bridge_details_interface_translator` (`interface_translator`),
+  KEY `idx_bridge_details_input_dm_translator` (`input_dm_translator`),
+  KEY `idx_bridge_details_result_dm_translator` (`result_dm_translator`),
   CONSTRAINT `fk_bridge_header_details` FOREIGN KEY (`header_id`) REFERENCES `bridge_header` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
\ No newline at end of file
@@ -0,0 +1,24 @@
+-- Secondary indexes for the bridge tables (management queries and cleanup).
+-- Only needed for databases that were created before these indexes were added to create_tables.sql; run it once.
+-- The file name follows the versioned migration naming convention (V<version>__<description>.sql), so it can be used by migration tools as well.
+
+USE `ah_translation_manager`;
+
+-- BridgeHeader
+
+CREATE INDEX `idx_bridge_header_status` ON `bridge_header` (`status`);
+CREATE INDEX `idx_bridge_header_created_at` ON `bridge_header` (`created_at`);
+CREATE INDEX `idx_bridge_header_created_by` ON `bridge_header` (`created_by`);
+
+-- BridgeDiscovery
+
+CREATE INDEX `idx_bridge_discovery_header_id` ON `bridge_discovery` (`header_id`);
+
+-- BridgeDetails
+
+CREATE INDEX `idx_bridge_details_consumer` ON `bridge_details` (`consumer`);
+CREATE INDEX `idx_bridge_details_provider` ON `bridge_details` (`provider`);
+CREATE INDEX `idx_bridge_details_service_definition` ON `bridge_details` (`service_definition`);
+CREATE INDEX `idx_bridge_details_interface_translator` ON `bridge_details` (`interface_translator`);
+CREATE INDEX `idx_bridge_details_input_dm_translator` ON `bridge_details` (`input_dm_translator`);
+CREATE INDEX `idx_bridge_details_result_dm_translator` ON `bridge_details` (`result_dm_translator`);
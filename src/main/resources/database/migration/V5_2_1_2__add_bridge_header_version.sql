@@ -0,0 +1,6 @@
+-- Version column for the optimistic locking of the bridge headers.
+-- Only needed for databases that were created before this column was added to create_tables.sql; run it once.
+
+USE `ah_translation_manager`;
+
+ALTER TABLE `bridge_header` ADD COLUMN `version` bigint(20) NOT NULL DEFAULT 0 AFTER `alives_at`;
@@ -0,0 +1,346 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.jpa.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.dto.enums.TranslationBridgeStatus;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+@ExtendWith(MockitoExtension.class)
+public class BridgeDetailsSpecificationsTest {
+
+	//=================================================================================================
+	// members
+
+	@Mock
+	private Root<BridgeDetails> root;
+
+	@Mock
+	private CriteriaQuery<?> query;
+
+	@Mock
+	private CriteriaBuilder cb;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testMatchesQueryInputNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> BridgeDetailsSpecifications.matchesQuery(null));
+
+		assertEquals("dto is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMatchesQueryCountQuery() {
+		final NormalizedTranslationQueryRequestDTO dto = createDTO(null, List.of("TestConsumer"), null, null, null);
+		final Join<BridgeDetails, BridgeHeader> header = Mockito.mock(Join.class);
+		final Path<Object> consumerPath = Mockito.mock(Path.class);
+		final Predicate consumerPredicate = Mockito.mock(Predicate.class);
+		final Predicate result = Mockito.mock(Predicate.class);
+
+		doReturn(Long.class).when(query).getResultType();
+		doReturn(header).when(root).join("header", JoinType.INNER);
+		doReturn(consumerPath).when(root).get("consumer");
+		when(consumerPath.in(List.of("TestConsumer"))).thenReturn(consumerPredicate);
+		when(cb.and(consumerPredicate)).thenReturn(result);
+
+		assertEquals(result, BridgeDetailsSpecifications.matchesQuery(dto).toPredicate(root, query, cb));
+
+		verify(root, never()).fetch(anyString(), any(JoinType.class));
+		verify(root).join("header", JoinType.INNER);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "unchecked", "checkstyle:MagicNumber" })
+	@Test
+	public void testMatchesQueryHeaderAndRangeFilters() {
+		final UUID uuid = UUID.fromString("82b6d4db-71e4-4db0-a546-8d3250525570");
+		final ZonedDateTime from = ZonedDateTime.of(2026, 2, 25, 0, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final NormalizedTranslationQueryRequestDTO dto = createDTO(List.of(uuid), null, List.of("DMTranslator"), from, 1);
+		final Join<BridgeDetails, BridgeHeader> header = Mockito.mock(Join.class, Mockito.withSettings().extraInterfaces(Fetch.class));
+		final Path<Object> uuidPath = Mockito.mock(Path.class);
+		final Path<Object> inputDmPath = Mockito.mock(Path.class);
+		final Path<Object> resultDmPath = Mockito.mock(Path.class);
+		final Path<ZonedDateTime> createdAtPath = Mockito.mock(Path.class);
+		final Path<Integer> usagePath = Mockito.mock(Path.class);
+		final Predicate uuidPredicate = Mockito.mock(Predicate.class);
+		final Predicate inputDmPredicate = Mockito.mock(Predicate.class);
+		final Predicate resultDmPredicate = Mockito.mock(Predicate.class);
+		final Predicate dmPredicate = Mockito.mock(Predicate.class);
+		final Predicate createdAtPredicate = Mockito.mock(Predicate.class);
+		final Predicate usagePredicate = Mockito.mock(Predicate.class);
+		final Predicate result = Mockito.mock(Predicate.class);
+
+		doReturn(BridgeDetails.class).when(query).getResultType();
+		doReturn(header).when(root).fetch("header", JoinType.INNER);
+		doReturn(uuidPath).when(header).get("uuid");
+		when(uuidPath.in(List.of(uuid.toString()))).thenReturn(uuidPredicate);
+		doReturn(inputDmPath).when(root).get("inputDmTranslator");
+		when(inputDmPath.in(List.of("DMTranslator"))).thenReturn(inputDmPredicate);
+		doReturn(resultDmPath).when(root).get("resultDmTranslator");
+		when(resultDmPath.in(List.of("DMTranslator"))).thenReturn(resultDmPredicate);
+		when(cb.or(inputDmPredicate, resultDmPredicate)).thenReturn(dmPredicate);
+		doReturn(createdAtPath).when(header).get("createdAt");
+		when(cb.greaterThanOrEqualTo(createdAtPath, from)).thenReturn(createdAtPredicate);
+		doReturn(usagePath).when(header).get("usageReportCount");
+		when(cb.greaterThanOrEqualTo(usagePath, 1)).thenReturn(usagePredicate);
+		when(cb.and(uuidPredicate, dmPredicate, createdAtPredicate, usagePredicate)).thenReturn(result);
+
+		assertEquals(result, BridgeDetailsSpecifications.matchesQuery(dto).toPredicate(root, query, cb));
+
+		verify(root).fetch("header", JoinType.INNER);
+		verify(root, never()).join("header", JoinType.INNER);
+		verify(cb).or(inputDmPredicate, resultDmPredicate);
+		verify(cb).and(uuidPredicate, dmPredicate, createdAtPredicate, usagePredicate);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "unchecked", "checkstyle:MagicNumber" })
+	@Test
+	public void testMatchesQueryOtherFilters() {
+		final ZonedDateTime creationTo = ZonedDateTime.of(2026, 2, 26, 0, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final ZonedDateTime alivesFrom = ZonedDateTime.of(2026, 2, 25, 12, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final ZonedDateTime alivesTo = ZonedDateTime.of(2026, 2, 25, 18, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
+				PageRequest.of(0, 10),
+				null,
+				List.of("Creator"),
+				List.of(TranslationBridgeStatus.USED),
+				null,
+				List.of("TestProvider"),
+				List.of("testService"),
+				List.of("InterfaceTranslator"),
+				null,
+				null,
+				creationTo,
+				alivesFrom,
+				alivesTo,
+				null,
+				5);
+		final Join<BridgeDetails, BridgeHeader> header = Mockito.mock(Join.class);
+		final Path<Object> createdByPath = Mockito.mock(Path.class);
+		final Path<Object> statusPath = Mockito.mock(Path.class);
+		final Path<Object> providerPath = Mockito.mock(Path.class);
+		final Path<Object> serviceDefinitionPath = Mockito.mock(Path.class);
+		final Path<Object> interfaceTranslatorPath = Mockito.mock(Path.class);
+		final Path<ZonedDateTime> createdAtPath = Mockito.mock(Path.class);
+		final Path<ZonedDateTime> alivesAtPath = Mockito.mock(Path.class);
+		final Path<Integer> usagePath = Mockito.mock(Path.class);
+		final Predicate createdByPredicate = Mockito.mock(Predicate.class);
+		final Predicate statusPredicate = Mockito.mock(Predicate.class);
+		final Predicate providerPredicate = Mockito.mock(Predicate.class);
+		final Predicate serviceDefinitionPredicate = Mockito.mock(Predicate.class);
+		final Predicate interfaceTranslatorPredicate = Mockito.mock(Predicate.class);
+		final Predicate createdAtPredicate = Mockito.mock(Predicate.class);
+		final Predicate alivesFromPredicate = Mockito.mock(Predicate.class);
+		final Predicate alivesToPredicate = Mockito.mock(Predicate.class);
+		final Predicate usagePredicate = Mockito.mock(Predicate.class);
+		final Predicate result = Mockito.mock(Predicate.class);
+
+		doReturn(Long.class).when(query).getResultType();
+		doReturn(header).when(root).join("header", JoinType.INNER);
+		doReturn(createdByPath).when(header).get("createdBy");
+		when(createdByPath.in(List.of("Creator"))).thenReturn(createdByPredicate);
+		doReturn(statusPath).when(header).get("status");
+		when(statusPath.in(List.of(TranslationBridgeStatus.USED))).thenReturn(statusPredicate);
+		doReturn(providerPath).when(root).get("provider");
+		when(providerPath.in(List.of("TestProvider"))).thenReturn(providerPredicate);
+		doReturn(serviceDefinitionPath).when(root).get("serviceDefinition");
+		when(serviceDefinitionPath.in(List.of("testService"))).thenReturn(serviceDefinitionPredicate);
+		doReturn(interfaceTranslatorPath).when(root).get("interfaceTranslator");
+		when(interfaceTranslatorPath.in(List.of("InterfaceTranslator"))).thenReturn(interfaceTranslatorPredicate);
+		doReturn(createdAtPath).when(header).get("createdAt");
+		when(cb.lessThanOrEqualTo(createdAtPath, creationTo)).thenReturn(createdAtPredicate);
+		doReturn(alivesAtPath).when(header).get("alivesAt");
+		when(cb.greaterThanOrEqualTo(alivesAtPath, alivesFrom)).thenReturn(alivesFromPredicate);
+		when(cb.lessThanOrEqualTo(alivesAtPath, alivesTo)).thenReturn(alivesToPredicate);
+		doReturn(usagePath).when(header).get("usageReportCount");
+		when(cb.lessThanOrEqualTo(usagePath, 5)).thenReturn(usagePredicate);
+		when(cb.and(
+				createdByPredicate,
+				statusPredicate,
+				providerPredicate,
+				serviceDefinitionPredicate,
+				interfaceTranslatorPredicate,
+				createdAtPredicate,
+				alivesFromPredicate,
+				alivesToPredicate,
+				usagePredicate)).thenReturn(result);
+
+		assertEquals(result, BridgeDetailsSpecifications.matchesQuery(dto).toPredicate(root, query, cb));
+
+		verify(root, never()).fetch(anyString(), any(JoinType.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "unchecked", "checkstyle:MagicNumber" })
+	@Test
+	public void testMatchesQueryWithCursorAscending() {
+		final NormalizedTranslationQueryRequestDTO dto = createDTO(null, null, null, null, null);
+		final BridgeQueryCursor cursor = new BridgeQueryCursor("consumer", Direction.ASC, "Consumer5", 5);
+		final Join<BridgeDetails, BridgeHeader> header = Mockito.mock(Join.class);
+		final Path<String> consumerPath = Mockito.mock(Path.class);
+		final Path<Long> idPath = Mockito.mock(Path.class);
+		final Predicate nextIdPredicate = Mockito.mock(Predicate.class);
+		final Predicate nextValuePredicate = Mockito.mock(Predicate.class);
+		final Predicate sameValuePredicate = Mockito.mock(Predicate.class);
+		final Predicate sameValueNextIdPredicate = Mockito.mock(Predicate.class);
+		final Predicate seekPredicate = Mockito.mock(Predicate.class);
+		final Predicate result = Mockito.mock(Predicate.class);
+
+		doReturn(Long.class).when(query).getResultType();
+		doReturn(header).when(root).join("header", JoinType.INNER);
+		doReturn(consumerPath).when(root).get("consumer");
+		doReturn(idPath).when(root).get("id");
+		when(cb.greaterThan(idPath, 5L)).thenReturn(nextIdPredicate);
+		when(cb.greaterThan(consumerPath, "Consumer5")).thenReturn(nextValuePredicate);
+		when(cb.equal(consumerPath, "Consumer5")).thenReturn(sameValuePredicate);
+		when(cb.and(sameValuePredicate, nextIdPredicate)).thenReturn(sameValueNextIdPredicate);
+		when(cb.or(nextValuePredicate, sameValueNextIdPredicate)).thenReturn(seekPredicate);
+		when(cb.and(seekPredicate)).thenReturn(result);
+
+		assertEquals(result, BridgeDetailsSpecifications.matchesQuery(dto, cursor).toPredicate(root, query, cb));
+
+		verify(cb, never()).isNull(any());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "unchecked", "checkstyle:MagicNumber" })
+	@Test
+	public void testMatchesQueryWithCursorDescendingNullValue() {
+		final NormalizedTranslationQueryRequestDTO dto = createDTO(null, null, null, null, null);
+		final BridgeQueryCursor cursor = new BridgeQueryCursor(BridgeDetails.SORT_NAME_HEADER_ALIVES_AT, Direction.DESC, null, 7);
+		final Join<BridgeDetails, BridgeHeader> header = Mockito.mock(Join.class, Mockito.withSettings().extraInterfaces(Fetch.class));
+		final Path<ZonedDateTime> alivesAtPath = Mockito.mock(Path.class);
+		final Path<Long> idPath = Mockito.mock(Path.class);
+		final Predicate nextIdPredicate = Mockito.mock(Predicate.class);
+		final Predicate nullPredicate = Mockito.mock(Predicate.class);
+		final Predicate seekPredicate = Mockito.mock(Predicate.class);
+		final Predicate result = Mockito.mock(Predicate.class);
+
+		doReturn(BridgeDetails.class).when(query).getResultType();
+		doReturn(header).when(root).fetch("header", JoinType.INNER);
+		doReturn(alivesAtPath).when(header).get("alivesAt");
+		doReturn(idPath).when(root).get("id");
+		when(cb.lessThan(idPath, 7L)).thenReturn(nextIdPredicate);
+		when(cb.isNull(alivesAtPath)).thenReturn(nullPredicate);
+		when(cb.and(nullPredicate, nextIdPredicate)).thenReturn(seekPredicate);
+		when(cb.and(seekPredicate)).thenReturn(result);
+
+		assertEquals(result, BridgeDetailsSpecifications.matchesQuery(dto, cursor).toPredicate(root, query, cb));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testSortValueRoundTrip() {
+		final BridgeHeader header = new BridgeHeader(UUID.fromString("82b6d4db-71e4-4db0-a546-8d3250525570"), "Creator");
+		header.setUsageReportCount(12);
+		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 11, 12, 345000000, ZoneId.of(Constants.UTC)));
+		final BridgeDetails details = new BridgeDetails();
+		details.setHeader(header);
+
+		final String createdAt = BridgeDetailsSpecifications.getSortValue(details, BridgeDetails.SORT_NAME_HEADER_CREATED_AT);
+
+		assertEquals("2026-02-25T10:11:12.345Z", createdAt);
+		assertEquals(header.getCreatedAt().toInstant(), ((ZonedDateTime) BridgeDetailsSpecifications.parseSortValue(BridgeDetails.SORT_NAME_HEADER_CREATED_AT, createdAt)).toInstant());
+		assertEquals(12, BridgeDetailsSpecifications.parseSortValue(
+				BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT,
+				BridgeDetailsSpecifications.getSortValue(details, BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT)));
+		assertNull(BridgeDetailsSpecifications.getSortValue(details, BridgeDetails.SORT_NAME_HEADER_ALIVES_AT));
+		assertNull(BridgeDetailsSpecifications.parseSortValue(BridgeDetails.SORT_NAME_HEADER_ALIVES_AT, null));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testParseSortValueUnsupportedField() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> BridgeDetailsSpecifications.parseSortValue("operation", "test-operation"));
+
+		assertEquals("Unsupported sort field: operation", ex.getMessage());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private NormalizedTranslationQueryRequestDTO createDTO(
+			final List<UUID> bridgeIds,
+			final List<String> consumers,
+			final List<String> dataModelTranslators,
+			final ZonedDateTime creationFrom,
+			final Integer minUsage) {
+		return new NormalizedTranslationQueryRequestDTO(
+				PageRequest.of(0, 10),
+				bridgeIds,
+				null,
+				null,
+				consumers,
+				null,
+				null,
+				null,
+				dataModelTranslators,
+				creationFrom,
+				null,
+				null,
+				null,
+				minUsage,
+				null);
+	}
+}
@@ -0,0 +1,580 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.jpa.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import eu.arrowhead.common.jpa.RefreshableRepositoryImpl;
+import eu.arrowhead.dto.enums.TranslationBridgeStatus;
+import eu.arrowhead.translationmanager.TranslationManagerConstants;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.jpa.repository.BridgeDetailsSpecifications;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
+
+// Runs the bridge queries on an embedded H2 database (MySQL mode), so the generated SQL (filters, count query, fetch join with sorting, keyset paging) is really executed.
+// The expected results are calculated from the seed data in Java.
+@SuppressWarnings("checkstyle:MagicNumber")
+public class BridgeDbServiceQueryTest {
+
+	//=================================================================================================
+	// members
+
+	private static final int BRIDGE_COUNT = 40;
+	private static final ZonedDateTime BASE_TIME = ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+	private static final TranslationBridgeStatus[] STATUSES = TranslationBridgeStatus.values();
+
+	private static final String INSERT_HEADER = "INSERT INTO bridge_header (id, uuid, created_by, status, message, usage_report_count, alives_at, version, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, NULL, ?, ?, 0, ?, ?)";
+	private static final String INSERT_DETAILS = "INSERT INTO bridge_details (id, header_id, consumer, provider, service_definition, operation, interface_translator, interface_translator_data, "
+			+ "input_dm_translator, input_dm_translator_data, result_dm_translator, result_dm_translator_data) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String TRANSLATOR_DATA = "{}";
+
+	private static ConfigurableApplicationContext context;
+	private static BridgeDbService dbService;
+	private static List<SeedBridge> bridges;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeAll
+	public static void setUp() {
+		context = new SpringApplicationBuilder(TestDatabaseConfig.class)
+				.web(WebApplicationType.NONE)
+				.bannerMode(Banner.Mode.OFF)
+				.run(
+						"--spring.datasource.url=jdbc:h2:mem:bridge_query_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.jpa.hibernate.ddl-auto=create",
+						"--spring.jpa.show-sql=false");
+
+		dbService = context.getBean(BridgeDbService.class);
+		bridges = seed(context.getBean(JdbcTemplate.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterAll
+	public static void tearDown() {
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterBridgeIds() {
+		final List<UUID> bridgeIds = List.of(bridgeId(3), bridgeId(17), UUID.fromString("82b6d4db-71e4-4db0-a546-8d3250525570"));
+
+		assertMatches(request().bridgeIds(bridgeIds), b -> bridgeIds.contains(b.uuid()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterCreators() {
+		assertMatches(request().creators(List.of("Creator0", "Creator2")), b -> b.createdBy().equals("Creator0") || b.createdBy().equals("Creator2"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterStatuses() {
+		final List<TranslationBridgeStatus> statuses = List.of(STATUSES[1], STATUSES[4]);
+
+		assertMatches(request().statuses(statuses), b -> statuses.contains(b.status()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterConsumers() {
+		assertMatches(request().consumers(List.of("Consumer1")), b -> b.consumer().equals("Consumer1"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterProviders() {
+		assertMatches(request().providers(List.of("Provider2", "Provider4")), b -> b.provider().equals("Provider2") || b.provider().equals("Provider4"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterServiceDefinitions() {
+		assertMatches(request().serviceDefinitions(List.of("service5")), b -> b.serviceDefinition().equals("service5"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterInterfaceTranslators() {
+		assertMatches(request().interfaceTranslators(List.of("InterfaceTranslator1")), b -> b.interfaceTranslator().equals("InterfaceTranslator1"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterDataModelTranslators() {
+		// input or result translator
+		assertMatches(request().dataModelTranslators(List.of("DataModelTranslator1")), b -> "DataModelTranslator1".equals(b.inputDmTranslator()) || "DataModelTranslator1".equals(b.resultDmTranslator()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterCreationRange() {
+		final ZonedDateTime from = createdAt(10);
+		final ZonedDateTime to = createdAt(20);
+
+		// both ends are inclusive
+		assertMatches(request().creationFrom(from), b -> !b.createdAt().isBefore(from));
+		assertMatches(request().creationTo(to), b -> !b.createdAt().isAfter(to));
+		assertMatches(request().creationFrom(from).creationTo(to), b -> !b.createdAt().isBefore(from) && !b.createdAt().isAfter(to));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterAliveRange() {
+		final ZonedDateTime from = alivesAt(8);
+		final ZonedDateTime to = alivesAt(30);
+
+		// bridges without alive time never match
+		assertMatches(request().alivesFrom(from), b -> b.alivesAt() != null && !b.alivesAt().isBefore(from));
+		assertMatches(request().alivesTo(to), b -> b.alivesAt() != null && !b.alivesAt().isAfter(to));
+		assertMatches(request().alivesFrom(from).alivesTo(to), b -> b.alivesAt() != null && !b.alivesAt().isBefore(from) && !b.alivesAt().isAfter(to));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterUsageRange() {
+		assertMatches(request().minUsage(30), b -> b.usageReportCount() >= 30);
+		assertMatches(request().maxUsage(20), b -> b.usageReportCount() <= 20);
+		assertMatches(request().minUsage(20).maxUsage(40), b -> b.usageReportCount() >= 20 && b.usageReportCount() <= 40);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterCombination() {
+		final ZonedDateTime from = createdAt(5);
+
+		assertMatches(
+				request().creators(List.of("Creator1")).consumers(List.of("Consumer0", "Consumer1")).creationFrom(from).maxUsage(50),
+				b -> b.createdBy().equals("Creator1") && (b.consumer().equals("Consumer0") || b.consumer().equals("Consumer1")) && !b.createdAt().isBefore(from) && b.usageReportCount() <= 50);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCountQueryWithHeaderFilters() {
+		final List<SeedBridge> expected = expected(b -> (b.createdBy().equals("Creator0") || b.createdBy().equals("Creator1")) && b.usageReportCount() >= 10);
+		final NormalizedTranslationQueryRequestDTO dto = request()
+				.creators(List.of("Creator0", "Creator1"))
+				.minUsage(10)
+				.page(PageRequest.of(1, 3, Direction.ASC, BridgeDetails.SORT_NAME_HEADER_CREATED_AT))
+				.build();
+
+		// the second page is full and the total is bigger than a page, so the count query is executed
+		final Page<BridgeDetails> page = dbService.getBridgeDetailsPage(dto);
+
+		assertTrue(expected.size() > 6);
+		assertEquals(expected.size(), page.getTotalElements());
+		assertEquals(expected.size(), dbService.countBridgeDetails(dto));
+		assertEquals(expected.subList(3, 6).stream().map(SeedBridge::id).toList(), ids(page.getContent()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSortByEveryFieldWithFilter() {
+		// the filter makes the query use the fetch join of the header
+		final Predicate<SeedBridge> filter = b -> !b.consumer().equals("Consumer3");
+		for (final String sortField : BridgeDetails.SORTABLE_FIELDS_BY) {
+			for (final Direction direction : Direction.values()) {
+				final NormalizedTranslationQueryRequestDTO dto = request()
+						.consumers(List.of("Consumer0", "Consumer1", "Consumer2"))
+						.page(PageRequest.of(0, BRIDGE_COUNT, direction, sortField))
+						.build();
+
+				assertEquals(sorted(expected(filter), sortField, direction), ids(dbService.getBridgeDetailsPage(dto).getContent()), sortField + " " + direction);
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSeekWalksAllRecordsInOrder() {
+		final Predicate<SeedBridge> filter = b -> b.usageReportCount() <= 50;
+		for (final String sortField : BridgeDetails.SORTABLE_FIELDS_BY) {
+			for (final Direction direction : Direction.values()) {
+				final NormalizedTranslationQueryRequestDTO dto = request()
+						.maxUsage(50)
+						.page(PageRequest.of(0, 4, direction, sortField))
+						.build();
+
+				final List<Long> walked = new ArrayList<>();
+				BridgeQueryCursor cursor = null;
+				Slice<BridgeDetails> slice;
+				do {
+					slice = dbService.getBridgeDetailsSlice(dto, cursor);
+					walked.addAll(ids(slice.getContent()));
+					if (slice.hasContent()) {
+						final BridgeDetails last = slice.getContent().get(slice.getNumberOfElements() - 1);
+						cursor = new BridgeQueryCursor(sortField, direction, BridgeDetailsSpecifications.getSortValue(last, sortField), last.getId());
+					}
+				} while (slice.hasNext());
+
+				assertEquals(sorted(expected(filter), sortField, direction), walked, sortField + " " + direction);
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testNoFilter() {
+		final Page<BridgeDetails> page = dbService.getBridgeDetailsPage(request().page(PageRequest.of(0, 5, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD)).build());
+
+		assertFalse(request().build().hasAnyFilter());
+		assertEquals(BRIDGE_COUNT, page.getTotalElements());
+		assertEquals(sorted(bridges, BridgeDetails.DEFAULT_SORT_FIELD, Direction.DESC).subList(0, 5), ids(page.getContent()));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// Value distribution (i is the index of the bridge): 3 creators, every status, 4 consumers, 5 providers, 6 service definitions, 2 interface translators, every third
+	// bridge has an input and every fourth has a result data model translator (2 different), every other bridge has alive time and the usage report count is between 0
+	// and 60 (with repetitions).
+	private static List<SeedBridge> seed(final JdbcTemplate jdbcTemplate) {
+		final List<SeedBridge> result = new ArrayList<>(BRIDGE_COUNT);
+		final List<Object[]> headers = new ArrayList<>(BRIDGE_COUNT);
+		final List<Object[]> details = new ArrayList<>(BRIDGE_COUNT);
+
+		for (int i = 0; i < BRIDGE_COUNT; ++i) {
+			final SeedBridge bridge = new SeedBridge(
+					i + 1,
+					bridgeId(i),
+					"Creator" + (i % 3),
+					STATUSES[i % STATUSES.length],
+					(i * 7) % 61,
+					i % 2 == 0 ? alivesAt(i) : null,
+					createdAt(i),
+					"Consumer" + (i % 4),
+					"Provider" + (i % 5),
+					"service" + (i % 6),
+					"InterfaceTranslator" + (i % 2),
+					i % 3 == 0 ? "DataModelTranslator" + (i % 2) : null,
+					i % 4 == 0 ? "DataModelTranslator" + ((i / 4) % 2) : null);
+			result.add(bridge);
+
+			headers.add(new Object[] {
+					bridge.id(),
+					bridge.uuid().toString(),
+					bridge.createdBy(),
+					bridge.status().name(),
+					bridge.usageReportCount(),
+					bridge.alivesAt() == null ? null : Timestamp.from(bridge.alivesAt().toInstant()),
+					Timestamp.from(bridge.createdAt().toInstant()),
+					Timestamp.from(bridge.createdAt().toInstant()) });
+
+			details.add(new Object[] {
+					bridge.id(),
+					bridge.id(),
+					bridge.consumer(),
+					bridge.provider(),
+					bridge.serviceDefinition(),
+					"operation",
+					bridge.interfaceTranslator(),
+					TRANSLATOR_DATA,
+					bridge.inputDmTranslator(),
+					bridge.inputDmTranslator() == null ? null : TRANSLATOR_DATA,
+					bridge.resultDmTranslator(),
+					bridge.resultDmTranslator() == null ? null : TRANSLATOR_DATA });
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_HEADER, headers);
+		jdbcTemplate.batchUpdate(INSERT_DETAILS, details);
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void assertMatches(final RequestBuilder builder, final Predicate<SeedBridge> filter) {
+		final NormalizedTranslationQueryRequestDTO dto = builder.page(PageRequest.of(0, BRIDGE_COUNT, Direction.ASC, BridgeDetails.SORT_NAME_HEADER_CREATED_AT)).build();
+		final List<SeedBridge> expected = expected(filter);
+
+		assertFalse(expected.isEmpty(), "the test data must contain matching records");
+		assertTrue(expected.size() < BRIDGE_COUNT, "the test data must contain not matching records");
+		assertEquals(expected.stream().map(SeedBridge::id).toList(), ids(dbService.getBridgeDetailsPage(dto).getContent()));
+		assertEquals(expected.size(), dbService.countBridgeDetails(dto));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<SeedBridge> expected(final Predicate<SeedBridge> filter) {
+		return bridges.stream().filter(filter).toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// NULL is the smallest value, the id is the tie breaker in the same direction
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private List<Long> sorted(final List<SeedBridge> records, final String sortField, final Direction direction) {
+		final Function<SeedBridge, Comparable> key = switch (sortField) {
+		case BridgeDetails.SORT_NAME_HEADER_UUID -> b -> b.uuid().toString();
+		case BridgeDetails.SORT_NAME_HEADER_CREATED_BY -> SeedBridge::createdBy;
+		case BridgeDetails.SORT_NAME_HEADER_STATUS -> b -> b.status().name();
+		case BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT -> SeedBridge::usageReportCount;
+		case BridgeDetails.SORT_NAME_HEADER_ALIVES_AT -> b -> b.alivesAt() == null ? null : b.alivesAt().toInstant();
+		case BridgeDetails.SORT_NAME_HEADER_CREATED_AT -> b -> b.createdAt().toInstant();
+		case "consumer" -> SeedBridge::consumer;
+		case "provider" -> SeedBridge::provider;
+		case "serviceDefinition" -> SeedBridge::serviceDefinition;
+		default -> throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+		};
+
+		Comparator<SeedBridge> comparator = (first, second) -> {
+			final Comparable firstValue = key.apply(first);
+			final Comparable secondValue = key.apply(second);
+			if (firstValue == null || secondValue == null) {
+				return firstValue == secondValue ? 0 : (firstValue == null ? -1 : 1);
+			}
+
+			return firstValue.compareTo(secondValue);
+		};
+		comparator = comparator.thenComparingLong(SeedBridge::id);
+		if (direction == Direction.DESC) {
+			comparator = comparator.reversed();
+		}
+
+		return records.stream().sorted(comparator).map(SeedBridge::id).toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<Long> ids(final List<BridgeDetails> records) {
+		return records.stream().map(BridgeDetails::getId).toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private RequestBuilder request() {
+		return new RequestBuilder();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static UUID bridgeId(final int index) {
+		return new UUID(0, index + 1);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static ZonedDateTime createdAt(final int index) {
+		return BASE_TIME.plusMinutes(index);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// not monotonous in the index, so sorting by alive time differs from sorting by creation time
+	private static ZonedDateTime alivesAt(final int index) {
+		return BASE_TIME.plusHours(1).plusMinutes((index * 13) % BRIDGE_COUNT);
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record SeedBridge(
+			long id,
+			UUID uuid,
+			String createdBy,
+			TranslationBridgeStatus status,
+			int usageReportCount,
+			ZonedDateTime alivesAt,
+			ZonedDateTime createdAt,
+			String consumer,
+			String provider,
+			String serviceDefinition,
+			String interfaceTranslator,
+			String inputDmTranslator,
+			String resultDmTranslator) {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class RequestBuilder {
+
+		//=================================================================================================
+		// members
+
+		private PageRequest page = PageRequest.of(0, BRIDGE_COUNT);
+		private List<UUID> bridgeIds;
+		private List<String> creators;
+		private List<TranslationBridgeStatus> statuses;
+		private List<String> consumers;
+		private List<String> providers;
+		private List<String> serviceDefinitions;
+		private List<String> interfaceTranslators;
+		private List<String> dataModelTranslators;
+		private ZonedDateTime creationFrom;
+		private ZonedDateTime creationTo;
+		private ZonedDateTime alivesFrom;
+		private ZonedDateTime alivesTo;
+		private Integer minUsage;
+		private Integer maxUsage;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder page(final PageRequest page) {
+			this.page = page;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder bridgeIds(final List<UUID> bridgeIds) {
+			this.bridgeIds = bridgeIds;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder creators(final List<String> creators) {
+			this.creators = creators;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder statuses(final List<TranslationBridgeStatus> statuses) {
+			this.statuses = statuses;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder consumers(final List<String> consumers) {
+			this.consumers = consumers;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder providers(final List<String> providers) {
+			this.providers = providers;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder serviceDefinitions(final List<String> serviceDefinitions) {
+			this.serviceDefinitions = serviceDefinitions;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder interfaceTranslators(final List<String> interfaceTranslators) {
+			this.interfaceTranslators = interfaceTranslators;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder dataModelTranslators(final List<String> dataModelTranslators) {
+			this.dataModelTranslators = dataModelTranslators;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder creationFrom(final ZonedDateTime creationFrom) {
+			this.creationFrom = creationFrom;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder creationTo(final ZonedDateTime creationTo) {
+			this.creationTo = creationTo;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder alivesFrom(final ZonedDateTime alivesFrom) {
+			this.alivesFrom = alivesFrom;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder alivesTo(final ZonedDateTime alivesTo) {
+			this.alivesTo = alivesTo;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder minUsage(final Integer minUsage) {
+			this.minUsage = minUsage;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private RequestBuilder maxUsage(final Integer maxUsage) {
+			this.maxUsage = maxUsage;
+			return this;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private NormalizedTranslationQueryRequestDTO build() {
+			return new NormalizedTranslationQueryRequestDTO(
+					page,
+					bridgeIds,
+					creators,
+					statuses,
+					consumers,
+					providers,
+					serviceDefinitions,
+					interfaceTranslators,
+					dataModelTranslators,
+					creationFrom,
+					creationTo,
+					alivesFrom,
+					alivesTo,
+					minUsage,
+					maxUsage);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// only the persistence layer of the application is started
+	@Configuration
+	@EnableAutoConfiguration
+	@EntityScan(TranslationManagerConstants.DATABASE_ENTITY_PACKAGE)
+	@EnableJpaRepositories(basePackages = TranslationManagerConstants.DATABASE_REPOSITORY_PACKAGE, repositoryBaseClass = RefreshableRepositoryImpl.class)
+	@Import(BridgeDbService.class)
+	public static class TestDatabaseConfig {
+	}
+}
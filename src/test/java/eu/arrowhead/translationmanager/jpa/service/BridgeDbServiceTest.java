@@ -24,8 +24,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,8 +40,8 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,7 +51,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.util.Pair;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.Utilities;
@@ -64,6 +75,9 @@ import eu.arrowhead.translationmanager.jpa.repository.BridgeDetailsRepository;
 import eu.arrowhead.translationmanager.jpa.repository.BridgeDiscoveryRepository;
 import eu.arrowhead.translationmanager.jpa.repository.BridgeHeaderRepository;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.AbortResult;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.CleanupResult;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.UsageReport;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.TranslationDiscoveryModel;
@@ -86,6 +100,11 @@ public class BridgeDbServiceTest {
 	@Mock
 	private BridgeDiscoveryRepository discoveryRepository;
 
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private static final String BRIDGE_ID = "0b8b6e0c-5a69-4f3c-9d6b-0f9a2a8c6e71";
+
 	//=================================================================================================
 	// methods
 
@@ -279,25 +298,16 @@ public class BridgeDbServiceTest {
 	@Test
 	public void testHandleTranslationReportDbException() {
 		final String bridgeId = "42ab0775-26cc-49aa-87a4-2313f9d9975b";
+		final ZonedDateTime timestamp = ZonedDateTime.of(2026, 2, 20, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
 		final NormalizedTranslationReportRequestDTO dto = new NormalizedTranslationReportRequestDTO(
 				"InterfaceTranslator",
 				UUID.fromString(bridgeId),
-				ZonedDateTime.of(2026, 2, 20, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				timestamp,
 				TranslationBridgeEventState.INTERNAL_ERROR,
 				"Error");
 
-		final BridgeHeader header = new BridgeHeader(UUID.fromString(bridgeId), "Creator");
-		header.setId(1L);
-		header.setStatus(TranslationBridgeStatus.USED);
-
-		final BridgeDetails details = new BridgeDetails();
-		details.setId(1L);
-		details.setHeader(header);
-		details.setInterfaceTranslator("InterfaceTranslator");
-
-		when(headerRepository.findByUuid(bridgeId)).thenReturn(Optional.of(header));
-		when(detailsRepository.findByHeader(header)).thenReturn(Optional.of(details));
-		when(headerRepository.saveAndFlush(header)).thenThrow(RuntimeException.class);
+		when(headerRepository.applyReport(eq(bridgeId), eq("InterfaceTranslator"), any(), any(), eq(timestamp), anyInt(), eq("Error"), any(ZonedDateTime.class)))
+				.thenThrow(RuntimeException.class);
 
 		final ArrowheadException ex = assertThrows(
 				InternalServerError.class,
@@ -305,9 +315,8 @@ public class BridgeDbServiceTest {
 
 		assertEquals("Database operation error", ex.getMessage());
 
-		verify(headerRepository).findByUuid(bridgeId);
-		verify(detailsRepository).findByHeader(header);
-		verify(headerRepository).saveAndFlush(header);
+		verify(headerRepository).applyReport(eq(bridgeId), eq("InterfaceTranslator"), any(), any(), eq(timestamp), anyInt(), eq("Error"), any(ZonedDateTime.class));
+		verify(headerRepository, never()).findByUuid(anyString());
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -322,29 +331,142 @@ public class BridgeDbServiceTest {
 				TranslationBridgeEventState.USED,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(UUID.fromString(bridgeId), "Creator");
-		header.setId(1L);
-		header.setStatus(TranslationBridgeStatus.INITIALIZED);
-		header.setUsageReportCount(0);
+		when(headerRepository.applyReport(
+				eq(bridgeId),
+				eq("InterfaceTranslator"),
+				argThat(statuses -> statuses.contains(TranslationBridgeStatus.INITIALIZED) && !statuses.contains(TranslationBridgeStatus.CLOSED)),
+				eq(TranslationBridgeStatus.USED),
+				eq(timestamp),
+				eq(1),
+				isNull(),
+				any(ZonedDateTime.class)))
+				.thenReturn(1);
 
-		final BridgeDetails details = new BridgeDetails();
-		details.setId(1L);
-		details.setHeader(header);
-		details.setInterfaceTranslator("InterfaceTranslator");
+		assertDoesNotThrow(() -> dbService.handleTranslationReport(dto));
 
-		when(headerRepository.findByUuid(bridgeId)).thenReturn(Optional.of(header));
-		when(detailsRepository.findByHeader(header)).thenReturn(Optional.of(details));
-		when(headerRepository.saveAndFlush(header)).thenReturn(header);
+		verify(headerRepository).applyReport(eq(bridgeId), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(1), isNull(), any(ZonedDateTime.class));
+		verify(headerRepository, never()).findByUuid(anyString());
+		verify(detailsRepository, never()).findByHeader(any(BridgeHeader.class));
+		verify(headerRepository, never()).saveAndFlush(any(BridgeHeader.class));
+	}
 
-		assertDoesNotThrow(() -> dbService.handleTranslationReport(dto));
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleTranslationReportsInputNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.handleTranslationReports(null));
+
+		assertEquals("dto list is null", ex.getMessage());
+	}
 
-		assertEquals(TranslationBridgeStatus.USED, header.getStatus());
-		assertEquals(timestamp, header.getAlivesAt());
-		assertEquals(1, header.getUsageReportCount());
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleTranslationReportsBridgeIdNull() {
+		final NormalizedTranslationReportRequestDTO dto = new NormalizedTranslationReportRequestDTO("Requester", null, null, null, null);
 
-		verify(headerRepository).findByUuid(bridgeId);
-		verify(detailsRepository).findByHeader(header);
-		verify(headerRepository).saveAndFlush(header);
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.handleTranslationReports(List.of(dto)));
+
+		assertEquals("bridgeId is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleTranslationReportsDbException() {
+		final ZonedDateTime timestamp = ZonedDateTime.of(2026, 2, 20, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final NormalizedTranslationReportRequestDTO dto = new NormalizedTranslationReportRequestDTO(
+				"InterfaceTranslator",
+				UUID.fromString(BRIDGE_ID),
+				timestamp,
+				TranslationBridgeEventState.USED,
+				null);
+
+		when(headerRepository.applyReport(eq(BRIDGE_ID), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(1), isNull(), any(ZonedDateTime.class)))
+				.thenThrow(RuntimeException.class);
+
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.handleTranslationReports(List.of(dto)));
+
+		assertEquals("Database operation error", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleTranslationReportsOk() {
+		final String otherBridgeId = "42ab0775-26cc-49aa-87a4-2313f9d9975b";
+		final ZonedDateTime timestamp = ZonedDateTime.of(2026, 2, 20, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final NormalizedTranslationReportRequestDTO dto1 = new NormalizedTranslationReportRequestDTO(
+				"InterfaceTranslator",
+				UUID.fromString(BRIDGE_ID),
+				timestamp,
+				TranslationBridgeEventState.USED,
+				null);
+		final NormalizedTranslationReportRequestDTO dto2 = new NormalizedTranslationReportRequestDTO(
+				"InterfaceTranslator",
+				UUID.fromString(otherBridgeId),
+				timestamp,
+				TranslationBridgeEventState.USED,
+				null);
+
+		when(headerRepository.applyReport(eq(BRIDGE_ID), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(1), isNull(), any(ZonedDateTime.class)))
+				.thenReturn(1);
+		when(headerRepository.applyReport(eq(otherBridgeId), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(1), isNull(), any(ZonedDateTime.class)))
+				.thenReturn(0);
+		when(headerRepository.findByUuid(otherBridgeId)).thenReturn(Optional.empty());
+
+		final List<ArrowheadException> result = dbService.handleTranslationReports(List.of(dto1, dto2));
+
+		assertEquals(2, result.size());
+		assertNull(result.get(0));
+		assertEquals(InvalidParameterException.class, result.get(1).getClass());
+		assertEquals("Invalid bridge id: " + otherBridgeId, result.get(1).getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleAggregatedUsageReportsInputNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.handleAggregatedUsageReports(null));
+
+		assertEquals("reports list is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleAggregatedUsageReportsDbException() {
+		final ZonedDateTime timestamp = ZonedDateTime.of(2026, 2, 20, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final UsageReport report = new UsageReport(UUID.fromString(BRIDGE_ID), "InterfaceTranslator", 5, timestamp);
+
+		when(headerRepository.applyReport(eq(BRIDGE_ID), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(5), isNull(), any(ZonedDateTime.class)))
+				.thenThrow(RuntimeException.class);
+
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.handleAggregatedUsageReports(List.of(report)));
+
+		assertEquals("Database operation error", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHandleAggregatedUsageReportsOk() {
+		final String otherBridgeId = "42ab0775-26cc-49aa-87a4-2313f9d9975b";
+		final ZonedDateTime timestamp = ZonedDateTime.of(2026, 2, 20, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final UsageReport report1 = new UsageReport(UUID.fromString(BRIDGE_ID), "InterfaceTranslator", 5, timestamp);
+		final UsageReport report2 = new UsageReport(UUID.fromString(otherBridgeId), "InterfaceTranslator", 2, timestamp);
+
+		when(headerRepository.applyReport(eq(BRIDGE_ID), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(5), isNull(), any(ZonedDateTime.class)))
+				.thenReturn(1);
+		when(headerRepository.applyReport(eq(otherBridgeId), eq("InterfaceTranslator"), any(), eq(TranslationBridgeStatus.USED), eq(timestamp), eq(2), isNull(), any(ZonedDateTime.class)))
+				.thenReturn(0);
+
+		final List<UUID> result = dbService.handleAggregatedUsageReports(List.of(report1, report2));
+
+		assertEquals(List.of(UUID.fromString(otherBridgeId)), result);
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -647,6 +769,7 @@ public class BridgeDbServiceTest {
 	public void testUpdateDetailsRecordDbException() {
 		final BridgeDetails details = new BridgeDetails();
 		details.setId(1L);
+		details.setHeader(new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator"));
 
 		when(detailsRepository.findById(1L)).thenThrow(RuntimeException.class);
 
@@ -664,6 +787,7 @@ public class BridgeDbServiceTest {
 	public void testUpdateDetailsRecordNotFound() {
 		final BridgeDetails details = new BridgeDetails();
 		details.setId(1L);
+		details.setHeader(new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator"));
 
 		when(detailsRepository.findById(1L)).thenReturn(Optional.empty());
 
@@ -677,7 +801,7 @@ public class BridgeDbServiceTest {
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testUpdateDetailsRecordEndState() {
-		final BridgeHeader header = new BridgeHeader();
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 		header.setId(1L);
 		header.setStatus(TranslationBridgeStatus.CLOSED);
 		final BridgeDetails details = new BridgeDetails();
@@ -696,7 +820,7 @@ public class BridgeDbServiceTest {
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testUpdateDetailsRecordOk() {
-		final BridgeHeader header = new BridgeHeader();
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 		header.setId(1L);
 		header.setStatus(TranslationBridgeStatus.DISCOVERED);
 		final BridgeDetails details = new BridgeDetails();
@@ -727,10 +851,11 @@ public class BridgeDbServiceTest {
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testBridgeInitializedDbException() {
-		final BridgeHeader header = new BridgeHeader();
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 		header.setId(1L);
 		header.setStatus(TranslationBridgeStatus.PENDING);
 
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(header));
 		when(headerRepository.saveAndFlush(header)).thenThrow(RuntimeException.class);
 
 		final Throwable ex = assertThrows(
@@ -745,10 +870,11 @@ public class BridgeDbServiceTest {
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testBridgeInitializedOk() {
-		final BridgeHeader header = new BridgeHeader();
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 		header.setId(1L);
 		header.setStatus(TranslationBridgeStatus.PENDING);
 
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(header));
 		when(headerRepository.saveAndFlush(header)).thenReturn(header);
 
 		final boolean result = dbService.bridgeInitialized(header);
@@ -759,13 +885,88 @@ public class BridgeDbServiceTest {
 		verify(headerRepository).saveAndFlush(header);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBridgeInitializedRetryOnConflict() {
+		ReflectionTestUtils.setField(dbService, "maxUpdateAttempts", 2);
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
+		header.setId(1L);
+		header.setStatus(TranslationBridgeStatus.PENDING);
+
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(header));
+		when(headerRepository.saveAndFlush(header))
+				.thenThrow(new ObjectOptimisticLockingFailureException(BridgeHeader.class, 1L))
+				.thenReturn(header);
+
+		final boolean result = dbService.bridgeInitialized(header);
+
+		assertFalse(result);
+
+		verify(headerRepository, times(2)).findByUuid(BRIDGE_ID);
+		verify(headerRepository, times(2)).saveAndFlush(header);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBridgeInitializedConflictRetriesExhausted() {
+		ReflectionTestUtils.setField(dbService, "maxUpdateAttempts", 2);
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
+		header.setId(1L);
+		header.setStatus(TranslationBridgeStatus.PENDING);
+
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(header));
+		when(headerRepository.saveAndFlush(header)).thenThrow(new ObjectOptimisticLockingFailureException(BridgeHeader.class, 1L));
+
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.bridgeInitialized(header));
+
+		assertEquals("Database operation error", ex.getMessage());
+
+		verify(headerRepository, times(2)).saveAndFlush(header);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBridgeInitializedOutdatedHeader() {
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
+		header.setId(1L);
+		header.setStatus(TranslationBridgeStatus.PENDING);
+		final BridgeHeader current = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
+		current.setId(1L);
+		current.setStatus(TranslationBridgeStatus.ABORTED);
+
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(current));
+
+		final boolean result = dbService.bridgeInitialized(header);
+
+		assertTrue(result);
+		assertEquals(TranslationBridgeStatus.ABORTED, current.getStatus());
+
+		verify(headerRepository, never()).saveAndFlush(any(BridgeHeader.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBridgeInitializedNotFound() {
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
+
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.empty());
+
+		assertTrue(dbService.bridgeInitialized(header));
+
+		verify(headerRepository, never()).saveAndFlush(any(BridgeHeader.class));
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testBridgeInitializedEndState() {
-		final BridgeHeader header = new BridgeHeader();
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 		header.setId(1L);
 		header.setStatus(TranslationBridgeStatus.ABORTED);
 
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(header));
+
 		final boolean result = dbService.bridgeInitialized(header);
 
 		assertTrue(result);
@@ -776,10 +977,12 @@ public class BridgeDbServiceTest {
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testBridgeInitializedOtherState() {
-		final BridgeHeader header = new BridgeHeader();
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 		header.setId(1L);
 		header.setStatus(TranslationBridgeStatus.INITIALIZED);
 
+		when(headerRepository.findByUuid(BRIDGE_ID)).thenReturn(Optional.of(header));
+
 		final boolean result = dbService.bridgeInitialized(header);
 
 		assertFalse(result);
@@ -1043,6 +1246,7 @@ public class BridgeDbServiceTest {
 	@Test
 	public void testGetBridgeDetailsPageDbException() {
 		final PageRequest pageRequest = PageRequest.of(0, 10);
+		final PageRequest sortedPageRequest = PageRequest.of(0, 10, Sort.by(Direction.ASC, "id"));
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
 				pageRequest,
 				null,
@@ -1060,7 +1264,7 @@ public class BridgeDbServiceTest {
 				null,
 				null);
 
-		when(detailsRepository.findAll(pageRequest)).thenThrow(RuntimeException.class);
+		when(detailsRepository.findAll(sortedPageRequest)).thenThrow(RuntimeException.class);
 
 		final Throwable ex = assertThrows(
 				InternalServerError.class,
@@ -1076,6 +1280,7 @@ public class BridgeDbServiceTest {
 	@Test
 	public void testGetBridgeDetailsPageNoFilters() {
 		final PageRequest pageRequest = PageRequest.of(0, 10);
+		final PageRequest sortedPageRequest = PageRequest.of(0, 10, Sort.by(Direction.ASC, "id"));
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
 				pageRequest,
 				null,
@@ -1096,7 +1301,7 @@ public class BridgeDbServiceTest {
 		final BridgeDetails details = new BridgeDetails();
 		details.setId(1L);
 
-		when(detailsRepository.findAll(pageRequest)).thenReturn(new PageImpl<>(List.of(details)));
+		when(detailsRepository.findAll(sortedPageRequest)).thenReturn(new PageImpl<>(List.of(details)));
 
 		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
 
@@ -1108,18 +1313,17 @@ public class BridgeDbServiceTest {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
 	@Test
-	public void testGetBridgeDetailsPageWithFilters1() {
+	public void testGetBridgeDetailsPageWithFiltersDbException() {
 		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+		final PageRequest sortedPageRequest = PageRequest.of(0, 10, Sort.by(Direction.ASC, "id"));
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
 				pageRequest,
-				List.of(uuid),
 				null,
 				null,
-				List.of("OtherConsumer"),
+				null,
+				List.of("TestConsumer"),
 				null,
 				null,
 				null,
@@ -1131,39 +1335,79 @@ public class BridgeDbServiceTest {
 				null,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
+		when(detailsRepository.findAll(any(Specification.class), eq(sortedPageRequest))).thenThrow(RuntimeException.class);
+
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.getBridgeDetailsPage(dto));
+
+		assertEquals("Database operation error", ex.getMessage());
+
+		verify(detailsRepository, never()).findAll(sortedPageRequest);
+		verify(detailsRepository).findAll(any(Specification.class), eq(sortedPageRequest));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
+	@Test
+	public void testGetBridgeDetailsPageWithFilters() {
+		final PageRequest pageRequest = PageRequest.of(0, 10);
+		final PageRequest sortedPageRequest = PageRequest.of(0, 10, Sort.by(Direction.ASC, "id"));
+		final UUID uuid = UUID.fromString("82b6d4db-71e4-4db0-a546-8d3250525570");
+		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
+				pageRequest,
+				List.of(uuid),
+				List.of("Creator"),
+				List.of(TranslationBridgeStatus.USED),
+				List.of("TestConsumer"),
+				List.of("TestProvider"),
+				List.of("testService"),
+				List.of("InterfaceTranslator"),
+				List.of("InputDMTranslator"),
+				ZonedDateTime.of(2026, 2, 25, 0, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				ZonedDateTime.of(2026, 2, 26, 0, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				ZonedDateTime.of(2026, 2, 26, 0, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				ZonedDateTime.of(2026, 2, 27, 0, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				1,
+				5);
+
 		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
+		details.setHeader(new BridgeHeader(uuid, "Creator"));
 		details.setId(1L);
-		details.setConsumer("TestConsumer");
 
-		when(detailsRepository.findByHeader_UuidIn(List.of(bridgeId))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
+		when(detailsRepository.findAll(any(Specification.class), eq(sortedPageRequest))).thenReturn(new PageImpl<>(List.of(details)));
 
 		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
 
 		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertEquals(1, result.getTotalElements());
+		assertEquals(details, result.getContent().get(0));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByHeader_UuidIn(List.of(bridgeId));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(detailsRepository, never()).findAll(sortedPageRequest);
+		verify(detailsRepository).findAll(any(Specification.class), eq(sortedPageRequest));
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters2() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+	public void testGetBridgeDetailsSliceInputNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.getBridgeDetailsSlice(null, null));
+
+		assertEquals("dto is missing", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
+	@Test
+	public void testGetBridgeDetailsSliceDbException() {
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				List.of(uuid),
+				PageRequest.of(0, 2, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD),
+				null,
+				null,
+				null,
 				null,
 				null,
-				List.of("TestConsumer"),
-				List.of("OtherProvider"),
 				null,
 				null,
 				null,
@@ -1174,41 +1418,27 @@ public class BridgeDbServiceTest {
 				null,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-
-		when(detailsRepository.findByHeader_UuidIn(List.of(bridgeId))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
+		when(detailsRepository.findBy(any(Specification.class), any(Function.class))).thenThrow(RuntimeException.class);
 
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.getBridgeDetailsSlice(dto, null));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByHeader_UuidIn(List.of(bridgeId));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		assertEquals("Database operation error", ex.getMessage());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
 	@Test
-	public void testGetBridgeDetailsPageWithFilters3() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+	public void testGetBridgeDetailsSliceHasNext() {
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				List.of(uuid),
+				PageRequest.of(3, 2, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD),
+				null,
+				null,
+				null,
 				null,
 				null,
 				null,
-				List.of("TestProvider"),
-				List.of("otherService"),
 				null,
 				null,
 				null,
@@ -1217,44 +1447,40 @@ public class BridgeDbServiceTest {
 				null,
 				null,
 				null);
+		final BridgeQueryCursor cursor = new BridgeQueryCursor(BridgeDetails.DEFAULT_SORT_FIELD, Direction.DESC, "2026-03-01T10:00:00Z", 10);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
+		final BridgeDetails details1 = new BridgeDetails();
+		details1.setId(9L);
+		final BridgeDetails details2 = new BridgeDetails();
+		details2.setId(8L);
+		final BridgeDetails details3 = new BridgeDetails();
+		details3.setId(7L);
 
-		when(detailsRepository.findByHeader_UuidIn(List.of(bridgeId))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
+		when(detailsRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(List.of(details1, details2, details3));
 
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		final Slice<BridgeDetails> result = dbService.getBridgeDetailsSlice(dto, cursor);
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertTrue(result.hasNext());
+		assertEquals(List.of(details1, details2), result.getContent());
+		assertEquals(0, result.getNumber());
+		assertEquals(Sort.by(Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD).and(Sort.by(Direction.DESC, "id")), result.getSort());
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByHeader_UuidIn(List.of(bridgeId));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(detailsRepository, never()).count(any(Specification.class));
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
 	@Test
-	public void testGetBridgeDetailsPageWithFilters4() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+	public void testGetBridgeDetailsSliceLastSlice() {
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
+				PageRequest.of(0, 2, Direction.ASC, "consumer"),
 				null,
 				null,
 				null,
 				List.of("TestConsumer"),
 				null,
-				List.of("testService"),
-				List.of("OtherInterfaceTranslator"),
+				null,
+				null,
 				null,
 				null,
 				null,
@@ -1263,793 +1489,279 @@ public class BridgeDbServiceTest {
 				null,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
 		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
 		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-
-		when(detailsRepository.findByConsumerIn(List.of("TestConsumer"))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
 
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		when(detailsRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(List.of(details));
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		final Slice<BridgeDetails> result = dbService.getBridgeDetailsSlice(dto, null);
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByConsumerIn(List.of("TestConsumer"));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		assertFalse(result.hasNext());
+		assertEquals(List.of(details), result.getContent());
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters5() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+	public void testCountBridgeDetailsNoFilters() {
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
+				PageRequest.of(0, 10),
 				null,
 				null,
-				List.of(TranslationBridgeStatus.INITIALIZED),
 				null,
-				List.of("TestProvider"),
 				null,
-				List.of("InterfaceTranslator"),
 				null,
 				null,
 				null,
 				null,
 				null,
 				null,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-
-		when(detailsRepository.findByProviderIn(List.of("TestProvider"))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
-
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByProviderIn(List.of("TestProvider"));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
-	@Test
-	public void testGetBridgeDetailsPageWithFilters6() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				List.of("Other"),
-				List.of(TranslationBridgeStatus.USED),
-				null,
-				null,
-				List.of("testService"),
-				null,
-				null,
-				null,
-				null,
 				null,
 				null,
 				null,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-
-		when(detailsRepository.findByServiceDefinitionIn(List.of("testService"))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		when(detailsRepository.count()).thenReturn(42L);
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertEquals(42L, dbService.countBridgeDetails(dto));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByServiceDefinitionIn(List.of("testService"));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(detailsRepository).count();
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
 	@Test
-	public void testGetBridgeDetailsPageWithFilters7() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+	public void testCountBridgeDetailsWithFilters() {
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
+				PageRequest.of(0, 10),
 				null,
 				List.of("Creator"),
 				null,
 				null,
 				null,
 				null,
-				List.of("InterfaceTranslator"),
-				List.of("OtherDataModelTranslator"),
-				null,
-				null,
-				null,
-				null,
 				null,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findByInterfaceTranslatorIn(List.of("InterfaceTranslator"))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
-
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByInterfaceTranslatorIn(List.of("InterfaceTranslator"));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
-	@Test
-	public void testGetBridgeDetailsPageWithFilters8() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
 				null,
 				null,
-				List.of(TranslationBridgeStatus.USED),
-				null,
-				null,
-				null,
-				null,
-				List.of("ResultDMTranslator"),
-				ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
 				null,
 				null,
 				null,
 				null,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 23, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findByHeader_StatusIn(List.of(TranslationBridgeStatus.USED))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		when(detailsRepository.count(any(Specification.class))).thenReturn(3L);
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertEquals(3L, dbService.countBridgeDetails(dto));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByHeader_StatusIn(List.of(TranslationBridgeStatus.USED));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(detailsRepository, never()).count();
+		verify(detailsRepository).count(any(Specification.class));
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters9() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
+	public void testCountBridgeDetailsDbException() {
 		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
+				PageRequest.of(0, 10),
 				null,
-				List.of("Creator"),
 				null,
 				null,
 				null,
 				null,
 				null,
-				List.of("InputDMTranslator"),
-				ZonedDateTime.of(2026, 2, 23, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				ZonedDateTime.of(2026, 2, 24, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				null,
-				null,
-				null,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findByHeader_CreatedByIn(List.of("Creator"))).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
-
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findByHeader_CreatedByIn(List.of("Creator"));
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
-	@Test
-	public void testGetBridgeDetailsPageWithFilters10() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
 				null,
 				null,
 				null,
 				null,
 				null,
 				null,
-				ZonedDateTime.of(2026, 2, 26, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				null,
 				null,
 				null);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt(null);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		when(detailsRepository.count()).thenThrow(RuntimeException.class);
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.countBridgeDetails(dto));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		assertEquals("Database operation error", ex.getMessage());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters11() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				null,
-				null,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt(ZonedDateTime.of(2026, 2, 26, 7, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+	public void testCleanObsoletedBridgeDiscoveriesNullThreshold() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.cleanObsoletedBridgeDiscoveries(null, 10));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		assertEquals("threshold is missing", ex.getMessage());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters12() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				ZonedDateTime.of(2026, 2, 26, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				null,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt(ZonedDateTime.of(2026, 2, 26, 11, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+	public void testCleanObsoletedBridgeDiscoveriesInvalidLimit() {
+		final ZonedDateTime threshold = ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC));
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.cleanObsoletedBridgeDiscoveries(threshold, 0));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		assertEquals("limit is not positive", ex.getMessage());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters13() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				ZonedDateTime.of(2026, 2, 26, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				null,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt(null);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
+	public void testCleanObsoletedBridgeDiscoveriesDbException() {
+		final ZonedDateTime threshold = ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC));
 
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
+		when(headerRepository.findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, 10))).thenThrow(RuntimeException.class);
 
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		final Throwable ex = assertThrows(
+				InternalServerError.class,
+				() -> dbService.cleanObsoletedBridgeDiscoveries(threshold, 10));
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertEquals("Database operation error", ex.getMessage());
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(headerRepository).findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, 10));
+		verify(discoveryRepository, never()).deleteByHeaderIds(any());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters14() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				ZonedDateTime.of(2026, 2, 26, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
-				5,
-				null);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt((ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC))));
-		header.setUsageReportCount(2);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
+	public void testCleanObsoletedBridgeDiscoveriesNothingToDo() {
+		final ZonedDateTime threshold = ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC));
 
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
+		when(headerRepository.findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, 10))).thenReturn(List.of());
 
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		final CleanupResult result = dbService.cleanObsoletedBridgeDiscoveries(threshold, 10);
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertEquals(new CleanupResult(0, 0, 0), result);
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(headerRepository).findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, 10));
+		verify(headerRepository, never()).updateStatusByIds(any(), any(), any(), anyString(), any());
+		verify(discoveryRepository, never()).deleteByHeaderIds(any());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters15() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				1);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt((ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC))));
-		header.setUsageReportCount(2);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
+	public void testCleanObsoletedBridgeDiscoveriesOk() {
+		final ZonedDateTime threshold = ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final List<Long> ids = List.of(1L, 2L, 3L);
 
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(), pageRequest)).thenReturn(new PageImpl<>(List.of()));
+		when(headerRepository.findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, 10))).thenReturn(ids);
+		when(headerRepository.updateStatusByIds(
+				eq(ids),
+				argThat(statuses -> statuses.contains(TranslationBridgeStatus.PENDING)
+						&& statuses.stream().noneMatch(s -> s.isActiveStatus() || s.isEndStatus())),
+				eq(TranslationBridgeStatus.CLOSED),
+				eq("Closed by TranslationManager because of inactivity"),
+				any(ZonedDateTime.class))).thenReturn(2);
+		when(discoveryRepository.deleteByHeaderIds(ids)).thenReturn(5);
 
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
+		final CleanupResult result = dbService.cleanObsoletedBridgeDiscoveries(threshold, 10);
 
-		assertNotNull(result);
-		assertTrue(result.isEmpty());
+		assertEquals(3, result.bridgeCount());
+		assertEquals(2, result.closedCount());
+		assertEquals(5, result.deletedDiscoveryCount());
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(), pageRequest);
+		verify(headerRepository).findIdsWithDiscoveriesCreatedBefore(threshold, PageRequest.of(0, 10));
+		verify(headerRepository).updateStatusByIds(eq(ids), any(), eq(TranslationBridgeStatus.CLOSED), anyString(), any(ZonedDateTime.class));
+		verify(discoveryRepository).deleteByHeaderIds(ids);
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters16() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				1,
-				5);
-
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt((ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC))));
-		header.setUsageReportCount(2);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(1L), pageRequest)).thenReturn(new PageImpl<>(List.of(details)));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertEquals(1, result.getTotalElements());
-		assertEquals(details, result.getContent().get(0));
+	public void testCloseExpiredBridgeDiscoveriesEmptyInput() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> dbService.closeExpiredBridgeDiscoveries(List.of()));
 
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(1L), pageRequest);
+		assertEquals("bridgeIds list is missing", ex.getMessage());
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testGetBridgeDetailsPageWithFilters17() {
-		final PageRequest pageRequest = PageRequest.of(0, 10);
-		final String bridgeId = "82b6d4db-71e4-4db0-a546-8d3250525570";
-		final UUID uuid = UUID.fromString(bridgeId);
-		final NormalizedTranslationQueryRequestDTO dto = new NormalizedTranslationQueryRequestDTO(
-				pageRequest,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				null,
-				1,
-				null);
+	public void testCloseExpiredBridgeDiscoveriesDbException() {
+		when(headerRepository.findIdsWithDiscoveriesByUuids(List.of(BRIDGE_ID))).thenThrow(RuntimeException.class);
 
-		final BridgeHeader header = new BridgeHeader(uuid, "Creator");
-		header.setStatus(TranslationBridgeStatus.USED);
-		header.setCreatedAt(ZonedDateTime.of(2026, 2, 25, 10, 0, 0, 0, ZoneId.of(Constants.UTC)));
-		header.setAlivesAt((ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC))));
-		header.setUsageReportCount(2);
-		final BridgeDetails details = new BridgeDetails();
-		details.setHeader(header);
-		details.setId(1L);
-		details.setConsumer("TestConsumer");
-		details.setProvider("TestProvider");
-		details.setServiceDefinition("testService");
-		details.setInterfaceTranslator("InterfaceTranslator");
-		details.setInputDmTranslator("InputDMTranslator");
-		details.setResultDmTranslator("ResultDMTranslator");
-
-		when(detailsRepository.findAll()).thenReturn(List.of(details));
-		when(detailsRepository.findAllByIdIn(Set.of(1L), pageRequest)).thenReturn(new PageImpl<>(List.of(details)));
-
-		final Page<BridgeDetails> result = dbService.getBridgeDetailsPage(dto);
-
-		assertNotNull(result);
-		assertEquals(1, result.getTotalElements());
-		assertEquals(details, result.getContent().get(0));
-
-		verify(detailsRepository, never()).findAll(pageRequest);
-		verify(detailsRepository).findAll();
-		verify(detailsRepository).findAllByIdIn(Set.of(1L), pageRequest);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	@Test
-	public void testGetBridgeDiscoveriesCreatedBeforeNullThreshold() {
 		final Throwable ex = assertThrows(
-				IllegalArgumentException.class,
-				() -> dbService.getBridgeDiscoveriesCreatedBefore(null));
+				InternalServerError.class,
+				() -> dbService.closeExpiredBridgeDiscoveries(List.of(UUID.fromString(BRIDGE_ID))));
 
-		assertEquals("threshold is missing", ex.getMessage());
+		assertEquals("Database operation error", ex.getMessage());
+
+		verify(headerRepository).findIdsWithDiscoveriesByUuids(List.of(BRIDGE_ID));
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
-	public void testGetBridgeDiscoveriesCreatedBeforeDbException() {
-		final ZonedDateTime threshold = ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC));
+	public void testCloseExpiredBridgeDiscoveriesAlreadySelected() {
+		when(headerRepository.findIdsWithDiscoveriesByUuids(List.of(BRIDGE_ID))).thenReturn(List.of());
 
-		when(discoveryRepository.findByHeader_CreatedAtLessThan(threshold)).thenThrow(RuntimeException.class);
+		final CleanupResult result = dbService.closeExpiredBridgeDiscoveries(List.of(UUID.fromString(BRIDGE_ID)));
 
-		final Throwable ex = assertThrows(
-				InternalServerError.class,
-				() -> dbService.getBridgeDiscoveriesCreatedBefore(threshold));
-
-		assertEquals("Database operation error", ex.getMessage());
+		assertEquals(new CleanupResult(0, 0, 0), result);
 
-		verify(discoveryRepository).findByHeader_CreatedAtLessThan(threshold);
+		verify(headerRepository).findIdsWithDiscoveriesByUuids(List.of(BRIDGE_ID));
+		verify(headerRepository, never()).updateStatusByIds(any(), any(), any(), anyString(), any());
+		verify(discoveryRepository, never()).deleteByHeaderIds(any());
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
-	public void testGetBridgeDiscoveriesCreatedBeforeOk() {
-		final ZonedDateTime threshold = ZonedDateTime.of(2026, 2, 26, 8, 0, 0, 0, ZoneId.of(Constants.UTC));
-		final BridgeDiscovery discovery = new BridgeDiscovery();
-		discovery.setId(1L);
-
-		when(discoveryRepository.findByHeader_CreatedAtLessThan(threshold)).thenReturn(List.of(discovery));
+	public void testCloseExpiredBridgeDiscoveriesOk() {
+		when(headerRepository.findIdsWithDiscoveriesByUuids(List.of(BRIDGE_ID))).thenReturn(List.of(1L));
+		when(headerRepository.updateStatusByIds(
+				eq(List.of(1L)),
+				any(),
+				eq(TranslationBridgeStatus.CLOSED),
+				eq("Closed by TranslationManager because of inactivity"),
+				any(ZonedDateTime.class))).thenReturn(1);
+		when(discoveryRepository.deleteByHeaderIds(List.of(1L))).thenReturn(2);
 
-		final List<BridgeDiscovery> result = dbService.getBridgeDiscoveriesCreatedBefore(threshold);
+		final CleanupResult result = dbService.closeExpiredBridgeDiscoveries(List.of(UUID.fromString(BRIDGE_ID)));
 
-		assertNotNull(result);
-		assertEquals(1, result.size());
-		assertEquals(discovery, result.get(0));
+		assertEquals(new CleanupResult(1, 1, 2), result);
 
-		verify(discoveryRepository).findByHeader_CreatedAtLessThan(threshold);
+		verify(headerRepository).findIdsWithDiscoveriesByUuids(List.of(BRIDGE_ID));
+		verify(headerRepository).updateStatusByIds(eq(List.of(1L)), any(), eq(TranslationBridgeStatus.CLOSED), anyString(), any(ZonedDateTime.class));
+		verify(discoveryRepository).deleteByHeaderIds(List.of(1L));
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
-	public void testHandleObsoletedBridgeDiscoveryNullInput() {
+	public void testGetBridgeHeadersWithDiscoveriesInvalidLimit() {
 		final Throwable ex = assertThrows(
 				IllegalArgumentException.class,
-				() -> dbService.handleObsoletedBridgeDiscovery(null));
+				() -> dbService.getBridgeHeadersWithDiscoveries(0, 0));
 
-		assertEquals("record is missing", ex.getMessage());
+		assertEquals("limit is not positive", ex.getMessage());
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
-	public void testHandleObsoletedBridgeDiscoveryDbException() {
-		final BridgeHeader header = new BridgeHeader();
-		header.setStatus(TranslationBridgeStatus.CLOSED);
-		final BridgeDiscovery discovery = new BridgeDiscovery();
-		discovery.setHeader(header);
-
-		doThrow(RuntimeException.class).when(discoveryRepository).delete(discovery);
+	public void testGetBridgeHeadersWithDiscoveriesDbException() {
+		when(headerRepository.findWithDiscoveriesAfterId(5L, PageRequest.of(0, 10))).thenThrow(RuntimeException.class);
 
 		final Throwable ex = assertThrows(
 				InternalServerError.class,
-				() -> dbService.handleObsoletedBridgeDiscovery(discovery));
+				() -> dbService.getBridgeHeadersWithDiscoveries(5L, 10));
 
 		assertEquals("Database operation error", ex.getMessage());
 
-		verify(discoveryRepository).delete(discovery);
+		verify(headerRepository).findWithDiscoveriesAfterId(5L, PageRequest.of(0, 10));
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
-	public void testHandleObsoletedBridgeDiscoveryOk1() {
-		final BridgeHeader header = new BridgeHeader();
-		header.setStatus(TranslationBridgeStatus.USED);
-		final BridgeDiscovery discovery = new BridgeDiscovery();
-		discovery.setHeader(header);
-
-		doNothing().when(discoveryRepository).delete(discovery);
-		doNothing().when(discoveryRepository).flush();
-
-		assertDoesNotThrow(() -> dbService.handleObsoletedBridgeDiscovery(discovery));
-
-		verify(discoveryRepository).delete(discovery);
-		verify(discoveryRepository).flush();
-	}
+	public void testGetBridgeHeadersWithDiscoveriesOk() {
+		final BridgeHeader header = new BridgeHeader(UUID.fromString(BRIDGE_ID), "Creator");
 
-	//-------------------------------------------------------------------------------------------------
-	@Test
-	public void testHandleObsoletedBridgeDiscoveryOk2() {
-		final BridgeHeader header = new BridgeHeader();
-		header.setStatus(TranslationBridgeStatus.PENDING);
-		final BridgeDiscovery discovery = new BridgeDiscovery();
-		discovery.setHeader(header);
+		when(headerRepository.findWithDiscoveriesAfterId(5L, PageRequest.of(0, 10))).thenReturn(List.of(header));
 
-		when(headerRepository.saveAndFlush(header)).thenReturn(header);
-		doNothing().when(discoveryRepository).delete(discovery);
-		doNothing().when(discoveryRepository).flush();
+		final List<BridgeHeader> result = dbService.getBridgeHeadersWithDiscoveries(5L, 10);
 
-		assertDoesNotThrow(() -> dbService.handleObsoletedBridgeDiscovery(discovery));
-		assertEquals(TranslationBridgeStatus.CLOSED, header.getStatus());
-		assertEquals("Closed by TranslationManager because of inactivity", header.getMessage());
+		assertEquals(List.of(header), result);
 
-		verify(headerRepository).saveAndFlush(header);
-		verify(discoveryRepository).delete(discovery);
-		verify(discoveryRepository).flush();
+		verify(headerRepository).findWithDiscoveriesAfterId(5L, PageRequest.of(0, 10));
 	}
-}
\ No newline at end of file
+}
@@ -19,14 +19,14 @@ package eu.arrowhead.translationmanager.quartz;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
-import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,8 +36,8 @@ import org.quartz.JobExecutionException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import eu.arrowhead.common.exception.InternalServerError;
-import eu.arrowhead.translationmanager.jpa.entity.BridgeDiscovery;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.CleanupResult;
 
 @ExtendWith(MockitoExtension.class)
 public class CleanerJobTest {
@@ -55,44 +55,68 @@ public class CleanerJobTest {
 	// methods
 
 	//-------------------------------------------------------------------------------------------------
-	@Test
-	public void testExecuteException() throws JobExecutionException {
+	@BeforeEach
+	public void setUp() {
 		ReflectionTestUtils.setField(job, "maxAge", 1);
+		ReflectionTestUtils.setField(job, "chunkSize", 2);
+		ReflectionTestUtils.setField(job, "timeBudget", 10000L);
+	}
 
-		when(dbService.getBridgeDiscoveriesCreatedBefore(any(ZonedDateTime.class))).thenThrow(InternalServerError.class);
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteException() throws JobExecutionException {
+		when(dbService.cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2))).thenThrow(InternalServerError.class);
 
 		assertDoesNotThrow(() -> job.execute(null));
 
-		verify(dbService).getBridgeDiscoveriesCreatedBefore(any(ZonedDateTime.class));
-		verify(dbService, never()).handleObsoletedBridgeDiscovery(any(BridgeDiscovery.class));
+		verify(dbService).cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2));
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testExecuteNothingToDo() throws JobExecutionException {
-		ReflectionTestUtils.setField(job, "maxAge", 1);
+		when(dbService.cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2))).thenReturn(new CleanupResult(0, 0, 0));
 
-		when(dbService.getBridgeDiscoveriesCreatedBefore(any(ZonedDateTime.class))).thenReturn(List.of());
+		assertDoesNotThrow(() -> job.execute(null));
+
+		verify(dbService).cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteMoreChunks() throws JobExecutionException {
+		when(dbService.cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2))).thenReturn(
+				new CleanupResult(2, 1, 3),
+				new CleanupResult(2, 2, 2),
+				new CleanupResult(1, 0, 1));
 
 		assertDoesNotThrow(() -> job.execute(null));
 
-		verify(dbService).getBridgeDiscoveriesCreatedBefore(any(ZonedDateTime.class));
-		verify(dbService, never()).handleObsoletedBridgeDiscovery(any(BridgeDiscovery.class));
+		verify(dbService, times(3)).cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2));
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Test
-	public void testExecute() throws JobExecutionException {
-		ReflectionTestUtils.setField(job, "maxAge", 1);
-		final BridgeDiscovery bd = new BridgeDiscovery();
-		bd.setId(1L);
+	public void testExecuteErrorInLaterChunk() throws JobExecutionException {
+		when(dbService.cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2)))
+				.thenReturn(new CleanupResult(2, 2, 2))
+				.thenThrow(InternalServerError.class);
+
+		assertDoesNotThrow(() -> job.execute(null));
+
+		verify(dbService, times(2)).cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteTimeBudgetExceeded() throws JobExecutionException {
+		ReflectionTestUtils.setField(job, "timeBudget", 0L);
 
-		when(dbService.getBridgeDiscoveriesCreatedBefore(any(ZonedDateTime.class))).thenReturn(List.of(bd));
-		doNothing().when(dbService).handleObsoletedBridgeDiscovery(bd);
+		when(dbService.cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2))).thenReturn(new CleanupResult(2, 2, 2));
 
 		assertDoesNotThrow(() -> job.execute(null));
 
-		verify(dbService).getBridgeDiscoveriesCreatedBefore(any(ZonedDateTime.class));
-		verify(dbService).handleObsoletedBridgeDiscovery(bd);
+		// the first chunk is always handled, the rest is left for the next run
+		verify(dbService, times(1)).cleanObsoletedBridgeDiscoveries(any(ZonedDateTime.class), eq(2));
 	}
-}
\ No newline at end of file
+}
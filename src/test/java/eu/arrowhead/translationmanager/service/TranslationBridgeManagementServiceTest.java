@@ -35,8 +35,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.util.Pair;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.dto.PageDTO;
 import eu.arrowhead.dto.ServiceInstanceInterfaceResponseDTO;
 import eu.arrowhead.dto.ServiceInstanceResponseDTO;
@@ -46,7 +52,6 @@ import eu.arrowhead.dto.TranslationDiscoveryMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
 import eu.arrowhead.dto.TranslationNegotiationMgmtRequestDTO;
 import eu.arrowhead.dto.TranslationNegotiationResponseDTO;
-import eu.arrowhead.dto.TranslationQueryListResponseDTO;
 import eu.arrowhead.dto.TranslationQueryRequestDTO;
 import eu.arrowhead.dto.TranslationQueryResponseDTO;
 import eu.arrowhead.dto.enums.TranslationDiscoveryFlag;
@@ -54,10 +59,15 @@ import eu.arrowhead.translationmanager.TranslationManagerSystemInfo;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.service.cache.CacheOwner;
+import eu.arrowhead.translationmanager.service.cache.ExpiringLruCache;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
+import eu.arrowhead.translationmanager.service.dto.CacheStatisticsListResponseDTO;
 import eu.arrowhead.translationmanager.service.dto.DTOConverter;
 import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationDiscoveryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationQueryCursorListResponseDTO;
 import eu.arrowhead.translationmanager.service.engine.TranslatorBridgeEngine;
 import eu.arrowhead.translationmanager.service.validation.TranslationBridgeMgmtValidation;
 
@@ -466,7 +476,7 @@ public class TranslationBridgeManagementServiceTest {
 	public void testQuerytOperationOriginNull() {
 		final Throwable ex = assertThrows(
 				IllegalArgumentException.class,
-				() -> service.queryOperation(null, null));
+				() -> service.queryOperation(null, null, false, null));
 
 		assertEquals("origin is empty", ex.getMessage());
 	}
@@ -476,7 +486,7 @@ public class TranslationBridgeManagementServiceTest {
 	public void testQuerytOperationOriginEmpty() {
 		final Throwable ex = assertThrows(
 				IllegalArgumentException.class,
-				() -> service.queryOperation(null, ""));
+				() -> service.queryOperation(null, null, false, ""));
 
 		assertEquals("origin is empty", ex.getMessage());
 	}
@@ -544,13 +554,13 @@ public class TranslationBridgeManagementServiceTest {
 				null,
 				null,
 				null);
-		final TranslationQueryListResponseDTO response = new TranslationQueryListResponseDTO(List.of(element), 1);
+		final TranslationQueryCursorListResponseDTO response = new TranslationQueryCursorListResponseDTO(List.of(element), 1L, null);
 
 		when(validator.validateAndNormalizeQueryMgmtRequest(dto, "origin")).thenReturn(normalized);
 		when(dbService.getBridgeDetailsPage(normalized)).thenReturn(new PageImpl<>(List.of(details)));
 		when(converter.convertBridgeDetailsPage(new PageImpl<>(List.of(details)))).thenReturn(response);
 
-		final TranslationQueryListResponseDTO result = service.queryOperation(dto, "origin");
+		final TranslationQueryCursorListResponseDTO result = service.queryOperation(dto, null, false, "origin");
 
 		assertNotNull(result);
 		assertNotNull(result.entries());
@@ -561,4 +571,135 @@ public class TranslationBridgeManagementServiceTest {
 		verify(dbService).getBridgeDetailsPage(normalized);
 		verify(converter).convertBridgeDetailsPage(new PageImpl<>(List.of(details)));
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testQueryOperationSeekModeWithCount() {
+		final NormalizedTranslationQueryRequestDTO normalized = new NormalizedTranslationQueryRequestDTO(
+				PageRequest.of(0, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD),
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null);
+		final BridgeQueryCursor cursor = new BridgeQueryCursor(BridgeDetails.DEFAULT_SORT_FIELD, Direction.DESC, "2026-03-01T10:00:00Z", 42);
+		final Slice<BridgeDetails> slice = new SliceImpl<>(List.of(new BridgeDetails()));
+		final TranslationQueryCursorListResponseDTO response = new TranslationQueryCursorListResponseDTO(List.of(), 11L, null);
+
+		when(validator.validateAndNormalizeQueryMgmtRequest(null, "origin")).thenReturn(normalized);
+		when(validator.validateAndNormalizeSeekParameters("token", normalized, "origin")).thenReturn(cursor);
+		when(dbService.getBridgeDetailsSlice(normalized, cursor)).thenReturn(slice);
+		when(dbService.countBridgeDetails(normalized)).thenReturn(11L);
+		when(converter.convertBridgeDetailsSlice(slice, 11L)).thenReturn(response);
+
+		final TranslationQueryCursorListResponseDTO result = service.queryOperation(null, "token", false, "origin");
+
+		assertEquals(response, result);
+
+		verify(validator).validateAndNormalizeSeekParameters("token", normalized, "origin");
+		verify(dbService, never()).getBridgeDetailsPage(normalized);
+		verify(dbService).getBridgeDetailsSlice(normalized, cursor);
+		verify(dbService).countBridgeDetails(normalized);
+		verify(converter).convertBridgeDetailsSlice(slice, 11L);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testQueryOperationSeekModeSkipCount() {
+		final NormalizedTranslationQueryRequestDTO normalized = new NormalizedTranslationQueryRequestDTO(
+				PageRequest.of(0, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD),
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null);
+		final Slice<BridgeDetails> slice = new SliceImpl<>(List.of(new BridgeDetails()));
+		final TranslationQueryCursorListResponseDTO response = new TranslationQueryCursorListResponseDTO(List.of(), null, "next");
+
+		when(validator.validateAndNormalizeQueryMgmtRequest(null, "origin")).thenReturn(normalized);
+		when(validator.validateAndNormalizeSeekParameters(null, normalized, "origin")).thenReturn(null);
+		when(dbService.getBridgeDetailsSlice(normalized, null)).thenReturn(slice);
+		when(converter.convertBridgeDetailsSlice(slice, null)).thenReturn(response);
+
+		final TranslationQueryCursorListResponseDTO result = service.queryOperation(null, null, true, "origin");
+
+		assertEquals(response, result);
+
+		verify(dbService, never()).getBridgeDetailsPage(normalized);
+		verify(dbService).getBridgeDetailsSlice(normalized, null);
+		verify(dbService, never()).countBridgeDetails(normalized);
+		verify(converter).convertBridgeDetailsSlice(slice, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCacheStatisticsOperationOk() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("testCache", 10, 1000);
+		cache.put("key", "value");
+		cache.get("key");
+		ReflectionTestUtils.setField(service, "cacheOwners", List.of((CacheOwner) () -> List.of(cache)));
+
+		final CacheStatisticsListResponseDTO result = service.cacheStatisticsOperation("origin");
+
+		assertEquals(1, result.count());
+		assertEquals("testCache", result.entries().get(0).name());
+		assertEquals(1, result.entries().get(0).size());
+		assertEquals(1, result.entries().get(0).hits());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvalidateCacheOperationUnknownCache() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("testCache", 10, 1000);
+		ReflectionTestUtils.setField(service, "cacheOwners", List.of((CacheOwner) () -> List.of(cache)));
+
+		when(validator.validateAndNormalizeCacheNames(List.of("other"), "origin")).thenReturn(List.of("other"));
+
+		final ArrowheadException ex = assertThrows(InvalidParameterException.class,
+				() -> service.invalidateCacheOperation(List.of("other"), "origin"));
+
+		assertEquals("Unknown cache: other", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+
+		verify(validator).validateAndNormalizeCacheNames(List.of("other"), "origin");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvalidateCacheOperationOk() {
+		final ExpiringLruCache<String, String> cache1 = new ExpiringLruCache<>("testCache1", 10, 1000);
+		cache1.put("key", "value");
+		final ExpiringLruCache<String, String> cache2 = new ExpiringLruCache<>("testCache2", 10, 1000);
+		cache2.put("key", "value");
+		ReflectionTestUtils.setField(service, "cacheOwners", List.of((CacheOwner) () -> List.of(cache1, cache2)));
+
+		when(validator.validateAndNormalizeCacheNames(List.of("testCache2"), "origin")).thenReturn(List.of("testCache2"));
+
+		final CacheStatisticsListResponseDTO result = service.invalidateCacheOperation(List.of("testCache2"), "origin");
+
+		assertEquals(2, result.count());
+		assertEquals(1, result.entries().get(0).size());
+		assertEquals(0, result.entries().get(1).size());
+
+		verify(validator).validateAndNormalizeCacheNames(List.of("testCache2"), "origin");
+	}
 }
\ No newline at end of file
@@ -19,13 +19,17 @@ package eu.arrowhead.translationmanager.service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -42,7 +46,12 @@ import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.dto.TranslationReportRequestDTO;
 import eu.arrowhead.dto.enums.TranslationBridgeEventState;
 import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.service.dto.DTOConverter;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchResponseDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportResultDTO;
+import eu.arrowhead.translationmanager.service.engine.UsageReportAggregator;
 import eu.arrowhead.translationmanager.service.validation.TranslationReportValidation;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,6 +69,12 @@ public class TranslationReportServiceTest {
 	@Mock
 	private BridgeDbService dbService;
 
+	@Mock
+	private UsageReportAggregator usageReportAggregator;
+
+	@Mock
+	private DTOConverter dtoConverter;
+
 	//=================================================================================================
 	// methods
 
@@ -193,12 +208,202 @@ public class TranslationReportServiceTest {
 
 		when(validator.validateAndNormalizeRequester("Requester", "origin")).thenReturn("Requester");
 		when(validator.validateAndNormalizeReport("Requester", dto, "origin")).thenReturn(normalized);
+		when(usageReportAggregator.offer(normalized)).thenReturn(false);
 		doNothing().when(dbService).handleTranslationReport(normalized);
 
 		assertDoesNotThrow(() -> service.reportOperation("Requester", dto, "origin"));
 
 		verify(validator).validateAndNormalizeRequester("Requester", "origin");
 		verify(validator).validateAndNormalizeReport("Requester", dto, "origin");
+		verify(usageReportAggregator).offer(normalized);
+		verify(usageReportAggregator).flushBridge(normalized.bridgeId());
 		verify(dbService).handleTranslationReport(normalized);
+		verify(usageReportAggregator).register(normalized);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReportOperationAggregated() {
+		final TranslationReportRequestDTO dto = new TranslationReportRequestDTO(
+				"581fd924-d8b0-4548-8cf8-4334e9f3cba2",
+				"2026-02-19T10:00:00Z",
+				"USED",
+				null);
+		final NormalizedTranslationReportRequestDTO normalized = new NormalizedTranslationReportRequestDTO(
+				"Requester",
+				UUID.fromString("581fd924-d8b0-4548-8cf8-4334e9f3cba2"),
+				ZonedDateTime.of(2026, 2, 19, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				TranslationBridgeEventState.USED,
+				null);
+
+		when(validator.validateAndNormalizeRequester("Requester", "origin")).thenReturn("Requester");
+		when(validator.validateAndNormalizeReport("Requester", dto, "origin")).thenReturn(normalized);
+		when(usageReportAggregator.offer(normalized)).thenReturn(true);
+
+		assertDoesNotThrow(() -> service.reportOperation("Requester", dto, "origin"));
+
+		verify(usageReportAggregator).offer(normalized);
+		verify(usageReportAggregator, never()).flushBridge(normalized.bridgeId());
+		verify(dbService, never()).handleTranslationReport(normalized);
+		verify(usageReportAggregator, never()).register(normalized);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReportBatchOperationOriginEmpty() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> service.reportBatchOperation(null, null, ""));
+
+		assertEquals("origin is empty", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReportBatchOperationInvalidParameterException() {
+		final TranslationReportBatchRequestDTO dto = new TranslationReportBatchRequestDTO(List.of());
+
+		when(validator.validateAndNormalizeRequester("Requester", "origin")).thenReturn("Requester");
+		when(validator.validateAndNormalizeReportBatch("Requester", dto, "origin")).thenThrow(new InvalidParameterException("test", "origin"));
+
+		final ArrowheadException ex = assertThrows(
+				InvalidParameterException.class,
+				() -> service.reportBatchOperation("Requester", dto, "origin"));
+
+		assertEquals("test", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+
+		verify(dbService, never()).handleTranslationReports(anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReportBatchOperationOk() {
+		final TranslationReportRequestDTO report = new TranslationReportRequestDTO(
+				"581fd924-d8b0-4548-8cf8-4334e9f3cba2",
+				"2026-02-19T10:00:00Z",
+				"INTERNAL_ERROR",
+				"Error");
+		final TranslationReportBatchRequestDTO dto = new TranslationReportBatchRequestDTO(List.of(report));
+		final NormalizedTranslationReportRequestDTO normalized = createNormalizedReport(TranslationBridgeEventState.INTERNAL_ERROR);
+		final ForbiddenException rejection = new ForbiddenException("test");
+		final TranslationReportBatchResponseDTO response = new TranslationReportBatchResponseDTO(List.of(
+				new TranslationReportResultDTO("581fd924-d8b0-4548-8cf8-4334e9f3cba2", false, "test")));
+
+		when(validator.validateAndNormalizeRequester("Requester", "origin")).thenReturn("Requester");
+		when(validator.validateAndNormalizeReportBatch("Requester", dto, "origin")).thenReturn(List.of(normalized));
+		when(usageReportAggregator.offer(normalized)).thenReturn(false);
+		when(dbService.handleTranslationReports(List.of(normalized))).thenReturn(List.of(rejection));
+		when(dtoConverter.convertReportResults(List.of(normalized), List.of(rejection))).thenReturn(response);
+
+		final TranslationReportBatchResponseDTO result = service.reportBatchOperation("Requester", dto, "origin");
+
+		assertEquals(response, result);
+
+		verify(usageReportAggregator).flushBridge(normalized.bridgeId());
+		verify(usageReportAggregator, never()).register(normalized);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateReportOk() {
+		final TranslationReportRequestDTO dto = new TranslationReportRequestDTO(
+				"581fd924-d8b0-4548-8cf8-4334e9f3cba2",
+				"2026-02-19T10:00:00Z",
+				"USED",
+				null);
+		final NormalizedTranslationReportRequestDTO normalized = createNormalizedReport(TranslationBridgeEventState.USED);
+
+		when(validator.validateAndNormalizeRequester("Requester", "origin")).thenReturn("Requester");
+		when(validator.validateAndNormalizeReport("Requester", dto, "origin")).thenReturn(normalized);
+
+		assertEquals(normalized, service.validateReport("Requester", dto, "origin"));
+
+		verify(dbService, never()).handleTranslationReport(normalized);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testProcessReportsInputNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> service.processReports(null));
+
+		assertEquals("reports list is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testProcessReportsOk() {
+		final NormalizedTranslationReportRequestDTO aggregated = createNormalizedReport(TranslationBridgeEventState.USED);
+		final NormalizedTranslationReportRequestDTO used = new NormalizedTranslationReportRequestDTO(
+				"Requester",
+				UUID.fromString("42ab0775-26cc-49aa-87a4-2313f9d9975b"),
+				ZonedDateTime.of(2026, 2, 19, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				TranslationBridgeEventState.USED,
+				null);
+		final NormalizedTranslationReportRequestDTO error = createNormalizedReport(TranslationBridgeEventState.INTERNAL_ERROR);
+		final InvalidParameterException rejection = new InvalidParameterException("test");
+
+		when(usageReportAggregator.offer(aggregated)).thenReturn(true);
+		when(usageReportAggregator.offer(used)).thenReturn(false);
+		when(usageReportAggregator.offer(error)).thenReturn(false);
+		when(dbService.handleTranslationReports(List.of(used, error))).thenReturn(Arrays.asList(null, rejection));
+
+		final List<ArrowheadException> result = service.processReports(List.of(aggregated, used, error));
+
+		assertEquals(Arrays.asList(null, null, rejection), result);
+
+		verify(usageReportAggregator).flushBridge(used.bridgeId());
+		verify(usageReportAggregator).flushBridge(error.bridgeId());
+		verify(usageReportAggregator).register(used);
+		verify(usageReportAggregator, never()).register(error);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testProcessReportsFlushError() {
+		final NormalizedTranslationReportRequestDTO error = createNormalizedReport(TranslationBridgeEventState.INTERNAL_ERROR);
+		final InternalServerError flushError = new InternalServerError("test");
+
+		when(usageReportAggregator.offer(error)).thenReturn(false);
+		doThrow(flushError).when(usageReportAggregator).flushBridge(error.bridgeId());
+
+		final List<ArrowheadException> result = service.processReports(List.of(error));
+
+		assertEquals(List.of(flushError), result);
+
+		verify(dbService, never()).handleTranslationReports(anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testProcessReportsDbError() {
+		final NormalizedTranslationReportRequestDTO aggregated = createNormalizedReport(TranslationBridgeEventState.USED);
+		final NormalizedTranslationReportRequestDTO error = createNormalizedReport(TranslationBridgeEventState.INTERNAL_ERROR);
+		final InternalServerError dbError = new InternalServerError("test");
+
+		when(usageReportAggregator.offer(aggregated)).thenReturn(true);
+		when(usageReportAggregator.offer(error)).thenReturn(false);
+		when(dbService.handleTranslationReports(List.of(error))).thenThrow(dbError);
+
+		final List<ArrowheadException> result = service.processReports(List.of(aggregated, error));
+
+		assertEquals(Arrays.asList(null, dbError), result);
+
+		verify(usageReportAggregator, never()).register(error);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private NormalizedTranslationReportRequestDTO createNormalizedReport(final TranslationBridgeEventState state) {
+		return new NormalizedTranslationReportRequestDTO(
+				"Requester",
+				UUID.fromString("581fd924-d8b0-4548-8cf8-4334e9f3cba2"),
+				ZonedDateTime.of(2026, 2, 19, 10, 0, 0, 0, ZoneId.of(Constants.UTC)),
+				state,
+				TranslationBridgeEventState.USED == state ? null : "Error");
 	}
 }
\ No newline at end of file
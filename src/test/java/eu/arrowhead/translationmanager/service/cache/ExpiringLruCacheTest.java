@@ -0,0 +1,129 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class ExpiringLruCacheTest {
+
+	//=================================================================================================
+	// members
+
+	private final AtomicLong time = new AtomicLong(1000);
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDisabled() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("test", 0, 100, time::get);
+		cache.put("key", "value");
+
+		assertFalse(cache.isEnabled());
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.getStatistics().size());
+		assertEquals(0, cache.getStatistics().misses());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHitAndMiss() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("test", 10, 100, time::get);
+		cache.put("key", "value");
+
+		assertTrue(cache.isEnabled());
+		assertEquals("value", cache.get("key"));
+		assertNull(cache.get("other"));
+
+		final CacheStatistics statistics = cache.getStatistics();
+		assertEquals("test", statistics.name());
+		assertEquals(1, statistics.size());
+		assertEquals(1, statistics.hits());
+		assertEquals(1, statistics.misses());
+		assertEquals(0.5, statistics.hitRatio());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExpiration() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("test", 10, 100, time::get);
+		cache.put("key", "value");
+		cache.put("key2", "value2", 500);
+
+		time.addAndGet(100);
+
+		assertNull(cache.get("key"));
+		assertEquals("value2", cache.get("key2"));
+		assertEquals(1, cache.getStatistics().size());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("test", 2, 100, time::get);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.get("key1");
+		cache.put("key3", "value3");
+
+		assertEquals("value1", cache.get("key1"));
+		assertNull(cache.get("key2"));
+		assertEquals("value3", cache.get("key3"));
+		assertEquals(1, cache.getStatistics().evictions());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExpiredEntriesAreRemovedBeforeEviction() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("test", 2, 100, time::get);
+		cache.put("key1", "value1", 10);
+		cache.put("key2", "value2");
+		time.addAndGet(50);
+		cache.put("key3", "value3");
+
+		assertEquals("value2", cache.get("key2"));
+		assertEquals("value3", cache.get("key3"));
+		assertEquals(0, cache.getStatistics().evictions());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvalidation() {
+		final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>("test", 10, 100, time::get);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "other");
+
+		cache.invalidate("key1");
+		assertNull(cache.get("key1"));
+
+		cache.invalidateIf((k, v) -> v.startsWith("value"));
+		assertNull(cache.get("key2"));
+		assertEquals("other", cache.get("key3"));
+
+		cache.invalidateAll();
+		assertEquals(0, cache.getStatistics().size());
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.util.Pair;
+
+import eu.arrowhead.common.Utilities;
+
+public class InterfaceBridgeTokenPoolTest {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireNoToken() {
+		final InterfaceBridgeTokenPool pool = new InterfaceBridgeTokenPool(3);
+
+		assertNull(pool.acquire("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", Utilities.utcNow()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireUntilUsesRunOut() {
+		final InterfaceBridgeTokenPool pool = new InterfaceBridgeTokenPool(3);
+		final ZonedDateTime now = Utilities.utcNow();
+		pool.put("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", "token", now.plusHours(24), 7);
+
+		assertEquals("token", pool.acquire("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", now.plusHours(8)));
+		assertEquals("token", pool.acquire("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", now.plusHours(8)));
+		assertNull(pool.acquire("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", now.plusHours(8)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireNotValidLongEnough() {
+		final InterfaceBridgeTokenPool pool = new InterfaceBridgeTokenPool(3);
+		final ZonedDateTime now = Utilities.utcNow();
+		pool.put("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", "token", now.plusHours(4), 100);
+
+		assertNull(pool.acquire("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", now.plusHours(8)));
+		assertEquals("token", pool.acquire("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", now.plusHours(2)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireOtherPolicy() {
+		final InterfaceBridgeTokenPool pool = new InterfaceBridgeTokenPool(3);
+		final ZonedDateTime now = Utilities.utcNow();
+		pool.put("InterfaceTranslator", "USAGE_LIMITED_TOKEN_AUTH", "token", now.plusHours(24), 100);
+
+		assertNull(pool.acquire("InterfaceTranslator", "TIME_LIMITED_TOKEN_AUTH", now));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCollectRefreshCandidates() {
+		final InterfaceBridgeTokenPool pool = new InterfaceBridgeTokenPool(3);
+		final ZonedDateTime now = Utilities.utcNow();
+		pool.put("Expired", "USAGE_LIMITED_TOKEN_AUTH", "token1", now.minusSeconds(1), 100);
+		pool.put("ExpiresSoon", "USAGE_LIMITED_TOKEN_AUTH", "token2", now.plusHours(2), 100);
+		pool.put("RunsOut", "USAGE_LIMITED_TOKEN_AUTH", "token3", now.plusHours(24), 10);
+		pool.put("Fine", "USAGE_LIMITED_TOKEN_AUTH", "token4", now.plusHours(24), 100);
+
+		final List<Pair<String, String>> result = pool.collectRefreshCandidates(now.plusHours(9), 20, now.minusHours(1));
+
+		assertEquals(3, pool.size());
+		assertEquals(2, result.size());
+		assertTrue(result.contains(Pair.of("ExpiresSoon", "USAGE_LIMITED_TOKEN_AUTH")));
+		assertTrue(result.contains(Pair.of("RunsOut", "USAGE_LIMITED_TOKEN_AUTH")));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCollectRefreshCandidatesIdleTokenIsNotRefreshed() {
+		final InterfaceBridgeTokenPool pool = new InterfaceBridgeTokenPool(3);
+		final ZonedDateTime now = Utilities.utcNow();
+		pool.put("ExpiresSoon", "USAGE_LIMITED_TOKEN_AUTH", "token", now.plusHours(2), 100);
+
+		final List<Pair<String, String>> result = pool.collectRefreshCandidates(now.plusHours(9), 20, now.plusMinutes(1));
+
+		assertTrue(result.isEmpty());
+	}
+}
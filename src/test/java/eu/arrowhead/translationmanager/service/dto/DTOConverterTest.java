@@ -18,11 +18,13 @@ package eu.arrowhead.translationmanager.service.dto;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -30,14 +32,21 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.dto.TranslationDataModelTranslationDataDescriptorDTO;
 import eu.arrowhead.dto.TranslationDiscoveryResponseDTO;
 import eu.arrowhead.dto.TranslationInterfaceTranslationDataDescriptorDTO;
-import eu.arrowhead.dto.TranslationQueryListResponseDTO;
 import eu.arrowhead.dto.TranslationQueryResponseDTO;
+import eu.arrowhead.dto.enums.TranslationBridgeEventState;
 import eu.arrowhead.dto.enums.TranslationBridgeStatus;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
@@ -183,11 +192,122 @@ public class DTOConverterTest {
 				"2026-01-30T10:11:12Z",
 				"2026-01-30T10:11:12Z");
 
-		final TranslationQueryListResponseDTO result = converter.convertBridgeDetailsPage(page);
+		final TranslationQueryCursorListResponseDTO result = converter.convertBridgeDetailsPage(page);
 
 		assertNotNull(result);
 		assertEquals(1, result.count());
 		assertNotNull(result.entries());
 		assertEquals(expected, result.entries().get(0));
+		assertNull(result.continuationToken());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConvertBridgeDetailsSliceSliceNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> converter.convertBridgeDetailsSlice(null, null));
+
+		assertEquals("slice is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testConvertBridgeDetailsSliceHasNext() {
+		final BridgeDetails first = createBridgeDetails(UUID.fromString("3b40df99-1468-4d84-bd8e-bfe6d895ebbe"), 1L, ZonedDateTime.of(2026, 1, 30, 10, 11, 13, 0, ZoneId.of(Constants.UTC)));
+		final BridgeDetails second = createBridgeDetails(UUID.fromString("c1b5d5ab-8d3a-4a53-9d2f-6f8c8d0f3e41"), 2L, ZonedDateTime.of(2026, 1, 30, 10, 11, 12, 0, ZoneId.of(Constants.UTC)));
+		final Sort sort = Sort.by(Direction.DESC, BridgeDetails.SORT_NAME_HEADER_CREATED_AT).and(Sort.by(Direction.DESC, "id"));
+		final Slice<BridgeDetails> slice = new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2, sort), true);
+
+		final TranslationQueryCursorListResponseDTO result = converter.convertBridgeDetailsSlice(slice, null);
+
+		assertEquals(2, result.entries().size());
+		assertNull(result.count());
+		assertNotNull(result.continuationToken());
+		assertEquals(
+				new BridgeQueryCursor(BridgeDetails.SORT_NAME_HEADER_CREATED_AT, Direction.DESC, "2026-01-30T10:11:12Z", 2L),
+				BridgeQueryCursor.fromToken(result.continuationToken()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testConvertBridgeDetailsSliceLastSlice() {
+		final BridgeDetails details = createBridgeDetails(UUID.fromString("3b40df99-1468-4d84-bd8e-bfe6d895ebbe"), 1L, ZonedDateTime.of(2026, 1, 30, 10, 11, 13, 0, ZoneId.of(Constants.UTC)));
+		final Slice<BridgeDetails> slice = new SliceImpl<>(List.of(details), PageRequest.of(0, 2, Sort.by(Direction.ASC, "consumer")), false);
+
+		final TranslationQueryCursorListResponseDTO result = converter.convertBridgeDetailsSlice(slice, 1L);
+
+		assertEquals(1, result.entries().size());
+		assertEquals(1L, result.count());
+		assertNull(result.continuationToken());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConvertReportResultsSizeMismatch() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> converter.convertReportResults(List.of(), Arrays.asList((ArrowheadException) null)));
+
+		assertEquals("reports and results lists have different sizes", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConvertReportResultsOk() {
+		final ZonedDateTime timestamp = ZonedDateTime.of(2026, 2, 19, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+		final NormalizedTranslationReportRequestDTO report1 = new NormalizedTranslationReportRequestDTO(
+				"Requester",
+				UUID.fromString("581fd924-d8b0-4548-8cf8-4334e9f3cba2"),
+				timestamp,
+				TranslationBridgeEventState.USED,
+				null);
+		final NormalizedTranslationReportRequestDTO report2 = new NormalizedTranslationReportRequestDTO(
+				"Requester",
+				UUID.fromString("42ab0775-26cc-49aa-87a4-2313f9d9975b"),
+				timestamp,
+				TranslationBridgeEventState.USED,
+				null);
+
+		final TranslationReportBatchResponseDTO result = converter.convertReportResults(
+				List.of(report1, report2),
+				Arrays.asList(null, new InvalidParameterException("Invalid reporting case")));
+
+		assertEquals(List.of(
+				new TranslationReportResultDTO("581fd924-d8b0-4548-8cf8-4334e9f3cba2", true, null),
+				new TranslationReportResultDTO("42ab0775-26cc-49aa-87a4-2313f9d9975b", false, "Invalid reporting case")),
+				result.results());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private BridgeDetails createBridgeDetails(final UUID bridgeId, final long id, final ZonedDateTime createdAt) {
+		final BridgeHeader header = new BridgeHeader(bridgeId, "TestCreator");
+		header.setStatus(TranslationBridgeStatus.USED);
+		header.setCreatedAt(createdAt);
+		header.setUpdatedAt(createdAt);
+		final BridgeDetails details = new BridgeDetails(
+				header,
+				"TestConsumer",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"InterfaceTranslator",
+				Utilities.toJson(Map.of(
+						"fromInterfaceTemplate", "generic_http",
+						"toInterfaceTemplate", "generic_mqtt",
+						"interfaceProperties", Map.of("accessPort", 12345))),
+				null,
+				null,
+				null,
+				null);
+		details.setId(id);
+
+		return details;
 	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package eu.arrowhead.translationmanager.service.engine;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -23,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,6 +32,8 @@ import static org.mockito.Mockito.when;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -255,6 +259,78 @@ public class CoreSystemsDriverTest {
 		verify(ahHttpService, times(2)).consumeService(eq("blacklistManagement"), eq("query"), eq("Blacklist"), eq(BlacklistEntryListResponseDTO.class), any(BlacklistQueryRequestDTO.class));
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterOutBlacklistedSystemsFromCache() {
+		final String expiresAt = Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(1));
+		final BlacklistEntryDTO entry = new BlacklistEntryDTO("BadSystem", null, null, null, null, null, expiresAt, true);
+
+		when(sysInfo.getBlacklistCheckExcludeList()).thenReturn(List.of());
+		when(ahHttpService.consumeService(eq("blacklistManagement"), eq("query"), eq("Blacklist"), eq(BlacklistEntryListResponseDTO.class), any(BlacklistQueryRequestDTO.class)))
+				.thenReturn(new BlacklistEntryListResponseDTO(List.of(entry), 1));
+
+		ReflectionTestUtils.setField(driver, "blacklistCacheTimeToLive", 30);
+		ReflectionTestUtils.setField(driver, "blacklistCacheMaxSize", 10);
+		driver.init();
+
+		final List<String> result1 = driver.filterOutBlacklistedSystems(List.of("TestConsumer", "BadSystem"));
+		final List<String> result2 = driver.filterOutBlacklistedSystems(List.of("BadSystem", "TestConsumer"));
+
+		assertEquals(List.of("TestConsumer"), result1);
+		assertEquals(List.of("TestConsumer"), result2);
+		assertEquals(2, driver.getBlacklistCacheStatistics().hits());
+		assertEquals(2, driver.getBlacklistCacheStatistics().misses());
+
+		verify(ahHttpService, times(1)).consumeService(eq("blacklistManagement"), eq("query"), eq("Blacklist"), eq(BlacklistEntryListResponseDTO.class), any(BlacklistQueryRequestDTO.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterOutBlacklistedSystemsExpiredEntryIsNotCached() {
+		final String expiresAt = Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().minusSeconds(1));
+		final BlacklistEntryDTO entry = new BlacklistEntryDTO("BadSystem", null, null, null, null, null, expiresAt, true);
+
+		when(sysInfo.getBlacklistCheckExcludeList()).thenReturn(List.of());
+		when(ahHttpService.consumeService(eq("blacklistManagement"), eq("query"), eq("Blacklist"), eq(BlacklistEntryListResponseDTO.class), any(BlacklistQueryRequestDTO.class)))
+				.thenReturn(
+						new BlacklistEntryListResponseDTO(List.of(entry), 1),
+						new BlacklistEntryListResponseDTO(List.of(), 0));
+
+		ReflectionTestUtils.setField(driver, "blacklistCacheTimeToLive", 30);
+		ReflectionTestUtils.setField(driver, "blacklistCacheMaxSize", 10);
+		driver.init();
+
+		final List<String> result1 = driver.filterOutBlacklistedSystems(List.of("BadSystem"));
+		final List<String> result2 = driver.filterOutBlacklistedSystems(List.of("BadSystem"));
+
+		assertTrue(result1.isEmpty());
+		assertEquals(List.of("BadSystem"), result2);
+
+		verify(ahHttpService, times(2)).consumeService(eq("blacklistManagement"), eq("query"), eq("Blacklist"), eq(BlacklistEntryListResponseDTO.class), any(BlacklistQueryRequestDTO.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterOutBlacklistedSystemsCacheIsNotUsedInFallback() {
+		when(sysInfo.getBlacklistCheckExcludeList()).thenReturn(List.of());
+		when(ahHttpService.consumeService(eq("blacklistManagement"), eq("query"), eq("Blacklist"), eq(BlacklistEntryListResponseDTO.class), any(BlacklistQueryRequestDTO.class)))
+				.thenReturn(new BlacklistEntryListResponseDTO(List.of(), 0))
+				.thenThrow(new ExternalServerError("test"));
+		when(sysInfo.isBlacklistForced()).thenReturn(true);
+
+		ReflectionTestUtils.setField(driver, "blacklistCacheTimeToLive", 30);
+		ReflectionTestUtils.setField(driver, "blacklistCacheMaxSize", 10);
+		driver.init();
+
+		final List<String> result1 = driver.filterOutBlacklistedSystems(List.of("TestConsumer"));
+		final List<String> result2 = driver.filterOutBlacklistedSystems(List.of("TestConsumer", "OtherSystem"));
+
+		assertEquals(List.of("TestConsumer"), result1);
+		assertTrue(result2.isEmpty());
+
+		verify(sysInfo).isBlacklistForced();
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testFilterOutProvidersBecauseOfUnauthorizationCandidateListNull() {
@@ -397,6 +473,176 @@ public class CoreSystemsDriverTest {
 		verify(ahHttpService).consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterOutProvidersBecauseOfUnauthorizationBatch() {
+		final AuthorizationVerifyRequestDTO request = new AuthorizationVerifyRequestDTO(
+				"TestProvider",
+				"TestConsumer",
+				null,
+				"SERVICE_DEF",
+				"testService",
+				null);
+		final AuthorizationVerifyRequestDTO request2 = new AuthorizationVerifyRequestDTO(
+				"TestProvider",
+				"TestConsumer2",
+				null,
+				"SERVICE_DEF",
+				"testService",
+				null);
+		final AuthorizationVerifyListRequestDTO requestList = new AuthorizationVerifyListRequestDTO(List.of(request, request2));
+		final AuthorizationVerifyResponseDTO response1 = new AuthorizationVerifyResponseDTO(
+				"TestProvider",
+				"TestConsumer",
+				null,
+				AuthorizationTargetType.SERVICE_DEF,
+				"testService",
+				null,
+				true);
+		final AuthorizationVerifyResponseDTO response2 = new AuthorizationVerifyResponseDTO(
+				"TestProvider",
+				"TestConsumer2",
+				null,
+				AuthorizationTargetType.SERVICE_DEF,
+				"testService",
+				null,
+				false);
+
+		when(ahHttpService.consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList))
+				.thenReturn(new AuthorizationVerifyListResponseDTO(List.of(response1, response2), 2));
+
+		final Map<String, List<String>> candidates = new LinkedHashMap<>();
+		candidates.put("TestConsumer", List.of("TestProvider"));
+		candidates.put("TestConsumer2", List.of("TestProvider"));
+
+		final Map<String, List<String>> result = driver.filterOutProvidersBecauseOfUnauthorization(candidates, "testService", null);
+
+		assertEquals(List.of("TestProvider"), result.get("TestConsumer"));
+		assertTrue(result.get("TestConsumer2").isEmpty());
+
+		verify(ahHttpService).consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterOutProvidersBecauseOfUnauthorizationOnlyMissesAreChecked() {
+		final AuthorizationVerifyRequestDTO request = new AuthorizationVerifyRequestDTO(
+				"TestProvider",
+				"TestConsumer",
+				null,
+				"SERVICE_DEF",
+				"testService",
+				"test-operation");
+		final AuthorizationVerifyRequestDTO request2 = new AuthorizationVerifyRequestDTO(
+				"TestProvider2",
+				"TestConsumer",
+				null,
+				"SERVICE_DEF",
+				"testService",
+				"test-operation");
+		final AuthorizationVerifyRequestDTO request3 = new AuthorizationVerifyRequestDTO(
+				"TestProvider3",
+				"TestConsumer",
+				null,
+				"SERVICE_DEF",
+				"testService",
+				"test-operation");
+		final AuthorizationVerifyListRequestDTO requestList = new AuthorizationVerifyListRequestDTO(List.of(request, request2));
+		final AuthorizationVerifyListRequestDTO requestList2 = new AuthorizationVerifyListRequestDTO(List.of(request3));
+		final AuthorizationVerifyResponseDTO response1 = new AuthorizationVerifyResponseDTO(
+				"TestProvider",
+				"TestConsumer",
+				null,
+				AuthorizationTargetType.SERVICE_DEF,
+				"testService",
+				"test-operation",
+				true);
+		final AuthorizationVerifyResponseDTO response2 = new AuthorizationVerifyResponseDTO(
+				"TestProvider2",
+				"TestConsumer",
+				null,
+				AuthorizationTargetType.SERVICE_DEF,
+				"testService",
+				"test-operation",
+				false);
+		final AuthorizationVerifyResponseDTO response3 = new AuthorizationVerifyResponseDTO(
+				"TestProvider3",
+				"TestConsumer",
+				null,
+				AuthorizationTargetType.SERVICE_DEF,
+				"testService",
+				"test-operation",
+				true);
+
+		when(ahHttpService.consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList))
+				.thenReturn(new AuthorizationVerifyListResponseDTO(List.of(response1, response2), 2));
+		when(ahHttpService.consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList2))
+				.thenReturn(new AuthorizationVerifyListResponseDTO(List.of(response3), 1));
+
+		ReflectionTestUtils.setField(driver, "authorizationCacheTimeToLive", 10);
+		ReflectionTestUtils.setField(driver, "authorizationCacheMaxSize", 10);
+		driver.init();
+
+		final List<String> result1 = driver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider", "TestProvider2"), "TestConsumer", "testService", "test-operation");
+		final List<String> result2 = driver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider3", "TestProvider2", "TestProvider"), "TestConsumer", "testService", "test-operation");
+
+		assertEquals(List.of("TestProvider"), result1);
+		assertEquals(List.of("TestProvider3", "TestProvider"), result2);
+		assertEquals(2, driver.getAuthorizationCacheStatistics().hits());
+		assertEquals(3, driver.getAuthorizationCacheStatistics().misses());
+
+		verify(ahHttpService).consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList);
+		verify(ahHttpService).consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFilterOutProvidersBecauseOfUnauthorizationAfterInvalidation() {
+		final AuthorizationVerifyRequestDTO request = new AuthorizationVerifyRequestDTO(
+				"TestProvider",
+				"TestConsumer",
+				null,
+				"SERVICE_DEF",
+				"testService",
+				null);
+		final AuthorizationVerifyListRequestDTO requestList = new AuthorizationVerifyListRequestDTO(List.of(request));
+		final AuthorizationVerifyResponseDTO response = new AuthorizationVerifyResponseDTO(
+				"TestProvider",
+				"TestConsumer",
+				null,
+				AuthorizationTargetType.SERVICE_DEF,
+				"testService",
+				null,
+				true);
+
+		when(ahHttpService.consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList))
+				.thenReturn(new AuthorizationVerifyListResponseDTO(List.of(response), 1));
+
+		ReflectionTestUtils.setField(driver, "authorizationCacheTimeToLive", 10);
+		ReflectionTestUtils.setField(driver, "authorizationCacheMaxSize", 10);
+		driver.init();
+
+		driver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", null);
+		driver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", null);
+		driver.invalidateAuthorizationCache();
+		final List<String> result = driver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", null);
+
+		assertEquals(List.of("TestProvider"), result);
+
+		verify(ahHttpService, times(2)).consumeService("authorizationManagement", "check-policies", "ConsumerAuthorization", AuthorizationVerifyListResponseDTO.class, requestList);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetManagedCaches() {
+		final List<String> names = driver.getManagedCaches()
+				.stream()
+				.map(c -> c.getName())
+				.toList();
+
+		assertEquals(List.of("translatorLookup", "blacklistDecision", "authorizationDecision"), names);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testGenerateTokenForManagerToInterfaceBridgeManagementServiceInputListNull() {
@@ -516,6 +762,261 @@ public class CoreSystemsDriverTest {
 				eq(queryMap));
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testGenerateTokenForManagerToInterfaceBridgeManagementServiceFromPool() {
+		final ServiceInstanceInterfaceResponseDTO intf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"USAGE_LIMITED_TOKEN_AUTH",
+				Map.of());
+
+		final ServiceInstanceResponseDTO dto = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				null,
+				List.of(intf),
+				null,
+				null);
+
+		final MultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>(Map.of(Constants.UNBOUND, List.of(Boolean.TRUE.toString())));
+
+		final AuthorizationTokenResponseDTO responseEntry = new AuthorizationTokenResponseDTO(
+				AuthorizationTokenType.USAGE_LIMITED_TOKEN,
+				"variant",
+				"token",
+				null,
+				"TranslationManager",
+				"LOCAL",
+				"TranslationManager",
+				"InterfaceTranslator",
+				AuthorizationTargetType.SERVICE_DEF,
+				"interfaceBridgeManagement",
+				null,
+				Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(24)),
+				6,
+				6,
+				null);
+
+		when(sysInfo.getSystemName()).thenReturn("TranslationManager");
+		when(ahHttpService.consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				eq(queryMap))).thenReturn(new AuthorizationTokenMgmtListResponseDTO(List.of(responseEntry), 1));
+
+		ReflectionTestUtils.setField(driver, "tokenPoolEnabled", true);
+
+		// 6 uses => enough for two discoveries
+		final Map<String, String> result1 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+		final Map<String, String> result2 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+		final Map<String, String> result3 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+
+		assertEquals("token", result1.get("InterfaceTranslator"));
+		assertEquals("token", result2.get("InterfaceTranslator"));
+		assertEquals("token", result3.get("InterfaceTranslator"));
+
+		verify(ahHttpService, times(2)).consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				eq(queryMap));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testGenerateTokenForManagerToInterfaceBridgeManagementServicePooledTokenTooOld() {
+		final ServiceInstanceInterfaceResponseDTO intf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"USAGE_LIMITED_TOKEN_AUTH",
+				Map.of());
+
+		final ServiceInstanceResponseDTO dto = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				null,
+				List.of(intf),
+				null,
+				null);
+
+		final MultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>(Map.of(Constants.UNBOUND, List.of(Boolean.TRUE.toString())));
+
+		// valid for less than the token interval minus the pool margin, so it is handed out only right after the generation
+		final AuthorizationTokenResponseDTO responseEntry1 = new AuthorizationTokenResponseDTO(
+				AuthorizationTokenType.USAGE_LIMITED_TOKEN,
+				"variant",
+				"token1",
+				null,
+				"TranslationManager",
+				"LOCAL",
+				"TranslationManager",
+				"InterfaceTranslator",
+				AuthorizationTargetType.SERVICE_DEF,
+				"interfaceBridgeManagement",
+				null,
+				Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(20)),
+				100,
+				100,
+				null);
+		final AuthorizationTokenResponseDTO responseEntry2 = new AuthorizationTokenResponseDTO(
+				AuthorizationTokenType.USAGE_LIMITED_TOKEN,
+				"variant",
+				"token2",
+				null,
+				"TranslationManager",
+				"LOCAL",
+				"TranslationManager",
+				"InterfaceTranslator",
+				AuthorizationTargetType.SERVICE_DEF,
+				"interfaceBridgeManagement",
+				null,
+				Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(24)),
+				100,
+				100,
+				null);
+
+		when(sysInfo.getSystemName()).thenReturn("TranslationManager");
+		when(ahHttpService.consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				eq(queryMap))).thenReturn(
+						new AuthorizationTokenMgmtListResponseDTO(List.of(responseEntry1), 1),
+						new AuthorizationTokenMgmtListResponseDTO(List.of(responseEntry2), 1));
+
+		ReflectionTestUtils.setField(driver, "tokenPoolEnabled", true);
+
+		final Map<String, String> result1 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+		final Map<String, String> result2 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+		final Map<String, String> result3 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+
+		assertEquals("token1", result1.get("InterfaceTranslator"));
+		assertEquals("token2", result2.get("InterfaceTranslator"));
+		assertEquals("token2", result3.get("InterfaceTranslator"));
+
+		verify(ahHttpService, times(2)).consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				eq(queryMap));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testRefreshInterfaceBridgeManagementTokens() {
+		final ServiceInstanceInterfaceResponseDTO intf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"USAGE_LIMITED_TOKEN_AUTH",
+				Map.of());
+
+		final ServiceInstanceResponseDTO dto = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				null,
+				List.of(intf),
+				null,
+				null);
+
+		final MultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>(Map.of(Constants.UNBOUND, List.of(Boolean.TRUE.toString())));
+
+		final AuthorizationTokenResponseDTO responseEntry1 = new AuthorizationTokenResponseDTO(
+				AuthorizationTokenType.USAGE_LIMITED_TOKEN,
+				"variant",
+				"token1",
+				null,
+				"TranslationManager",
+				"LOCAL",
+				"TranslationManager",
+				"InterfaceTranslator",
+				AuthorizationTargetType.SERVICE_DEF,
+				"interfaceBridgeManagement",
+				null,
+				Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(24)),
+				10,
+				10,
+				null);
+		final AuthorizationTokenResponseDTO responseEntry2 = new AuthorizationTokenResponseDTO(
+				AuthorizationTokenType.USAGE_LIMITED_TOKEN,
+				"variant",
+				"token2",
+				null,
+				"TranslationManager",
+				"LOCAL",
+				"TranslationManager",
+				"InterfaceTranslator",
+				AuthorizationTargetType.SERVICE_DEF,
+				"interfaceBridgeManagement",
+				null,
+				Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(24)),
+				100,
+				100,
+				null);
+
+		when(sysInfo.getSystemName()).thenReturn("TranslationManager");
+		when(ahHttpService.consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				eq(queryMap))).thenReturn(
+						new AuthorizationTokenMgmtListResponseDTO(List.of(responseEntry1), 1),
+						new AuthorizationTokenMgmtListResponseDTO(List.of(responseEntry2), 1));
+
+		ReflectionTestUtils.setField(driver, "tokenPoolEnabled", true);
+
+		final Map<String, String> result1 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+		driver.refreshInterfaceBridgeManagementTokens(); // 7 remaining uses => refresh
+		final Map<String, String> result2 = driver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(dto));
+
+		assertEquals("token1", result1.get("InterfaceTranslator"));
+		assertEquals("token2", result2.get("InterfaceTranslator"));
+
+		verify(ahHttpService, times(2)).consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				eq(queryMap));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRefreshInterfaceBridgeManagementTokensPoolDisabled() {
+		driver.refreshInterfaceBridgeManagementTokens();
+
+		verify(ahHttpService, never()).consumeService(
+				eq("authorizationTokenManagement"),
+				eq("generate-tokens"),
+				eq("ConsumerAuthorization"),
+				eq(AuthorizationTokenMgmtListResponseDTO.class),
+				any(AuthorizationTokenGenerationMgmtListRequestDTO.class),
+				any(MultiValueMap.class));
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testGenerateTokenForInterfaceTranslatorToTargetOperationPolicyNull() {
@@ -1145,4 +1646,143 @@ public class CoreSystemsDriverTest {
 					payload);
 		}
 	}
-}
\ No newline at end of file
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCollectDataModelTranslatorFactoryCandidatesFromCache() {
+		final ServiceInstanceLookupRequestDTO payload = new ServiceInstanceLookupRequestDTO(
+				null,
+				null,
+				List.of("dataModelTranslatorFactoryControl"),
+				null,
+				null,
+				null,
+				null,
+				List.of("generic_http"),
+				null,
+				List.of("NONE"));
+
+		final ServiceInstanceResponseDTO resultElement = new ServiceInstanceResponseDTO("dataManagerTranslatorFactoryInstance", null, null, null, null, null, null, null, null);
+		final ServiceInstanceListResponseDTO result = new ServiceInstanceListResponseDTO(List.of(resultElement), 1);
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
+		when(ahHttpService.consumeService(
+				"serviceDiscovery",
+				"lookup",
+				"ServiceRegistry",
+				ServiceInstanceListResponseDTO.class,
+				payload)).thenReturn(result);
+
+		ReflectionTestUtils.setField(driver, "lookupCacheTimeToLive", 60);
+		ReflectionTestUtils.setField(driver, "lookupCacheMaxSize", 10);
+		driver.init();
+
+		final List<ServiceInstanceResponseDTO> response1 = driver.collectDataModelTranslatorFactoryCandidates();
+		final List<ServiceInstanceResponseDTO> response2 = driver.collectDataModelTranslatorFactoryCandidates();
+
+		assertEquals(1, response1.size());
+		assertEquals(1, response2.size());
+		assertEquals("dataManagerTranslatorFactoryInstance", response2.get(0).instanceId());
+		assertEquals(1, driver.getLookupCacheStatistics().hits());
+		assertEquals(1, driver.getLookupCacheStatistics().misses());
+
+		verify(sysInfo, times(2)).isSslEnabled();
+		verify(sysInfo, times(2)).getAuthenticationPolicy();
+		verify(ahHttpService, times(1)).consumeService(
+				"serviceDiscovery",
+				"lookup",
+				"ServiceRegistry",
+				ServiceInstanceListResponseDTO.class,
+				payload);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testCollectDataModelTranslatorFactoryCandidatesFromCacheNotAvailableAnymore() {
+		final String soonExpires = Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusMinutes(2));
+		final String lateExpires = Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow().plusHours(2));
+		final ServiceInstanceResponseDTO resultElement1 = new ServiceInstanceResponseDTO("factoryInstance1", null, null, null, soonExpires, null, null, null, null);
+		final ServiceInstanceResponseDTO resultElement2 = new ServiceInstanceResponseDTO("factoryInstance2", null, null, null, lateExpires, null, null, null, null);
+		final ServiceInstanceResponseDTO resultElement3 = new ServiceInstanceResponseDTO("factoryInstance3", null, null, null, null, null, null, null, null);
+		final ServiceInstanceListResponseDTO result = new ServiceInstanceListResponseDTO(List.of(resultElement1, resultElement2, resultElement3), 3);
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
+		when(ahHttpService.consumeService(
+				eq("serviceDiscovery"),
+				eq("lookup"),
+				eq("ServiceRegistry"),
+				eq(ServiceInstanceListResponseDTO.class),
+				any(ServiceInstanceLookupRequestDTO.class))).thenReturn(result);
+
+		ReflectionTestUtils.setField(driver, "translatorServiceMinAvailability", 1);
+		ReflectionTestUtils.setField(driver, "lookupCacheTimeToLive", 60);
+		ReflectionTestUtils.setField(driver, "lookupCacheMaxSize", 10);
+		driver.init();
+
+		final List<ServiceInstanceResponseDTO> response1 = driver.collectDataModelTranslatorFactoryCandidates();
+
+		ReflectionTestUtils.setField(driver, "translatorServiceMinAvailability", 5);
+
+		final List<ServiceInstanceResponseDTO> response2 = driver.collectDataModelTranslatorFactoryCandidates();
+
+		assertEquals(3, response1.size());
+		assertEquals(2, response2.size());
+		assertEquals("factoryInstance2", response2.get(0).instanceId());
+		assertEquals("factoryInstance3", response2.get(1).instanceId());
+
+		verify(ahHttpService, times(1)).consumeService(
+				eq("serviceDiscovery"),
+				eq("lookup"),
+				eq("ServiceRegistry"),
+				eq(ServiceInstanceListResponseDTO.class),
+				any(ServiceInstanceLookupRequestDTO.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testCollectDataModelTranslatorFactoryCandidatesFromCacheCanBeShuffled() {
+		final ServiceInstanceResponseDTO resultElement1 = new ServiceInstanceResponseDTO("factoryInstance1", null, null, null, null, null, null, null, null);
+		final ServiceInstanceResponseDTO resultElement2 = new ServiceInstanceResponseDTO("factoryInstance2", null, null, null, null, null, null, null, null);
+		final ServiceInstanceResponseDTO resultElement3 = new ServiceInstanceResponseDTO("factoryInstance3", null, null, null, null, null, null, null, null);
+		final ServiceInstanceListResponseDTO result = new ServiceInstanceListResponseDTO(List.of(resultElement1, resultElement2, resultElement3), 3);
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
+		when(ahHttpService.consumeService(
+				eq("serviceDiscovery"),
+				eq("lookup"),
+				eq("ServiceRegistry"),
+				eq(ServiceInstanceListResponseDTO.class),
+				any(ServiceInstanceLookupRequestDTO.class))).thenReturn(result);
+
+		ReflectionTestUtils.setField(driver, "translatorServiceMinAvailability", 5);
+		ReflectionTestUtils.setField(driver, "lookupCacheTimeToLive", 60);
+		ReflectionTestUtils.setField(driver, "lookupCacheMaxSize", 10);
+		driver.init();
+
+		final List<ServiceInstanceResponseDTO> response1 = driver.collectDataModelTranslatorFactoryCandidates(); // miss
+		final List<ServiceInstanceResponseDTO> response2 = driver.collectDataModelTranslatorFactoryCandidates(); // hit
+		final List<ServiceInstanceResponseDTO> response3 = driver.collectDataModelTranslatorFactoryCandidates(); // hit
+
+		assertDoesNotThrow(() -> Collections.shuffle(response1));
+		assertDoesNotThrow(() -> Collections.shuffle(response2));
+		Collections.reverse(response1);
+		Collections.reverse(response2);
+
+		assertEquals(List.of(resultElement1, resultElement2, resultElement3), response3);
+		assertEquals(List.of(resultElement1, resultElement2, resultElement3), driver.collectDataModelTranslatorFactoryCandidates());
+		assertEquals(3, driver.getLookupCacheStatistics().hits());
+		assertEquals(1, driver.getLookupCacheStatistics().misses());
+
+		verify(ahHttpService, times(1)).consumeService(
+				eq("serviceDiscovery"),
+				eq("lookup"),
+				eq("ServiceRegistry"),
+				eq(ServiceInstanceListResponseDTO.class),
+				any(ServiceInstanceLookupRequestDTO.class));
+	}
+}
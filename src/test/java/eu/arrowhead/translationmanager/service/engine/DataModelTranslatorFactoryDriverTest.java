@@ -18,9 +18,12 @@ package eu.arrowhead.translationmanager.service.engine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -32,6 +35,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.util.UriComponents;
 
@@ -264,6 +268,176 @@ public class DataModelTranslatorFactoryDriverTest {
 		verify(httpService).sendRequest(uri, HttpMethod.POST, Boolean.class, payload);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testIsFactorySupportsTranslationPositiveAnswerCached() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 12345, "/test/check");
+		final DataModelTranslatorFactoryRequestDTO payload = new DataModelTranslatorFactoryRequestDTO("from", "to");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(httpService.sendRequest(uri, HttpMethod.GET, Boolean.class, payload)).thenReturn(true);
+
+		initCache(60, 60);
+		final boolean result1 = driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+		final boolean result2 = driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+
+		assertTrue(result1);
+		assertTrue(result2);
+		assertEquals(1, driver.getCapabilityCacheStatistics().hits());
+
+		verify(httpService, times(1)).sendRequest(uri, HttpMethod.GET, Boolean.class, payload);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testIsFactorySupportsTranslationNegativeAnswerNotCached() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 12345, "/test/check");
+		final DataModelTranslatorFactoryRequestDTO payload = new DataModelTranslatorFactoryRequestDTO("from", "to");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(httpService.sendRequest(uri, HttpMethod.GET, Boolean.class, payload)).thenReturn(false);
+
+		initCache(60, 0);
+		final boolean result1 = driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+		final boolean result2 = driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+
+		assertFalse(result1);
+		assertFalse(result2);
+
+		verify(httpService, times(2)).sendRequest(uri, HttpMethod.GET, Boolean.class, payload);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testIsFactorySupportsTranslationErrorNotCached() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 12345, "/test/check");
+		final DataModelTranslatorFactoryRequestDTO payload = new DataModelTranslatorFactoryRequestDTO("from", "to");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(httpService.sendRequest(uri, HttpMethod.GET, Boolean.class, payload)).thenThrow(new ExternalServerError("test"));
+
+		initCache(60, 60);
+		driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+		driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+
+		assertEquals(0, driver.getCapabilityCacheStatistics().size());
+
+		verify(httpService, times(2)).sendRequest(uri, HttpMethod.GET, Boolean.class, payload);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetCachedFactoryCapabilityNameNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> driver.getCachedFactoryCapability(null, null, null, null));
+
+		assertEquals("Factory name is missing", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetCachedFactoryCapabilityUnknown() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		initCache(60, 60);
+		final Boolean result = driver.getCachedFactoryCapability("Factory", properties, "from", "to");
+
+		assertNull(result);
+
+		verifyNoInteractions(httpService);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetCachedFactoryCapabilityPositive() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 12345, "/test/check");
+		final DataModelTranslatorFactoryRequestDTO payload = new DataModelTranslatorFactoryRequestDTO("from", "to");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(httpService.sendRequest(uri, HttpMethod.GET, Boolean.class, payload)).thenReturn(true);
+
+		initCache(60, 60);
+		driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+		final Boolean result = driver.getCachedFactoryCapability("Factory", properties, "from", "to");
+
+		assertTrue(result);
+
+		verify(httpService, times(1)).sendRequest(uri, HttpMethod.GET, Boolean.class, payload);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetCachedFactoryCapabilityNegative() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 12345, "/test/check");
+		final DataModelTranslatorFactoryRequestDTO payload = new DataModelTranslatorFactoryRequestDTO("from", "to");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(httpService.sendRequest(uri, HttpMethod.GET, Boolean.class, payload)).thenReturn(false);
+
+		initCache(60, 60);
+		driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+		final Boolean result = driver.getCachedFactoryCapability("Factory", properties, "from", "to");
+
+		assertFalse(result);
+
+		verify(httpService, times(1)).sendRequest(uri, HttpMethod.GET, Boolean.class, payload);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRetainFactories() {
+		final Map<String, Object> properties = Map.of(
+				"accessAddresses", List.of("localhost"),
+				"accessPort", 12345,
+				"basePath", "/test");
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 12345, "/test/check");
+		final DataModelTranslatorFactoryRequestDTO payload = new DataModelTranslatorFactoryRequestDTO("from", "to");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(httpService.sendRequest(uri, HttpMethod.GET, Boolean.class, payload)).thenReturn(true);
+
+		initCache(60, 60);
+		driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+		driver.isFactorySupportsTranslation("Factory2", properties, "from", "to");
+		driver.retainFactories(List.of("Factory2"));
+
+		assertEquals(1, driver.getCapabilityCacheStatistics().size());
+
+		driver.isFactorySupportsTranslation("Factory", properties, "from", "to");
+
+		verify(httpService, times(3)).sendRequest(uri, HttpMethod.GET, Boolean.class, payload);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testInitializeDataModelTranslatorNameNull() {
@@ -889,4 +1063,15 @@ public class DataModelTranslatorFactoryDriverTest {
 		verify(validators).getValidator(PropertyValidatorType.HTTP_OPERATIONS);
 		verify(operationsValidatorMock).validateAndNormalize(ops);
 	}
-}
\ No newline at end of file
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void initCache(final int positiveTimeToLive, final int negativeTimeToLive) {
+		ReflectionTestUtils.setField(driver, "capabilityCachePositiveTimeToLive", positiveTimeToLive);
+		ReflectionTestUtils.setField(driver, "capabilityCacheNegativeTimeToLive", negativeTimeToLive);
+		ReflectionTestUtils.setField(driver, "capabilityCacheMaxSize", 16);
+		driver.init();
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import eu.arrowhead.dto.ServiceInstanceResponseDTO;
+import eu.arrowhead.dto.SystemResponseDTO;
+
+public class DiscoveryContextTest {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetFactoryCandidatesLookupOnlyOnce() {
+		final DiscoveryContext context = new DiscoveryContext();
+		final AtomicInteger counter = new AtomicInteger();
+		final ServiceInstanceResponseDTO factory = createInstance("Factory");
+
+		final List<ServiceInstanceResponseDTO> result1 = context.getFactoryCandidates(() -> {
+			counter.incrementAndGet();
+			return List.of(factory);
+		});
+		final List<ServiceInstanceResponseDTO> result2 = context.getFactoryCandidates(() -> {
+			counter.incrementAndGet();
+			return List.of();
+		});
+
+		assertEquals(List.of(factory), result1);
+		assertEquals(List.of(factory), result2);
+		assertEquals(1, counter.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetFactoryCandidatesNullLookupResult() {
+		final DiscoveryContext context = new DiscoveryContext();
+		final AtomicInteger counter = new AtomicInteger();
+
+		context.getFactoryCandidates(() -> {
+			counter.incrementAndGet();
+			return null;
+		});
+		final List<ServiceInstanceResponseDTO> result = context.getFactoryCandidates(() -> {
+			counter.incrementAndGet();
+			return null;
+		});
+
+		assertTrue(result.isEmpty());
+		assertEquals(1, counter.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetFactorySelectionPerDirection() {
+		final DiscoveryContext context = new DiscoveryContext();
+		final AtomicInteger counter = new AtomicInteger();
+		final ServiceInstanceResponseDTO factory = createInstance("Factory");
+
+		final ServiceInstanceResponseDTO result1 = context.getFactorySelection("xml", "json", () -> {
+			counter.incrementAndGet();
+			return factory;
+		});
+		final ServiceInstanceResponseDTO result2 = context.getFactorySelection("xml", "json", () -> {
+			counter.incrementAndGet();
+			return null;
+		});
+		final ServiceInstanceResponseDTO result3 = context.getFactorySelection("json", "xml", () -> {
+			counter.incrementAndGet();
+			return null;
+		});
+		final ServiceInstanceResponseDTO result4 = context.getFactorySelection("json", "xml", () -> {
+			counter.incrementAndGet();
+			return factory;
+		});
+
+		assertSame(factory, result1);
+		assertSame(factory, result2);
+		assertNull(result3);
+		assertNull(result4); // negative selections are remembered too
+		assertEquals(2, counter.get());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceResponseDTO createInstance(final String systemName) {
+		return new ServiceInstanceResponseDTO(
+				systemName + "|dataModelTranslatorFactory|1.0.0",
+				new SystemResponseDTO(systemName, null, null, null, null, null, null),
+				null,
+				"1.0.0",
+				null,
+				null,
+				List.of(),
+				null,
+				null);
+	}
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.translationmanager.jpa.entity.BridgeHeader;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.CleanupResult;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class DiscoveryExpirySchedulerTest {
+
+	//=================================================================================================
+	// members
+
+	private static final long TICK = 1000;
+
+	@InjectMocks
+	private DiscoveryExpiryScheduler scheduler;
+
+	@Mock
+	private BridgeDbService dbService;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testScheduleBridgeIdNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> scheduler.schedule(null, Utilities.utcNow()));
+
+		assertEquals("bridgeId is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testScheduleCreatedAtNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> scheduler.schedule(UUID.randomUUID(), null));
+
+		assertEquals("createdAt is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDisabled() {
+		ReflectionTestUtils.setField(scheduler, "enabled", false);
+		scheduler.init();
+
+		scheduler.schedule(UUID.randomUUID(), Utilities.utcNow().minusHours(2));
+
+		assertEquals(0, scheduler.getScheduledCount());
+		assertTrue(scheduler.collectExpired(System.currentTimeMillis()).isEmpty());
+		verify(dbService, never()).getBridgeHeadersWithDiscoveries(0L, 10);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitRebuildsFromDatabase() {
+		final ZonedDateTime now = Utilities.utcNow();
+		final BridgeHeader header1 = createHeader(1L, now);
+		final BridgeHeader header2 = createHeader(2L, now);
+		final BridgeHeader header3 = createHeader(3L, now.minusHours(2));
+		setFields(2);
+
+		when(dbService.getBridgeHeadersWithDiscoveries(0L, 2)).thenReturn(List.of(header1, header2));
+		when(dbService.getBridgeHeadersWithDiscoveries(2L, 2)).thenReturn(List.of(header3));
+
+		scheduler.init();
+
+		assertEquals(3, scheduler.getScheduledCount());
+		// the deadline of the third bridge is already passed
+		assertEquals(List.of(UUID.fromString(header3.getUuid())), scheduler.collectExpired(System.currentTimeMillis()));
+		assertEquals(2, scheduler.getScheduledCount());
+
+		verify(dbService).getBridgeHeadersWithDiscoveries(0L, 2);
+		verify(dbService).getBridgeHeadersWithDiscoveries(2L, 2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitRebuildDbException() {
+		setFields(10);
+
+		when(dbService.getBridgeHeadersWithDiscoveries(0L, 10)).thenThrow(new InternalServerError("test"));
+
+		assertDoesNotThrow(() -> scheduler.init());
+		assertEquals(0, scheduler.getScheduledCount());
+
+		verify(dbService).getBridgeHeadersWithDiscoveries(0L, 10);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCollectExpiredNotEarlyAndAtMostOneTickLate() {
+		initScheduler();
+		final ZonedDateTime now = Utilities.utcNow();
+		final long start = now.toInstant().toEpochMilli();
+
+		// deadlines on different levels of the wheel (wheel size is 4, so the levels cover 4, 16, 64, 256... seconds)
+		final Map<UUID, Long> deadlines = new HashMap<>();
+		for (final long delay : List.of(2_500L, 13_100L, 45_000L, 200_700L, 1_000_000L)) {
+			final UUID bridgeId = UUID.randomUUID();
+			final ZonedDateTime createdAt = now.minusHours(1).plusNanos(delay * 1_000_000);
+			scheduler.schedule(bridgeId, createdAt);
+			deadlines.put(bridgeId, createdAt.plusHours(1).toInstant().toEpochMilli());
+		}
+
+		final Map<UUID, Long> expiredAt = new HashMap<>();
+		for (long time = start; time <= start + 1_000_000L + 2 * TICK; time += TICK) {
+			for (final UUID bridgeId : scheduler.collectExpired(time)) {
+				expiredAt.put(bridgeId, time);
+			}
+		}
+
+		assertEquals(deadlines.keySet(), expiredAt.keySet());
+		for (final UUID bridgeId : deadlines.keySet()) {
+			final long delay = expiredAt.get(bridgeId) - deadlines.get(bridgeId);
+			assertTrue(delay >= 0 && delay < TICK, "expired " + delay + " ms after the deadline");
+		}
+
+		assertEquals(0, scheduler.getScheduledCount());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCollectExpiredBigJump() {
+		initScheduler();
+		final ZonedDateTime createdAt = Utilities.utcNow().minusMinutes(30);
+		final long deadline = createdAt.plusHours(1).toInstant().toEpochMilli();
+		final UUID bridgeId = UUID.randomUUID();
+
+		scheduler.schedule(bridgeId, createdAt);
+
+		assertTrue(scheduler.collectExpired(deadline - 1).isEmpty());
+		assertEquals(List.of(bridgeId), scheduler.collectExpired(deadline));
+		assertTrue(scheduler.collectExpired(deadline + TICK).isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCancel() {
+		initScheduler();
+		final ZonedDateTime createdAt = Utilities.utcNow().minusMinutes(30);
+		final UUID bridgeId = UUID.randomUUID();
+
+		scheduler.schedule(bridgeId, createdAt);
+		assertEquals(1, scheduler.getWheelEntryCount());
+		scheduler.cancel(bridgeId);
+
+		assertEquals(0, scheduler.getScheduledCount());
+		assertEquals(0, scheduler.getWheelEntryCount());
+		assertTrue(scheduler.collectExpired(createdAt.plusHours(1).toInstant().toEpochMilli()).isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCancelManyBridgesEmptiesTheWheel() {
+		initScheduler();
+		final ZonedDateTime now = Utilities.utcNow();
+		final long start = now.toInstant().toEpochMilli();
+
+		// imminent, lowest level and overflow level entries
+		final List<UUID> bridgeIds = new ArrayList<>();
+		for (final long delay : List.of(-5_000L, 0L, 2_500L, 13_100L, 200_700L, 1_000_000L)) {
+			final UUID bridgeId = UUID.randomUUID();
+			scheduler.schedule(bridgeId, now.minusHours(1).plusNanos(delay * 1_000_000));
+			bridgeIds.add(bridgeId);
+		}
+
+		scheduler.collectExpired(start + 20_000L); // some entries cascade down to the finer levels
+		bridgeIds.forEach(bridgeId -> scheduler.cancel(bridgeId));
+
+		assertEquals(0, scheduler.getScheduledCount());
+		assertEquals(0, scheduler.getWheelEntryCount());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRescheduleReplacesDeadline() {
+		initScheduler();
+		final ZonedDateTime createdAt = Utilities.utcNow().minusMinutes(30);
+		final UUID bridgeId = UUID.randomUUID();
+
+		scheduler.schedule(bridgeId, createdAt);
+		scheduler.schedule(bridgeId, createdAt.plusMinutes(10));
+
+		assertEquals(1, scheduler.getScheduledCount());
+		assertEquals(1, scheduler.getWheelEntryCount());
+		assertTrue(scheduler.collectExpired(createdAt.plusHours(1).toInstant().toEpochMilli()).isEmpty());
+		assertEquals(List.of(bridgeId), scheduler.collectExpired(createdAt.plusHours(1).plusMinutes(10).toInstant().toEpochMilli()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExpire() {
+		initScheduler();
+		final UUID bridgeId = UUID.randomUUID();
+		scheduler.schedule(bridgeId, Utilities.utcNow().minusHours(2));
+
+		when(dbService.closeExpiredBridgeDiscoveries(List.of(bridgeId))).thenReturn(new CleanupResult(1, 1, 3));
+
+		scheduler.expire();
+
+		assertEquals(0, scheduler.getScheduledCount());
+		verify(dbService).closeExpiredBridgeDiscoveries(List.of(bridgeId));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExpireDbException() {
+		initScheduler();
+		final UUID bridgeId = UUID.randomUUID();
+		scheduler.schedule(bridgeId, Utilities.utcNow().minusHours(2));
+
+		when(dbService.closeExpiredBridgeDiscoveries(List.of(bridgeId))).thenThrow(new InternalServerError("test"));
+
+		assertDoesNotThrow(() -> scheduler.expire());
+
+		verify(dbService).closeExpiredBridgeDiscoveries(List.of(bridgeId));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void initScheduler() {
+		setFields(10);
+		when(dbService.getBridgeHeadersWithDiscoveries(0L, 10)).thenReturn(List.of());
+		scheduler.init();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void setFields(final int chunkSize) {
+		ReflectionTestUtils.setField(scheduler, "enabled", true);
+		ReflectionTestUtils.setField(scheduler, "tick", TICK);
+		ReflectionTestUtils.setField(scheduler, "wheelSize", 4);
+		ReflectionTestUtils.setField(scheduler, "maxAge", 1);
+		ReflectionTestUtils.setField(scheduler, "chunkSize", chunkSize);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private BridgeHeader createHeader(final long id, final ZonedDateTime createdAt) {
+		final BridgeHeader header = new BridgeHeader(UUID.randomUUID(), "Creator");
+		header.setId(id);
+		header.setCreatedAt(createdAt);
+
+		return header;
+	}
+}
@@ -0,0 +1,420 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.exception.InvalidParameterException;
+
+public class DiscoveryTaskExecutorTest {
+
+	//=================================================================================================
+	// members
+
+	private final DiscoveryTaskExecutor executor = new DiscoveryTaskExecutor();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterEach
+	public void tearDown() {
+		executor.destroy();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllInputsNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> executor.invokeAll(null, i -> i, null));
+
+		assertEquals("inputs list is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllTaskNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> executor.invokeAll(List.of(1), null, null));
+
+		assertEquals("task is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllSequential() {
+		final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		final List<Integer> result = executor.invokeAll(List.of(1, 2, 3), i -> {
+			threadNames.add(Thread.currentThread().getName());
+			return i * 10;
+		}, -1);
+
+		assertEquals(List.of(10, 20, 30), result);
+		assertEquals(Set.of(Thread.currentThread().getName()), threadNames);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllParallelKeepsOrder() {
+		initExecutor(4, 5000);
+
+		final List<Integer> result = executor.invokeAll(List.of(1, 2, 3, 4, 5, 6), i -> {
+			sleep((7 - i) * 20);
+			return i * 10;
+		}, -1);
+
+		assertEquals(List.of(10, 20, 30, 40, 50, 60), result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllParallelRunsOnWorkerThreads() {
+		initExecutor(2, 5000);
+		final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		executor.invokeAll(List.of(1, 2), i -> {
+			threadNames.add(Thread.currentThread().getName());
+			return i;
+		}, -1);
+
+		assertTrue(threadNames.stream().allMatch(name -> name.startsWith("discovery-worker-")));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllParallelTimeout() {
+		initExecutor(2, 100);
+
+		final List<Integer> result = executor.invokeAll(List.of(1, 2), i -> {
+			if (i == 2) {
+				sleep(2000);
+			}
+
+			return i * 10;
+		}, -1);
+
+		assertEquals(List.of(10, -1), result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllConcurrentCallsSaturatingThePool() throws Exception {
+		initExecutor(2, 300);
+		final CountDownLatch firstStarted = new CountDownLatch(2);
+		final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+		try {
+			// the tasks of the second call wait in the queue until the tasks of the first call are finished
+			final Future<List<Integer>> first = callers.submit(() -> executor.invokeAll(List.of(1, 2), i -> {
+				firstStarted.countDown();
+				sleep(200);
+				return i * 10;
+			}, -1));
+			assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+			final Future<List<Integer>> second = callers.submit(() -> executor.invokeAll(List.of(3, 4), i -> {
+				sleep(200);
+				return i * 10;
+			}, -1));
+
+			assertEquals(List.of(10, 20), first.get(5, TimeUnit.SECONDS));
+			assertEquals(List.of(30, 40), second.get(5, TimeUnit.SECONDS));
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllQueueTimeout() {
+		initExecutor(1, 5000, 100);
+		final AtomicBoolean queuedStarted = new AtomicBoolean(false);
+
+		// the only thread is busy, so the tasks can't be started in time
+		final Future<Integer> blocker = executor.submit(() -> {
+			sleep(2000);
+			return 0;
+		});
+
+		final long start = System.currentTimeMillis();
+		final List<Integer> result = executor.invokeAll(List.of(1, 2), i -> {
+			queuedStarted.set(true);
+			return i * 10;
+		}, -1);
+		final long elapsed = System.currentTimeMillis() - start;
+
+		assertEquals(List.of(-1, -1), result);
+		assertTrue(elapsed < 1500);
+
+		// the cancelled tasks are never started
+		blocker.cancel(true);
+		sleep(200);
+		assertFalse(queuedStarted.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvokeAllParallelException() {
+		initExecutor(2, 5000);
+
+		final Throwable ex = assertThrows(
+				InvalidParameterException.class,
+				() -> executor.invokeAll(List.of(1, 2), i -> {
+					if (i == 2) {
+						throw new InvalidParameterException("test");
+					}
+
+					return i;
+				}, -1));
+
+		assertEquals("test", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstConditionNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> executor.findFirst(List.of(1), null));
+
+		assertEquals("condition is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstSequential() {
+		final List<Integer> tested = new ArrayList<>();
+
+		final Integer result = executor.findFirst(List.of(1, 2, 3, 4), i -> {
+			tested.add(i);
+			return i % 2 == 0;
+		});
+
+		assertEquals(2, result);
+		assertEquals(List.of(1, 2), tested);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstParallelFastestWinsAndOthersAreCancelled() {
+		initExecutor(3, 5000);
+		final AtomicBoolean slowFinished = new AtomicBoolean(false);
+
+		final Integer result = executor.findFirst(List.of(1, 2, 3), i -> {
+			if (i == 1) {
+				sleep(1000);
+				slowFinished.set(true);
+				return true;
+			}
+
+			if (i == 2) {
+				sleep(50);
+				return true;
+			}
+
+			return false;
+		});
+
+		assertEquals(2, result);
+		sleep(1200);
+		assertFalse(slowFinished.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstParallelNoMatch() {
+		initExecutor(2, 5000);
+
+		final Integer result = executor.findFirst(List.of(1, 2, 3), i -> false);
+
+		assertNull(result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstParallelTimeout() {
+		initExecutor(2, 100);
+
+		final Integer result = executor.findFirst(List.of(1, 2), i -> {
+			sleep(2000);
+			return true;
+		});
+
+		assertNull(result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstConcurrentCallsSaturatingThePool() throws Exception {
+		initExecutor(2, 300);
+		final CountDownLatch firstStarted = new CountDownLatch(2);
+		final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+		try {
+			final Future<Integer> first = callers.submit(() -> executor.findFirst(List.of(1, 2), i -> {
+				firstStarted.countDown();
+				sleep(200);
+				return i == 2;
+			}));
+			assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+			final Future<Integer> second = callers.submit(() -> executor.findFirst(List.of(3, 4), i -> {
+				sleep(200);
+				return i == 4;
+			}));
+
+			assertEquals(2, first.get(5, TimeUnit.SECONDS));
+			assertEquals(4, second.get(5, TimeUnit.SECONDS));
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstQueueTimeout() {
+		initExecutor(1, 5000, 100);
+		final AtomicBoolean queuedStarted = new AtomicBoolean(false);
+
+		// the only thread is busy, so the tests can't be started in time
+		final Future<Integer> blocker = executor.submit(() -> {
+			sleep(2000);
+			return 0;
+		});
+
+		final long start = System.currentTimeMillis();
+		final Integer result = executor.findFirst(List.of(1, 2), i -> {
+			queuedStarted.set(true);
+			return true;
+		});
+		final long elapsed = System.currentTimeMillis() - start;
+
+		assertNull(result);
+		assertTrue(elapsed < 1500);
+
+		blocker.cancel(true);
+		sleep(200);
+		assertFalse(queuedStarted.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFindFirstParallelException() {
+		initExecutor(2, 5000);
+
+		final Throwable ex = assertThrows(
+				InvalidParameterException.class,
+				() -> executor.findFirst(List.of(1, 2), i -> {
+					throw new InvalidParameterException("test");
+				}));
+
+		assertEquals("test", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSubmitNotParallel() {
+		final Throwable ex = assertThrows(
+				IllegalStateException.class,
+				() -> executor.submit(() -> 1));
+
+		assertEquals("Executor is not initialized", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSubmitAndGetOrDefault() {
+		initExecutor(2, 5000);
+
+		final Future<Integer> future = executor.submit(() -> 10);
+
+		assertEquals(10, executor.getOrDefault(future, -1));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetOrDefaultFailedTask() {
+		initExecutor(2, 5000);
+
+		final Future<Integer> future = executor.submit(() -> {
+			throw new InvalidParameterException("test");
+		});
+
+		assertEquals(-1, executor.getOrDefault(future, -1));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetOrDefaultTimeout() {
+		initExecutor(2, 100);
+
+		final Future<Integer> future = executor.submit(() -> {
+			sleep(2000);
+			return 10;
+		});
+
+		assertEquals(-1, executor.getOrDefault(future, -1));
+		assertTrue(future.isCancelled());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void initExecutor(final int parallelism, final long callTimeout) {
+		initExecutor(parallelism, callTimeout, 5000);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void initExecutor(final int parallelism, final long callTimeout, final long queueTimeout) {
+		ReflectionTestUtils.setField(executor, "parallelism", parallelism);
+		ReflectionTestUtils.setField(executor, "callTimeout", callTimeout);
+		ReflectionTestUtils.setField(executor, "queueTimeout", queueTimeout);
+		executor.init();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
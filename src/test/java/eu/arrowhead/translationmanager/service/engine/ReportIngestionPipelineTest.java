@@ -0,0 +1,290 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.dto.enums.TranslationBridgeEventState;
+import eu.arrowhead.translationmanager.service.TranslationReportService;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+public class ReportIngestionPipelineTest {
+
+	//=================================================================================================
+	// members
+
+	private final ReportIngestionPipeline pipeline = new ReportIngestionPipeline();
+	private final TranslationReportService reportService = mock(TranslationReportService.class);
+
+	private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2026, 2, 19, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(pipeline, "reportService", reportService);
+		ReflectionTestUtils.setField(pipeline, "enabled", true);
+		ReflectionTestUtils.setField(pipeline, "bufferSize", 64);
+		ReflectionTestUtils.setField(pipeline, "consumers", 2);
+		ReflectionTestUtils.setField(pipeline, "maxBatchSize", 16);
+		ReflectionTestUtils.setField(pipeline, "publishTimeout", 100L);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterEach
+	public void tearDown() {
+		pipeline.destroy();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitDisabled() {
+		ReflectionTestUtils.setField(pipeline, "enabled", false);
+		pipeline.init();
+
+		assertFalse(pipeline.isEnabled());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishNotInitialized() {
+		final NormalizedTranslationReportRequestDTO report = createReport(UUID.randomUUID());
+
+		final Throwable ex = assertThrows(
+				IllegalStateException.class,
+				() -> pipeline.publish(report, "origin"));
+
+		assertEquals("Report ingestion pipeline is not initialized", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishReportNull() {
+		pipeline.init();
+
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> pipeline.publish(null, "origin"));
+
+		assertEquals("report is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishKeepsOrderPerBridge() {
+		final Map<UUID, List<ZonedDateTime>> processed = new ConcurrentHashMap<>();
+		final Map<UUID, String> threadNames = new ConcurrentHashMap<>();
+		when(reportService.processReports(anyList())).thenAnswer(invocation -> {
+			final List<NormalizedTranslationReportRequestDTO> batch = invocation.getArgument(0);
+			batch.forEach(report -> {
+				processed.computeIfAbsent(report.bridgeId(), id -> Collections.synchronizedList(new ArrayList<>())).add(report.timestamp());
+				final String previous = threadNames.putIfAbsent(report.bridgeId(), Thread.currentThread().getName());
+				assertTrue(previous == null || previous.equals(Thread.currentThread().getName()));
+			});
+
+			return Collections.nCopies(batch.size(), (ArrowheadException) null);
+		});
+		pipeline.init();
+
+		final List<UUID> bridgeIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		for (int i = 0; i < 30; ++i) {
+			pipeline.publish(createReport(bridgeIds.get(i % 3), TIMESTAMP.plusSeconds(i)), "origin");
+		}
+
+		pipeline.destroy();
+
+		assertEquals(30, pipeline.getPublishedCount());
+		assertEquals(30, pipeline.getProcessedCount());
+		assertEquals(0, pipeline.getRejectedCount());
+		assertEquals(0, pipeline.getDroppedCount());
+		for (int i = 0; i < 3; ++i) {
+			final List<ZonedDateTime> timestamps = processed.get(bridgeIds.get(i));
+			assertEquals(10, timestamps.size());
+			for (int j = 0; j < timestamps.size(); ++j) {
+				assertEquals(TIMESTAMP.plusSeconds(i + 3 * j), timestamps.get(j));
+			}
+		}
+
+		assertTrue(threadNames.values().stream().allMatch(name -> name.startsWith("report-ingestion-")));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishRejectedReportsAreCounted() {
+		when(reportService.processReports(anyList())).thenAnswer(invocation -> {
+			final List<NormalizedTranslationReportRequestDTO> batch = invocation.getArgument(0);
+
+			return Collections.nCopies(batch.size(), new InvalidParameterException("test"));
+		});
+		pipeline.init();
+
+		pipeline.publish(createReport(UUID.randomUUID()), "origin");
+		pipeline.publish(createReport(UUID.randomUUID()), "origin");
+		pipeline.destroy();
+
+		assertEquals(2, pipeline.getProcessedCount());
+		assertEquals(2, pipeline.getRejectedCount());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishConsumerSurvivesException() {
+		when(reportService.processReports(anyList()))
+				.thenThrow(new IllegalStateException("test"))
+				.thenAnswer(invocation -> Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), (ArrowheadException) null));
+		ReflectionTestUtils.setField(pipeline, "consumers", 1);
+		pipeline.init();
+
+		pipeline.publish(createReport(UUID.randomUUID()), "origin");
+		waitFor(() -> pipeline.getProcessedCount() == 1);
+		pipeline.publish(createReport(UUID.randomUUID()), "origin");
+		pipeline.destroy();
+
+		assertEquals(2, pipeline.getProcessedCount());
+		assertEquals(1, pipeline.getRejectedCount());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishQueueFull() {
+		final CountDownLatch release = new CountDownLatch(1);
+		when(reportService.processReports(anyList())).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+
+			return Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), (ArrowheadException) null);
+		});
+		ReflectionTestUtils.setField(pipeline, "bufferSize", 4);
+		ReflectionTestUtils.setField(pipeline, "consumers", 1);
+		pipeline.init();
+
+		final UUID bridgeId = UUID.randomUUID();
+		Throwable ex = null;
+		for (int i = 0; i < 10 && ex == null; ++i) {
+			try {
+				pipeline.publish(createReport(bridgeId), "origin");
+			} catch (final InternalServerError e) {
+				ex = e;
+			}
+		}
+
+		release.countDown();
+
+		assertTrue(ex instanceof InternalServerError);
+		assertEquals("Report queue is full", ex.getMessage());
+		assertEquals("origin", ((InternalServerError) ex).getOrigin());
+		assertEquals(1, pipeline.getDroppedCount());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPublishFullShardDoesNotBlockOtherShard() {
+		final UUID slowBridgeId = UUID.randomUUID();
+		UUID fastBridgeId = UUID.randomUUID();
+		while (Math.floorMod(fastBridgeId.hashCode(), 2) == Math.floorMod(slowBridgeId.hashCode(), 2)) {
+			fastBridgeId = UUID.randomUUID();
+		}
+
+		final CountDownLatch release = new CountDownLatch(1);
+		when(reportService.processReports(anyList())).thenAnswer(invocation -> {
+			final List<NormalizedTranslationReportRequestDTO> batch = invocation.getArgument(0);
+			if (batch.get(0).bridgeId().equals(slowBridgeId)) {
+				release.await(5, TimeUnit.SECONDS);
+			}
+
+			return Collections.nCopies(batch.size(), (ArrowheadException) null);
+		});
+		ReflectionTestUtils.setField(pipeline, "bufferSize", 4);
+		pipeline.init();
+
+		Throwable ex = null;
+		for (int i = 0; i < 10 && ex == null; ++i) {
+			try {
+				pipeline.publish(createReport(slowBridgeId), "origin");
+			} catch (final InternalServerError e) {
+				ex = e;
+			}
+		}
+
+		assertTrue(ex instanceof InternalServerError);
+
+		for (int i = 0; i < 10; ++i) {
+			pipeline.publish(createReport(fastBridgeId), "origin");
+		}
+
+		waitFor(() -> pipeline.getProcessedCount() == 10);
+
+		assertEquals(10, pipeline.getProcessedCount());
+		assertEquals(1, pipeline.getDroppedCount());
+
+		release.countDown();
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private NormalizedTranslationReportRequestDTO createReport(final UUID bridgeId) {
+		return createReport(bridgeId, TIMESTAMP);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private NormalizedTranslationReportRequestDTO createReport(final UUID bridgeId, final ZonedDateTime timestamp) {
+		return new NormalizedTranslationReportRequestDTO("Requester", bridgeId, timestamp, TranslationBridgeEventState.USED, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void waitFor(final BooleanSupplier condition) {
+		final long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(10);
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -32,6 +33,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -45,8 +47,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.util.Pair;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.ArrowheadException;
@@ -87,6 +91,8 @@ public class TranslatorBridgeEngineTest {
 	//=================================================================================================
 	// members
 
+	private static final ZonedDateTime CREATED_AT = ZonedDateTime.parse("2026-02-19T10:00:00Z");
+
 	@InjectMocks
 	private TranslatorBridgeEngine engine;
 
@@ -120,6 +126,12 @@ public class TranslatorBridgeEngineTest {
 	@Mock
 	private TranslationManagerSystemInfo sysInfo;
 
+	@Spy
+	private DiscoveryTaskExecutor taskExecutor = new DiscoveryTaskExecutor();
+
+	@Mock
+	private DiscoveryExpiryScheduler expiryScheduler;
+
 	//=================================================================================================
 	// methods
 
@@ -732,6 +744,237 @@ public class TranslatorBridgeEngineTest {
 		verify(csDriver).filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", "test-operation");
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoDiscoveryCandidateFiltersInParallel() {
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", Map.of("output", "testXml"))));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(
+				new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)),
+				new NormalizedServiceInstanceDTO("TestProvider2|testService|1.0.0", "TestProvider2", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				null,
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, true,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, true);
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.filterOutBlacklistedSystems(List.of("TestProvider", "TestProvider2"))).thenReturn(List.of("TestProvider2"));
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider", "TestProvider2"), "TestConsumer", "testService", "test-operation")).thenReturn(List.of("TestProvider"));
+
+		ReflectionTestUtils.setField(taskExecutor, "parallelism", 2);
+		ReflectionTestUtils.setField(taskExecutor, "callTimeout", 5000L);
+		ReflectionTestUtils.setField(taskExecutor, "queueTimeout", 5000L);
+		taskExecutor.init();
+
+		try {
+			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+
+			assertNotNull(result);
+			assertNull(result.bridgeId());
+			assertTrue(result.candidates().isEmpty());
+
+			// both checks got the full list, the intersection is empty
+			verify(csDriver).filterOutBlacklistedSystems(List.of("TestProvider", "TestProvider2"));
+			verify(csDriver).filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider", "TestProvider2"), "TestConsumer", "testService", "test-operation");
+			verify(csDriver, never()).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+		} finally {
+			taskExecutor.destroy();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testDoDiscoveryCandidateFiltersInParallelBlacklistTimeout() {
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", Map.of("output", "testXml"))));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(
+				new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)),
+				new NormalizedServiceInstanceDTO("TestProvider2|testService|1.0.0", "TestProvider2", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				null,
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, true,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, true);
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.filterOutBlacklistedSystems(List.of("TestProvider", "TestProvider2"))).thenAnswer(invocation -> {
+			Thread.sleep(5000);
+			return List.of("TestProvider", "TestProvider2");
+		});
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider", "TestProvider2"), "TestConsumer", "testService", "test-operation"))
+				.thenReturn(List.of("TestProvider", "TestProvider2"));
+		when(csDriver.handleBlacklistUnavailability(List.of("TestProvider", "TestProvider2"))).thenReturn(List.of());
+
+		ReflectionTestUtils.setField(taskExecutor, "parallelism", 2);
+		ReflectionTestUtils.setField(taskExecutor, "callTimeout", 100L);
+		ReflectionTestUtils.setField(taskExecutor, "queueTimeout", 5000L);
+		taskExecutor.init();
+
+		try {
+			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+
+			assertNotNull(result);
+			assertNull(result.bridgeId());
+			assertTrue(result.candidates().isEmpty());
+
+			// the timed out blacklist check is handled as an unavailable blacklist server (forced blacklist in this case)
+			verify(csDriver).handleBlacklistUnavailability(List.of("TestProvider", "TestProvider2"));
+			verify(csDriver, never()).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+		} finally {
+			taskExecutor.destroy();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testDoDiscoveryCandidateFiltersInParallelAuthorizationTimeout() {
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", Map.of("output", "testXml"))));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(
+				new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)),
+				new NormalizedServiceInstanceDTO("TestProvider2|testService|1.0.0", "TestProvider2", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				null,
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, true,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, true);
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.filterOutBlacklistedSystems(List.of("TestProvider", "TestProvider2"))).thenReturn(List.of("TestProvider", "TestProvider2"));
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider", "TestProvider2"), "TestConsumer", "testService", "test-operation")).thenAnswer(invocation -> {
+			Thread.sleep(5000);
+			return List.of("TestProvider", "TestProvider2");
+		});
+
+		ReflectionTestUtils.setField(taskExecutor, "parallelism", 2);
+		ReflectionTestUtils.setField(taskExecutor, "callTimeout", 100L);
+		ReflectionTestUtils.setField(taskExecutor, "queueTimeout", 5000L);
+		taskExecutor.init();
+
+		try {
+			// not "nothing passes": the timeout is reported as in sequential mode
+			final ArrowheadException ex = assertThrows(
+					ExternalServerError.class,
+					() -> engine.doDiscovery(dto, flags, "origin"));
+
+			assertEquals("Authorization check is not finished in time", ex.getMessage());
+			assertEquals("origin", ex.getOrigin());
+
+			verify(csDriver, never()).handleBlacklistUnavailability(any());
+			verify(csDriver, never()).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+		} finally {
+			taskExecutor.destroy();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoDiscoveryPipelinedInterfaceTranslatorLookup() {
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", Map.of("output", "testXml"))));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(
+				new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)),
+				new NormalizedServiceInstanceDTO("TestProvider2|testService|1.0.0", "TestProvider2", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				null,
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, true,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false);
+
+		final ServiceInstanceResponseDTO interfaceTranslator = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				null,
+				"1.0.0",
+				null,
+				null,
+				List.of(),
+				null,
+				null);
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates)).thenReturn(List.of(interfaceTranslator));
+		when(csDriver.filterOutBlacklistedSystems(List.of("TestProvider", "TestProvider2"))).thenReturn(List.of("TestProvider2"));
+		when(csDriver.filterInterfaceTranslatorCandidates(List.of(interfaceTranslator), List.of("generic_mqtt"), List.of(candidates.get(1)))).thenReturn(List.of());
+
+		ReflectionTestUtils.setField(engine, "pipelined", true);
+		ReflectionTestUtils.setField(taskExecutor, "parallelism", 2);
+		ReflectionTestUtils.setField(taskExecutor, "callTimeout", 5000L);
+		ReflectionTestUtils.setField(taskExecutor, "queueTimeout", 5000L);
+		taskExecutor.init();
+
+		try {
+			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+
+			assertNotNull(result);
+			assertNull(result.bridgeId());
+			assertTrue(result.candidates().isEmpty());
+
+			// lookup is done only once (for all the candidates), then the result is filtered locally
+			verify(csDriver).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+			verify(csDriver).filterOutBlacklistedSystems(List.of("TestProvider", "TestProvider2"));
+			verify(csDriver).filterInterfaceTranslatorCandidates(List.of(interfaceTranslator), List.of("generic_mqtt"), List.of(candidates.get(1)));
+			verify(csDriver, never()).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), List.of(candidates.get(1)));
+		} finally {
+			taskExecutor.destroy();
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testDoDiscoveryNoAppropriateInterfaceTranslator() {
@@ -1115,6 +1358,77 @@ public class TranslatorBridgeEngineTest {
 		verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoDiscoveryInterfaceTranslatorNarrowsTargetInterfaces() {
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", Map.of("input", "testXml", "output", "testXml"))));
+		final ServiceInstanceInterfaceResponseDTO targetIntf2 = new ServiceInstanceInterfaceResponseDTO(
+				"generic_https",
+				"http",
+				"CERT_AUTH",
+				Map.of("dataModels", Map.of("test-operation", Map.of("input", "testXml", "output", "testXml"))));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf, targetIntf2)));
+		// the interface translator accepts the target, but not through the interface it translates to
+		final List<NormalizedServiceInstanceDTO> checkedCandidates = List.of(new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf2)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				"testJson",
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false);
+
+		final ServiceInstanceInterfaceResponseDTO iTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12345));
+
+		final ServiceInstanceResponseDTO interfaceTranslator = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				Map.of("interfaceBridge", Map.of("to", "generic_http", "from", List.of("generic_mqtt"))),
+				List.of(iTranslatorIntf),
+				null,
+				null);
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates)).thenReturn(List.of(interfaceTranslator));
+		when(csDriver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator))).thenReturn(Map.of());
+		when(itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates)).thenReturn(checkedCandidates);
+		when(interfaceTranslatorMatchmaker.doMatchmaking(List.of(), Map.of())).thenReturn(null);
+
+		final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+
+		assertNotNull(result);
+		assertNull(result.bridgeId());
+		assertTrue(result.candidates().isEmpty());
+
+		verify(csDriver).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+		verify(csDriver).generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator));
+		verify(itDriver).filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates);
+		// the translator is not acceptable, because the checked target has no 'generic_http' interface anymore
+		verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(), Map.of());
+		verify(interfaceTranslatorMatchmaker, never()).doMatchmaking(List.of(interfaceTranslator), Map.of());
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
@@ -1190,7 +1504,7 @@ public class TranslatorBridgeEngineTest {
 
 		try (MockedStatic<UUID> mockedUUID = Mockito.mockStatic(UUID.class)) {
 			mockedUUID.when(() -> UUID.randomUUID()).thenReturn(bridgeId);
-			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model))).thenReturn(null);
+			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model))).thenReturn(Pair.of(createHeader(bridgeId), List.of()));
 			when(converter.convertDiscoveryModels(bridgeId, List.of(model))).thenReturn(expected);
 
 			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
@@ -1209,6 +1523,7 @@ public class TranslatorBridgeEngineTest {
 			verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
 			mockedUUID.verify(() -> UUID.randomUUID());
 			verify(dbService).storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model));
+			verify(expiryScheduler).schedule(bridgeId, CREATED_AT);
 			verify(converter).convertDiscoveryModels(bridgeId, List.of(model));
 		}
 	}
@@ -1509,7 +1824,8 @@ public class TranslatorBridgeEngineTest {
 		when(interfaceTranslatorMatchmaker.doMatchmaking(List.of(interfaceTranslator), Map.of())).thenReturn(interfaceTranslator);
 		when(csDriver.collectDataModelTranslatorCandidates(List.of(model))).thenReturn(List.of(dataModelTranslator));
 		when(csDriver.filterOutBlacklistedSystems(List.of("DataModelTranslator"))).thenReturn(List.of("DataModelTranslator"));
-		when(csDriver.filterOutProvidersBecauseOfUnauthorization(List.of("DataModelTranslator"), "InterfaceTranslator", "dataModelTranslation", null)).thenReturn(List.of());
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null))
+				.thenReturn(Map.of("InterfaceTranslator", List.of()));
 
 		final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
 
@@ -1531,7 +1847,7 @@ public class TranslatorBridgeEngineTest {
 		verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
 		verify(csDriver).collectDataModelTranslatorCandidates(List.of(model));
 		verify(csDriver).filterOutBlacklistedSystems(List.of("DataModelTranslator"));
-		verify(csDriver).filterOutProvidersBecauseOfUnauthorization(List.of("DataModelTranslator"), "InterfaceTranslator", "dataModelTranslation", null);
+		verify(csDriver).filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null);
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -1642,15 +1958,16 @@ public class TranslatorBridgeEngineTest {
 		verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
 		verify(csDriver).collectDataModelTranslatorCandidates(List.of(model));
 		verify(csDriver).collectDataModelTranslatorFactoryCandidates();
+		verify(dmfDriver).retainFactories(List.of("DataModelTranslatorFactory"));
 		verify(dmfDriver).isFactorySupportsTranslation("DataModelTranslatorFactory", dmTranslatorFactoryIntf.properties(), "testXml", "testJson");
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	@SuppressWarnings({ "checkstyle:MagicNumber", "checkstyle:MethodLength" })
+	@SuppressWarnings("checkstyle:MagicNumber")
 	@Test
-	public void testDoDiscoveryOk1() {
+	public void testDoDiscoveryTranslationKnownNotSupportedByFactory() {
 		final Map<String, String> opMap = new HashMap<>(1);
-		opMap.put("input", "testXml");
+		opMap.put("input", null);
 		opMap.put("output", "testXml");
 		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
 				"generic_http",
@@ -1665,7 +1982,7 @@ public class TranslatorBridgeEngineTest {
 				"TestConsumer",
 				"test-operation",
 				List.of("generic_mqtt"),
-				"testJson",
+				null,
 				"testJson");
 
 		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
@@ -1673,7 +1990,7 @@ public class TranslatorBridgeEngineTest {
 				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, false,
 				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false,
 				TranslationDiscoveryFlag.TRANSLATORS_BLACKLIST_CHECK, false,
-				TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, true);
+				TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false);
 
 		final ServiceInstanceInterfaceResponseDTO iTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
 				"generic_http",
@@ -1692,30 +2009,13 @@ public class TranslatorBridgeEngineTest {
 				null,
 				null);
 
-		final ServiceInstanceInterfaceResponseDTO dmTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
-				"generic_http",
-				"http",
-				"NONE",
-				Map.of("accessPort", 12347));
-
-		final ServiceInstanceResponseDTO dataModelTranslator = new ServiceInstanceResponseDTO(
-				"DataModelTranslator|dataModelTranslation|1.0.0",
-				new SystemResponseDTO("DataModelTranslator", null, null, null, null, null, null),
-				new ServiceDefinitionResponseDTO("dataModelTranslation", null, null),
-				"1.0.0",
-				null,
-				Map.of("dataModelIds", List.of(List.of("testXml", "testJson"), List.of("testJson", "testXml"))),
-				List.of(dmTranslatorIntf),
-				null,
-				null);
-
 		final TranslationDiscoveryModel model = new TranslationDiscoveryModel(
 				"TestProvider|testService|1.0.0",
 				"TestProvider",
 				"testService",
 				"test-operation",
 				"TestConsumer",
-				"testJson",
+				null,
 				"testJson");
 		model.setFromInterfaceTemplate("generic_mqtt");
 		model.setToInterfaceTemplate("generic_http");
@@ -1724,34 +2024,164 @@ public class TranslatorBridgeEngineTest {
 		model.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
 		model.setTargetPolicy("NONE");
 		model.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
-		model.setTargetInputDataModelId("testXml");
 		model.setTargetOutputDataModelId("testXml");
 
-		final TranslationDiscoveryModel model2 = new TranslationDiscoveryModel(
-				"TestProvider|testService|1.0.0",
-				"TestProvider",
-				"testService",
-				"test-operation",
-				"TestConsumer",
-				"testJson",
-				"testJson");
-		model2.setFromInterfaceTemplate("generic_mqtt");
-		model2.setToInterfaceTemplate("generic_http");
-		model2.setInterfaceTranslator("InterfaceTranslator");
-		model2.setInterfaceTranslatorPolicy("NONE");
-		model2.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
-		model2.setTargetPolicy("NONE");
-		model2.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
-		model2.setTargetInputDataModelId("testXml");
-		model2.setTargetOutputDataModelId("testXml");
-		model2.setInputDataModelTranslator("DataModelTranslator");
-		model2.setInputDataModelTranslatorProperties(dmTranslatorIntf.properties());
-		model2.setInputDataModelTranslatorFactory(false);
-		model2.setOutputDataModelTranslator("DataModelTranslator");
-		model2.setOutputDataModelTranslatorProperties(dmTranslatorIntf.properties());
-		model2.setOutputDataModelTranslatorFactory(false);
+		final ServiceInstanceInterfaceResponseDTO dmTranslatorFactoryIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12347));
 
-		final UUID bridgeId = UUID.fromString("9ef06aec-7865-48c0-b456-9f6faab47c22");
+		final ServiceInstanceResponseDTO dataModelTranslatorFactory = new ServiceInstanceResponseDTO(
+				"DataModelTranslatorFactory|dataModelTranslatorFactoryControl|1.0.0",
+				new SystemResponseDTO("DataModelTranslatorFactory", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("dataModelTranslatorFactoryControl", null, null),
+				"1.0.0",
+				null,
+				Map.of(),
+				List.of(dmTranslatorFactoryIntf),
+				null,
+				null);
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates)).thenReturn(List.of(interfaceTranslator));
+		when(csDriver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator))).thenReturn(Map.of());
+		when(itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates)).thenReturn(candidates);
+		when(interfaceTranslatorMatchmaker.doMatchmaking(List.of(interfaceTranslator), Map.of())).thenReturn(interfaceTranslator);
+		when(csDriver.collectDataModelTranslatorCandidates(List.of(model))).thenReturn(List.of());
+		when(csDriver.collectDataModelTranslatorFactoryCandidates()).thenReturn(List.of(dataModelTranslatorFactory));
+		when(dmfDriver.getCachedFactoryCapability("DataModelTranslatorFactory", dmTranslatorFactoryIntf.properties(), "testXml", "testJson")).thenReturn(false);
+
+		final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+
+		assertNotNull(result);
+		assertNull(result.bridgeId());
+		assertTrue(result.candidates().isEmpty());
+
+		verify(csDriver, never()).isBlacklisted("TestConsumer");
+		verify(csDriver, never()).filterOutBlacklistedSystems(List.of("TestProvider"));
+		verify(csDriver, never()).filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", "test-operation");
+		verify(dataModelIdentifierNormalizer).normalize("testXml");
+		verify(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		verify(csDriver).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+		verify(csDriver).generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator));
+		verify(itDriver).filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates);
+		verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
+		verify(csDriver).collectDataModelTranslatorCandidates(List.of(model));
+		verify(csDriver).collectDataModelTranslatorFactoryCandidates();
+		verify(dmfDriver).retainFactories(List.of("DataModelTranslatorFactory"));
+		verify(dmfDriver).getCachedFactoryCapability("DataModelTranslatorFactory", dmTranslatorFactoryIntf.properties(), "testXml", "testJson");
+		verify(dmfDriver, never()).isFactorySupportsTranslation(any(), any(), any(), any());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "checkstyle:MethodLength" })
+	@Test
+	public void testDoDiscoveryOk1() {
+		final Map<String, String> opMap = new HashMap<>(1);
+		opMap.put("input", "testXml");
+		opMap.put("output", "testXml");
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", opMap)));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				"testJson",
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, true);
+
+		final ServiceInstanceInterfaceResponseDTO iTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12345));
+
+		final ServiceInstanceResponseDTO interfaceTranslator = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				Map.of("interfaceBridge", Map.of("to", "generic_http", "from", List.of("generic_mqtt"))),
+				List.of(iTranslatorIntf),
+				null,
+				null);
+
+		final ServiceInstanceInterfaceResponseDTO dmTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12347));
+
+		final ServiceInstanceResponseDTO dataModelTranslator = new ServiceInstanceResponseDTO(
+				"DataModelTranslator|dataModelTranslation|1.0.0",
+				new SystemResponseDTO("DataModelTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("dataModelTranslation", null, null),
+				"1.0.0",
+				null,
+				Map.of("dataModelIds", List.of(List.of("testXml", "testJson"), List.of("testJson", "testXml"))),
+				List.of(dmTranslatorIntf),
+				null,
+				null);
+
+		final TranslationDiscoveryModel model = new TranslationDiscoveryModel(
+				"TestProvider|testService|1.0.0",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"TestConsumer",
+				"testJson",
+				"testJson");
+		model.setFromInterfaceTemplate("generic_mqtt");
+		model.setToInterfaceTemplate("generic_http");
+		model.setInterfaceTranslator("InterfaceTranslator");
+		model.setInterfaceTranslatorPolicy("NONE");
+		model.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
+		model.setTargetPolicy("NONE");
+		model.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
+		model.setTargetInputDataModelId("testXml");
+		model.setTargetOutputDataModelId("testXml");
+
+		final TranslationDiscoveryModel model2 = new TranslationDiscoveryModel(
+				"TestProvider|testService|1.0.0",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"TestConsumer",
+				"testJson",
+				"testJson");
+		model2.setFromInterfaceTemplate("generic_mqtt");
+		model2.setToInterfaceTemplate("generic_http");
+		model2.setInterfaceTranslator("InterfaceTranslator");
+		model2.setInterfaceTranslatorPolicy("NONE");
+		model2.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
+		model2.setTargetPolicy("NONE");
+		model2.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
+		model2.setTargetInputDataModelId("testXml");
+		model2.setTargetOutputDataModelId("testXml");
+		model2.setInputDataModelTranslator("DataModelTranslator");
+		model2.setInputDataModelTranslatorProperties(dmTranslatorIntf.properties());
+		model2.setInputDataModelTranslatorFactory(false);
+		model2.setOutputDataModelTranslator("DataModelTranslator");
+		model2.setOutputDataModelTranslatorProperties(dmTranslatorIntf.properties());
+		model2.setOutputDataModelTranslatorFactory(false);
+
+		final UUID bridgeId = UUID.fromString("9ef06aec-7865-48c0-b456-9f6faab47c22");
 		final TranslationDiscoveryResponseDTO expected = new TranslationDiscoveryResponseDTO(
 				bridgeId.toString(),
 				List.of(new TranslationBridgeCandidateDTO("TestProvider|testService|1.0.0", "generic_http")));
@@ -1765,12 +2195,13 @@ public class TranslatorBridgeEngineTest {
 		when(itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates)).thenReturn(candidates);
 		when(interfaceTranslatorMatchmaker.doMatchmaking(List.of(interfaceTranslator), Map.of())).thenReturn(interfaceTranslator);
 		when(csDriver.collectDataModelTranslatorCandidates(List.of(model))).thenReturn(List.of(dataModelTranslator));
-		when(csDriver.filterOutProvidersBecauseOfUnauthorization(List.of("DataModelTranslator"), "InterfaceTranslator", "dataModelTranslation", null)).thenReturn(List.of("DataModelTranslator"));
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null))
+				.thenReturn(Map.of("InterfaceTranslator", List.of("DataModelTranslator")));
 		when(dataModelTranslatorMatchmaker.doMatchmaking(List.of(dataModelTranslator), Map.of())).thenReturn(dataModelTranslator);
 
 		try (MockedStatic<UUID> mockedUUID = Mockito.mockStatic(UUID.class)) {
 			mockedUUID.when(() -> UUID.randomUUID()).thenReturn(bridgeId);
-			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(null);
+			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(Pair.of(createHeader(bridgeId), List.of()));
 			when(converter.convertDiscoveryModels(bridgeId, List.of(model2))).thenReturn(expected);
 
 			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
@@ -1792,7 +2223,7 @@ public class TranslatorBridgeEngineTest {
 			verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
 			verify(csDriver).collectDataModelTranslatorCandidates(List.of(model2));
 			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("DataModelTranslator"));
-			verify(csDriver, times(2)).filterOutProvidersBecauseOfUnauthorization(List.of("DataModelTranslator"), "InterfaceTranslator", "dataModelTranslation", null);
+			verify(csDriver).filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null);
 			verify(dataModelTranslatorMatchmaker, times(2)).doMatchmaking(List.of(dataModelTranslator), Map.of());
 			mockedUUID.verify(() -> UUID.randomUUID());
 			verify(dbService).storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2));
@@ -1800,6 +2231,170 @@ public class TranslatorBridgeEngineTest {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "checkstyle:MethodLength" })
+	@Test
+	public void testDoDiscoveryResultReused() {
+		final Map<String, String> opMap = new HashMap<>(1);
+		opMap.put("input", "testXml");
+		opMap.put("output", "testXml");
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", opMap)));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				"testJson",
+				"testJson");
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, true);
+
+		final ServiceInstanceInterfaceResponseDTO iTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12345));
+
+		final ServiceInstanceResponseDTO interfaceTranslator = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				Map.of("interfaceBridge", Map.of("to", "generic_http", "from", List.of("generic_mqtt"))),
+				List.of(iTranslatorIntf),
+				null,
+				null);
+
+		final ServiceInstanceInterfaceResponseDTO dmTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12347));
+
+		final ServiceInstanceResponseDTO dataModelTranslator = new ServiceInstanceResponseDTO(
+				"DataModelTranslator|dataModelTranslation|1.0.0",
+				new SystemResponseDTO("DataModelTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("dataModelTranslation", null, null),
+				"1.0.0",
+				null,
+				Map.of("dataModelIds", List.of(List.of("testXml", "testJson"), List.of("testJson", "testXml"))),
+				List.of(dmTranslatorIntf),
+				null,
+				null);
+
+		final TranslationDiscoveryModel model = new TranslationDiscoveryModel(
+				"TestProvider|testService|1.0.0",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"TestConsumer",
+				"testJson",
+				"testJson");
+		model.setFromInterfaceTemplate("generic_mqtt");
+		model.setToInterfaceTemplate("generic_http");
+		model.setInterfaceTranslator("InterfaceTranslator");
+		model.setInterfaceTranslatorPolicy("NONE");
+		model.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
+		model.setTargetPolicy("NONE");
+		model.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
+		model.setTargetInputDataModelId("testXml");
+		model.setTargetOutputDataModelId("testXml");
+
+		final TranslationDiscoveryModel model2 = new TranslationDiscoveryModel(
+				"TestProvider|testService|1.0.0",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"TestConsumer",
+				"testJson",
+				"testJson");
+		model2.setFromInterfaceTemplate("generic_mqtt");
+		model2.setToInterfaceTemplate("generic_http");
+		model2.setInterfaceTranslator("InterfaceTranslator");
+		model2.setInterfaceTranslatorPolicy("NONE");
+		model2.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
+		model2.setTargetPolicy("NONE");
+		model2.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
+		model2.setTargetInputDataModelId("testXml");
+		model2.setTargetOutputDataModelId("testXml");
+		model2.setInputDataModelTranslator("DataModelTranslator");
+		model2.setInputDataModelTranslatorProperties(dmTranslatorIntf.properties());
+		model2.setInputDataModelTranslatorFactory(false);
+		model2.setOutputDataModelTranslator("DataModelTranslator");
+		model2.setOutputDataModelTranslatorProperties(dmTranslatorIntf.properties());
+		model2.setOutputDataModelTranslatorFactory(false);
+
+		final UUID bridgeId = UUID.fromString("9ef06aec-7865-48c0-b456-9f6faab47c22");
+		final TranslationDiscoveryResponseDTO expected = new TranslationDiscoveryResponseDTO(
+				bridgeId.toString(),
+				List.of(new TranslationBridgeCandidateDTO("TestProvider|testService|1.0.0", "generic_http")));
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates)).thenReturn(List.of(interfaceTranslator));
+		when(sysInfo.getSystemName()).thenReturn("TranslationManager");
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(List.of("InterfaceTranslator"), "TranslationManager", "interfaceBridgeManagement", null)).thenReturn(List.of("InterfaceTranslator"));
+		when(csDriver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator))).thenReturn(Map.of());
+		when(itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates)).thenReturn(candidates);
+		when(interfaceTranslatorMatchmaker.doMatchmaking(List.of(interfaceTranslator), Map.of())).thenReturn(interfaceTranslator);
+		when(csDriver.collectDataModelTranslatorCandidates(List.of(model))).thenReturn(List.of(dataModelTranslator));
+		when(csDriver.filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null))
+				.thenReturn(Map.of("InterfaceTranslator", List.of("DataModelTranslator")));
+		when(dataModelTranslatorMatchmaker.doMatchmaking(List.of(dataModelTranslator), Map.of())).thenReturn(dataModelTranslator);
+
+		try (MockedStatic<UUID> mockedUUID = Mockito.mockStatic(UUID.class)) {
+			mockedUUID.when(() -> UUID.randomUUID()).thenReturn(bridgeId);
+			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(Pair.of(createHeader(bridgeId), List.of()));
+			when(converter.convertDiscoveryModels(bridgeId, List.of(model2))).thenReturn(expected);
+
+			ReflectionTestUtils.setField(engine, "discoveryMemoTimeToLive", 60);
+			ReflectionTestUtils.setField(engine, "discoveryMemoMaxSize", 16);
+			engine.init();
+
+			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+			final TranslationDiscoveryResponseDTO result2 = engine.doDiscovery(dto, flags, "origin");
+
+			assertNotNull(result);
+			assertEquals(expected, result);
+			assertEquals(expected, result2);
+			assertEquals(1, engine.getManagedCaches().get(0).getStatistics().hits());
+
+			verify(csDriver, never()).isBlacklisted("TestConsumer");
+			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("TestProvider"));
+			verify(csDriver, never()).filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", "test-operation");
+			verify(dataModelIdentifierNormalizer, times(2)).normalize("testXml");
+			verify(dataModelIdentifierValidator, times(2)).validateDataModelIdentifier("testXml");
+			verify(csDriver).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("InterfaceTranslator"));
+			verify(sysInfo).getSystemName();
+			verify(csDriver).filterOutProvidersBecauseOfUnauthorization(List.of("InterfaceTranslator"), "TranslationManager", "interfaceBridgeManagement", null);
+			verify(csDriver).generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator));
+			verify(itDriver).filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates);
+			verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
+			verify(csDriver).collectDataModelTranslatorCandidates(List.of(model2));
+			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("DataModelTranslator"));
+			verify(csDriver).filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null);
+			verify(dataModelTranslatorMatchmaker, times(2)).doMatchmaking(List.of(dataModelTranslator), Map.of());
+			verify(csDriver, never()).generateTokenForManagerToInterfaceBridgeManagementService(Map.of("InterfaceTranslator", "NONE"));
+			mockedUUID.verify(() -> UUID.randomUUID(), times(2));
+			verify(dbService, times(2)).storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2));
+			verify(converter, times(2)).convertDiscoveryModels(bridgeId, List.of(model2));
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings({ "checkstyle:MagicNumber", "checkstyle:MethodLength" })
 	@Test
@@ -1917,7 +2512,7 @@ public class TranslatorBridgeEngineTest {
 
 		try (MockedStatic<UUID> mockedUUID = Mockito.mockStatic(UUID.class)) {
 			mockedUUID.when(() -> UUID.randomUUID()).thenReturn(bridgeId);
-			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(null);
+			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(Pair.of(createHeader(bridgeId), List.of()));
 			when(converter.convertDiscoveryModels(bridgeId, List.of(model2))).thenReturn(expected);
 
 			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
@@ -1938,7 +2533,7 @@ public class TranslatorBridgeEngineTest {
 			verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
 			verify(csDriver).collectDataModelTranslatorCandidates(List.of(model2));
 			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("DataModelTranslator"));
-			verify(csDriver, never()).filterOutProvidersBecauseOfUnauthorization(List.of("DataModelTranslator"), "InterfaceTranslator", "dataModelTranslation", null);
+			verify(csDriver, never()).filterOutProvidersBecauseOfUnauthorization(Map.of("InterfaceTranslator", List.of("DataModelTranslator")), "dataModelTranslation", null);
 			verify(dataModelTranslatorMatchmaker).doMatchmaking(List.of(dataModelTranslator), Map.of());
 			mockedUUID.verify(() -> UUID.randomUUID());
 			verify(dbService).storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2));
@@ -2064,7 +2659,7 @@ public class TranslatorBridgeEngineTest {
 
 		try (MockedStatic<UUID> mockedUUID = Mockito.mockStatic(UUID.class)) {
 			mockedUUID.when(() -> UUID.randomUUID()).thenReturn(bridgeId);
-			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(null);
+			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(Pair.of(createHeader(bridgeId), List.of()));
 			when(converter.convertDiscoveryModels(bridgeId, List.of(model2))).thenReturn(expected);
 
 			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
@@ -2092,6 +2687,153 @@ public class TranslatorBridgeEngineTest {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "checkstyle:MethodLength" })
+	@Test
+	public void testDoDiscoveryOk3FactoryCapabilityCached() {
+		final Map<String, String> opMap = new HashMap<>(1);
+		opMap.put("input", "testXml");
+		opMap.put("output", null);
+		final ServiceInstanceInterfaceResponseDTO targetIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("dataModels", Map.of("test-operation", opMap)));
+
+		final List<NormalizedServiceInstanceDTO> candidates = List.of(new NormalizedServiceInstanceDTO("TestProvider|testService|1.0.0", "TestProvider", "testService", List.of(targetIntf)));
+		final NormalizedTranslationDiscoveryRequestDTO dto = new NormalizedTranslationDiscoveryRequestDTO(
+				"TestCreator",
+				candidates,
+				"TestConsumer",
+				"test-operation",
+				List.of("generic_mqtt"),
+				"testJson",
+				null);
+
+		final Map<TranslationDiscoveryFlag, Boolean> flags = Map.of(
+				TranslationDiscoveryFlag.CONSUMER_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.CANDIDATES_AUTH_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_BLACKLIST_CHECK, false,
+				TranslationDiscoveryFlag.TRANSLATORS_AUTH_CHECK, false);
+
+		final ServiceInstanceInterfaceResponseDTO iTranslatorIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12345));
+
+		final ServiceInstanceResponseDTO interfaceTranslator = new ServiceInstanceResponseDTO(
+				"InterfaceTranslator|interfaceBridgeManagement|1.0.0",
+				new SystemResponseDTO("InterfaceTranslator", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("interfaceBridgeManagement", null, null),
+				"1.0.0",
+				null,
+				Map.of("interfaceBridge", Map.of("to", "generic_http", "from", List.of("generic_mqtt"))),
+				List.of(iTranslatorIntf),
+				null,
+				null);
+
+		final ServiceInstanceInterfaceResponseDTO dmTranslatorFactoryIntf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of("accessPort", 12347));
+
+		final ServiceInstanceResponseDTO dataModelTranslatorFactory = new ServiceInstanceResponseDTO(
+				"DataModelTranslatorFactory|dataModelTranslatorFactoryControl|1.0.0",
+				new SystemResponseDTO("DataModelTranslatorFactory", null, null, null, null, null, null),
+				new ServiceDefinitionResponseDTO("dataModelTranslatorFactoryControl", null, null),
+				"1.0.0",
+				null,
+				Map.of(),
+				List.of(dmTranslatorFactoryIntf),
+				null,
+				null);
+
+		final TranslationDiscoveryModel model = new TranslationDiscoveryModel(
+				"TestProvider|testService|1.0.0",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"TestConsumer",
+				"testJson",
+				null);
+		model.setFromInterfaceTemplate("generic_mqtt");
+		model.setToInterfaceTemplate("generic_http");
+		model.setInterfaceTranslator("InterfaceTranslator");
+		model.setInterfaceTranslatorPolicy("NONE");
+		model.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
+		model.setTargetPolicy("NONE");
+		model.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
+		model.setTargetInputDataModelId("testXml");
+
+		final TranslationDiscoveryModel model2 = new TranslationDiscoveryModel(
+				"TestProvider|testService|1.0.0",
+				"TestProvider",
+				"testService",
+				"test-operation",
+				"TestConsumer",
+				"testJson",
+				null);
+		model2.setFromInterfaceTemplate("generic_mqtt");
+		model2.setToInterfaceTemplate("generic_http");
+		model2.setInterfaceTranslator("InterfaceTranslator");
+		model2.setInterfaceTranslatorPolicy("NONE");
+		model2.setInterfaceTranslatorProperties(Map.of("accessPort", 12345));
+		model2.setTargetPolicy("NONE");
+		model2.setTargetProperties(Map.of("dataModels", Map.of("test-operation", opMap)));
+		model2.setTargetInputDataModelId("testXml");
+		model2.setInputDataModelTranslator("DataModelTranslatorFactory");
+		model2.setInputDataModelTranslatorProperties(dmTranslatorFactoryIntf.properties());
+		model2.setInputDataModelTranslatorFactory(true);
+
+		final UUID bridgeId = UUID.fromString("9ef06aec-7865-48c0-b456-9f6faab47c22");
+		final TranslationDiscoveryResponseDTO expected = new TranslationDiscoveryResponseDTO(
+				bridgeId.toString(),
+				List.of(new TranslationBridgeCandidateDTO("TestProvider|testService|1.0.0", "generic_http")));
+
+		when(dataModelIdentifierNormalizer.normalize("testXml")).thenReturn("testXml");
+		doNothing().when(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+		when(csDriver.collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates)).thenReturn(List.of(interfaceTranslator));
+		when(csDriver.generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator))).thenReturn(Map.of());
+		when(itDriver.filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates)).thenReturn(candidates);
+		when(interfaceTranslatorMatchmaker.doMatchmaking(List.of(interfaceTranslator), Map.of())).thenReturn(interfaceTranslator);
+		when(csDriver.collectDataModelTranslatorCandidates(List.of(model))).thenReturn(List.of());
+		when(csDriver.collectDataModelTranslatorFactoryCandidates()).thenReturn(List.of(dataModelTranslatorFactory));
+		when(dmfDriver.getCachedFactoryCapability("DataModelTranslatorFactory", dmTranslatorFactoryIntf.properties(), "testJson", "testXml")).thenReturn(true);
+
+		try (MockedStatic<UUID> mockedUUID = Mockito.mockStatic(UUID.class)) {
+			mockedUUID.when(() -> UUID.randomUUID()).thenReturn(bridgeId);
+			when(dbService.storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2))).thenReturn(Pair.of(createHeader(bridgeId), List.of()));
+			when(converter.convertDiscoveryModels(bridgeId, List.of(model2))).thenReturn(expected);
+
+			final TranslationDiscoveryResponseDTO result = engine.doDiscovery(dto, flags, "origin");
+
+			assertNotNull(result);
+			assertEquals(expected, result);
+
+			verify(csDriver, never()).isBlacklisted("TestConsumer");
+			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("TestProvider"));
+			verify(csDriver, never()).filterOutProvidersBecauseOfUnauthorization(List.of("TestProvider"), "TestConsumer", "testService", "test-operation");
+			verify(dataModelIdentifierNormalizer).normalize("testXml");
+			verify(dataModelIdentifierValidator).validateDataModelIdentifier("testXml");
+			verify(csDriver).collectInterfaceTranslatorCandidates(List.of("generic_mqtt"), candidates);
+			verify(csDriver, never()).filterOutBlacklistedSystems(List.of("InterfaceTranslator"));
+			verify(csDriver, never()).filterOutProvidersBecauseOfUnauthorization(List.of("InterfaceTranslator"), "TranslationManager", "interfaceBridgeManagement", null);
+			verify(csDriver).generateTokenForManagerToInterfaceBridgeManagementService(List.of(interfaceTranslator));
+			verify(itDriver).filterOutNotAppropriateTargetsForInterfaceTranslator(interfaceTranslator, null, "test-operation", candidates);
+			verify(interfaceTranslatorMatchmaker).doMatchmaking(List.of(interfaceTranslator), Map.of());
+			verify(csDriver).collectDataModelTranslatorCandidates(List.of(model2));
+			verify(csDriver).collectDataModelTranslatorFactoryCandidates();
+			verify(dmfDriver).getCachedFactoryCapability("DataModelTranslatorFactory", dmTranslatorFactoryIntf.properties(), "testJson", "testXml");
+			verify(dmfDriver, never()).isFactorySupportsTranslation(any(), any(), any(), any());
+			mockedUUID.verify(() -> UUID.randomUUID());
+			verify(dbService).storeBridgeDiscoveries(bridgeId, "TestCreator", List.of(model2));
+			verify(converter).convertDiscoveryModels(bridgeId, List.of(model2));
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testDoNegotiationBridgeIdNull() {
@@ -2207,6 +2949,7 @@ public class TranslatorBridgeEngineTest {
 		assertEquals("origin", ex.getOrigin());
 
 		verify(dbService).selectBridgeFromDiscoveries(bridgeId, "TestProvider|testService|1.0.0");
+		verify(expiryScheduler).cancel(bridgeId);
 		verify(sysInfo).isCustomConfigurationEnabled();
 		verify(csDriver).getConfigurationForSystem("InterfaceTranslator");
 		verify(dbService).storeBridgeProblem(bridgeId, "test");
@@ -2926,4 +3669,15 @@ public class TranslatorBridgeEngineTest {
 
 		verify(dbService).abortBridge(bridgeId, "ANobody");
 	}
-}
\ No newline at end of file
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private BridgeHeader createHeader(final UUID bridgeId) {
+		final BridgeHeader header = new BridgeHeader(bridgeId, "TestCreator");
+		header.setCreatedAt(CREATED_AT);
+
+		return header;
+	}
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2026 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.translationmanager.service.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.dto.enums.TranslationBridgeEventState;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService;
+import eu.arrowhead.translationmanager.jpa.service.BridgeDbService.UsageReport;
+import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class UsageReportAggregatorTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private UsageReportAggregator aggregator;
+
+	@Mock
+	private BridgeDbService dbService;
+
+	private static final UUID BRIDGE_ID = UUID.fromString("581fd924-d8b0-4548-8cf8-4334e9f3cba2");
+	private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2026, 2, 19, 10, 0, 0, 0, ZoneId.of(Constants.UTC));
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(aggregator, "enabled", true);
+		ReflectionTestUtils.setField(aggregator, "maxPending", 100);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOfferReportNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> aggregator.offer(null));
+
+		assertEquals("report is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOfferDisabled() {
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		ReflectionTestUtils.setField(aggregator, "enabled", false);
+
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOfferUnknownBridge() {
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOfferNotUsedReport() {
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.INTERNAL_ERROR, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOfferOtherRequester() {
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+
+		assertFalse(aggregator.offer(createReport("Other", TranslationBridgeEventState.USED, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRegisterNotUsedReport() {
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.INTERNAL_ERROR, TIMESTAMP));
+
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushAggregatesReports() {
+		final List<UsageReport> expected = List.of(new UsageReport(BRIDGE_ID, "Requester", 3, TIMESTAMP.plusSeconds(2)));
+		when(dbService.handleAggregatedUsageReports(expected)).thenReturn(List.of());
+
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP.plusSeconds(1))));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP.plusSeconds(2))));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+		aggregator.flush();
+
+		verify(dbService).handleAggregatedUsageReports(expected);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushNothingPending() {
+		aggregator.flush();
+
+		verify(dbService, never()).handleAggregatedUsageReports(anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushForgetsIdleBridge() {
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		aggregator.flush();
+
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+		verify(dbService, never()).handleAggregatedUsageReports(anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushForgetsRejectedBridge() {
+		when(dbService.handleAggregatedUsageReports(anyList())).thenReturn(List.of(BRIDGE_ID));
+
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+		aggregator.flush();
+
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushDbErrorKeepsReports() {
+		when(dbService.handleAggregatedUsageReports(List.of(new UsageReport(BRIDGE_ID, "Requester", 1, TIMESTAMP)))).thenThrow(new InternalServerError("test"));
+		when(dbService.handleAggregatedUsageReports(List.of(new UsageReport(BRIDGE_ID, "Requester", 2, TIMESTAMP.plusSeconds(1))))).thenReturn(List.of());
+
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+		aggregator.flush();
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP.plusSeconds(1))));
+		aggregator.flush();
+
+		verify(dbService).handleAggregatedUsageReports(List.of(new UsageReport(BRIDGE_ID, "Requester", 2, TIMESTAMP.plusSeconds(1))));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOfferMaxPendingTriggersFlush() {
+		ReflectionTestUtils.setField(aggregator, "maxPending", 2);
+		final List<UsageReport> expected = List.of(new UsageReport(BRIDGE_ID, "Requester", 2, TIMESTAMP));
+		when(dbService.handleAggregatedUsageReports(expected)).thenReturn(List.of());
+
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+
+		verify(dbService).handleAggregatedUsageReports(expected);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushBridgeIdNull() {
+		final Throwable ex = assertThrows(
+				IllegalArgumentException.class,
+				() -> aggregator.flushBridge(null));
+
+		assertEquals("bridgeId is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushBridgeUnknown() {
+		aggregator.flushBridge(BRIDGE_ID);
+
+		verify(dbService, never()).handleAggregatedUsageReports(anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushBridgeWritesAndForgets() {
+		final List<UsageReport> expected = List.of(new UsageReport(BRIDGE_ID, "Requester", 1, TIMESTAMP));
+		when(dbService.handleAggregatedUsageReports(expected)).thenReturn(List.of());
+
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+		aggregator.flushBridge(BRIDGE_ID);
+
+		verify(dbService).handleAggregatedUsageReports(expected);
+		assertFalse(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testFlushBridgeWaitsForRunningFlush() throws Exception {
+		final List<UsageReport> expected = List.of(new UsageReport(BRIDGE_ID, "Requester", 1, TIMESTAMP));
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicBoolean written = new AtomicBoolean(false);
+		when(dbService.handleAggregatedUsageReports(expected)).thenAnswer(invocation -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			written.set(true);
+
+			return List.of();
+		});
+
+		aggregator.register(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP));
+		assertTrue(aggregator.offer(createReport("Requester", TranslationBridgeEventState.USED, TIMESTAMP)));
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// the scheduled flush has drained the bridge and is writing its reports
+			final Future<?> flush = executor.submit(() -> aggregator.flush());
+			assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+			// a status changing report of the same bridge arrives meanwhile
+			final Future<Boolean> flushBridge = executor.submit(() -> {
+				aggregator.flushBridge(BRIDGE_ID);
+				return written.get();
+			});
+			Thread.sleep(200);
+			assertFalse(flushBridge.isDone());
+
+			release.countDown();
+			flush.get(5, TimeUnit.SECONDS);
+			assertTrue(flushBridge.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(dbService).handleAggregatedUsageReports(expected);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private NormalizedTranslationReportRequestDTO createReport(final String requester, final TranslationBridgeEventState state, final ZonedDateTime timestamp) {
+		return new NormalizedTranslationReportRequestDTO(requester, BRIDGE_ID, timestamp, state, null);
+	}
+}
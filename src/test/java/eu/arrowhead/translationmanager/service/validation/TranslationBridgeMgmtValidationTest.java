@@ -73,6 +73,7 @@ import eu.arrowhead.dto.TranslationQueryRequestDTO;
 import eu.arrowhead.dto.enums.TranslationBridgeStatus;
 import eu.arrowhead.dto.enums.TranslationDiscoveryFlag;
 import eu.arrowhead.translationmanager.jpa.entity.BridgeDetails;
+import eu.arrowhead.translationmanager.service.dto.BridgeQueryCursor;
 import eu.arrowhead.translationmanager.service.dto.NormalizedServiceInstanceDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationDiscoveryRequestDTO;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationQueryRequestDTO;
@@ -1960,6 +1961,109 @@ public class TranslationBridgeMgmtValidationTest {
 		assertEquals(UUID.fromString("2240efa3-fde4-4f81-a625-04f1234acee7"), result.get(0));
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersOriginEmpty() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(0, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD));
+
+		final Throwable ex = assertThrows(IllegalArgumentException.class,
+				() -> validator.validateAndNormalizeSeekParameters(null, normalized, ""));
+
+		assertEquals("origin is empty", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersPageNumber() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(2, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD));
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeSeekParameters(null, normalized, "origin"));
+
+		assertEquals("Page number can't be used in seek mode, use the continuation token instead", ex.getMessage());
+		assertEquals("origin", ((InvalidParameterException) ex).getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersNoToken() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(0, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD));
+
+		assertNull(validator.validateAndNormalizeSeekParameters(" ", normalized, "origin"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersTokenNotBase64() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(0, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD));
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeSeekParameters("not a token!", normalized, "origin"));
+
+		assertEquals("Continuation token is invalid", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersTokenInvalidValue() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(0, 10, Direction.DESC, BridgeDetails.DEFAULT_SORT_FIELD));
+		final String token = new BridgeQueryCursor(BridgeDetails.DEFAULT_SORT_FIELD, Direction.DESC, "yesterday", 1).toToken();
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeSeekParameters(token, normalized, "origin"));
+
+		assertEquals("Continuation token is invalid", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersTokenOtherOrder() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(0, 10, Direction.ASC, BridgeDetails.DEFAULT_SORT_FIELD));
+		final String token = new BridgeQueryCursor(BridgeDetails.DEFAULT_SORT_FIELD, Direction.DESC, "2026-03-01T10:00:00Z", 1).toToken();
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeSeekParameters(token, normalized, "origin"));
+
+		assertEquals("Continuation token does not belong to the specified sort field and direction", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeSeekParametersOk() {
+		final NormalizedTranslationQueryRequestDTO normalized = createSeekRequest(PageRequest.of(0, 10, Direction.ASC, BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT));
+		final BridgeQueryCursor cursor = new BridgeQueryCursor(BridgeDetails.SORT_NAME_HEADER_USAGE_REPORT_COUNT, Direction.ASC, "12", 3);
+
+		final BridgeQueryCursor result = validator.validateAndNormalizeSeekParameters(cursor.toToken(), normalized, "origin");
+
+		assertEquals(cursor, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeCacheNamesOriginEmpty() {
+		final Throwable ex = assertThrows(IllegalArgumentException.class,
+				() -> validator.validateAndNormalizeCacheNames(null, ""));
+
+		assertEquals("origin is empty", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeCacheNamesListContainsEmptyElement() {
+		final ArrowheadException ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeCacheNames(List.of("authorizationDecision", " "), "origin"));
+
+		assertEquals("Cache name list contains null or empty element", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeCacheNamesOk() {
+		assertTrue(validator.validateAndNormalizeCacheNames(null, "origin").isEmpty());
+		assertEquals(List.of("authorizationDecision"), validator.validateAndNormalizeCacheNames(List.of(" authorizationDecision ", "authorizationDecision"), "origin"));
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testValidateAndNormalizeQueryMgmtRequestOriginNull() {
@@ -3082,4 +3186,27 @@ public class TranslationBridgeMgmtValidationTest {
 		verify(systemNameNormalizer).normalize("TestDataModelTranslator");
 		verify(systemNameValidator).validateSystemName("Cre@tor");
 	}
-}
\ No newline at end of file
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private NormalizedTranslationQueryRequestDTO createSeekRequest(final PageRequest pageRequest) {
+		return new NormalizedTranslationQueryRequestDTO(
+				pageRequest,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null);
+	}
+}
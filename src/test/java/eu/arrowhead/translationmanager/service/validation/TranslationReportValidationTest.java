@@ -26,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.ArrowheadException;
@@ -42,6 +44,7 @@ import eu.arrowhead.common.service.validation.name.SystemNameValidator;
 import eu.arrowhead.dto.TranslationReportRequestDTO;
 import eu.arrowhead.dto.enums.TranslationBridgeEventState;
 import eu.arrowhead.translationmanager.service.dto.NormalizedTranslationReportRequestDTO;
+import eu.arrowhead.translationmanager.service.dto.TranslationReportBatchRequestDTO;
 
 @ExtendWith(MockitoExtension.class)
 public class TranslationReportValidationTest {
@@ -338,4 +341,87 @@ public class TranslationReportValidationTest {
 		assertEquals(TranslationBridgeEventState.INTERNAL_ERROR, normalized.state());
 		assertEquals("error message", normalized.errorMessage());
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeReportBatchRequestNull() {
+		final ArrowheadException ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeReportBatch("InterfaceTranslator", null, "origin"));
+
+		assertEquals("Request is missing", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeReportBatchListEmpty() {
+		final TranslationReportBatchRequestDTO dto = new TranslationReportBatchRequestDTO(List.of());
+
+		final ArrowheadException ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeReportBatch("InterfaceTranslator", dto, "origin"));
+
+		assertEquals("Report list is missing or empty", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeReportBatchTooMany() {
+		ReflectionTestUtils.setField(validator, "maxBatchSize", 1);
+		final TranslationReportRequestDTO report = new TranslationReportRequestDTO(
+				"37afcc60-e8c6-45ea-9fce-17f281e67a56",
+				"2026-01-14T10:31:00Z",
+				"USED",
+				null);
+		final TranslationReportBatchRequestDTO dto = new TranslationReportBatchRequestDTO(List.of(report, report));
+
+		final ArrowheadException ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeReportBatch("InterfaceTranslator", dto, "origin"));
+
+		assertEquals("Too many reports, the maximum is 1", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeReportBatchInvalidReport() {
+		ReflectionTestUtils.setField(validator, "maxBatchSize", 10);
+		final TranslationReportRequestDTO report = new TranslationReportRequestDTO(
+				"37afcc60-e8c6-45ea-9fce-17f281e67a56",
+				"2026-01-14T10:31:00Z",
+				"USED",
+				null);
+		final TranslationReportRequestDTO invalid = new TranslationReportRequestDTO(
+				"37afcc60-e8c6-45ea-9fce-17f281e67a56",
+				null,
+				"USED",
+				null);
+		final TranslationReportBatchRequestDTO dto = new TranslationReportBatchRequestDTO(List.of(report, invalid));
+
+		final ArrowheadException ex = assertThrows(InvalidParameterException.class,
+				() -> validator.validateAndNormalizeReportBatch("InterfaceTranslator", dto, "origin"));
+
+		assertEquals("Invalid report at index 1: Timestamp is missing", ex.getMessage());
+		assertEquals("origin", ex.getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateAndNormalizeReportBatchOk() {
+		ReflectionTestUtils.setField(validator, "maxBatchSize", 10);
+		final TranslationReportBatchRequestDTO dto = new TranslationReportBatchRequestDTO(List.of(
+				new TranslationReportRequestDTO("37afcc60-e8c6-45ea-9fce-17f281e67a56", "2026-01-14T10:31:00Z", "USED", null),
+				new TranslationReportRequestDTO(" 42ab0775-26cc-49aa-87a4-2313f9d9975b ", "2026-01-14T10:32:00Z", "internal_error", "error message ")));
+
+		final List<NormalizedTranslationReportRequestDTO> normalized = validator.validateAndNormalizeReportBatch("InterfaceTranslator", dto, "origin");
+
+		assertEquals(2, normalized.size());
+		assertEquals("InterfaceTranslator", normalized.get(0).requester());
+		assertEquals(UUID.fromString("37afcc60-e8c6-45ea-9fce-17f281e67a56"), normalized.get(0).bridgeId());
+		assertEquals(TranslationBridgeEventState.USED, normalized.get(0).state());
+		assertEquals(UUID.fromString("42ab0775-26cc-49aa-87a4-2313f9d9975b"), normalized.get(1).bridgeId());
+		assertEquals(Utilities.parseUTCStringToZonedDateTime("2026-01-14T10:32:00Z"), normalized.get(1).timestamp());
+		assertEquals(TranslationBridgeEventState.INTERNAL_ERROR, normalized.get(1).state());
+		assertEquals("error message", normalized.get(1).errorMessage());
+	}
 }
\ No newline at end of file